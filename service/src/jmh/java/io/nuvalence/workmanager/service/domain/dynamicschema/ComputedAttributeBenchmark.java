@@ -0,0 +1,72 @@
+package io.nuvalence.workmanager.service.domain.dynamicschema;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares evaluating computed attributes by re-parsing the expression on every read against the
+ * shared, pre-parsed expressions used by {@link DynamicEntityDynaBean}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ComputedAttributeBenchmark {
+    private static final String EXPRESSION = "#concat(' ', firstName, lastName)";
+
+    private DynamicEntityDynaBean bean;
+
+    /**
+     * Creates a bean with a single computed attribute.
+     */
+    @Setup
+    public void setup() {
+        final Schema schema =
+                Schema.builder()
+                        .property("firstName", String.class)
+                        .property("lastName", String.class)
+                        .computedProperty("fullName", String.class, EXPRESSION)
+                        .build();
+        bean = new DynamicEntityDynaBean(schema);
+        bean.set("firstName", "John");
+        bean.set("lastName", "Doe");
+    }
+
+    /**
+     * Mirrors the previous behaviour: a new parser and evaluation context per bean, and the
+     * expression parsed on every read.
+     *
+     * @return computed value
+     * @throws NoSuchMethodException if the concat function cannot be found
+     */
+    @Benchmark
+    public Object parsePerRead() throws NoSuchMethodException {
+        final StandardEvaluationContext context = new StandardEvaluationContext(bean);
+        context.registerFunction(
+                "concat",
+                ComputedAttributeFunctions.class.getDeclaredMethod(
+                        "concat", String.class, String[].class));
+        context.setPropertyAccessors(
+                List.of(new ComputedAttributeEvaluator.DynaBeanPropertyAccessor()));
+        return new SpelExpressionParser().parseExpression(EXPRESSION).getValue(context, bean);
+    }
+
+    /**
+     * Reads the computed attribute through the shared, pre-parsed expression.
+     *
+     * @return computed value
+     */
+    @Benchmark
+    public Object sharedCompiledExpression() {
+        return bean.get("fullName");
+    }
+}
@@ -0,0 +1,50 @@
+package io.nuvalence.workmanager.service.audit;
+
+import io.nuvalence.workmanager.service.utils.BoundedExecutor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Runs the recording of audit events off the request thread, on a small bounded pool.
+ *
+ * <p>When the queue is full, events are recorded on the submitting thread instead of being
+ * dropped. Tasks submitted within a database transaction only run once it has committed, so that
+ * no audit event is recorded for a rolled back change.</p>
+ */
+@Component
+public class AuditEventExecutor extends BoundedExecutor {
+
+    /**
+     * Constructs a new AuditEventExecutor.
+     *
+     * @param threads number of threads recording audit events
+     * @param queueCapacity maximum number of audit events waiting to be recorded
+     */
+    public AuditEventExecutor(
+            @Value("${audit.executor.threads:2}") final int threads,
+            @Value("${audit.executor.queueCapacity:1000}") final int queueCapacity) {
+        super("audit-event-", threads, queueCapacity);
+    }
+
+    /**
+     * Records audit events, once the current database transaction (if any) has committed.
+     *
+     * @param task task recording audit events
+     */
+    @Override
+    public void execute(final Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            AuditEventExecutor.super.execute(task);
+                        }
+                    });
+        } else {
+            super.execute(task);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package io.nuvalence.workmanager.service.audit;
+
+import io.nuvalence.events.event.dto.StateChangeEventData;
+import io.nuvalence.workmanager.service.domain.UpdateTrackedEntity;
+import io.nuvalence.workmanager.service.models.auditevents.AuditActivityType;
+import io.nuvalence.workmanager.service.models.auditevents.AuditEventRequestObjectDto;
+import io.nuvalence.workmanager.service.service.AuditEventService;
+import io.nuvalence.workmanager.service.utils.RequestContextTimestamp;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.OffsetDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * AuditHandler that records the changes seen by several handlers as a single audit event.
+ *
+ * <p>The pre and post update states are captured by each handler on the calling thread; events are
+ * built and recorded by the {@link AuditEventExecutor}. When a single handler has seen a change,
+ * its event is recorded unchanged; otherwise the state changes are merged into one event of the
+ * given activity type, whose old and new states are keyed by the activity type of each handler.</p>
+ *
+ * @param <S> Type of subject this event audits.
+ */
+@Slf4j
+public class CoalescedAuditHandler<S extends UpdateTrackedEntity> implements AuditHandler<S> {
+    private final List<CoalescibleAuditHandler<S>> handlers;
+    private final AuditEventService auditEventService;
+    private final AuditEventExecutor auditEventExecutor;
+    private final RequestContextTimestamp requestContextTimestamp;
+    private final AuditActivityType activityType;
+
+    /**
+     * Constructs a new CoalescedAuditHandler.
+     *
+     * @param handlers handlers whose events are merged
+     * @param auditEventService service recording audit events
+     * @param auditEventExecutor executor building and recording the events
+     * @param requestContextTimestamp timestamp of the current request
+     * @param activityType activity type of merged events
+     */
+    public CoalescedAuditHandler(
+            List<CoalescibleAuditHandler<S>> handlers,
+            AuditEventService auditEventService,
+            AuditEventExecutor auditEventExecutor,
+            RequestContextTimestamp requestContextTimestamp,
+            AuditActivityType activityType) {
+        this.handlers = List.copyOf(handlers);
+        this.auditEventService = auditEventService;
+        this.auditEventExecutor = auditEventExecutor;
+        this.requestContextTimestamp = requestContextTimestamp;
+        this.activityType = activityType;
+    }
+
+    @Override
+    public void handlePreUpdateState(S subject) {
+        handlers.forEach(handler -> handler.handlePreUpdateState(subject));
+    }
+
+    @Override
+    public void handlePostUpdateState(S subject) {
+        handlers.forEach(handler -> handler.handlePostUpdateState(subject));
+    }
+
+    @Override
+    public void publishAuditEvent(String originatorId) {
+        // the request scoped timestamp is not available to the executor threads
+        final OffsetDateTime timestamp = requestContextTimestamp.getCurrentTimestamp();
+        auditEventExecutor.execute(() -> recordAuditEvent(originatorId, timestamp));
+    }
+
+    private void recordAuditEvent(String originatorId, OffsetDateTime timestamp) {
+        final Map<CoalescibleAuditHandler<S>, AuditEventRequestObjectDto> events =
+                new LinkedHashMap<>();
+        for (CoalescibleAuditHandler<S> handler : handlers) {
+            try {
+                handler.buildAuditEvent(originatorId)
+                        .ifPresent(
+                                event -> {
+                                    event.setTimestamp(timestamp);
+                                    events.put(handler, event);
+                                });
+            } catch (Exception e) {
+                log.error(handler.getFailureMessage(), e);
+            }
+        }
+
+        final Map<CoalescibleAuditHandler<S>, AuditEventRequestObjectDto> stateChanges =
+                new LinkedHashMap<>();
+        events.forEach(
+                (handler, event) -> {
+                    if (event.getData() instanceof StateChangeEventData) {
+                        stateChanges.put(handler, event);
+                    } else {
+                        send(handler, event);
+                    }
+                });
+
+        if (stateChanges.size() == 1) {
+            stateChanges.forEach(this::send);
+        } else if (stateChanges.size() > 1) {
+            sendMerged(List.copyOf(stateChanges.values()), timestamp);
+        }
+    }
+
+    private void sendMerged(
+            List<AuditEventRequestObjectDto> stateChanges, OffsetDateTime timestamp) {
+        final AuditEventRequestObjectDto first = stateChanges.get(0);
+        try {
+            final Map<String, String> oldStates = new LinkedHashMap<>();
+            final Map<String, String> newStates = new LinkedHashMap<>();
+            for (AuditEventRequestObjectDto event : stateChanges) {
+                final StateChangeEventData data = (StateChangeEventData) event.getData();
+                oldStates.put(data.getActivityType(), data.getOldState());
+                newStates.put(data.getActivityType(), data.getNewState());
+            }
+
+            auditEventService.sendAuditEvent(
+                    AuditEventRequestObjectDto.builder()
+                            .originatorId(first.getOriginatorId())
+                            .userId(first.getUserId())
+                            .summary(
+                                    stateChanges.stream()
+                                            .map(AuditEventRequestObjectDto::getSummary)
+                                            .collect(Collectors.joining("; ")))
+                            .businessObjectId(first.getBusinessObjectId())
+                            .businessObjectType(first.getBusinessObjectType())
+                            .timestamp(timestamp)
+                            .data(oldStates, newStates, null, activityType.getValue())
+                            .build());
+        } catch (Exception e) {
+            log.error(
+                    "An unexpected exception occurred when recording audit event for changes to "
+                            + first.getBusinessObjectType().getValue()
+                            + " "
+                            + first.getBusinessObjectId(),
+                    e);
+        }
+    }
+
+    private void send(CoalescibleAuditHandler<S> handler, AuditEventRequestObjectDto event) {
+        try {
+            auditEventService.sendAuditEvent(event);
+        } catch (Exception e) {
+            log.error(handler.getFailureMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package io.nuvalence.workmanager.service.audit;
+
+import io.nuvalence.workmanager.service.domain.UpdateTrackedEntity;
+import io.nuvalence.workmanager.service.models.auditevents.AuditEventRequestObjectDto;
+
+import java.util.Optional;
+
+/**
+ * AuditHandler whose event can be built without being sent, so that the events of several handlers
+ * can be merged into one (see {@link CoalescedAuditHandler}).
+ *
+ * @param <S> Type of subject this event audits.
+ */
+public interface CoalescibleAuditHandler<S extends UpdateTrackedEntity> extends AuditHandler<S> {
+    /**
+     * Builds the audit event recording the change between the pre and post update states.
+     *
+     * @param originatorId id of the user who made the change
+     * @return the audit event, or empty if nothing changed
+     * @throws Exception if the event cannot be built
+     */
+    Optional<AuditEventRequestObjectDto> buildAuditEvent(String originatorId) throws Exception;
+
+    /**
+     * Gets the message logged when the event of this handler cannot be recorded.
+     *
+     * @return error message
+     */
+    String getFailureMessage();
+}
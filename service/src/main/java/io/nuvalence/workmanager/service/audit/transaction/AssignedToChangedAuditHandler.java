@@ -1,6 +1,6 @@
 package io.nuvalence.workmanager.service.audit.transaction;
 
-import io.nuvalence.workmanager.service.audit.AuditHandler;
+import io.nuvalence.workmanager.service.audit.CoalescibleAuditHandler;
 import io.nuvalence.workmanager.service.domain.transaction.Transaction;
 import io.nuvalence.workmanager.service.models.auditevents.AuditActivityType;
 import io.nuvalence.workmanager.service.models.auditevents.AuditEventBusinessObject;
@@ -9,6 +9,7 @@ import io.nuvalence.workmanager.service.service.AuditEventService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -16,7 +17,7 @@ import java.util.UUID;
  */
 @Slf4j
 @RequiredArgsConstructor
-public class AssignedToChangedAuditHandler implements AuditHandler<Transaction> {
+public class AssignedToChangedAuditHandler implements CoalescibleAuditHandler<Transaction> {
     private String transactionExternalId;
     private String before;
     private String after;
@@ -40,47 +41,54 @@ public class AssignedToChangedAuditHandler implements AuditHandler<Transaction>
     @Override
     public void publishAuditEvent(String originatorId) {
         try {
-            String eventSummary = "";
-            if (before == null && after != null) {
-                eventSummary =
-                        String.format(
-                                "User [%s] was assigned transaction %s",
-                                after, transactionExternalId);
-            } else if (before != null && after == null) {
-                eventSummary =
-                        String.format(
-                                "User [%s] was unassigned from transaction %s",
-                                before, transactionExternalId);
-            } else if (before != null && !before.equals(after)) {
-                eventSummary =
-                        String.format(
-                                "User [%s] was assigned transaction %s. Previously it had"
-                                        + " been assigned to [%s]",
-                                after, transactionExternalId, before);
-            } else {
-                return;
-            }
-
-            final AuditEventRequestObjectDto auditEvent =
-                    AuditEventRequestObjectDto.builder()
-                            .originatorId(originatorId)
-                            .userId(originatorId)
-                            .summary(eventSummary)
-                            .businessObjectId(transactionId)
-                            .businessObjectType(AuditEventBusinessObject.TRANSACTION)
-                            .data(
-                                    before,
-                                    after,
-                                    AuditActivityType.TRANSACTION_ASSIGNED_TO_CHANGED.getValue())
-                            .build();
-
-            transactionAuditEventService.sendAuditEvent(auditEvent);
+            buildAuditEvent(originatorId).ifPresent(transactionAuditEventService::sendAuditEvent);
         } catch (Exception e) {
-            String errorMessage =
-                    "An unexpected exception occurred when recording audit event for assigned to"
-                            + " change in transaction "
-                            + transactionId;
-            log.error(errorMessage, e);
+            log.error(getFailureMessage(), e);
+        }
+    }
+
+    @Override
+    public Optional<AuditEventRequestObjectDto> buildAuditEvent(String originatorId) {
+        String eventSummary = "";
+        if (before == null && after != null) {
+            eventSummary =
+                    String.format(
+                            "User [%s] was assigned transaction %s", after, transactionExternalId);
+        } else if (before != null && after == null) {
+            eventSummary =
+                    String.format(
+                            "User [%s] was unassigned from transaction %s",
+                            before, transactionExternalId);
+        } else if (before != null && !before.equals(after)) {
+            eventSummary =
+                    String.format(
+                            "User [%s] was assigned transaction %s. Previously it had"
+                                    + " been assigned to [%s]",
+                            after, transactionExternalId, before);
+        } else {
+            return Optional.empty();
         }
+
+        final AuditEventRequestObjectDto auditEvent =
+                AuditEventRequestObjectDto.builder()
+                        .originatorId(originatorId)
+                        .userId(originatorId)
+                        .summary(eventSummary)
+                        .businessObjectId(transactionId)
+                        .businessObjectType(AuditEventBusinessObject.TRANSACTION)
+                        .data(
+                                before,
+                                after,
+                                AuditActivityType.TRANSACTION_ASSIGNED_TO_CHANGED.getValue())
+                        .build();
+
+        return Optional.of(auditEvent);
+    }
+
+    @Override
+    public String getFailureMessage() {
+        return "An unexpected exception occurred when recording audit event for assigned to"
+                + " change in transaction "
+                + transactionId;
     }
 }
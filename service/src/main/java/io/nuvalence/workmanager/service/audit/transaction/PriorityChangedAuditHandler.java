@@ -1,6 +1,6 @@
 package io.nuvalence.workmanager.service.audit.transaction;
 
-import io.nuvalence.workmanager.service.audit.AuditHandler;
+import io.nuvalence.workmanager.service.audit.CoalescibleAuditHandler;
 import io.nuvalence.workmanager.service.domain.transaction.Transaction;
 import io.nuvalence.workmanager.service.models.auditevents.AuditActivityType;
 import io.nuvalence.workmanager.service.models.auditevents.AuditEventBusinessObject;
@@ -10,6 +10,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -17,7 +18,7 @@ import java.util.UUID;
  */
 @Slf4j
 @RequiredArgsConstructor
-public class PriorityChangedAuditHandler implements AuditHandler<Transaction> {
+public class PriorityChangedAuditHandler implements CoalescibleAuditHandler<Transaction> {
     private String transactionExternalId;
     private String before;
     private String after;
@@ -41,35 +42,42 @@ public class PriorityChangedAuditHandler implements AuditHandler<Transaction> {
     @Override
     public void publishAuditEvent(String originatorId) {
         try {
-            String eventSummary = "";
-            if (!Objects.equals(before, after)) {
-                eventSummary =
-                        String.format("Transaction %s priority was changed", transactionExternalId);
-            } else {
-                return;
-            }
+            buildAuditEvent(originatorId).ifPresent(transactionAuditEventService::sendAuditEvent);
+        } catch (Exception e) {
+            log.error(getFailureMessage(), e);
+        }
+    }
+
+    @Override
+    public Optional<AuditEventRequestObjectDto> buildAuditEvent(String originatorId) {
+        String eventSummary = "";
+        if (!Objects.equals(before, after)) {
+            eventSummary =
+                    String.format("Transaction %s priority was changed", transactionExternalId);
+        } else {
+            return Optional.empty();
+        }
 
-            final AuditEventRequestObjectDto auditEvent =
-                    AuditEventRequestObjectDto.builder()
-                            .originatorId(originatorId)
-                            .userId(originatorId)
-                            .summary(eventSummary)
-                            .businessObjectId(transactionId)
-                            .businessObjectType(AuditEventBusinessObject.TRANSACTION)
-                            .data(
-                                    before,
-                                    after,
-                                    AuditActivityType.TRANSACTION_PRIORITY_CHANGED.getValue())
-                            .build();
+        final AuditEventRequestObjectDto auditEvent =
+                AuditEventRequestObjectDto.builder()
+                        .originatorId(originatorId)
+                        .userId(originatorId)
+                        .summary(eventSummary)
+                        .businessObjectId(transactionId)
+                        .businessObjectType(AuditEventBusinessObject.TRANSACTION)
+                        .data(
+                                before,
+                                after,
+                                AuditActivityType.TRANSACTION_PRIORITY_CHANGED.getValue())
+                        .build();
 
-            transactionAuditEventService.sendAuditEvent(auditEvent);
+        return Optional.of(auditEvent);
+    }
 
-        } catch (Exception e) {
-            String errorMessage =
-                    "An unexpected exception occurred when recording audit event for priority"
-                            + " change in transaction "
-                            + transactionId;
-            log.error(errorMessage, e);
-        }
+    @Override
+    public String getFailureMessage() {
+        return "An unexpected exception occurred when recording audit event for priority"
+                + " change in transaction "
+                + transactionId;
     }
 }
@@ -0,0 +1,92 @@
+package io.nuvalence.workmanager.service.audit.util;
+
+import lombok.Getter;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Values changed between two snapshots of the dynamic data of an entity, keyed by flattened path
+ * (officeInfo.city, documents[0]), as recorded in audit events.
+ *
+ * <p>The snapshots are compared in a single pass: subtrees with equal hashes are skipped, and only
+ * the values of the subtrees that changed are flattened.</p>
+ */
+@Getter
+public final class AuditDataDiff {
+    /** Previous value of each changed or removed path. */
+    private final Map<String, String> before = new LinkedHashMap<>();
+    /** New value of each changed or added path. */
+    private final Map<String, String> after = new LinkedHashMap<>();
+
+    private AuditDataDiff() {}
+
+    /**
+     * Compares two snapshots.
+     *
+     * @param before snapshot taken before the change
+     * @param after snapshot taken after the change
+     * @return changed values
+     */
+    public static AuditDataDiff between(AuditDataSnapshot before, AuditDataSnapshot after) {
+        final AuditDataDiff diff = new AuditDataDiff();
+        diff.compare("", before, after);
+        return diff;
+    }
+
+    public boolean isEmpty() {
+        return before.isEmpty() && after.isEmpty();
+    }
+
+    private void compare(String path, AuditDataSnapshot before, AuditDataSnapshot after) {
+        if (before != null && after != null && before.getHash() == after.getHash()) {
+            return;
+        }
+
+        if (before != null && after != null && before.isEntity() && after.isEntity()) {
+            final Set<String> keys = new LinkedHashSet<>(before.getAttributes().keySet());
+            keys.addAll(after.getAttributes().keySet());
+            for (String key : keys) {
+                compare(
+                        path.isEmpty() ? key : path + "." + key,
+                        before.getAttributes().get(key),
+                        after.getAttributes().get(key));
+            }
+        } else if (before != null && after != null && before.isList() && after.isList()) {
+            final int size = Math.max(before.getElements().size(), after.getElements().size());
+            for (int i = 0; i < size; i++) {
+                compare(
+                        path + "[" + i + "]",
+                        i < before.getElements().size() ? before.getElements().get(i) : null,
+                        i < after.getElements().size() ? after.getElements().get(i) : null);
+            }
+        } else {
+            flatten(path, before, this.before);
+            flatten(path, after, this.after);
+        }
+    }
+
+    private static void flatten(String path, AuditDataSnapshot node, Map<String, String> values) {
+        if (node == null) {
+            return;
+        }
+
+        if (node.isEntity()) {
+            node.getAttributes()
+                    .forEach(
+                            (key, attribute) ->
+                                    flatten(
+                                            path.isEmpty() ? key : path + "." + key,
+                                            attribute,
+                                            values));
+        } else if (node.isList()) {
+            for (int i = 0; i < node.getElements().size(); i++) {
+                flatten(path + "[" + i + "]", node.getElements().get(i), values);
+            }
+        } else if (!node.getValue().isBlank()) {
+            values.put(path, node.getValue());
+        }
+    }
+}
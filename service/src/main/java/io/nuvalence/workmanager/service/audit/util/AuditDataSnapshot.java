@@ -0,0 +1,137 @@
+package io.nuvalence.workmanager.service.audit.util;
+
+import io.nuvalence.workmanager.service.domain.dynamicschema.ComputedDynaProperty;
+import io.nuvalence.workmanager.service.domain.dynamicschema.DynamicEntity;
+import io.nuvalence.workmanager.service.domain.dynamicschema.attributes.Document;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.apache.commons.beanutils.DynaProperty;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable copy of the dynamic data of an entity, as recorded in audit events: values are
+ * converted to text, documents to their id, and computed attributes are left out.
+ *
+ * <p>A snapshot is taken on the request thread, in a single pass over the entity, so that it can be
+ * compared later on another thread while the entity keeps changing. Each node carries a 64-bit hash
+ * of its content, computed while the snapshot is taken, which lets {@link AuditDataDiff} skip
+ * unchanged subtrees without walking them.</p>
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class AuditDataSnapshot {
+    private static final long ENTITY_SEED = 0x9E3779B97F4A7C15L;
+    private static final long LIST_SEED = 0xC2B2AE3D27D4EB4FL;
+    private static final long FNV_OFFSET_BASIS = 0xCBF29CE484222325L;
+    private static final long FNV_PRIME = 0x100000001B3L;
+
+    /** Attributes of an entity node, or null. */
+    private final Map<String, AuditDataSnapshot> attributes;
+    /** Elements of a list node, or null. */
+    private final List<AuditDataSnapshot> elements;
+    /** Text of a value node, or null. */
+    private final String value;
+    /** Hash of the content of the node. */
+    private final long hash;
+
+    /**
+     * Takes a snapshot of the data of an entity.
+     *
+     * @param entity dynamic data
+     * @return snapshot, empty if the entity is null
+     */
+    public static AuditDataSnapshot of(DynamicEntity entity) {
+        return entity == null ? ofAttributes(Map.of()) : ofEntity(entity);
+    }
+
+    public boolean isEntity() {
+        return attributes != null;
+    }
+
+    public boolean isList() {
+        return elements != null;
+    }
+
+    private static AuditDataSnapshot ofEntity(DynamicEntity entity) {
+        final Map<String, AuditDataSnapshot> attributes = new LinkedHashMap<>();
+        for (DynaProperty property : entity.getSchema().getDynaProperties()) {
+            if (property instanceof ComputedDynaProperty) {
+                continue;
+            }
+
+            final Object value = entity.get(property.getName());
+            if (value == null) {
+                continue;
+            }
+
+            final AuditDataSnapshot attribute = ofObject(value);
+            if (attribute.value == null || !attribute.value.isBlank()) {
+                attributes.put(property.getName(), attribute);
+            }
+        }
+
+        return ofAttributes(attributes);
+    }
+
+    private static AuditDataSnapshot ofAttributes(Map<String, AuditDataSnapshot> attributes) {
+        // attributes are combined independently of their order
+        long hash = ENTITY_SEED;
+        for (Map.Entry<String, AuditDataSnapshot> attribute : attributes.entrySet()) {
+            hash += mix(hashText(attribute.getKey()) * FNV_PRIME ^ attribute.getValue().hash);
+        }
+
+        return new AuditDataSnapshot(Collections.unmodifiableMap(attributes), null, null, hash);
+    }
+
+    private static AuditDataSnapshot ofList(List<?> list) {
+        final List<AuditDataSnapshot> elements = new ArrayList<>(list.size());
+        long hash = LIST_SEED;
+        for (Object element : list) {
+            // null elements keep their position, and are recorded as "null"
+            final AuditDataSnapshot snapshot = ofObject(element);
+            elements.add(snapshot);
+            hash = mix(hash * FNV_PRIME ^ snapshot.hash);
+        }
+
+        return new AuditDataSnapshot(null, Collections.unmodifiableList(elements), null, hash);
+    }
+
+    private static AuditDataSnapshot ofObject(Object value) {
+        if (value instanceof DynamicEntity entity) {
+            return ofEntity(entity);
+        }
+        if (value instanceof List<?> list) {
+            return ofList(list);
+        }
+        if (value instanceof Document document) {
+            return ofText(String.valueOf(document.getDocumentId()));
+        }
+
+        return ofText(String.valueOf(value));
+    }
+
+    private static AuditDataSnapshot ofText(String text) {
+        return new AuditDataSnapshot(null, null, text, hashText(text));
+    }
+
+    private static long hashText(String text) {
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < text.length(); i++) {
+            hash = (hash ^ text.charAt(i)) * FNV_PRIME;
+        }
+
+        return hash;
+    }
+
+    private static long mix(long hash) {
+        long mixed = (hash ^ (hash >>> 30)) * 0xBF58476D1CE4E5B9L;
+        mixed = (mixed ^ (mixed >>> 27)) * 0x94D049BB133111EBL;
+        return mixed ^ (mixed >>> 31);
+    }
+}
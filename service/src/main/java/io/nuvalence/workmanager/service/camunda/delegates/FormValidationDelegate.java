@@ -1,9 +1,6 @@
 package io.nuvalence.workmanager.service.camunda.delegates;
 
 import io.nuvalence.workmanager.service.config.exceptions.BusinessLogicException;
-import io.nuvalence.workmanager.service.config.exceptions.NuvalenceFormioValidationException;
-import io.nuvalence.workmanager.service.config.exceptions.model.NuvalenceFormioValidationExItem;
-import io.nuvalence.workmanager.service.config.exceptions.model.NuvalenceFormioValidationExMessage;
 import io.nuvalence.workmanager.service.domain.formconfig.FormConfiguration;
 import io.nuvalence.workmanager.service.domain.transaction.Transaction;
 import io.nuvalence.workmanager.service.service.FormConfigurationService;
@@ -12,10 +9,10 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.camunda.bpm.engine.delegate.DelegateExecution;
 import org.camunda.bpm.engine.delegate.JavaDelegate;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -33,6 +30,9 @@ public class FormValidationDelegate implements JavaDelegate {
 
     private final FormConfigurationService formConfigurationService;
 
+    @Value("${formio.validation.stopAtFirstFailingStep:false}")
+    private boolean stopAtFirstFailingStep;
+
     @Override
     public void execute(DelegateExecution execution) throws Exception {
         UUID transactionId = (UUID) execution.getVariable("transactionId");
@@ -62,52 +62,27 @@ public class FormValidationDelegate implements JavaDelegate {
         }
         FormConfiguration formConfiguration = formConfigurationOptional.get();
 
-        ArrayList<Map<String, Object>> configurationComponents;
-        try {
-            Map<String, Object> config = formConfiguration.getConfiguration();
-            if (config != null && config.get("components") != null) {
-                configurationComponents =
-                        ((ArrayList<Map<String, Object>>) config.get("components"));
-            } else {
-                log.warn("Components or configuration is null.");
-                throw new BusinessLogicException(
-                        "Components could not be obtained for the provided form configuration.");
-            }
-        } catch (ClassCastException e) {
-            log.warn("An exception occurred obtaining configuration components {}", e.getMessage());
+        Map<String, Object> config = formConfiguration.getConfiguration();
+        if (config == null || config.get("components") == null) {
+            log.warn("Components or configuration is null.");
+            throw new BusinessLogicException(
+                    "Components could not be obtained for the provided form configuration.");
+        }
+        if (!(config.get("components") instanceof List)) {
+            log.warn(
+                    "Unexpected configuration components of type {}",
+                    config.get("components").getClass().getName());
             throw new BusinessLogicException(
                     "An unexpected component structure was found for the provided form"
                             + " configuration.");
         }
 
-        List<NuvalenceFormioValidationExItem> formioErrors = new ArrayList<>();
-        configurationComponents.stream()
-                .forEach(
-                        component -> {
-                            try {
-                                transactionService.validateFormStep(
-                                        (String) component.get("key"),
-                                        transactionDefinitionKey,
-                                        transaction,
-                                        execution.getCurrentActivityName(),
-                                        "");
-                            } catch (
-                                    NuvalenceFormioValidationException
-                                            nuvalenceFormioValidationException) {
-                                formioErrors.addAll(
-                                        nuvalenceFormioValidationException
-                                                .getFormioValidationErrors()
-                                                .getFormioValidationErrors());
-                            }
-                        });
-
-        if (!formioErrors.isEmpty()) {
-            NuvalenceFormioValidationExMessage formioValidationExMessage =
-                    NuvalenceFormioValidationExMessage.builder()
-                            .formioValidationErrors(formioErrors)
-                            .build();
-
-            throw new NuvalenceFormioValidationException(formioValidationExMessage);
-        }
+        // steps are validated concurrently, their errors are reported in form step order
+        transactionService.validateForm(
+                transactionDefinitionKey,
+                transaction,
+                execution.getCurrentActivityName(),
+                "",
+                stopAtFirstFailingStep);
     }
 }
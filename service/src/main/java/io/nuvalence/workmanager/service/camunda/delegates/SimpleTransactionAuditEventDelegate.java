@@ -47,7 +47,7 @@ public class SimpleTransactionAuditEventDelegate implements JavaDelegate {
                     new TransactionSubmittedAuditEventDto(originatorId);
 
             Optional<Transaction> optionalTransaction =
-                    transactionService.getTransactionById(transactionId);
+                    transactionService.getTransactionByIdForWorkflow(transactionId);
             if (optionalTransaction.isEmpty()) {
                 log.warn(
                         "Transaction {} not found, could not post transaction submitted audit"
@@ -45,7 +45,7 @@ public class TransactionCompletedDelegate implements JavaDelegate {
     @SuppressWarnings("PMD.NullAssignment")
     private void markTransactionAsCompleted(UUID transactionId, boolean undoCompleted) {
         Optional<Transaction> transactionOptional =
-                transactionService.getTransactionById(transactionId);
+                transactionService.getTransactionByIdForWorkflow(transactionId);
         if (transactionOptional.isPresent()) {
             Transaction transaction = transactionOptional.get();
             transaction.setIsCompleted(undoCompleted ? false : true);
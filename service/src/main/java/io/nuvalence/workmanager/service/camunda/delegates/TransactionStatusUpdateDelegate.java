@@ -51,7 +51,7 @@ public class TransactionStatusUpdateDelegate implements JavaDelegate {
     private void updateTransactionStatus(
             UUID transactionId, String status, DelegateExecution execution) {
         Optional<Transaction> transactionOptional =
-                transactionService.getTransactionById(transactionId);
+                transactionService.getTransactionByIdForWorkflow(transactionId);
         if (transactionOptional.isPresent()) {
             Transaction transaction = transactionOptional.get();
             transaction.setStatus(status);
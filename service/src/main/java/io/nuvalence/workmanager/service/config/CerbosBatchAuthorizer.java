@@ -0,0 +1,377 @@
+package io.nuvalence.workmanager.service.config;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.Lists;
+import dev.cerbos.sdk.CerbosBlockingClient;
+import dev.cerbos.sdk.CheckResourcesResult;
+import dev.cerbos.sdk.PlanResourcesResult;
+import dev.cerbos.sdk.builders.AttributeValue;
+import dev.cerbos.sdk.builders.Principal;
+import dev.cerbos.sdk.builders.Resource;
+import dev.cerbos.sdk.builders.ResourceAction;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import io.nuvalence.auth.access.AccessResource;
+import io.nuvalence.auth.access.cerbos.AccessResourceTranslator;
+import io.nuvalence.auth.util.SecurityContextUtility;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.lang.reflect.Modifier;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Checks access to many resource instances with as few Cerbos CheckResources calls as the request
+ * limit of the server allows, or plans a query filter for a resource kind with PlanResources.
+ *
+ * <p>Principals and resources are described to Cerbos the same way the per-instance authorization
+ * handler does it: resource kinds come from {@link AccessResource}, resources are passed through
+ * their {@link AccessResourceTranslator} and their JSON representation is sent as attributes.
+ * Decisions are cached for a short time, keyed by the principal, the resource kind and attributes,
+ * and the action.</p>
+ */
+@Component
+@Profile("!test")
+public class CerbosBatchAuthorizer {
+    private static final String ROUND_TRIPS_ATTRIBUTE =
+            CerbosBatchAuthorizer.class.getName() + ".roundTrips";
+    private static final TypeReference<Map<String, Object>> ATTRIBUTES_TYPE =
+            new TypeReference<>() {};
+
+    private final CerbosBlockingClient cerbosClient;
+    private final CerbosPrincipalAttributeProviderImpl principalAttributeProvider;
+    private final ApplicationContext applicationContext;
+    private final ObjectMapper objectMapper = SpringConfig.getMapper();
+    private final Cache<DecisionKey, Boolean> decisions;
+    private final Counter roundTrips;
+    private final Counter checkedResources;
+    private final DistributionSummary roundTripsPerRequest;
+    private final int maxResourcesPerRequest;
+
+    /**
+     * Constructs a new CerbosBatchAuthorizer.
+     *
+     * @param cerbosClient shared Cerbos client
+     * @param principalAttributeProvider provider of principal attributes
+     * @param applicationContext context used to resolve resource translators
+     * @param meterRegistry registry metrics are published to
+     * @param decisionTtl how long a decision is reused
+     * @param decisionCacheSize maximum number of cached decisions
+     * @param maxResourcesPerRequest maximum number of resources sent in one CheckResources call,
+     *     which must not exceed the request limit of the Cerbos server
+     */
+    public CerbosBatchAuthorizer(
+            final CerbosBlockingClient cerbosClient,
+            final CerbosPrincipalAttributeProviderImpl principalAttributeProvider,
+            final ApplicationContext applicationContext,
+            final MeterRegistry meterRegistry,
+            @Value("${cerbos.decisionCache.ttl:5s}") final Duration decisionTtl,
+            @Value("${cerbos.decisionCache.maximumSize:10000}") final long decisionCacheSize,
+            @Value("${cerbos.check.maxResourcesPerRequest:50}") final int maxResourcesPerRequest) {
+        this.cerbosClient = cerbosClient;
+        this.principalAttributeProvider = principalAttributeProvider;
+        this.applicationContext = applicationContext;
+        this.maxResourcesPerRequest = maxResourcesPerRequest;
+        this.decisions =
+                CacheBuilder.newBuilder()
+                        .expireAfterWrite(decisionTtl)
+                        .maximumSize(decisionCacheSize)
+                        .recordStats()
+                        .build();
+        this.roundTrips =
+                Counter.builder("cerbos.check.requests")
+                        .description("CheckResources calls made to Cerbos")
+                        .register(meterRegistry);
+        this.checkedResources =
+                Counter.builder("cerbos.check.resources")
+                        .description("Resources sent to Cerbos for a decision")
+                        .register(meterRegistry);
+        this.roundTripsPerRequest =
+                DistributionSummary.builder("cerbos.check.requests.per.http.request")
+                        .description("CheckResources calls made to Cerbos per HTTP request")
+                        .register(meterRegistry);
+
+        GuavaCacheMetrics.monitor(meterRegistry, decisions, "cerbos.decisions");
+    }
+
+    /**
+     * Returns the resources the current user may perform the given action on, preserving order.
+     *
+     * @param action action to check
+     * @param resources resources to check, all annotated with {@link AccessResource}
+     * @param <T> resource type
+     * @return allowed resources
+     */
+    public <T> List<T> filterAllowed(final String action, final List<T> resources) {
+        if (resources.isEmpty()) {
+            return resources;
+        }
+
+        final Authentication authentication =
+                SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null) {
+            return Collections.emptyList();
+        }
+
+        final PrincipalDescription principal = describePrincipal(authentication);
+        final List<DecisionKey> keys = new ArrayList<>(resources.size());
+        final Map<Integer, Boolean> allowed = new HashMap<>();
+        final List<Integer> pending = new ArrayList<>();
+
+        for (int i = 0; i < resources.size(); i++) {
+            final DecisionKey key = describeDecision(principal, resources.get(i), action);
+            keys.add(key);
+
+            final Boolean cached = decisions.getIfPresent(key);
+            if (cached == null) {
+                pending.add(i);
+            } else {
+                allowed.put(i, cached);
+            }
+        }
+
+        for (List<Integer> batch : Lists.partition(pending, maxResourcesPerRequest)) {
+            allowed.putAll(check(principal, keys, batch, action));
+        }
+
+        final List<T> result = new ArrayList<>();
+        for (int i = 0; i < resources.size(); i++) {
+            if (Boolean.TRUE.equals(allowed.get(i))) {
+                result.add(resources.get(i));
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Asks Cerbos under which conditions the current user may perform the given action on
+     * resources of the given kind.
+     *
+     * @param kind resource kind, as declared by {@link AccessResource}
+     * @param action action to plan
+     * @return query plan, or empty if there is no authenticated user
+     */
+    public Optional<PlanResourcesResult> planResources(final String kind, final String action) {
+        final Authentication authentication =
+                SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null) {
+            return Optional.empty();
+        }
+
+        final PlanResourcesResult result =
+                cerbosClient.plan(
+                        toCerbosPrincipal(describePrincipal(authentication)),
+                        Resource.newInstance(kind),
+                        action);
+        recordRoundTrip(0);
+
+        return Optional.of(result);
+    }
+
+    private Map<Integer, Boolean> check(
+            final PrincipalDescription principal,
+            final List<DecisionKey> keys,
+            final List<Integer> pending,
+            final String action) {
+        // Resources are identified by their position in the page so results map back
+        // unambiguously, even when the translated resource has no id attribute.
+        final ResourceAction[] resourceActions =
+                pending.stream()
+                        .map(index -> toResourceAction(keys.get(index), index, action))
+                        .toArray(ResourceAction[]::new);
+
+        final CheckResourcesResult result =
+                cerbosClient
+                        .batch(toCerbosPrincipal(principal))
+                        .addResources(resourceActions)
+                        .check();
+        recordRoundTrip(resourceActions.length);
+
+        final Map<Integer, Boolean> decided = new HashMap<>();
+        for (Integer index : pending) {
+            final boolean isAllowed =
+                    result.find(String.valueOf(index))
+                            .map(checkResult -> checkResult.isAllowed(action))
+                            .orElse(false);
+            decisions.put(keys.get(index), isAllowed);
+            decided.put(index, isAllowed);
+        }
+
+        return decided;
+    }
+
+    private PrincipalDescription describePrincipal(final Authentication authentication) {
+        final String userId = SecurityContextUtility.getAuthenticatedUserId();
+        final List<String> roles =
+                authentication.getAuthorities().stream()
+                        .map(GrantedAuthority::getAuthority)
+                        .sorted()
+                        .toList();
+        final Map<String, Object> attributes =
+                objectMapper.convertValue(
+                        principalAttributeProvider.getAttributes(authentication),
+                        ATTRIBUTES_TYPE);
+
+        return new PrincipalDescription(
+                userId != null ? userId : authentication.getName(), roles, attributes);
+    }
+
+    private DecisionKey describeDecision(
+            final PrincipalDescription principal, final Object resource, final String action) {
+        final AccessResource accessResource =
+                resource.getClass().getAnnotation(AccessResource.class);
+        if (accessResource == null) {
+            throw new IllegalArgumentException(
+                    "Resource is not annotated with @AccessResource: "
+                            + resource.getClass().getName());
+        }
+
+        final AccessResourceTranslator translator = getTranslator(accessResource);
+        final Object translated = translator != null ? translator.translate(resource) : resource;
+        final Map<String, Object> attributes =
+                objectMapper.convertValue(translated, ATTRIBUTES_TYPE);
+
+        return new DecisionKey(principal, accessResource.value(), attributes, action);
+    }
+
+    private AccessResourceTranslator getTranslator(final AccessResource accessResource) {
+        final Class<?> translatorClass = accessResource.translator();
+        if (translatorClass.isInterface() || Modifier.isAbstract(translatorClass.getModifiers())) {
+            return null;
+        }
+
+        return (AccessResourceTranslator) getBeanOrInstantiate(translatorClass);
+    }
+
+    private <T> T getBeanOrInstantiate(final Class<T> type) {
+        return applicationContext
+                .getBeanProvider(type)
+                .getIfAvailable(() -> BeanUtils.instantiateClass(type));
+    }
+
+    private Principal toCerbosPrincipal(final PrincipalDescription principal) {
+        Principal result =
+                Principal.newInstance(
+                        principal.getId(), principal.getRoles().toArray(String[]::new));
+        for (Map.Entry<String, AttributeValue> attribute :
+                toAttributeValues(principal.getAttributes()).entrySet()) {
+            result = result.withAttribute(attribute.getKey(), attribute.getValue());
+        }
+
+        return result;
+    }
+
+    private static ResourceAction toResourceAction(
+            final DecisionKey key, final int index, final String action) {
+        ResourceAction resourceAction =
+                ResourceAction.newInstance(key.getKind(), String.valueOf(index));
+        for (Map.Entry<String, AttributeValue> attribute :
+                toAttributeValues(key.getResourceAttributes()).entrySet()) {
+            resourceAction = resourceAction.withAttribute(attribute.getKey(), attribute.getValue());
+        }
+
+        return resourceAction.withActions(action);
+    }
+
+    private void recordRoundTrip(final int resourceCount) {
+        roundTrips.increment();
+        checkedResources.increment(resourceCount);
+
+        final RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes == null) {
+            return;
+        }
+
+        AtomicInteger count =
+                (AtomicInteger)
+                        requestAttributes.getAttribute(
+                                ROUND_TRIPS_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (count == null) {
+            final AtomicInteger requestCount = new AtomicInteger();
+            requestAttributes.setAttribute(
+                    ROUND_TRIPS_ATTRIBUTE, requestCount, RequestAttributes.SCOPE_REQUEST);
+            requestAttributes.registerDestructionCallback(
+                    ROUND_TRIPS_ATTRIBUTE,
+                    () -> roundTripsPerRequest.record(requestCount.get()),
+                    RequestAttributes.SCOPE_REQUEST);
+            count = requestCount;
+        }
+        count.incrementAndGet();
+    }
+
+    private static Map<String, AttributeValue> toAttributeValues(
+            final Map<String, Object> attributes) {
+        final Map<String, AttributeValue> values = new HashMap<>();
+        if (attributes == null) {
+            return values;
+        }
+
+        attributes.forEach(
+                (key, value) -> {
+                    if (value != null) {
+                        values.put(key, toAttributeValue(value));
+                    }
+                });
+
+        return values;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static AttributeValue toAttributeValue(final Object value) {
+        if (value instanceof Map<?, ?> map) {
+            return AttributeValue.mapValue(toAttributeValues((Map<String, Object>) map));
+        }
+        if (value instanceof List<?> list) {
+            return AttributeValue.listValue(
+                    list.stream()
+                            .filter(Objects::nonNull)
+                            .map(CerbosBatchAuthorizer::toAttributeValue)
+                            .toArray(AttributeValue[]::new));
+        }
+        if (value instanceof Boolean bool) {
+            return AttributeValue.boolValue(bool);
+        }
+        if (value instanceof Number number) {
+            return AttributeValue.doubleValue(number.doubleValue());
+        }
+
+        return AttributeValue.stringValue(String.valueOf(value));
+    }
+
+    @lombok.Value
+    private static class PrincipalDescription {
+        String id;
+        List<String> roles;
+        Map<String, Object> attributes;
+    }
+
+    @lombok.Value
+    private static class DecisionKey {
+        PrincipalDescription principal;
+        String kind;
+        Map<String, Object> resourceAttributes;
+        String action;
+    }
+}
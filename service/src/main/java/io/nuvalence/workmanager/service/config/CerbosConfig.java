@@ -4,8 +4,7 @@ import dev.cerbos.sdk.CerbosBlockingClient;
 import dev.cerbos.sdk.CerbosClientBuilder;
 import io.nuvalence.auth.access.AuthorizationHandler;
 import io.nuvalence.auth.access.cerbos.CerbosAuthorizationHandler;
-import io.nuvalence.workmanager.service.service.EmployerUserLinkService;
-import io.nuvalence.workmanager.service.service.IndividualUserLinkService;
+import io.nuvalence.workmanager.service.service.AccessProfileService;
 import io.nuvalence.workmanager.service.utils.JacocoIgnoreInGeneratedReport;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
@@ -26,28 +25,35 @@ import org.springframework.context.annotation.ScopedProxyMode;
                 "Initialization has side effects making unit tests difficult. Tested in acceptance"
                         + " tests.")
 public class CerbosConfig {
-    private final IndividualUserLinkService individualUserLinkService;
-    private final EmployerUserLinkService employerUserLinkService;
+    private final AccessProfileService accessProfileService;
 
     @Value("${cerbos.uri}")
     private String cerbosUri;
 
     /**
-     * Initializes a CerbosAuthorizationHandler as a singleton bean.
+     * Initializes the Cerbos client as a singleton bean, so that the whole application shares a
+     * single gRPC channel.
      *
-     * @return AuthorizationHandler
+     * @return CerbosBlockingClient
      * @throws CerbosClientBuilder.InvalidClientConfigurationException if cerbos URI is invalid
      */
     @Bean
-    @Scope(value = "request", proxyMode = ScopedProxyMode.TARGET_CLASS)
-    public AuthorizationHandler getAuthorizationHandler()
+    public CerbosBlockingClient getCerbosClient()
             throws CerbosClientBuilder.InvalidClientConfigurationException {
-        final CerbosBlockingClient cerbosClient =
-                new CerbosClientBuilder(cerbosUri).withPlaintext().buildBlockingClient();
+        return new CerbosClientBuilder(cerbosUri).withPlaintext().buildBlockingClient();
+    }
 
+    /**
+     * Initializes a CerbosAuthorizationHandler for each request, backed by the shared Cerbos client.
+     *
+     * @param cerbosClient shared Cerbos client
+     * @return AuthorizationHandler
+     */
+    @Bean
+    @Scope(value = "request", proxyMode = ScopedProxyMode.TARGET_CLASS)
+    public AuthorizationHandler getAuthorizationHandler(final CerbosBlockingClient cerbosClient) {
         return new CerbosAuthorizationHandler(
                 cerbosClient,
-                new CerbosPrincipalAttributeProviderImpl(
-                        individualUserLinkService, employerUserLinkService));
+                new CerbosPrincipalAttributeProviderImpl(accessProfileService));
     }
 }
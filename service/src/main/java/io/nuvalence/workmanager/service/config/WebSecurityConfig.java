@@ -1,7 +1,6 @@
 package io.nuvalence.workmanager.service.config;
 
 import dev.cerbos.sdk.CerbosBlockingClient;
-import dev.cerbos.sdk.CerbosClientBuilder;
 import io.nuvalence.auth.access.AuthorizationHandler;
 import io.nuvalence.auth.access.cerbos.CerbosAuthorizationHandler;
 import io.nuvalence.auth.token.SelfSignedTokenAuthenticationProvider;
@@ -71,18 +70,14 @@ public class WebSecurityConfig {
     @Value("${auth.token-filter.self-signed.public-key}")
     private String selfSignPublicKey;
 
-    @Value("${cerbos.uri}")
-    private String cerbosUri;
+    private final CerbosBlockingClient cerbosClient;
 
     private static final String NAMESPACE = "wm";
 
     private AuthorizationHandler authorizationHandler;
 
     @PostConstruct
-    public void init() throws CerbosClientBuilder.InvalidClientConfigurationException {
-        final CerbosBlockingClient cerbosClient =
-                new CerbosClientBuilder(cerbosUri).withPlaintext().buildBlockingClient();
-
+    public void init() {
         this.authorizationHandler = new CerbosAuthorizationHandler(cerbosClient);
     }
 
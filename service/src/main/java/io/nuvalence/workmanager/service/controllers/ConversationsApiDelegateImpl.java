@@ -124,8 +124,8 @@ public class ConversationsApiDelegateImpl implements ConversationsApiDelegate {
                                 entityReference, xApplicationProfileID));
 
         Page<ConversationResponseModel> results =
-                conversationService
-                        .getConversationByFilters(
+                conversationMapper.conversationPageToResponseModels(
+                        conversationService.getConversationByFilters(
                                 ConversationFilters.builder()
                                         .referenceType(referenceType)
                                         .referenceId(referenceId)
@@ -133,8 +133,7 @@ public class ConversationsApiDelegateImpl implements ConversationsApiDelegate {
                                         .sortBy(sortBy)
                                         .pageSize(pageSize)
                                         .sortOrder(sortOrder)
-                                        .build())
-                        .map(conversationMapper::conversationToResponseModel);
+                                        .build()));
 
         PageConversationsResponseModel response = new PageConversationsResponseModel();
         response.items(results.toList());
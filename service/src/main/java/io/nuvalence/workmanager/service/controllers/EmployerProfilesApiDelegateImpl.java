@@ -7,6 +7,7 @@ import io.nuvalence.workmanager.service.audit.profile.EmployerProfileDataChanged
 import io.nuvalence.workmanager.service.audit.profile.EmployerProfileUserAccessLevelChangedAuditHandler;
 import io.nuvalence.workmanager.service.config.exceptions.BusinessLogicException;
 import io.nuvalence.workmanager.service.config.exceptions.ConflictException;
+import io.nuvalence.workmanager.service.config.exceptions.ProvidedDataException;
 import io.nuvalence.workmanager.service.config.exceptions.UnexpectedException;
 import io.nuvalence.workmanager.service.domain.profile.Employer;
 import io.nuvalence.workmanager.service.domain.profile.EmployerUserLink;
@@ -31,6 +32,7 @@ import io.nuvalence.workmanager.service.mapper.PagingMetadataMapper;
 import io.nuvalence.workmanager.service.mapper.ProfileInvitationMapper;
 import io.nuvalence.workmanager.service.models.EmployerFilters;
 import io.nuvalence.workmanager.service.models.EmployerUserLinkFilters;
+import io.nuvalence.workmanager.service.models.KeysetPage;
 import io.nuvalence.workmanager.service.models.ProfileInvitationFilters;
 import io.nuvalence.workmanager.service.models.auditevents.AuditActivityType;
 import io.nuvalence.workmanager.service.service.AuditEventService;
@@ -105,26 +107,42 @@ public class EmployerProfilesApiDelegateImpl implements EmployerProfilesApiDeleg
             String sortBy,
             String sortOrder,
             Integer pageNumber,
-            Integer pageSize) {
+            Integer pageSize,
+            String cursor,
+            Boolean includeTotalCount,
+            Boolean rankedSearch) {
         if (!authorizationHandler.isAllowed("view", Employer.class)) {
             throw new ForbiddenException();
         }
 
-        Page<EmployerProfileResponseModel> results =
-                employerService
-                        .getEmployersByFilters(
-                                new EmployerFilters(
-                                        sortBy,
-                                        sortOrder,
-                                        pageNumber,
-                                        pageSize,
-                                        fein,
-                                        name,
-                                        type,
-                                        industry))
-                        .map(employerMapper::employerToResponseModel);
+        EmployerFilters filters =
+                new EmployerFilters(
+                        sortBy, sortOrder, pageNumber, pageSize, fein, name, type, industry);
 
         PageEmployerProfileResponseModel response = new PageEmployerProfileResponseModel();
+        if (cursor != null) {
+            if (Boolean.TRUE.equals(rankedSearch)) {
+                throw new ProvidedDataException(
+                        "Cursor pagination is not supported with ranked search");
+            }
+
+            KeysetPage<EmployerProfileResponseModel> results =
+                    employerService
+                            .getEmployersByFiltersAfter(filters, cursor, includeTotalCount)
+                            .map(employerMapper::employerToResponseModel);
+            response.items(results.getContent());
+            response.setPagingMetadata(pagingMetadataMapper.toPagingMetadata(results));
+
+            return ResponseEntity.status(200).body(response);
+        }
+
+        Page<Employer> employers =
+                Boolean.TRUE.equals(rankedSearch)
+                        ? employerService.getEmployersByRankedSearch(filters)
+                        : employerService.getEmployersByFilters(filters);
+        Page<EmployerProfileResponseModel> results =
+                employers.map(employerMapper::employerToResponseModel);
+
         response.items(results.toList());
         response.setPagingMetadata(pagingMetadataMapper.toPagingMetadata(results));
 
@@ -32,6 +32,7 @@ import io.nuvalence.workmanager.service.mapper.PagingMetadataMapper;
 import io.nuvalence.workmanager.service.mapper.ProfileInvitationMapper;
 import io.nuvalence.workmanager.service.models.IndividualFilters;
 import io.nuvalence.workmanager.service.models.IndividualUserLinksFilters;
+import io.nuvalence.workmanager.service.models.KeysetPage;
 import io.nuvalence.workmanager.service.models.ProfileInvitationFilters;
 import io.nuvalence.workmanager.service.models.auditevents.AuditActivityType;
 import io.nuvalence.workmanager.service.service.AuditEventService;
@@ -176,27 +177,41 @@ public class IndividualProfilesApiDelegateImpl implements IndividualProfilesApiD
             String sortBy,
             String sortOrder,
             Integer pageNumber,
-            Integer pageSize) {
+            Integer pageSize,
+            String cursor,
+            Boolean includeTotalCount) {
         if (!authorizationHandler.isAllowed("view", Individual.class)) {
             throw new ForbiddenException();
         }
 
+        IndividualFilters filters =
+                new IndividualFilters(
+                        sortBy,
+                        sortOrder,
+                        pageNumber,
+                        pageSize,
+                        ownerUserId,
+                        ssn,
+                        email,
+                        name,
+                        userManagementService);
+
+        PageIndividualProfileResponseModel response = new PageIndividualProfileResponseModel();
+        if (cursor != null) {
+            KeysetPage<IndividualProfileResponseModel> results =
+                    individualService
+                            .getIndividualsByFiltersAfter(filters, cursor, includeTotalCount)
+                            .map(individualMapper::individualToResponseModel);
+            response.items(results.getContent());
+            response.setPagingMetadata(pagingMetadataMapper.toPagingMetadata(results));
+            return ResponseEntity.status(200).body(response);
+        }
+
         Page<IndividualProfileResponseModel> results =
                 individualService
-                        .getIndividualsByFilters(
-                                new IndividualFilters(
-                                        sortBy,
-                                        sortOrder,
-                                        pageNumber,
-                                        pageSize,
-                                        ownerUserId,
-                                        ssn,
-                                        email,
-                                        name,
-                                        userManagementService))
+                        .getIndividualsByFilters(filters)
                         .map(individualMapper::individualToResponseModel);
 
-        PageIndividualProfileResponseModel response = new PageIndividualProfileResponseModel();
         response.items(results.toList());
         response.setPagingMetadata(pagingMetadataMapper.toPagingMetadata(results));
         return ResponseEntity.status(200).body(response);
@@ -2,6 +2,7 @@ package io.nuvalence.workmanager.service.controllers;
 
 import io.nuvalence.auth.access.AuthorizationHandler;
 import io.nuvalence.auth.token.UserToken;
+import io.nuvalence.workmanager.service.config.exceptions.ProvidedDataException;
 import io.nuvalence.workmanager.service.domain.record.MissingRecordDefinitionException;
 import io.nuvalence.workmanager.service.domain.record.Record;
 import io.nuvalence.workmanager.service.domain.record.RecordDefinition;
@@ -17,6 +18,7 @@ import io.nuvalence.workmanager.service.mapper.EntityMapper;
 import io.nuvalence.workmanager.service.mapper.MissingSchemaException;
 import io.nuvalence.workmanager.service.mapper.PagingMetadataMapper;
 import io.nuvalence.workmanager.service.mapper.RecordMapper;
+import io.nuvalence.workmanager.service.models.KeysetPage;
 import io.nuvalence.workmanager.service.models.RecordFilters;
 import io.nuvalence.workmanager.service.service.RecordDefinitionService;
 import io.nuvalence.workmanager.service.service.RecordService;
@@ -151,7 +153,10 @@ public class RecordsApiDelegateImpl implements RecordsApiDelegate {
             String sortBy,
             String sortOrder,
             Integer pageNumber,
-            Integer pageSize) {
+            Integer pageSize,
+            String cursor,
+            Boolean includeTotalCount,
+            Boolean rankedSearch) {
 
         if (!authorizationHandler.isAllowed("view", Record.class)) {
             throw new ForbiddenException();
@@ -167,10 +172,28 @@ public class RecordsApiDelegateImpl implements RecordsApiDelegate {
                         pageNumber,
                         pageSize);
 
-        Page<RecordResponseModel> results =
-                recordService.getRecordsByFilters(filters).map(mapper::recordToRecordResponseModel);
-
         PagedRecordResponseModel response = new PagedRecordResponseModel();
+        if (cursor != null) {
+            if (Boolean.TRUE.equals(rankedSearch)) {
+                throw new ProvidedDataException(
+                        "Cursor pagination is not supported with ranked search");
+            }
+            KeysetPage<RecordResponseModel> results =
+                    recordService
+                            .getRecordsByFiltersAfter(filters, cursor, includeTotalCount)
+                            .map(mapper::recordToRecordResponseModel);
+            response.items(results.getContent());
+            response.setPagingMetadata(pagingMetadataMapper.toPagingMetadata(results));
+
+            return ResponseEntity.ok(response);
+        }
+
+        Page<Record> records =
+                Boolean.TRUE.equals(rankedSearch)
+                        ? recordService.getRecordsByRankedSearch(filters)
+                        : recordService.getRecordsByFilters(filters);
+        Page<RecordResponseModel> results = records.map(mapper::recordToRecordResponseModel);
+
         response.items(results.toList());
         response.setPagingMetadata(pagingMetadataMapper.toPagingMetadata(results));
 
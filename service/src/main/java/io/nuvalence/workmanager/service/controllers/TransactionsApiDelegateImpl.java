@@ -4,7 +4,9 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import io.nuvalence.auth.access.AuthorizationHandler;
 import io.nuvalence.auth.token.UserToken;
 import io.nuvalence.auth.util.SecurityContextUtility;
+import io.nuvalence.workmanager.service.audit.AuditEventExecutor;
 import io.nuvalence.workmanager.service.audit.AuditableAction;
+import io.nuvalence.workmanager.service.audit.CoalescedAuditHandler;
 import io.nuvalence.workmanager.service.audit.transaction.AssignedToChangedAuditHandler;
 import io.nuvalence.workmanager.service.audit.transaction.DynamicDataChangedAuditHandler;
 import io.nuvalence.workmanager.service.audit.transaction.PriorityChangedAuditHandler;
@@ -16,6 +18,7 @@ import io.nuvalence.workmanager.service.config.exceptions.NuvalenceFormioValidat
 import io.nuvalence.workmanager.service.config.exceptions.ProvidedDataException;
 import io.nuvalence.workmanager.service.config.exceptions.UnexpectedException;
 import io.nuvalence.workmanager.service.domain.Note;
+import io.nuvalence.workmanager.service.domain.TransactionAccessResourceTranslator;
 import io.nuvalence.workmanager.service.domain.customerprovideddocument.CustomerProvidedDocument;
 import io.nuvalence.workmanager.service.domain.customerprovideddocument.RejectionReason;
 import io.nuvalence.workmanager.service.domain.customerprovideddocument.RejectionReasonType;
@@ -49,6 +52,9 @@ import io.nuvalence.workmanager.service.generated.models.NoteModelResponse;
 import io.nuvalence.workmanager.service.generated.models.NoteUpdateModelRequest;
 import io.nuvalence.workmanager.service.generated.models.PagedTransactionModel;
 import io.nuvalence.workmanager.service.generated.models.PagedTransactionNoteModel;
+import io.nuvalence.workmanager.service.generated.models.TransactionBulkCreationRequest;
+import io.nuvalence.workmanager.service.generated.models.TransactionBulkCreationResponse;
+import io.nuvalence.workmanager.service.generated.models.TransactionBulkCreationResult;
 import io.nuvalence.workmanager.service.generated.models.TransactionCountByStatusModel;
 import io.nuvalence.workmanager.service.generated.models.TransactionCreationRequest;
 import io.nuvalence.workmanager.service.generated.models.TransactionLinkModel;
@@ -65,11 +71,17 @@ import io.nuvalence.workmanager.service.mapper.PagingMetadataMapper;
 import io.nuvalence.workmanager.service.mapper.TransactionLinkMapper;
 import io.nuvalence.workmanager.service.mapper.TransactionMapper;
 import io.nuvalence.workmanager.service.models.ByUserTransactionsFilters;
+import io.nuvalence.workmanager.service.models.DataMergePatch;
+import io.nuvalence.workmanager.service.models.KeysetPage;
 import io.nuvalence.workmanager.service.models.SearchTransactionsFilters;
+import io.nuvalence.workmanager.service.models.TransactionCreationItem;
+import io.nuvalence.workmanager.service.models.TransactionCreationResult;
 import io.nuvalence.workmanager.service.models.TransactionFilters;
 import io.nuvalence.workmanager.service.models.TransactionNoteFilters;
+import io.nuvalence.workmanager.service.models.TransactionSummaryFields;
 import io.nuvalence.workmanager.service.models.auditevents.AuditActivityType;
 import io.nuvalence.workmanager.service.service.AuditEventService;
+import io.nuvalence.workmanager.service.service.DashboardConfigurationService;
 import io.nuvalence.workmanager.service.service.DocumentManagementService;
 import io.nuvalence.workmanager.service.service.EmployerUserLinkService;
 import io.nuvalence.workmanager.service.service.FormConfigurationService;
@@ -86,6 +98,7 @@ import io.nuvalence.workmanager.service.usermanagementapi.UserManagementService;
 import io.nuvalence.workmanager.service.usermanagementapi.models.User;
 import io.nuvalence.workmanager.service.utils.RequestContextTimestamp;
 import io.nuvalence.workmanager.service.utils.UserUtility;
+import io.nuvalence.workmanager.service.utils.auth.BatchAuthorizationHandler;
 import io.nuvalence.workmanager.service.utils.auth.CurrentUserUtility;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -131,6 +144,7 @@ public class TransactionsApiDelegateImpl
     public static final String UPDATE_ACTN = "update";
     public static final String CREATE_ACTN = "create";
     public static final String TRANSACTION_NOT_FOUND_MSG = "Transaction not found";
+    private static final String SUMMARY_VIEW = "summary";
     private static final String AUTH_NOT_SET_ERR_MESSAGE =
             "Security context authentication not set.";
     private final ExecutorService executorService =
@@ -149,7 +163,9 @@ public class TransactionsApiDelegateImpl
     private final PagingMetadataMapper pagingMetadataMapper;
 
     private final AuthorizationHandler authorizationHandler;
+    private final BatchAuthorizationHandler batchAuthorizationHandler;
     private final AuditEventService transactionAuditEventService;
+    private final AuditEventExecutor auditEventExecutor;
     private final RequestContextTimestamp requestContextTimestamp;
     private final UserManagementService userManagementService;
     private final TransactionTaskService transactionTaskService;
@@ -158,6 +174,7 @@ public class TransactionsApiDelegateImpl
     private final IndividualUserLinkService individualUserLinkService;
     private final EmployerUserLinkService employerUserLinkService;
     private final IndividualService individualService;
+    private final DashboardConfigurationService dashboardConfigurationService;
 
     @PreDestroy
     public void preDestroy() {
@@ -264,8 +281,7 @@ public class TransactionsApiDelegateImpl
                         .build();
 
         Page<TransactionModel> transactions =
-                authFilterTransactionsPage(transactionService.getFilteredTransactions(filters))
-                        .map(mapper::transactionToTransactionModel);
+                toTransactionModels(findAuthorizedTransactions(filters));
 
         return ResponseEntity.ok(generatePagedTransactionModel(transactions));
     }
@@ -290,7 +306,11 @@ public class TransactionsApiDelegateImpl
             String sortBy,
             String sortOrder,
             Integer pageNumber,
-            Integer pageSize) {
+            Integer pageSize,
+            String cursor,
+            Boolean includeTotalCount,
+            String view,
+            List<String> fields) {
 
         ProfileType profileType =
                 stringProfileType != null
@@ -333,9 +353,38 @@ public class TransactionsApiDelegateImpl
 
         validatePublicUser(xApplicationProfileID, profileType, filters);
 
-        Page<TransactionModel> results =
-                authFilterTransactionsPage(transactionService.getFilteredTransactions(filters))
-                        .map(mapper::transactionToTransactionModel);
+        if (SUMMARY_VIEW.equals(view) || (fields != null && !fields.isEmpty())) {
+            if (cursor != null) {
+                throw new ProvidedDataException("The summary view does not support cursors");
+            }
+
+            TransactionSummaryFields summaryFields =
+                    fields != null && !fields.isEmpty()
+                            ? TransactionSummaryFields.of(fields)
+                            : TransactionSummaryFields.withColumns(
+                                    transactionDefinitionSetKey != null
+                                            ? dashboardConfigurationService
+                                                    .getColumnAttributePaths(
+                                                            transactionDefinitionSetKey)
+                                            : List.of());
+
+            return ResponseEntity.ok(
+                    generatePagedTransactionModel(
+                            findAuthorizedTransactionSummaries(filters, summaryFields)));
+        }
+
+        if (cursor != null) {
+            KeysetPage<TransactionModel> results =
+                    findAuthorizedTransactionsAfter(filters, cursor, includeTotalCount)
+                            .mapContent(mapper::transactionsToTransactionModels);
+
+            PagedTransactionModel model = new PagedTransactionModel();
+            model.items(results.getContent());
+            model.setPagingMetadata(pagingMetadataMapper.toPagingMetadata(results));
+            return ResponseEntity.ok(model);
+        }
+
+        Page<TransactionModel> results = toTransactionModels(findAuthorizedTransactions(filters));
 
         return ResponseEntity.ok(generatePagedTransactionModel(results));
     }
@@ -572,6 +621,110 @@ public class TransactionsApiDelegateImpl
         }
     }
 
+    @Override
+    public ResponseEntity<TransactionBulkCreationResponse> postTransactions(
+            TransactionBulkCreationRequest request, String authorization) {
+        if (!authorizationHandler.isAllowed(CREATE_ACTN, Transaction.class)) {
+            throw new ForbiddenException();
+        }
+
+        final List<TransactionCreationRequest> requests = request.getTransactions();
+        final TransactionBulkCreationResult[] results =
+                new TransactionBulkCreationResult[requests.size()];
+        final List<Integer> itemIndexes = new ArrayList<>();
+        final List<TransactionCreationItem> items = new ArrayList<>();
+        final Map<String, TransactionDefinition> definitions = new HashMap<>();
+        final Map<String, Schema> schemas = new HashMap<>();
+        for (int index = 0; index < requests.size(); index++) {
+            final TransactionCreationRequest itemRequest = requests.get(index);
+            try {
+                final TransactionDefinition definition =
+                        getTransactionDefinitionByKey(
+                                itemRequest.getTransactionDefinitionKey(), definitions);
+                final Schema schema = getSchemaByKey(definition.getSchemaKey(), schemas);
+                items.add(
+                        new TransactionCreationItem(
+                                definition,
+                                entityMapper.convertGenericMapToEntity(
+                                        schema, itemRequest.getData())));
+                itemIndexes.add(index);
+            } catch (MissingTransactionDefinitionException
+                    | MissingSchemaException
+                    | RuntimeException e) {
+                results[index] = failedBulkCreationResult(index, e.getMessage());
+            }
+        }
+
+        if (!items.isEmpty()) {
+            final Individual individual = individualService.createOrGetIndividualForCurrentUser();
+            final List<TransactionCreationResult> creations =
+                    transactionService.createTransactions(items, individual);
+            final List<Integer> createdIndexes = new ArrayList<>();
+            final List<Transaction> created = new ArrayList<>();
+            for (int i = 0; i < creations.size(); i++) {
+                final int index = itemIndexes.get(i);
+                final TransactionCreationResult creation = creations.get(i);
+                if (creation.isCreated()) {
+                    createdIndexes.add(index);
+                    created.add(creation.getTransaction());
+                } else {
+                    results[index] = failedBulkCreationResult(index, creation.getError());
+                }
+            }
+
+            if (!created.isEmpty()) {
+                // every transaction has the same subject, one link covers them all
+                individualUserLinkService.createAdminUserLinkForProfile(created.get(0));
+            }
+            // the active tasks and completion of all created transactions are read at once
+            final List<TransactionModel> models = mapper.transactionsToTransactionModels(created);
+            for (int i = 0; i < created.size(); i++) {
+                final int index = createdIndexes.get(i);
+                results[index] =
+                        new TransactionBulkCreationResult()
+                                .index(index)
+                                .status(TransactionBulkCreationResult.StatusEnum.CREATED)
+                                .transaction(models.get(i));
+            }
+        }
+
+        return ResponseEntity.ok(new TransactionBulkCreationResponse().results(List.of(results)));
+    }
+
+    private TransactionDefinition getTransactionDefinitionByKey(
+            String key, Map<String, TransactionDefinition> definitions)
+            throws MissingTransactionDefinitionException {
+        TransactionDefinition definition = definitions.get(key);
+        if (definition == null) {
+            definition =
+                    transactionDefinitionService
+                            .getTransactionDefinitionByKey(key)
+                            .orElseThrow(() -> new MissingTransactionDefinitionException(key));
+            definitions.put(key, definition);
+        }
+        return definition;
+    }
+
+    private Schema getSchemaByKey(String key, Map<String, Schema> schemas)
+            throws MissingSchemaException {
+        Schema schema = schemas.get(key);
+        if (schema == null) {
+            schema =
+                    schemaService
+                            .getSchemaByKey(key)
+                            .orElseThrow(() -> new MissingSchemaException(key));
+            schemas.put(key, schema);
+        }
+        return schema;
+    }
+
+    private TransactionBulkCreationResult failedBulkCreationResult(int index, String error) {
+        return new TransactionBulkCreationResult()
+                .index(index)
+                .status(TransactionBulkCreationResult.StatusEnum.FAILED)
+                .error(error);
+    }
+
     private void postAuditEventForTransactionCreated(Transaction transaction) {
         try {
             transactionService.postAuditEventForTransactionCreated(transaction);
@@ -593,7 +746,8 @@ public class TransactionsApiDelegateImpl
             final TransactionUpdateRequest request,
             final String taskId,
             final Boolean completeTask,
-            final String formStepKey) {
+            final String formStepKey,
+            final Boolean mergePatch) {
 
         try {
             Transaction existingTransaction = getExistingTransaction(id);
@@ -606,7 +760,13 @@ public class TransactionsApiDelegateImpl
 
             Transaction transaction =
                     updateTransactionInternal(
-                            id, existingTransaction, request, taskId, formStepKey, completeTask);
+                            id,
+                            existingTransaction,
+                            request,
+                            taskId,
+                            formStepKey,
+                            completeTask,
+                            Boolean.TRUE.equals(mergePatch));
 
             return ResponseEntity.ok(createTransactionModel(transaction));
         } catch (NotFoundException e) {
@@ -644,34 +804,52 @@ public class TransactionsApiDelegateImpl
         return ResponseEntity.status(status).build();
     }
 
+    private DynamicEntity mergeData(Transaction transaction, TransactionUpdateRequest request)
+            throws MissingSchemaException {
+        final Map<String, Object> mergedMap =
+                transactionService.unifyAttributeMaps(
+                        request.getData(),
+                        entityMapper.convertAttributesToGenericMap(transaction.getData()));
+
+        return entityMapper.convertGenericMapToEntity(transaction.getData().getSchema(), mergedMap);
+    }
+
     private Transaction updateTransactionInternal(
             UUID id,
             Transaction existingTransaction,
             TransactionUpdateRequest request,
             String taskId,
             String formStepKey,
-            Boolean completeTask) {
+            Boolean completeTask,
+            boolean mergePatch) {
         try {
             final Transaction transaction =
                     AuditableAction.builder(Transaction.class)
                             .auditHandler(
-                                    new AssignedToChangedAuditHandler(transactionAuditEventService))
-                            .auditHandler(
-                                    new PriorityChangedAuditHandler(transactionAuditEventService))
-                            .auditHandler(
-                                    new StatusChangedAuditHandler(transactionAuditEventService))
-                            .auditHandler(
-                                    new DynamicDataChangedAuditHandler(
-                                            transactionAuditEventService, entityMapper))
+                                    new CoalescedAuditHandler<>(
+                                            List.of(
+                                                    new AssignedToChangedAuditHandler(
+                                                            transactionAuditEventService),
+                                                    new PriorityChangedAuditHandler(
+                                                            transactionAuditEventService),
+                                                    new StatusChangedAuditHandler(
+                                                            transactionAuditEventService),
+                                                    new DynamicDataChangedAuditHandler(
+                                                            transactionAuditEventService)),
+                                            transactionAuditEventService,
+                                            auditEventExecutor,
+                                            requestContextTimestamp,
+                                            AuditActivityType.TRANSACTION_UPDATED))
                             .requestContextTimestamp(requestContextTimestamp)
                             .action(
                                     transactionIn -> {
-                                        final Map<String, Object> mergedMap =
-                                                transactionService.unifyAttributeMaps(
-                                                        request.getData(),
-                                                        entityMapper.convertAttributesToGenericMap(
-                                                                transactionIn.getData()));
                                         final Schema schema = transactionIn.getData().getSchema();
+                                        final DataMergePatch dataPatch =
+                                                mergePatch
+                                                        ? entityMapper.applyMergePatch(
+                                                                transactionIn.getData(),
+                                                                request.getData())
+                                                        : null;
 
                                         TransactionPriority priority = null;
 
@@ -686,9 +864,11 @@ public class TransactionsApiDelegateImpl
                                                         .assignedTo(request.getAssignedTo())
                                                         .priority(priority)
                                                         .data(
-                                                                entityMapper
-                                                                        .convertGenericMapToEntity(
-                                                                                schema, mergedMap))
+                                                                mergePatch
+                                                                        ? transactionIn.getData()
+                                                                        : mergeData(
+                                                                                transactionIn,
+                                                                                request))
                                                         .build();
 
                                         partialUpdate.setTransactionDefinitionId(
@@ -704,7 +884,27 @@ public class TransactionsApiDelegateImpl
                                                     request.getContext());
                                         }
 
-                                        return (completeTask && taskId != null)
+                                        final boolean completingTask =
+                                                completeTask && taskId != null;
+                                        if (mergePatch) {
+                                            return completingTask
+                                                    ? transactionService
+                                                            .updateTransactionFromMergePatchAndCompleteTask(
+                                                                    partialUpdate,
+                                                                    dataPatch,
+                                                                    taskId,
+                                                                    request.getAction(),
+                                                                    schema
+                                                                            .getAttributeConfigurations())
+                                                    : transactionService
+                                                            .updateTransactionFromMergePatch(
+                                                                    partialUpdate,
+                                                                    dataPatch,
+                                                                    schema
+                                                                            .getAttributeConfigurations());
+                                        }
+
+                                        return completingTask
                                                 ? transactionService
                                                         .updateTransactionFromPartialUpdateAndCompleteTask(
                                                                 partialUpdate,
@@ -1148,6 +1348,13 @@ public class TransactionsApiDelegateImpl
         }
     }
 
+    private Page<TransactionModel> toTransactionModels(Page<Transaction> transactions) {
+        return new PageImpl<>(
+                mapper.transactionsToTransactionModels(transactions.getContent()),
+                transactions.getPageable(),
+                transactions.getTotalElements());
+    }
+
     private TransactionModel createTransactionModel(Transaction t) {
 
         if (t.getTransactionDefinition() == null) {
@@ -1186,12 +1393,72 @@ public class TransactionsApiDelegateImpl
         return model;
     }
 
+    /**
+     * Finds the summaries of the transactions the user may view. When access cannot be checked in
+     * the query, the transactions are loaded, authorized and returned in full instead.
+     */
+    private Page<TransactionModel> findAuthorizedTransactionSummaries(
+            TransactionFilters filters, TransactionSummaryFields fields) {
+        return batchAuthorizationHandler
+                .getAccessSpecification(
+                        "view",
+                        Transaction.class,
+                        TransactionAccessResourceTranslator.PLAN_TRANSLATOR)
+                .map(
+                        access ->
+                                transactionService
+                                        .getFilteredTransactionSummaries(filters, fields, access)
+                                        .map(mapper::transactionSummaryToTransactionModel))
+                .orElseGet(
+                        () ->
+                                toTransactionModels(
+                                        authFilterTransactionsPage(
+                                                transactionService.getFilteredTransactions(
+                                                        filters))));
+    }
+
+    private Page<Transaction> findAuthorizedTransactions(TransactionFilters filters) {
+        return batchAuthorizationHandler
+                .getAccessSpecification(
+                        "view",
+                        Transaction.class,
+                        TransactionAccessResourceTranslator.PLAN_TRANSLATOR)
+                .map(access -> transactionService.getFilteredTransactions(filters, access))
+                .orElseGet(
+                        () ->
+                                authFilterTransactionsPage(
+                                        transactionService.getFilteredTransactions(filters)));
+    }
+
+    private KeysetPage<Transaction> findAuthorizedTransactionsAfter(
+            TransactionFilters filters, String cursor, Boolean includeTotalCount) {
+        return batchAuthorizationHandler
+                .getAccessSpecification(
+                        "view",
+                        Transaction.class,
+                        TransactionAccessResourceTranslator.PLAN_TRANSLATOR)
+                .map(
+                        access ->
+                                transactionService.getFilteredTransactionsAfter(
+                                        filters, cursor, includeTotalCount, access))
+                .orElseGet(
+                        () -> {
+                            KeysetPage<Transaction> page =
+                                    transactionService.getFilteredTransactionsAfter(
+                                            filters, cursor, includeTotalCount, null);
+                            return new KeysetPage<>(
+                                    batchAuthorizationHandler.filterAllowed(
+                                            "view", page.getContent()),
+                                    page.getPageSize(),
+                                    page.getNextCursor(),
+                                    page.getTotalCount());
+                        });
+    }
+
     private Page<Transaction> authFilterTransactionsPage(Page<Transaction> transactions) {
 
         List<Transaction> transactionList =
-                transactions.getContent().stream()
-                        .filter(t -> authorizationHandler.isAllowedForInstance("view", t))
-                        .toList();
+                batchAuthorizationHandler.filterAllowed("view", transactions.getContent());
 
         return new PageImpl<>(
                 transactionList, transactions.getPageable(), transactions.getTotalElements());
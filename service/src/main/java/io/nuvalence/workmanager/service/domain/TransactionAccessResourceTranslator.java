@@ -2,19 +2,60 @@ package io.nuvalence.workmanager.service.domain;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import io.nuvalence.auth.access.cerbos.AccessResourceTranslator;
+import io.nuvalence.workmanager.service.domain.profile.ProfileType;
 import io.nuvalence.workmanager.service.domain.transaction.Transaction;
 import io.nuvalence.workmanager.service.mapper.TransactionMapper;
+import io.nuvalence.workmanager.service.utils.auth.AccessPlanSpecificationTranslator;
+import io.nuvalence.workmanager.service.utils.auth.AccessPlanSpecificationTranslator.AttributeMapping;
 import org.springframework.beans.BeansException;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.stereotype.Component;
 
+import java.util.Map;
+import java.util.UUID;
+
 /**
  * Transaction Translator Class.
  */
 @Component
 public class TransactionAccessResourceTranslator
         implements AccessResourceTranslator, ApplicationContextAware {
+    /**
+     * Maps the attributes of the translated transaction onto transaction columns, so that Cerbos
+     * query plans for transactions can be applied to searches.
+     */
+    public static final AccessPlanSpecificationTranslator<Transaction> PLAN_TRANSLATOR =
+            AccessPlanSpecificationTranslator.<Transaction>builder()
+                    .attribute("id", "id", TransactionAccessResourceTranslator::toUuid)
+                    .attribute("subjectUserId", "subjectUserId", String::valueOf)
+                    .attribute("createdBy", "createdBy", String::valueOf)
+                    .attribute("assignedTo", "assignedTo", String::valueOf)
+                    .attribute("status", "status", String::valueOf)
+                    .attribute(
+                            "transactionDefinitionKey", "transactionDefinitionKey", String::valueOf)
+                    .attribute(
+                            "subjectProfileId",
+                            "subjectProfileId",
+                            TransactionAccessResourceTranslator::toUuid)
+                    .attribute(
+                            "subjectProfileType",
+                            "subjectProfileType",
+                            TransactionAccessResourceTranslator::toProfileType)
+                    .collection(
+                            "additionalParties",
+                            "additionalParties",
+                            Map.of(
+                                    "id",
+                                    new AttributeMapping(
+                                            "profileId",
+                                            TransactionAccessResourceTranslator::toUuid),
+                                    "type",
+                                    new AttributeMapping(
+                                            "type",
+                                            TransactionAccessResourceTranslator::toProfileType)))
+                    .build();
+
     private static ApplicationContext applicationContext;
 
     @Override
@@ -33,9 +74,17 @@ public class TransactionAccessResourceTranslator
     public Object translate(Object resource) {
         if (resource instanceof Transaction transaction) {
             final TransactionMapper mapper = applicationContext.getBean(TransactionMapper.class);
-            return mapper.transactionToTransactionModel(transaction);
+            return mapper.transactionToAccessResourceModel(transaction);
         }
 
         return resource;
     }
+
+    private static Object toUuid(Object value) {
+        return UUID.fromString(String.valueOf(value));
+    }
+
+    private static Object toProfileType(Object value) {
+        return ProfileType.fromValue(String.valueOf(value));
+    }
 }
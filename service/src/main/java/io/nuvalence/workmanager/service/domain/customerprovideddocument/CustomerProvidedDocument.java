@@ -8,6 +8,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.JdbcTypeCode;
 
 import java.sql.Types;
@@ -54,6 +55,7 @@ public class CustomerProvidedDocument implements UpdateTrackedEntity {
             fetch = FetchType.EAGER,
             cascade = CascadeType.ALL,
             orphanRemoval = true)
+    @BatchSize(size = 50)
     private List<RejectionReason> rejectionReasons = new ArrayList<>();
 
     @Setter
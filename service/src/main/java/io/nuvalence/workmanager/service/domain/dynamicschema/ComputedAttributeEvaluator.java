@@ -0,0 +1,128 @@
+package io.nuvalence.workmanager.service.domain.dynamicschema;
+
+import io.nuvalence.workmanager.service.config.exceptions.UnexpectedException;
+import org.apache.commons.beanutils.DynaBean;
+import org.apache.commons.beanutils.PropertyUtils;
+import org.springframework.expression.AccessException;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
+import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.PropertyAccessor;
+import org.springframework.expression.TypedValue;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.List;
+
+/**
+ * Parses and evaluates computed attribute expressions.
+ * <p>
+ *     A single parser and evaluation context are shared by every dynamic entity. The context is
+ *     fully configured when this class is loaded and never modified afterwards; the entity being
+ *     computed is supplied as the root object of each evaluation, so the context can safely be
+ *     used from multiple threads.
+ * </p>
+ */
+public final class ComputedAttributeEvaluator {
+
+    private static final ExpressionParser EXPRESSION_PARSER =
+            new SpelExpressionParser(
+                    new SpelParserConfiguration(
+                            SpelCompilerMode.MIXED,
+                            ComputedAttributeEvaluator.class.getClassLoader()));
+
+    private static final EvaluationContext EVALUATION_CONTEXT = createEvaluationContext();
+
+    private ComputedAttributeEvaluator() {
+        throw new AssertionError(
+                "Utility class should not be instantiated, use the static methods.");
+    }
+
+    /**
+     * Parses a computed attribute expression. Parsed expressions are compiled to bytecode by SpEL
+     * once they have been evaluated often enough, and fall back to interpretation when they
+     * cannot be compiled.
+     *
+     * @param expression expression source
+     * @return parsed expression
+     */
+    public static Expression parse(String expression) {
+        return EXPRESSION_PARSER.parseExpression(expression);
+    }
+
+    /**
+     * Evaluates a parsed expression against a bean.
+     *
+     * @param expression parsed expression
+     * @param bean bean to use as the expression root object
+     * @return computed value
+     */
+    public static Object evaluate(Expression expression, DynaBean bean) {
+        return expression.getValue(EVALUATION_CONTEXT, bean);
+    }
+
+    private static EvaluationContext createEvaluationContext() {
+        final StandardEvaluationContext evaluationContext = new StandardEvaluationContext();
+        try {
+            evaluationContext.registerFunction(
+                    "concat",
+                    ComputedAttributeFunctions.class.getDeclaredMethod(
+                            "concat", String.class, String[].class));
+        } catch (NoSuchMethodException e) {
+            throw new UnexpectedException(e);
+        }
+        evaluationContext.setPropertyAccessors(List.of(new DynaBeanPropertyAccessor()));
+        // disable access to data and methods outside of the evaluated bean.
+        evaluationContext.setTypeLocator(
+                typeName -> {
+                    throw new IllegalStateException(
+                            "Computed Attribute is misconfigured. Access to static methods and"
+                                    + " types disabled in SpEL evaluator.");
+                });
+
+        return evaluationContext;
+    }
+
+    /**
+     * Read-only property accessor for dyna beans.
+     */
+    static final class DynaBeanPropertyAccessor implements PropertyAccessor {
+        @Override
+        public Class<?>[] getSpecificTargetClasses() {
+            return new Class[] {DynaBean.class};
+        }
+
+        @Override
+        public boolean canRead(EvaluationContext context, Object target, String name)
+                throws AccessException {
+            return true;
+        }
+
+        @Override
+        public TypedValue read(EvaluationContext context, Object target, String name)
+                throws AccessException {
+            try {
+                return new TypedValue(PropertyUtils.getProperty(target, name));
+            } catch (IllegalAccessException
+                    | InvocationTargetException
+                    | NoSuchMethodException e) {
+                throw new AccessException("Unable to access bean property: " + name, e);
+            }
+        }
+
+        @Override
+        public boolean canWrite(EvaluationContext context, Object target, String name)
+                throws AccessException {
+            return false;
+        }
+
+        @Override
+        public void write(EvaluationContext context, Object target, String name, Object newValue)
+                throws AccessException {
+            // Do nothing because writing is not necessary yet
+        }
+    }
+}
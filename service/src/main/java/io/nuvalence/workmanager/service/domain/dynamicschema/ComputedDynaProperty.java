@@ -1,8 +1,10 @@
 package io.nuvalence.workmanager.service.domain.dynamicschema;
 
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import org.apache.commons.beanutils.DynaProperty;
+import org.springframework.expression.Expression;
 
 /**
  * DynaProperty with an expression to compute the value.
@@ -14,8 +16,28 @@ public class ComputedDynaProperty extends DynaProperty {
 
     private final String expression;
 
+    @Getter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    private transient volatile Expression compiledExpression;
+
     public ComputedDynaProperty(String name, Class<?> type, String expression) {
         super(name, type);
         this.expression = expression;
     }
+
+    /**
+     * Returns the parsed expression for this property. The expression is parsed on first use and
+     * then shared by every bean of the schema that declares this property.
+     *
+     * @return parsed expression
+     */
+    public Expression getCompiledExpression() {
+        Expression result = compiledExpression;
+        if (result == null) {
+            result = ComputedAttributeEvaluator.parse(expression);
+            compiledExpression = result;
+        }
+
+        return result;
+    }
 }
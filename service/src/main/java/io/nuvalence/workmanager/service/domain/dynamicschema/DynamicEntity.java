@@ -1,7 +1,9 @@
 package io.nuvalence.workmanager.service.domain.dynamicschema;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.nuvalence.workmanager.service.config.exceptions.UnexpectedException;
 import io.nuvalence.workmanager.service.mapper.EntityMapper;
+import io.nuvalence.workmanager.service.mapper.JacksonJsonFormatMapperCustom;
 import io.nuvalence.workmanager.service.mapper.MissingSchemaException;
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
@@ -34,6 +36,10 @@ import jakarta.persistence.Transient;
 @EqualsAndHashCode
 @SuppressWarnings("checkstyle:ClassFanOutComplexity")
 public final class DynamicEntity implements DynaBean {
+    // serializes the data like the data column itself is serialized
+    private static final ObjectMapper DATA_MAPPER =
+            JacksonJsonFormatMapperCustom.createObjectMapper();
+
     @Getter
     @Convert(converter = SchemaReferenceAttributeConverter.class)
     @Column(name = "dynamic_schema_id")
@@ -122,10 +128,16 @@ public final class DynamicEntity implements DynaBean {
     }
 
     /**
-     * JPA pre persist/update conversion of internal data.
+     * JPA pre persist/update conversion of internal data. The loaded data is kept when it already
+     * serializes to the same JSON, so that entities with dynamic updates leave the data column out
+     * of updates that did not change it.
      */
     public void preSave() {
         final EntityMapper mapper = EntityMapper.getInstance();
-        data = mapper.convertAttributesToGenericMap(this);
+        final Map<String, Object> attributeData = mapper.convertAttributesToGenericMap(this);
+        if (data == null
+                || !DATA_MAPPER.valueToTree(attributeData).equals(DATA_MAPPER.valueToTree(data))) {
+            data = attributeData;
+        }
     }
 }
@@ -1,20 +1,7 @@
 package io.nuvalence.workmanager.service.domain.dynamicschema;
 
-import io.nuvalence.workmanager.service.config.exceptions.UnexpectedException;
 import org.apache.commons.beanutils.BasicDynaBean;
-import org.apache.commons.beanutils.DynaBean;
 import org.apache.commons.beanutils.DynaClass;
-import org.apache.commons.beanutils.PropertyUtils;
-import org.springframework.expression.AccessException;
-import org.springframework.expression.EvaluationContext;
-import org.springframework.expression.ExpressionParser;
-import org.springframework.expression.PropertyAccessor;
-import org.springframework.expression.TypedValue;
-import org.springframework.expression.spel.standard.SpelExpressionParser;
-import org.springframework.expression.spel.support.StandardEvaluationContext;
-
-import java.lang.reflect.InvocationTargetException;
-import java.util.List;
 
 /**
  * DynaBean that supports computed properties.
@@ -25,82 +12,14 @@ public class DynamicEntityDynaBean extends BasicDynaBean {
             "Computed properties cannot be modified";
     private static final long serialVersionUID = -8792549507122331685L;
 
-    private final transient ExpressionParser expressionParser;
-    private final transient StandardEvaluationContext evaluationContext;
-
     /**
      * Construct a new <code>DynaBean</code> associated with the specified
      * <code>DynaClass</code> instance.
      *
      * @param dynaClass The DynaClass we are associated with
-     * @throws UnexpectedException if the DynaBean cannot be created
      */
     public DynamicEntityDynaBean(DynaClass dynaClass) {
         super(dynaClass);
-        expressionParser = new SpelExpressionParser();
-        evaluationContext = new StandardEvaluationContext();
-        evaluationContext.setRootObject(this);
-        try {
-            evaluationContext.registerFunction(
-                    "concat",
-                    ComputedAttributeFunctions.class.getDeclaredMethod(
-                            "concat", String.class, String[].class));
-        } catch (NoSuchMethodException e) {
-            throw new UnexpectedException(e);
-        }
-        evaluationContext.setPropertyAccessors(
-                List.of(
-                        new PropertyAccessor() {
-                            @Override
-                            public Class<?>[] getSpecificTargetClasses() {
-                                return new Class[] {DynaBean.class};
-                            }
-
-                            @Override
-                            public boolean canRead(
-                                    EvaluationContext context, Object target, String name)
-                                    throws AccessException {
-                                return true;
-                            }
-
-                            @Override
-                            public TypedValue read(
-                                    EvaluationContext context, Object target, String name)
-                                    throws AccessException {
-                                try {
-                                    return new TypedValue(PropertyUtils.getProperty(target, name));
-                                } catch (IllegalAccessException
-                                        | InvocationTargetException
-                                        | NoSuchMethodException e) {
-                                    throw new AccessException(
-                                            "Unable to access bean property: " + name, e);
-                                }
-                            }
-
-                            @Override
-                            public boolean canWrite(
-                                    EvaluationContext context, Object target, String name)
-                                    throws AccessException {
-                                return false;
-                            }
-
-                            @Override
-                            public void write(
-                                    EvaluationContext context,
-                                    Object target,
-                                    String name,
-                                    Object newValue)
-                                    throws AccessException {
-                                // Do nothing because writing is not necessary yet
-                            }
-                        }));
-        // disable access to data and methods outside of this bean.
-        evaluationContext.setTypeLocator(
-                typeName -> {
-                    throw new IllegalStateException(
-                            "Computed Attribute is misconfigured. Access to static methods and"
-                                    + " types disabled in SpEL evaluator.");
-                });
     }
 
     @Override
@@ -164,8 +83,6 @@ public class DynamicEntityDynaBean extends BasicDynaBean {
     private Object compute(String name) {
         ComputedDynaProperty property = (ComputedDynaProperty) getDynaProperty(name);
 
-        return expressionParser
-                .parseExpression(property.getExpression())
-                .getValue(evaluationContext);
+        return ComputedAttributeEvaluator.evaluate(property.getCompiledExpression(), this);
     }
 }
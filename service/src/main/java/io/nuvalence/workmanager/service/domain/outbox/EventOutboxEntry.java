@@ -0,0 +1,71 @@
+package io.nuvalence.workmanager.service.domain.outbox;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.time.OffsetDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Event waiting to be published to the broker, written in the same database transaction as the
+ * change it describes.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString(exclude = "payload")
+@Entity
+@Table(name = "event_outbox")
+public class EventOutboxEntry {
+    /** Increasing id, giving the publication order of the events sharing an ordering key. */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", updatable = false, nullable = false)
+    private Long id;
+
+    /** Fully qualified name of the topic the event is published to. */
+    @Column(name = "topic", nullable = false)
+    private String topic;
+
+    /** Class of the event, the payload is read back as. */
+    @Column(name = "event_type", nullable = false)
+    private String eventType;
+
+    /** JSON serialized event. */
+    @Column(name = "payload", nullable = false)
+    private String payload;
+
+    /** Id of the business object the event is about; its events are published in order. */
+    @Column(name = "ordering_key", nullable = false)
+    private String orderingKey;
+
+    @Column(name = "created_timestamp", nullable = false)
+    private OffsetDateTime createdTimestamp;
+
+    /** Number of failed publication attempts. */
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_timestamp", nullable = false)
+    private OffsetDateTime nextAttemptTimestamp;
+
+    /** Error of the last failed publication attempt. */
+    @Column(name = "last_error")
+    private String lastError;
+
+    /** Time the entry was given up on after too many failed attempts, null while it is retried. */
+    @Column(name = "dead_lettered_timestamp")
+    private OffsetDateTime deadLetteredTimestamp;
+}
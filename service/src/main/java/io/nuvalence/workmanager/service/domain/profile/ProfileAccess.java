@@ -0,0 +1,14 @@
+package io.nuvalence.workmanager.service.domain.profile;
+
+import java.util.UUID;
+
+/**
+ * Profile a user is linked to, with the user's access level to it. Projection of a profile user
+ * link, read without loading the link or its profile.
+ */
+public interface ProfileAccess {
+
+    UUID getProfileId();
+
+    ProfileAccessLevel getAccessLevel();
+}
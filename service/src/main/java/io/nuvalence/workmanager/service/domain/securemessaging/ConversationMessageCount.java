@@ -0,0 +1,14 @@
+package io.nuvalence.workmanager.service.domain.securemessaging;
+
+import java.util.UUID;
+
+/**
+ * Number of messages in a conversation, original message included. Projection of the messages
+ * grouped by conversation.
+ */
+public interface ConversationMessageCount {
+
+    UUID getConversationId();
+
+    long getMessageCount();
+}
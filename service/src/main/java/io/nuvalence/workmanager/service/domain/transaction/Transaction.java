@@ -16,6 +16,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.Fetch;
 import org.hibernate.annotations.FetchMode;
 import org.hibernate.annotations.JdbcTypeCode;
@@ -40,6 +42,8 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
@@ -47,19 +51,51 @@ import jakarta.persistence.Table;
 
 /**
  * Defines the structure and behavior of a transaction.
+ *
+ * <p>Associations are lazy, each read declares what it needs with one of the entity graphs below.
+ * Collections left out of a graph are loaded in batches when first accessed.</p>
+ *
+ * <p>Updates only write the changed columns, so that the data column, which is also patched in
+ * place, is not rewritten by updates of the other columns.</p>
  */
 @Getter
 @NoArgsConstructor
 @Entity
 @Table(name = "transaction")
+@DynamicUpdate
+@NamedEntityGraph(
+        name = Transaction.DETAIL_GRAPH,
+        attributeNodes = {
+            @NamedAttributeNode("transactionDefinition"),
+            @NamedAttributeNode("additionalParties")
+        })
+@NamedEntityGraph(
+        name = Transaction.SEARCH_GRAPH,
+        attributeNodes = @NamedAttributeNode("transactionDefinition"))
+@NamedEntityGraph(name = Transaction.WORKFLOW_GRAPH)
 @AccessResource(value = "transaction", translator = TransactionAccessResourceTranslator.class)
-@ToString(exclude = {"data"})
+@ToString(
+        exclude = {
+            "data",
+            "transactionDefinition",
+            "customerProvidedDocuments",
+            "recordLinks",
+            "additionalParties"
+        })
 @EntityListeners({
     DynamicEntityContainerEventListener.class,
     UpdateTrackedEntityEventListener.class
 })
 @SuppressWarnings("checkstyle:ClassFanOutComplexity")
 public class Transaction implements DynamicEntityContainer, UpdateTrackedEntity {
+    /** Single transaction shown in full, with its definition and access related parties. */
+    public static final String DETAIL_GRAPH = "Transaction.detail";
+
+    /** Page of transactions, with their definition. Paged queries must not fetch collections. */
+    public static final String SEARCH_GRAPH = "Transaction.search";
+
+    /** Transaction read by workflow and audit delegates, which only use its own columns. */
+    public static final String WORKFLOW_GRAPH = "Transaction.workflow";
 
     @Id
     @Column(name = "id", length = 36, insertable = false, updatable = false, nullable = false)
@@ -80,7 +116,7 @@ public class Transaction implements DynamicEntityContainer, UpdateTrackedEntity
     @Column(name = "external_id")
     private String externalId;
 
-    @ManyToOne(cascade = CascadeType.ALL)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(
             name = "transaction_definition_id",
             nullable = false,
@@ -142,7 +178,7 @@ public class Transaction implements DynamicEntityContainer, UpdateTrackedEntity
     private OffsetDateTime completedOn;
 
     @Setter
-    @OneToMany(cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER)
+    @OneToMany(cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     @JoinColumn(name = "transaction_id")
     @Fetch(FetchMode.SUBSELECT)
     private List<CustomerProvidedDocument> customerProvidedDocuments = new ArrayList<>();
@@ -151,7 +187,8 @@ public class Transaction implements DynamicEntityContainer, UpdateTrackedEntity
             mappedBy = "transaction",
             orphanRemoval = true,
             cascade = CascadeType.ALL,
-            fetch = FetchType.EAGER)
+            fetch = FetchType.LAZY)
+    @BatchSize(size = 50)
     private List<TransactionRecordLink> recordLinks = new ArrayList<>();
 
     @Setter @Embedded private DynamicEntity data;
@@ -169,7 +206,8 @@ public class Transaction implements DynamicEntityContainer, UpdateTrackedEntity
     @OneToMany(
             mappedBy = "transactionAdditionalParties",
             cascade = CascadeType.ALL,
-            fetch = FetchType.EAGER)
+            fetch = FetchType.LAZY)
+    @BatchSize(size = 50)
     private List<RelatedParty> additionalParties;
 
     /**
@@ -265,6 +303,7 @@ public class Transaction implements DynamicEntityContainer, UpdateTrackedEntity
         this.isCompleted = isCompleted == null ? Boolean.FALSE : isCompleted;
     }
 
+    // associations are lazy and left out, comparing them would load them or fail once detached
     @SuppressWarnings("checkstyle:CyclomaticComplexity")
     @Override
     public boolean equals(Object o) {
@@ -292,14 +331,10 @@ public class Transaction implements DynamicEntityContainer, UpdateTrackedEntity
                 && Objects.equals(assignedTo, that.assignedTo)
                 && Objects.equals(isCompleted, that.isCompleted)
                 && Objects.equals(completedOn, that.completedOn)
-                && Objects.equals(transactionDefinition, that.transactionDefinition)
                 && Objects.equals(externalId, that.externalId)
                 && Objects.equals(data, that.data)
-                && Objects.equals(customerProvidedDocuments, that.customerProvidedDocuments)
                 && Objects.equals(subjectProfileId, that.subjectProfileId)
-                && Objects.equals(subjectProfileType, that.subjectProfileType)
-                && Objects.equals(additionalParties, that.additionalParties)
-                && Objects.equals(recordLinks, that.recordLinks);
+                && Objects.equals(subjectProfileType, that.subjectProfileType);
     }
 
     @Override
@@ -319,15 +354,11 @@ public class Transaction implements DynamicEntityContainer, UpdateTrackedEntity
                 isCompleted,
                 lastUpdatedTimestamp,
                 submittedOn,
-                transactionDefinition,
                 completedOn,
                 externalId,
                 data,
-                customerProvidedDocuments,
                 subjectProfileId,
-                subjectProfileType,
-                additionalParties,
-                recordLinks);
+                subjectProfileType);
     }
 
     @PrePersist
@@ -0,0 +1,32 @@
+package io.nuvalence.workmanager.service.jobs;
+
+import io.nuvalence.workmanager.service.service.EventOutboxRelay;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Job publishing the events of the outbox. The lock keeps a single instance relaying at a time, so
+ * that the events of a business object are published in order. A run is capped by
+ * events.outbox.maxRelayDuration, which must stay under the lock duration.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Profile("!test") // Exclude this service from the 'test' profile
+public class EventOutboxRelayJob {
+
+    private final EventOutboxRelay relay;
+
+    @Scheduled(fixedDelayString = "${events.outbox.relayIntervalMillis:1000}")
+    @SchedulerLock(name = "EventOutboxRelayJob", lockAtMostFor = "PT5M")
+    public void run() {
+        int publishedEvents = relay.relay();
+        if (publishedEvents > 0) {
+            log.debug("Published {} outbox events", publishedEvents);
+        }
+    }
+}
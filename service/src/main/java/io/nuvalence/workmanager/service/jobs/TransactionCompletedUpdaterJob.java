@@ -1,35 +1,64 @@
 package io.nuvalence.workmanager.service.jobs;
 
 import io.nuvalence.workmanager.service.service.TransactionService;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.time.OffsetDateTime;
 import javax.annotation.PostConstruct;
 
 /**
  * Job to update transactions that are completed.
+ *
+ * <p>Transactions are marked as completed when their process instance completes (see
+ * TransactionCompletionHistoryEventHandler); this job only reconciles the completions that could
+ * not be recorded then. Each run checks the process instances that ended since the previous run,
+ * with some overlap for process instances committed late.</p>
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 @Profile("!test") // Exclude this service from the 'test' profile
 public class TransactionCompletedUpdaterJob {
 
     private final TransactionService transactionService;
+    private final Duration overlap;
+    private OffsetDateTime watermark;
+
+    /**
+     * Constructs a new TransactionCompletedUpdaterJob.
+     *
+     * @param transactionService transaction service
+     * @param lookback how far back the first run checks for completed process instances
+     * @param overlap how far before the start of the previous run the next run checks
+     */
+    public TransactionCompletedUpdaterJob(
+            TransactionService transactionService,
+            @Value("${transactions.completion.reconcileLookback:1d}") Duration lookback,
+            @Value("${transactions.completion.reconcileOverlap:5m}") Duration overlap) {
+        this.transactionService = transactionService;
+        this.overlap = overlap;
+        this.watermark = OffsetDateTime.now().minus(lookback);
+    }
 
     @PostConstruct
     public void init() {
         run(); // run on startup
     }
 
-    @Scheduled(cron = "0 0 12 * * ?") // 12:00 PM every day
+    /**
+     * Marks as completed the transactions whose process instance completed since the watermark.
+     */
+    @Scheduled(fixedDelayString = "${transactions.completion.reconcileIntervalMillis:900000}")
     @SchedulerLock(name = "TransactionCompletedUpdaterJob", lockAtLeastFor = "PT10S")
-    public void run() {
-        int updatedRows = transactionService.updateCompletedTransactions();
+    public synchronized void run() {
+        final OffsetDateTime startedAt = OffsetDateTime.now();
+        int updatedRows = transactionService.updateCompletedTransactions(watermark);
+        watermark = startedAt.minus(overlap);
         log.info("Marked {} transactions as completed", updatedRows);
     }
 }
@@ -1,6 +1,7 @@
 package io.nuvalence.workmanager.service.mapper;
 
 import io.nuvalence.workmanager.service.domain.securemessaging.Conversation;
+import io.nuvalence.workmanager.service.domain.securemessaging.Message;
 import io.nuvalence.workmanager.service.generated.models.AllMessagesConversationResponseModel;
 import io.nuvalence.workmanager.service.generated.models.ConversationCreateModel;
 import io.nuvalence.workmanager.service.generated.models.ConversationResponseModel;
@@ -11,7 +12,10 @@ import org.mapstruct.InjectionStrategy;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
 
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Mapper(
@@ -34,6 +38,41 @@ public abstract class ConversationMapper {
     public abstract ConversationResponseModel conversationToResponseModel(
             Conversation conversation);
 
+    /**
+     * Maps a page of conversations, fetching the original messages and message counts of the whole
+     * page at once rather than per conversation.
+     *
+     * @param conversations page of conversations
+     * @return the page of response models
+     */
+    public Page<ConversationResponseModel> conversationPageToResponseModels(
+            Page<Conversation> conversations) {
+        List<UUID> conversationIds = conversations.map(Conversation::getId).toList();
+        Map<UUID, Message> originalMessages =
+                messageService.getOriginalMessagesByConversationIds(conversationIds);
+        Map<UUID, Integer> counts = messageService.countByConversationIds(conversationIds);
+
+        return conversations.map(
+                conversation -> {
+                    ConversationResponseModel responseModel =
+                            conversationToSummaryResponseModel(conversation);
+                    Message originalMessage = originalMessages.get(conversation.getId());
+                    if (originalMessage == null) {
+                        throw new RuntimeException("Original message not found");
+                    }
+                    responseModel.setOriginalMessage(
+                            messageMapper.messageToResponseModel(originalMessage));
+                    responseModel.setTotalMessages(counts.getOrDefault(conversation.getId(), 0));
+                    return responseModel;
+                });
+    }
+
+    @Mapping(target = "id", source = "conversation.id")
+    @Mapping(target = "originalMessage", ignore = true)
+    @Mapping(target = "totalMessages", ignore = true)
+    protected abstract ConversationResponseModel conversationToSummaryResponseModel(
+            Conversation conversation);
+
     public abstract Conversation createModelToConversation(
             ConversationCreateModel conversationCreateModel);
 
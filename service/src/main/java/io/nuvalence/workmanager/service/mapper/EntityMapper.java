@@ -11,6 +11,7 @@ import io.nuvalence.workmanager.service.domain.dynamicschema.DynamicEntity;
 import io.nuvalence.workmanager.service.domain.dynamicschema.Schema;
 import io.nuvalence.workmanager.service.domain.dynamicschema.attributes.Document;
 import io.nuvalence.workmanager.service.generated.models.EntityModel;
+import io.nuvalence.workmanager.service.models.DataMergePatch;
 import io.nuvalence.workmanager.service.service.SchemaService;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
@@ -26,10 +27,12 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
 import java.util.function.Function;
@@ -258,6 +261,151 @@ public abstract class EntityMapper implements ApplicationContextAware {
         }
     }
 
+    /**
+     * Applies a JSON merge patch (RFC 7386) to an entity. Null values remove attributes, objects
+     * are merged into nested entities and any other value replaces the attribute.
+     *
+     * <p>Unlike {@link #applyMappedPropertiesToEntity(DynamicEntity, Map)}, only the patched
+     * attributes are converted, and a patched value that does not match the schema is rejected
+     * instead of skipped.</p>
+     *
+     * <p>Computed attributes are persisted with the data, so the computed attributes of every
+     * entity changed by the patch are recorded as changed too, with their recomputed values.</p>
+     *
+     * @param entity Entity to patch
+     * @param patch JSON merge patch of the entity data
+     * @return attributes changed by the patch
+     * @throws MissingSchemaException If Schema references by name any additional missing schemas
+     * @throws BusinessLogicException If a patched value does not match the schema
+     */
+    public DataMergePatch applyMergePatch(
+            final DynamicEntity entity, final Map<String, Object> patch)
+            throws MissingSchemaException {
+        final DataMergePatch mergePatch = new DataMergePatch();
+        if (patch != null) {
+            applyMergePatch(entity, patch, new ArrayList<>(), mergePatch);
+        }
+
+        return mergePatch;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void applyMergePatch(
+            DynamicEntity entity,
+            Map<String, Object> patch,
+            List<String> path,
+            DataMergePatch mergePatch)
+            throws MissingSchemaException {
+        final Schema schema = entity.getSchema();
+        final int previousChanges = mergePatch.getChanges().size();
+        for (Map.Entry<String, Object> entry : patch.entrySet()) {
+            final String key = entry.getKey();
+            final DynaProperty dynaProperty = getDynaProperty(schema, key);
+            if (dynaProperty instanceof ComputedDynaProperty) {
+                continue;
+            }
+
+            final Object previous = entity.get(key);
+            path.add(key);
+            if (entry.getValue() == null) {
+                if (previous != null) {
+                    entity.set(key, null);
+                    mergePatch.remove(path, containsDocument(previous));
+                }
+            } else if (previous instanceof DynamicEntity nested
+                    && entry.getValue() instanceof Map) {
+                applyMergePatch(nested, (Map<String, Object>) entry.getValue(), path, mergePatch);
+            } else if (entry.getValue() instanceof Map
+                    && DynamicEntity.class.isAssignableFrom(dynaProperty.getType())) {
+                // merged into an empty entity, and written as a whole since it did not exist
+                final DynamicEntity nested =
+                        (DynamicEntity)
+                                convertSingleValueToEntity(
+                                        schema, DynamicEntity.class, key, new HashMap<>());
+                final DataMergePatch nestedPatch = new DataMergePatch();
+                applyMergePatch(
+                        nested,
+                        (Map<String, Object>) entry.getValue(),
+                        new ArrayList<>(),
+                        nestedPatch);
+                entity.set(key, nested);
+                mergePatch.set(
+                        path,
+                        convertAttributesToGenericMap(nested),
+                        nestedPatch.isDocumentsChanged());
+            } else {
+                applyProperty(entity, schema, entry);
+                recordReplacedValue(path, previous, entity.get(key), mergePatch);
+            }
+            path.remove(path.size() - 1);
+        }
+
+        // computed attributes only depend on the entity they belong to
+        if (mergePatch.getChanges().size() > previousChanges) {
+            recordComputedValues(entity, path, mergePatch);
+        }
+    }
+
+    private void recordComputedValues(
+            DynamicEntity entity, List<String> path, DataMergePatch mergePatch) {
+        for (DynaProperty dynaProperty : entity.getSchema().getDynaProperties()) {
+            if (!(dynaProperty instanceof ComputedDynaProperty)) {
+                continue;
+            }
+
+            path.add(dynaProperty.getName());
+            Object value;
+            try {
+                value = entity.get(dynaProperty.getName());
+            } catch (Exception e) {
+                // left out of the data, like convertAttributesToGenericMap does
+                log.warn("Unable to compute property: {}", dynaProperty.getName(), e);
+                value = null;
+            }
+            if (value == null) {
+                mergePatch.remove(path, false);
+            } else {
+                mergePatch.set(path, convertDynaPropertyValueToGenericObject(value), false);
+            }
+            path.remove(path.size() - 1);
+        }
+    }
+
+    private void recordReplacedValue(
+            List<String> path, Object previous, Object value, DataMergePatch mergePatch) {
+        final Object genericValue =
+                value == null ? null : convertDynaPropertyValueToGenericObject(value);
+        final Object previousGenericValue =
+                previous == null ? null : convertDynaPropertyValueToGenericObject(previous);
+        if (Objects.equals(genericValue, previousGenericValue)) {
+            return;
+        }
+
+        final boolean documentsChanged = containsDocument(previous) || containsDocument(value);
+        if (genericValue == null) {
+            mergePatch.remove(path, documentsChanged);
+        } else {
+            mergePatch.set(path, genericValue, documentsChanged);
+        }
+    }
+
+    private static boolean containsDocument(final Object value) {
+        if (value instanceof Document) {
+            return true;
+        } else if (value instanceof List<?> list) {
+            return list.stream().anyMatch(EntityMapper::containsDocument);
+        } else if (value instanceof DynamicEntity entity) {
+            for (DynaProperty dynaProperty : entity.getSchema().getDynaProperties()) {
+                if (!(dynaProperty instanceof ComputedDynaProperty)
+                        && containsDocument(entity.get(dynaProperty.getName()))) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
     private Object convertDynaPropertyValueToGenericObject(final Object object) {
         if (object instanceof DynamicEntity entity) {
             return convertAttributesToGenericMap(entity);
@@ -19,7 +19,12 @@ public class JacksonJsonFormatMapperCustom implements FormatMapper {
         delegate = new JacksonJsonFormatMapper(objectMapper);
     }
 
-    private static ObjectMapper createObjectMapper() {
+    /**
+     * Creates the object mapper serializing JSON columns.
+     *
+     * @return a new object mapper
+     */
+    public static ObjectMapper createObjectMapper() {
         return new ObjectMapper()
                 .registerModule(new JavaTimeModule())
                 .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
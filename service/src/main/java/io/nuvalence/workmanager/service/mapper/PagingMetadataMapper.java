@@ -1,6 +1,7 @@
 package io.nuvalence.workmanager.service.mapper;
 
 import io.nuvalence.workmanager.service.generated.models.PagingMetadata;
+import io.nuvalence.workmanager.service.models.KeysetPage;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -58,6 +59,27 @@ public class PagingMetadataMapper {
                 .nextPage(nextPage);
     }
 
+    /**
+     * Converts a keyset paginated page to api paging metadata.
+     *
+     * @param page keyset page
+     * @param <T> page item type
+     *
+     * @return paging metadata
+     */
+    public <T> PagingMetadata toPagingMetadata(KeysetPage<T> page) {
+        var nextPage =
+                page.getNextCursor() == null
+                        ? null
+                        : buildPageUri("cursor", page.getNextCursor()).toString();
+        return new PagingMetadata()
+                .pageNumber(0)
+                .pageSize(page.getPageSize())
+                .totalCount(page.getTotalCount())
+                .nextCursor(page.getNextCursor())
+                .nextPage(nextPage);
+    }
+
     /**
      * Builds the next page uri.
      *
@@ -66,23 +88,27 @@ public class PagingMetadataMapper {
      */
     private URI buildNextPageUri(Pageable nextPage) {
         if (nextPage.isPaged()) {
-            var request = requestSupplier.get();
-
-            var queryParams =
-                    request.getParameterMap().entrySet().stream()
-                            .collect(
-                                    Collectors.toMap(
-                                            Map.Entry::getKey, e -> Arrays.asList(e.getValue())));
-
-            return UriComponentsBuilder.fromUriString(request.getRequestURI())
-                    .host(request.getServerName())
-                    .scheme(request.getScheme())
-                    .queryParams(new MultiValueMapAdapter<>(queryParams))
-                    .replaceQueryParam("pageNumber", nextPage.getPageNumber())
-                    .build()
-                    .toUri();
+            return buildPageUri("pageNumber", nextPage.getPageNumber());
         } else {
             return null;
         }
     }
+
+    private URI buildPageUri(String pageParam, Object pageValue) {
+        var request = requestSupplier.get();
+
+        var queryParams =
+                request.getParameterMap().entrySet().stream()
+                        .collect(
+                                Collectors.toMap(
+                                        Map.Entry::getKey, e -> Arrays.asList(e.getValue())));
+
+        return UriComponentsBuilder.fromUriString(request.getRequestURI())
+                .host(request.getServerName())
+                .scheme(request.getScheme())
+                .queryParams(new MultiValueMapAdapter<>(queryParams))
+                .replaceQueryParam(pageParam, pageValue)
+                .build()
+                .toUri();
+    }
 }
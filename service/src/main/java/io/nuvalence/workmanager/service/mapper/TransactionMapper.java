@@ -8,15 +8,22 @@ import io.nuvalence.workmanager.service.generated.models.RelatedPartyModel;
 import io.nuvalence.workmanager.service.generated.models.TransactionModel;
 import io.nuvalence.workmanager.service.generated.models.WorkflowActionModel;
 import io.nuvalence.workmanager.service.generated.models.WorkflowTaskModel;
+import io.nuvalence.workmanager.service.models.TransactionSummary;
 import io.nuvalence.workmanager.service.service.TransactionTaskService;
 import lombok.Setter;
+import org.mapstruct.Context;
+import org.mapstruct.InheritConfiguration;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
 
 /**
  * Maps transactions between the following 2 forms.
@@ -58,6 +65,99 @@ public abstract class TransactionMapper {
             expression = "java(mapAdditionalParties(transaction.getAdditionalParties()))")
     public abstract TransactionModel transactionToTransactionModel(Transaction transaction);
 
+    /**
+     * Maps a page of transactions, fetching the active tasks and workflow completion of all of them
+     * at once instead of once per transaction.
+     *
+     * @param transactions transactions to map
+     * @return API models, in the order of the transactions
+     */
+    public List<TransactionModel> transactionsToTransactionModels(List<Transaction> transactions) {
+        final Map<UUID, List<WorkflowTask>> activeTasks =
+                transactionTaskService.getActiveTasksForCurrentUserByTransactionId(transactions);
+        final Set<UUID> completedTransactionIds =
+                transactionTaskService.getTransactionsThatReachedEndEvent(transactions);
+
+        return transactions.stream()
+                .map(
+                        transaction ->
+                                transactionToTransactionModelInPage(
+                                        transaction, activeTasks, completedTransactionIds))
+                .toList();
+    }
+
+    @InheritConfiguration(name = "transactionToTransactionModel")
+    @Mapping(
+            target = "activeTasks",
+            expression = "java(populateActiveTasks(transaction, activeTasks))")
+    @Mapping(
+            target = "isComplete",
+            expression = "java(completedTransactionIds.contains(transaction.getId()))")
+    abstract TransactionModel transactionToTransactionModelInPage(
+            Transaction transaction,
+            @Context Map<UUID, List<WorkflowTask>> activeTasks,
+            @Context Set<UUID> completedTransactionIds);
+
+    /**
+     * Maps a transaction to the attributes it is authorized on. The workflow state is left out: it
+     * is not used by access policies, and resolving the active tasks requires authorizing the
+     * transaction itself.
+     *
+     * @param transaction transaction to map
+     * @return API model without active tasks and completion
+     */
+    @InheritConfiguration(name = "transactionToTransactionModel")
+    @Mapping(target = "activeTasks", ignore = true)
+    @Mapping(target = "isComplete", ignore = true)
+    public abstract TransactionModel transactionToAccessResourceModel(Transaction transaction);
+
+    /**
+     * Maps a transaction summary, the properties that were not read are left empty. Data values
+     * are nested under the keys of their path.
+     *
+     * @param summary transaction summary
+     * @return API model
+     */
+    @Mapping(
+            target = "priority",
+            expression =
+                    "java(summary.getPriority() == null ? null : summary.getPriority().getValue())")
+    @Mapping(
+            target = "subjectProfileType",
+            expression =
+                    "java(summary.getSubjectProfileType() == null"
+                            + " ? null : summary.getSubjectProfileType().getValue())")
+    @Mapping(target = "data", expression = "java(mapSummaryData(summary.getData()))")
+    @Mapping(target = "activeTasks", ignore = true)
+    @Mapping(target = "customerProvidedDocuments", ignore = true)
+    @Mapping(target = "additionalParties", ignore = true)
+    @Mapping(target = "recordLinks", ignore = true)
+    public abstract TransactionModel transactionSummaryToTransactionModel(
+            TransactionSummary summary);
+
+    Map<String, Object> mapSummaryData(Map<String, String> data) {
+        final Map<String, Object> result = new LinkedHashMap<>();
+        data.forEach((path, value) -> putDataValue(result, path.split("\\."), 0, value));
+
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void putDataValue(
+            Map<String, Object> parent, String[] keys, int index, String value) {
+        if (index == keys.length - 1) {
+            parent.put(keys[index], value);
+            return;
+        }
+
+        // a value requested along with one of its members already holds the whole object
+        final Object child =
+                parent.computeIfAbsent(keys[index], key -> new LinkedHashMap<String, Object>());
+        if (child instanceof Map) {
+            putDataValue((Map<String, Object>) child, keys, index + 1, value);
+        }
+    }
+
     String mapTransactionPriority(Transaction transaction) {
         if (Objects.isNull(transaction.getPriority())) {
             return null;
@@ -71,6 +171,13 @@ public abstract class TransactionMapper {
                 .toList();
     }
 
+    List<WorkflowTaskModel> populateActiveTasks(
+            Transaction transaction, Map<UUID, List<WorkflowTask>> activeTasks) {
+        return activeTasks.getOrDefault(transaction.getId(), List.of()).stream()
+                .map(this::mapWorkflowTaskToWorkflowTaskModel)
+                .toList();
+    }
+
     public abstract WorkflowTaskModel mapWorkflowTaskToWorkflowTaskModel(WorkflowTask workflowTask);
 
     public abstract WorkflowActionModel mapWorkflowActionToWorkflowActionModel(
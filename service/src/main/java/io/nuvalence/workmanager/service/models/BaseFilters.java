@@ -1,11 +1,15 @@
 package io.nuvalence.workmanager.service.models;
 
+import io.nuvalence.workmanager.service.config.exceptions.ProvidedDataException;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.Setter;
+import org.apache.commons.lang3.StringUtils;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 
+import java.util.Set;
+
 /**
  * Class with basic sort attributes for filters.
  */
@@ -39,4 +43,52 @@ abstract class BaseFilters {
 
         return PageRequest.of(pageNumber, pageSize, sort);
     }
+
+    /**
+     * Generates a page request without sort, for listings ordered by relevance instead.
+     *
+     * @return unsorted Pagination object
+     */
+    public PageRequest getUnsortedPageRequest() {
+        return PageRequest.of(pageNumber, pageSize);
+    }
+
+    /**
+     * Generates a keyset page request, for listings that page with a cursor instead of an offset.
+     *
+     * @param cursor cursor returned with the previous page, or blank for the first page
+     * @param includeTotalCount whether the total number of matching rows should be computed
+     * @return keyset page request
+     * @throws ProvidedDataException if the sort attribute cannot be used for keyset pagination or
+     *     the cursor does not belong to this listing's sort order
+     */
+    public KeysetPageRequest getKeysetPageRequest(String cursor, Boolean includeTotalCount) {
+        if (sortBy == null || !getKeysetSortAttributes().contains(sortBy)) {
+            throw new ProvidedDataException(
+                    "Cursor pagination is not supported when sorting by " + sortBy);
+        }
+
+        final Sort.Direction direction =
+                "desc".equalsIgnoreCase(sortOrder) ? Sort.Direction.DESC : Sort.Direction.ASC;
+        final PageCursor pageCursor =
+                StringUtils.isBlank(cursor) ? null : PageCursor.decode(cursor);
+        if (pageCursor != null
+                && (!sortBy.equals(pageCursor.getSortBy())
+                        || !direction.name().equals(pageCursor.getSortOrder()))) {
+            throw new ProvidedDataException("Cursor does not match the requested sort order");
+        }
+
+        return new KeysetPageRequest(
+                sortBy, direction, pageSize, pageCursor, Boolean.TRUE.equals(includeTotalCount));
+    }
+
+    /**
+     * Attributes that may be used as the sort key of a keyset paginated listing. They must be
+     * non-null and comparable, since rows are located by comparing against the cursor's value.
+     *
+     * @return sort attributes supported by keyset pagination
+     */
+    protected Set<String> getKeysetSortAttributes() {
+        return Set.of("id", "createdTimestamp", "lastUpdatedTimestamp");
+    }
 }
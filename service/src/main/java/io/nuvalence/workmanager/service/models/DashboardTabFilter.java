@@ -0,0 +1,58 @@
+package io.nuvalence.workmanager.service.models;
+
+import io.nuvalence.workmanager.service.domain.transaction.Transaction;
+import io.nuvalence.workmanager.service.domain.transaction.TransactionPriority;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.persistence.criteria.Predicate;
+
+/**
+ * Transactions counted by a dashboard tab, parsed from its filter configuration.
+ */
+@Getter
+@AllArgsConstructor
+public class DashboardTabFilter {
+    /** Statuses to count, or null to count any status. */
+    private final List<String> status;
+    /** Priorities to count, or null to count any priority. */
+    private final List<TransactionPriority> priority;
+    /** User the counted transactions are assigned to, or null to count any assignee. */
+    private final String assignedTo;
+
+    /**
+     * Whether the tab only filters on status and priority, so that it counts the same transactions
+     * for every user and can be answered from the transaction count summary.
+     *
+     * @return true if the tab is user independent
+     */
+    public boolean isStatic() {
+        return assignedTo == null;
+    }
+
+    /**
+     * Gets the specification matching the transactions counted by the tab.
+     *
+     * @return the tab specification
+     */
+    public Specification<Transaction> getTransactionSpecification() {
+        return (root, query, criteriaBuilder) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (status != null) {
+                predicates.add(root.get("status").in(status));
+            }
+            if (priority != null) {
+                predicates.add(root.get("priority").in(priority));
+            }
+            if (assignedTo != null) {
+                predicates.add(criteriaBuilder.equal(root.get("assignedTo"), assignedTo));
+            }
+
+            return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+}
@@ -0,0 +1,63 @@
+package io.nuvalence.workmanager.service.models;
+
+import lombok.Getter;
+import lombok.Value;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Changes made to the data of a transaction by a JSON merge patch (RFC 7386), as the attribute
+ * paths it set or removed.
+ *
+ * <p>Paths never overlap: a set attribute is written as a whole, with its value converted to the
+ * generic form persisted in the data column.</p>
+ */
+public class DataMergePatch {
+    private final List<Change> changes = new ArrayList<>();
+
+    /** Whether a changed attribute held or now holds a document. */
+    @Getter private boolean documentsChanged;
+
+    /**
+     * Records an attribute set by the patch.
+     *
+     * @param path keys from the root of the data to the attribute
+     * @param value new value of the attribute, in generic form
+     * @param documentsChanged whether the previous or new value contains a document
+     */
+    public void set(List<String> path, Object value, boolean documentsChanged) {
+        changes.add(new Change(List.copyOf(path), value, false));
+        this.documentsChanged |= documentsChanged;
+    }
+
+    /**
+     * Records an attribute removed by the patch.
+     *
+     * @param path keys from the root of the data to the attribute
+     * @param documentsChanged whether the previous value contains a document
+     */
+    public void remove(List<String> path, boolean documentsChanged) {
+        changes.add(new Change(List.copyOf(path), null, true));
+        this.documentsChanged |= documentsChanged;
+    }
+
+    public List<Change> getChanges() {
+        return Collections.unmodifiableList(changes);
+    }
+
+    public boolean isEmpty() {
+        return changes.isEmpty();
+    }
+
+    /**
+     * Attribute set or removed by the patch.
+     */
+    @Value
+    public static class Change {
+        List<String> path;
+        Object value;
+        boolean removal;
+    }
+}
@@ -83,4 +83,54 @@ public class EmployerFilters extends BaseFilters {
                     : null;
         };
     }
+
+    /**
+     * Builds the ranked search for these filters. Profiles match like they do with
+     * {@link #getEmployerProfileSpecification()}, and are ordered by how closely their names and
+     * industry match the partial-match filters.
+     *
+     * @return the ranked search, not ranked when no partial-match filter is set
+     */
+    public RankedSearchQuery getRankedSearchQuery() {
+        var search = RankedSearchQuery.builder().table("employer_profile");
+
+        if (StringUtils.isNotBlank(this.name)) {
+            String term = this.name.toLowerCase(Locale.ROOT);
+            search.parameter("name", term)
+                    .parameter("namePattern", "%" + term + "%")
+                    .match(
+                            "SELECT id FROM employer_profile"
+                                    + " WHERE lower(legal_name) LIKE :namePattern")
+                    .match(
+                            "SELECT employer_profile_id FROM employer_profile_other_names"
+                                    + " WHERE lower(other_names) LIKE :namePattern")
+                    .score("word_similarity(:name, lower(t.legal_name))")
+                    .score(
+                            "(SELECT max(word_similarity(:name, lower(o.other_names)))"
+                                    + " FROM employer_profile_other_names o"
+                                    + " WHERE o.employer_profile_id = t.id)");
+        }
+
+        if (StringUtils.isNotBlank(this.fein)) {
+            search.parameter("fein", this.fein)
+                    .match("SELECT id FROM employer_profile WHERE fein = :fein");
+        }
+
+        if (StringUtils.isNotBlank(this.type)) {
+            search.parameter("type", this.type)
+                    .match("SELECT id FROM employer_profile WHERE business_type = :type");
+        }
+
+        if (StringUtils.isNotBlank(this.industry)) {
+            String term = this.industry.toLowerCase(Locale.ROOT);
+            search.parameter("industry", term)
+                    .parameter("industryPattern", "%" + term + "%")
+                    .match(
+                            "SELECT id FROM employer_profile"
+                                    + " WHERE lower(industry) LIKE :industryPattern")
+                    .score("word_similarity(:industry, lower(t.industry))");
+        }
+
+        return search.build();
+    }
 }
@@ -0,0 +1,46 @@
+package io.nuvalence.workmanager.service.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Page of a keyset paginated listing.
+ *
+ * @param <T> item type
+ */
+@Getter
+@AllArgsConstructor
+public class KeysetPage<T> {
+    private final List<T> content;
+    private final int pageSize;
+    /** Encoded cursor of the next page, or null if this is the last page. */
+    private final String nextCursor;
+    /** Total number of matching rows, or null if it was not requested. */
+    private final Long totalCount;
+
+    /**
+     * Converts the items of this page.
+     *
+     * @param converter item converter
+     * @param <U> converted item type
+     * @return page with converted items
+     */
+    public <U> KeysetPage<U> map(Function<? super T, ? extends U> converter) {
+        return new KeysetPage<>(
+                content.stream().<U>map(converter).toList(), pageSize, nextCursor, totalCount);
+    }
+
+    /**
+     * Converts all the items of this page at once.
+     *
+     * @param converter converter of the page items
+     * @param <U> converted item type
+     * @return page with converted items
+     */
+    public <U> KeysetPage<U> mapContent(Function<List<T>, List<U>> converter) {
+        return new KeysetPage<>(converter.apply(content), pageSize, nextCursor, totalCount);
+    }
+}
@@ -0,0 +1,19 @@
+package io.nuvalence.workmanager.service.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Request for a page of a keyset paginated listing, ordered by a sort attribute and then by id.
+ */
+@Getter
+@AllArgsConstructor
+public class KeysetPageRequest {
+    private final String sortBy;
+    private final Sort.Direction direction;
+    private final int pageSize;
+    /** Position after which the page starts, or null for the first page. */
+    private final PageCursor cursor;
+    private final boolean includeTotalCount;
+}
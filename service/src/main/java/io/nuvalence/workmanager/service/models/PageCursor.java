@@ -0,0 +1,70 @@
+package io.nuvalence.workmanager.service.models;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.nuvalence.workmanager.service.config.SpringConfig;
+import io.nuvalence.workmanager.service.config.exceptions.ProvidedDataException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position in a keyset paginated listing: the sort value and id of the last row of a page.
+ *
+ * <p>Cursors are handed to clients as URL safe Base64 encoded JSON and must be treated as opaque
+ * by them.</p>
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PageCursor {
+    private static final ObjectMapper MAPPER = SpringConfig.getMapper();
+
+    private String sortBy;
+    private String sortOrder;
+    private JsonNode value;
+    private JsonNode id;
+
+    /**
+     * Encodes this cursor for use in a URL.
+     *
+     * @return encoded cursor
+     */
+    public String encode() {
+        try {
+            return Base64.getUrlEncoder()
+                    .withoutPadding()
+                    .encodeToString(MAPPER.writeValueAsBytes(this));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to encode page cursor", e);
+        }
+    }
+
+    /**
+     * Decodes a cursor previously produced by {@link #encode()}.
+     *
+     * @param cursor encoded cursor
+     * @return decoded cursor
+     * @throws ProvidedDataException if the cursor is malformed
+     */
+    public static PageCursor decode(String cursor) {
+        try {
+            final byte[] json = Base64.getUrlDecoder().decode(cursor);
+            final PageCursor decoded =
+                    MAPPER.readValue(new String(json, StandardCharsets.UTF_8), PageCursor.class);
+            if (decoded.getSortBy() == null || decoded.getId() == null) {
+                throw new ProvidedDataException("Invalid cursor");
+            }
+
+            return decoded;
+        } catch (IllegalArgumentException | JsonProcessingException e) {
+            throw new ProvidedDataException("Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package io.nuvalence.workmanager.service.models;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Singular;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Native Postgres search of the rows of a table, ordered by relevance.
+ *
+ * <p>Rows match when their id is returned by any of the match queries. Each match query can use
+ * its own index, where a single predicate OR-ing them together would scan the table. Matching rows
+ * are ordered by the greatest of their scores, usually trigram similarities between the search
+ * terms and the searched columns.</p>
+ */
+@Getter
+@Builder
+public class RankedSearchQuery {
+    private final String table;
+
+    /** Queries selecting the ids of matching rows. */
+    @Singular("match")
+    private final List<String> matches;
+
+    /** Relevance of a matching row, as expressions over the row aliased as {@code t}. */
+    @Singular("score")
+    private final List<String> scores;
+
+    @Singular("parameter")
+    private final Map<String, Object> parameters;
+
+    /**
+     * Whether there is anything to rank rows by.
+     *
+     * @return true if the query has both match queries and scores
+     */
+    public boolean isRanked() {
+        return !matches.isEmpty() && !scores.isEmpty();
+    }
+}
@@ -77,4 +77,43 @@ public class RecordFilters extends BaseFilters {
             return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
         };
     }
+
+    /**
+     * Builds the ranked search for these filters. Records match like they do with
+     * {@link #getRecordSpecification()}, and are ordered by how closely their record definition key
+     * and external id match the partial-match filters.
+     *
+     * @return the ranked search, not ranked when no partial-match filter is set
+     */
+    public RankedSearchQuery getRankedSearchQuery() {
+        var search = RankedSearchQuery.builder().table("record");
+        var conditions = new ArrayList<String>();
+
+        if (StringUtils.isNotBlank(this.recordDefinitionKey)) {
+            String term = this.recordDefinitionKey.toLowerCase(Locale.ROOT);
+            search.parameter("recordDefinitionKey", term)
+                    .parameter("recordDefinitionKeyPattern", "%" + term + "%")
+                    .score("word_similarity(:recordDefinitionKey, lower(t.record_definition_key))");
+            conditions.add("lower(record_definition_key) LIKE :recordDefinitionKeyPattern");
+        }
+
+        if (StringUtils.isNotBlank(this.externalId)) {
+            String term = this.externalId.toLowerCase(Locale.ROOT);
+            search.parameter("externalId", term)
+                    .parameter("externalIdPattern", "%" + term + "%")
+                    .score("word_similarity(:externalId, lower(t.external_id))");
+            conditions.add("lower(external_id) LIKE :externalIdPattern");
+        }
+
+        if (status != null && !status.isEmpty()) {
+            search.parameter("status", status);
+            conditions.add("status IN (:status)");
+        }
+
+        if (!conditions.isEmpty()) {
+            search.match("SELECT id FROM record WHERE " + String.join(" AND ", conditions));
+        }
+
+        return search.build();
+    }
 }
@@ -0,0 +1,16 @@
+package io.nuvalence.workmanager.service.models;
+
+import io.nuvalence.workmanager.service.domain.dynamicschema.DynamicEntity;
+import io.nuvalence.workmanager.service.domain.transaction.TransactionDefinition;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Transaction to create as part of a bulk creation.
+ */
+@Getter
+@AllArgsConstructor
+public class TransactionCreationItem {
+    private final TransactionDefinition definition;
+    private final DynamicEntity data;
+}
@@ -0,0 +1,30 @@
+package io.nuvalence.workmanager.service.models;
+
+import io.nuvalence.workmanager.service.domain.transaction.Transaction;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Outcome of creating one transaction of a bulk creation.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class TransactionCreationResult {
+    /** Created transaction, or null if the creation failed. */
+    private final Transaction transaction;
+    /** Reason the creation failed, or null if the transaction was created. */
+    private final String error;
+
+    public static TransactionCreationResult created(Transaction transaction) {
+        return new TransactionCreationResult(transaction, null);
+    }
+
+    public static TransactionCreationResult failed(String error) {
+        return new TransactionCreationResult(null, error);
+    }
+
+    public boolean isCreated() {
+        return transaction != null;
+    }
+}
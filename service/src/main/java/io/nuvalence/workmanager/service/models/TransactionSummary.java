@@ -0,0 +1,43 @@
+package io.nuvalence.workmanager.service.models;
+
+import io.nuvalence.workmanager.service.domain.profile.ProfileType;
+import io.nuvalence.workmanager.service.domain.transaction.TransactionPriority;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.OffsetDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Projection of the scalar columns of a transaction, read without loading its dynamic data or its
+ * collections. Properties are named after the properties of the transaction API model, only the
+ * requested ones are set (see {@link TransactionSummaryFields}).
+ */
+@Getter
+@Setter
+public class TransactionSummary {
+    private UUID id;
+    private UUID transactionDefinitionId;
+    private String transactionDefinitionKey;
+    private String transactionDefinitionName;
+    private String externalId;
+    private String processInstanceId;
+    private String status;
+    private TransactionPriority priority;
+    private String district;
+    private String createdBy;
+    private String lastUpdatedBy;
+    private String assignedTo;
+    private String subjectUserId;
+    private OffsetDateTime createdTimestamp;
+    private OffsetDateTime lastUpdatedTimestamp;
+    private OffsetDateTime submittedOn;
+    private Boolean isComplete;
+    private UUID subjectProfileId;
+    private ProfileType subjectProfileType;
+
+    /** Text values of the requested data paths, keyed by dot separated path. */
+    private Map<String, String> data = new LinkedHashMap<>();
+}
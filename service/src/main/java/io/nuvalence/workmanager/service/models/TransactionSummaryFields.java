@@ -0,0 +1,145 @@
+package io.nuvalence.workmanager.service.models;
+
+import io.nuvalence.workmanager.service.config.exceptions.ProvidedDataException;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Fields of the transaction summary view, parsed from the fields query parameter or from the
+ * columns of a dashboard.
+ *
+ * <p>Fields are either transaction properties, named as in the transaction API model, or values of
+ * the transaction data, named data.path.to.value.</p>
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class TransactionSummaryFields {
+    /** Prefix of the fields naming a value of the transaction data. */
+    public static final String DATA_PREFIX = "data.";
+
+    private static final Pattern DATA_PATH = Pattern.compile("[\\w-]+(\\.[\\w-]+)*");
+
+    /** Entity attribute path of each summary property. */
+    private static final Map<String, String> ENTITY_ATTRIBUTES =
+            Map.ofEntries(
+                    Map.entry("id", "id"),
+                    Map.entry("transactionDefinitionId", "transactionDefinitionId"),
+                    Map.entry("transactionDefinitionKey", "transactionDefinitionKey"),
+                    Map.entry("transactionDefinitionName", "transactionDefinition.name"),
+                    Map.entry("externalId", "externalId"),
+                    Map.entry("processInstanceId", "processInstanceId"),
+                    Map.entry("status", "status"),
+                    Map.entry("priority", "priority"),
+                    Map.entry("district", "district"),
+                    Map.entry("createdBy", "createdBy"),
+                    Map.entry("lastUpdatedBy", "lastUpdatedBy"),
+                    Map.entry("assignedTo", "assignedTo"),
+                    Map.entry("subjectUserId", "subjectUserId"),
+                    Map.entry("createdTimestamp", "createdTimestamp"),
+                    Map.entry("lastUpdatedTimestamp", "lastUpdatedTimestamp"),
+                    Map.entry("submittedOn", "submittedOn"),
+                    Map.entry("isComplete", "isCompleted"),
+                    Map.entry("subjectProfileId", "subjectProfileId"),
+                    Map.entry("subjectProfileType", "subjectProfileType"));
+
+    private static final List<String> DEFAULT_PROPERTIES =
+            List.of(
+                    "id",
+                    "transactionDefinitionKey",
+                    "transactionDefinitionName",
+                    "externalId",
+                    "status",
+                    "priority",
+                    "assignedTo",
+                    "subjectProfileId",
+                    "subjectProfileType",
+                    "createdTimestamp",
+                    "lastUpdatedTimestamp",
+                    "submittedOn",
+                    "isComplete");
+
+    /** Requested transaction properties, always including the id. */
+    private final Set<String> properties;
+    /** Requested data paths, without the data prefix. */
+    private final Set<String> dataPaths;
+
+    /**
+     * Parses the fields requested by a client.
+     *
+     * @param fields transaction properties and data paths
+     * @return summary fields
+     * @throws ProvidedDataException if a field is neither a summary property nor a data path
+     */
+    public static TransactionSummaryFields of(List<String> fields) {
+        final Set<String> properties = new LinkedHashSet<>(List.of("id"));
+        final Set<String> dataPaths = new LinkedHashSet<>();
+        for (String field : fields) {
+            if (!addField(field.trim(), properties, dataPaths)) {
+                throw new ProvidedDataException("Unsupported transaction field: " + field);
+            }
+        }
+
+        return new TransactionSummaryFields(properties, dataPaths);
+    }
+
+    /**
+     * Gets the default summary fields, along with the fields shown by the columns of a dashboard.
+     * Columns showing anything else than a summary property or a data path are skipped.
+     *
+     * @param columnAttributePaths attribute paths of the dashboard columns
+     * @return summary fields
+     */
+    public static TransactionSummaryFields withColumns(List<String> columnAttributePaths) {
+        final Set<String> properties = new LinkedHashSet<>(DEFAULT_PROPERTIES);
+        final Set<String> dataPaths = new LinkedHashSet<>();
+        for (String attributePath : columnAttributePaths) {
+            if (attributePath != null) {
+                addField(attributePath.trim(), properties, dataPaths);
+            }
+        }
+
+        return new TransactionSummaryFields(properties, dataPaths);
+    }
+
+    /**
+     * Gets the entity attribute path a summary property is read from.
+     *
+     * @param property summary property
+     * @return dot separated entity attribute path
+     */
+    public static String getEntityAttribute(String property) {
+        return ENTITY_ATTRIBUTES.get(property);
+    }
+
+    /**
+     * Splits a data path into the keys leading to its value.
+     *
+     * @param dataPath data path, without the data prefix
+     * @return keys of the path
+     */
+    public static List<String> getDataPathKeys(String dataPath) {
+        return Arrays.asList(dataPath.split("\\."));
+    }
+
+    private static boolean addField(String field, Set<String> properties, Set<String> dataPaths) {
+        if (ENTITY_ATTRIBUTES.containsKey(field)) {
+            properties.add(field);
+            return true;
+        }
+        if (field.startsWith(DATA_PREFIX)
+                && DATA_PATH.matcher(field.substring(DATA_PREFIX.length())).matches()) {
+            dataPaths.add(field.substring(DATA_PREFIX.length()));
+            return true;
+        }
+
+        return false;
+    }
+}
@@ -19,6 +19,7 @@ public enum AuditActivityType {
     TRANSACTION_DATA_UPDATED("transaction_data_changed"),
     TRANSACTION_STATUS_CHANGED("transaction_status_changed"),
     TRANSACTION_PRIORITY_CHANGED("transaction_priority_changed"),
+    TRANSACTION_UPDATED("transaction_updated"),
 
     EMPLOYER_PROFILE_CREATED("employer_profile_created"),
 
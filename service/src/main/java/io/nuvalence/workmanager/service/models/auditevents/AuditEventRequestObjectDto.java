@@ -9,6 +9,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.time.OffsetDateTime;
 import java.util.Map;
 import java.util.UUID;
 
@@ -28,6 +29,7 @@ public class AuditEventRequestObjectDto {
     private UUID businessObjectId; // ID of the business object involved in the event.
     private AuditEventBusinessObject
             businessObjectType; // Type of the business object involved in the event.
+    private OffsetDateTime timestamp; // Time of the event, defaults to the request timestamp.
 
     public static class AuditEventRequestObjectDtoBuilder {
         public AuditEventRequestObjectDtoBuilder data(
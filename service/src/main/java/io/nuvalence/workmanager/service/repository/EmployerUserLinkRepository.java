@@ -1,8 +1,10 @@
 package io.nuvalence.workmanager.service.repository;
 
 import io.nuvalence.workmanager.service.domain.profile.EmployerUserLink;
+import io.nuvalence.workmanager.service.domain.profile.ProfileAccess;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 import java.util.Optional;
@@ -14,4 +16,9 @@ public interface EmployerUserLinkRepository
     Optional<EmployerUserLink> findByProfileIdAndUserId(UUID profileId, UUID userId);
 
     List<EmployerUserLink> findByUserId(UUID userId);
+
+    @Query(
+            "SELECT l.profile.id AS profileId, l.profileAccessLevel AS accessLevel"
+                    + " FROM EmployerUserLink l WHERE l.userId = ?1")
+    List<ProfileAccess> findProfileAccessByUserId(UUID userId);
 }
@@ -0,0 +1,44 @@
+package io.nuvalence.workmanager.service.repository;
+
+import io.nuvalence.workmanager.service.domain.outbox.EventOutboxEntry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository for the events waiting to be published.
+ */
+public interface EventOutboxRepository extends CrudRepository<EventOutboxEntry, Long> {
+
+    /**
+     * Finds the entries due for publication, in publication order. An entry is skipped while an
+     * earlier entry with the same ordering key is backing off after a failure, so that the events
+     * of a business object are never published out of order. Dead-lettered entries are neither
+     * returned nor hold back their key.
+     *
+     * @param now current time
+     * @param pageable size of the batch
+     * @return entries to publish
+     */
+    @Query(
+            "SELECT e FROM EventOutboxEntry e WHERE e.nextAttemptTimestamp <= :now"
+                    + " AND e.deadLetteredTimestamp IS NULL AND NOT EXISTS"
+                    + " (SELECT p.id FROM EventOutboxEntry p WHERE p.orderingKey = e.orderingKey"
+                    + " AND p.id < e.id AND p.nextAttemptTimestamp > :now"
+                    + " AND p.deadLetteredTimestamp IS NULL) ORDER BY e.id")
+    List<EventOutboxEntry> findPublishable(@Param("now") OffsetDateTime now, Pageable pageable);
+
+    long countByDeadLetteredTimestampIsNull();
+
+    long countByDeadLetteredTimestampIsNotNull();
+
+    @Query(
+            "SELECT MIN(e.createdTimestamp) FROM EventOutboxEntry e"
+                    + " WHERE e.deadLetteredTimestamp IS NULL")
+    Optional<OffsetDateTime> findOldestCreatedTimestamp();
+}
@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -15,6 +16,9 @@ public interface FormConfigurationRepository extends CrudRepository<FormConfigur
 
     List<FormConfiguration> findByTransactionDefinitionKey(String transactionDefinitionKey);
 
+    List<FormConfiguration> findByTransactionDefinitionKeyInOrderByKey(
+            Collection<String> transactionDefinitionKeys);
+
     List<FormConfiguration> findByRecordDefinitionKey(String recordDefinitionKey);
 
     List<FormConfiguration> findByKey(String formConfigurationKey);
@@ -1,8 +1,10 @@
 package io.nuvalence.workmanager.service.repository;
 
 import io.nuvalence.workmanager.service.domain.profile.IndividualUserLink;
+import io.nuvalence.workmanager.service.domain.profile.ProfileAccess;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 import java.util.Optional;
@@ -15,4 +17,9 @@ public interface IndividualUserLinkRepository
     Optional<IndividualUserLink> findByProfileIdAndUserId(UUID profileId, UUID userId);
 
     List<IndividualUserLink> findByUserId(UUID userId);
+
+    @Query(
+            "SELECT l.profile.id AS profileId, l.accessLevel AS accessLevel"
+                    + " FROM IndividualUserLink l WHERE l.userId = ?1")
+    List<ProfileAccess> findProfileAccessByUserId(UUID userId);
 }
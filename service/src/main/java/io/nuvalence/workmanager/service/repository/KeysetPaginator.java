@@ -0,0 +1,188 @@
+package io.nuvalence.workmanager.service.repository;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.nuvalence.workmanager.service.config.SpringConfig;
+import io.nuvalence.workmanager.service.config.exceptions.ProvidedDataException;
+import io.nuvalence.workmanager.service.models.KeysetPage;
+import io.nuvalence.workmanager.service.models.KeysetPageRequest;
+import io.nuvalence.workmanager.service.models.PageCursor;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * Runs keyset (seek) paginated queries for entities filtered by a specification.
+ *
+ * <p>Rows are ordered by the requested sort attribute and then by id, and each page starts right
+ * after the row recorded in the cursor, so reading a deep page costs the same as reading the first
+ * one. No count query is issued unless the total is explicitly requested.</p>
+ */
+@Repository
+public class KeysetPaginator {
+    private static final String ID = "id";
+    private static final String FETCH_GRAPH = "jakarta.persistence.fetchgraph";
+    private static final ObjectMapper MAPPER = SpringConfig.getMapper();
+
+    @PersistenceContext private EntityManager entityManager;
+
+    /**
+     * Reads one page of entities matching a specification.
+     *
+     * @param type entity type
+     * @param specification filter to apply
+     * @param request page to read
+     * @param <T> entity type
+     * @return page of entities, with the cursor of the next page if there is one
+     */
+    public <T> KeysetPage<T> findPage(
+            Class<T> type, Specification<T> specification, KeysetPageRequest request) {
+        return findPage(type, specification, request, null);
+    }
+
+    /**
+     * Reads one page of entities matching a specification, loading the associations of a named
+     * entity graph with them.
+     *
+     * @param type entity type
+     * @param specification filter to apply
+     * @param request page to read
+     * @param entityGraph name of the entity graph to fetch, may be null
+     * @param <T> entity type
+     * @return page of entities, with the cursor of the next page if there is one
+     */
+    public <T> KeysetPage<T> findPage(
+            Class<T> type,
+            Specification<T> specification,
+            KeysetPageRequest request,
+            String entityGraph) {
+        final CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        final CriteriaQuery<T> query = criteriaBuilder.createQuery(type);
+        final Root<T> root = query.from(type);
+        final Path<Comparable<Object>> sortPath = root.get(request.getSortBy());
+        final Path<Comparable<Object>> idPath = root.get(ID);
+
+        final List<Predicate> predicates = new ArrayList<>();
+        final Predicate filter = specification.toPredicate(root, query, criteriaBuilder);
+        if (filter != null) {
+            predicates.add(filter);
+        }
+        if (request.getCursor() != null) {
+            predicates.add(seekPredicate(criteriaBuilder, sortPath, idPath, request));
+        }
+
+        query.select(root)
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(
+                        order(criteriaBuilder, sortPath, request),
+                        order(criteriaBuilder, idPath, request));
+
+        // one extra row tells whether there is a next page without counting
+        final TypedQuery<T> typedQuery =
+                entityManager.createQuery(query).setMaxResults(request.getPageSize() + 1);
+        if (entityGraph != null) {
+            typedQuery.setHint(FETCH_GRAPH, entityManager.getEntityGraph(entityGraph));
+        }
+        final List<T> rows = typedQuery.getResultList();
+        final boolean hasNext = rows.size() > request.getPageSize();
+        final List<T> content =
+                List.copyOf(hasNext ? rows.subList(0, request.getPageSize()) : rows);
+        final String nextCursor =
+                hasNext ? toCursor(content.get(content.size() - 1), request).encode() : null;
+        final Long totalCount =
+                request.isIncludeTotalCount() ? count(type, specification) : null;
+
+        return new KeysetPage<>(content, request.getPageSize(), nextCursor, totalCount);
+    }
+
+    private Predicate seekPredicate(
+            CriteriaBuilder criteriaBuilder,
+            Path<Comparable<Object>> sortPath,
+            Path<Comparable<Object>> idPath,
+            KeysetPageRequest request) {
+        final Comparable<Object> sortValue =
+                fromJson(request.getCursor().getValue(), sortPath.getJavaType());
+        final Comparable<Object> id = fromJson(request.getCursor().getId(), idPath.getJavaType());
+
+        if (request.getDirection().isDescending()) {
+            return criteriaBuilder.or(
+                    criteriaBuilder.lessThan(sortPath, sortValue),
+                    criteriaBuilder.and(
+                            criteriaBuilder.equal(sortPath, sortValue),
+                            criteriaBuilder.lessThan(idPath, id)));
+        }
+
+        return criteriaBuilder.or(
+                criteriaBuilder.greaterThan(sortPath, sortValue),
+                criteriaBuilder.and(
+                        criteriaBuilder.equal(sortPath, sortValue),
+                        criteriaBuilder.greaterThan(idPath, id)));
+    }
+
+    private static Order order(
+            CriteriaBuilder criteriaBuilder, Path<?> path, KeysetPageRequest request) {
+        return request.getDirection().isDescending()
+                ? criteriaBuilder.desc(path)
+                : criteriaBuilder.asc(path);
+    }
+
+    private PageCursor toCursor(Object entity, KeysetPageRequest request) {
+        final Object sortValue =
+                PropertyAccessorFactory.forBeanPropertyAccess(entity)
+                        .getPropertyValue(request.getSortBy());
+        final Object id =
+                entityManager
+                        .getEntityManagerFactory()
+                        .getPersistenceUnitUtil()
+                        .getIdentifier(entity);
+
+        return new PageCursor(
+                request.getSortBy(),
+                request.getDirection().name(),
+                MAPPER.valueToTree(sortValue),
+                MAPPER.valueToTree(id));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Comparable<Object> fromJson(JsonNode value, Class<?> type) {
+        if (value == null || value.isNull()) {
+            throw new ProvidedDataException("Invalid cursor");
+        }
+
+        try {
+            return (Comparable<Object>) MAPPER.convertValue(value, type);
+        } catch (IllegalArgumentException | ClassCastException e) {
+            throw new ProvidedDataException("Invalid cursor");
+        }
+    }
+
+    private <T> long count(Class<T> type, Specification<T> specification) {
+        final CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        final CriteriaQuery<Long> query = criteriaBuilder.createQuery(Long.class);
+        final Root<T> root = query.from(type);
+        final Predicate filter = specification.toPredicate(root, query, criteriaBuilder);
+
+        query.select(
+                query.isDistinct()
+                        ? criteriaBuilder.countDistinct(root)
+                        : criteriaBuilder.count(root));
+        if (filter != null) {
+            query.where(filter);
+        }
+
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
@@ -1,9 +1,14 @@
 package io.nuvalence.workmanager.service.repository;
 
+import io.nuvalence.workmanager.service.domain.securemessaging.ConversationMessageCount;
 import io.nuvalence.workmanager.service.domain.securemessaging.Message;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -13,4 +18,18 @@ public interface MessageRepository
             UUID conversationId, Boolean originalMessage);
 
     int countByConversationId(UUID conversationId);
+
+    @Query(
+            "SELECT DISTINCT m FROM Message m JOIN FETCH m.sender"
+                    + " JOIN FETCH m.conversation c JOIN FETCH c.entityReference"
+                    + " LEFT JOIN FETCH m.attachments"
+                    + " WHERE c.id IN (:conversationIds) AND m.originalMessage = true")
+    List<Message> findOriginalMessagesByConversationIds(
+            @Param("conversationIds") Collection<UUID> conversationIds);
+
+    @Query(
+            "SELECT m.conversation.id AS conversationId, COUNT(m) AS messageCount FROM Message m"
+                    + " WHERE m.conversation.id IN (:conversationIds) GROUP BY m.conversation.id")
+    List<ConversationMessageCount> countByConversationIds(
+            @Param("conversationIds") Collection<UUID> conversationIds);
 }
@@ -0,0 +1,101 @@
+package io.nuvalence.workmanager.service.repository;
+
+import io.nuvalence.workmanager.service.models.RankedSearchQuery;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Repository;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.PersistenceUnitUtil;
+import jakarta.persistence.Query;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * Runs ranked searches, reading one page of the ids of matching rows in relevance order and then
+ * loading the entities with those ids.
+ *
+ * <p>Rows with the same relevance are ordered by id, so pages are stable. The count query is
+ * skipped when the page shows the total is not needed.</p>
+ */
+@Repository
+public class RankedSearchPaginator {
+    private static final String ID = "id";
+    private static final String PAGE_SQL =
+            "SELECT t.id FROM %s t WHERE t.id IN (%s) ORDER BY GREATEST(%s) DESC, t.id"
+                    + " LIMIT :rankedSearchLimit OFFSET :rankedSearchOffset";
+    private static final String COUNT_SQL = "SELECT count(*) FROM (%s) matches";
+
+    @PersistenceContext private EntityManager entityManager;
+
+    /**
+     * Reads one page of entities matching a ranked search, most relevant first.
+     *
+     * @param type entity type, mapped to the searched table
+     * @param search ranked search to run
+     * @param pageable page to read, its sort is ignored
+     * @param <T> entity type
+     * @return page of entities, in relevance order
+     * @throws IllegalArgumentException if the search has nothing to rank rows by
+     */
+    public <T> Page<T> findPage(Class<T> type, RankedSearchQuery search, Pageable pageable) {
+        if (!search.isRanked()) {
+            throw new IllegalArgumentException("Ranked search requires matches and scores");
+        }
+
+        final String matches = String.join(" UNION ", search.getMatches());
+        final Query pageQuery =
+                entityManager.createNativeQuery(
+                        String.format(
+                                PAGE_SQL,
+                                search.getTable(),
+                                matches,
+                                String.join(", ", search.getScores())));
+        search.getParameters().forEach(pageQuery::setParameter);
+        pageQuery.setParameter("rankedSearchLimit", pageable.getPageSize());
+        pageQuery.setParameter("rankedSearchOffset", pageable.getOffset());
+
+        @SuppressWarnings("unchecked")
+        final List<UUID> ids = pageQuery.getResultList();
+
+        return PageableExecutionUtils.getPage(
+                findByIds(type, ids),
+                pageable,
+                () -> {
+                    final Query countQuery =
+                            entityManager.createNativeQuery(String.format(COUNT_SQL, matches));
+                    search.getParameters().forEach(countQuery::setParameter);
+                    return ((Number) countQuery.getSingleResult()).longValue();
+                });
+    }
+
+    private <T> List<T> findByIds(Class<T> type, List<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        final CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        final CriteriaQuery<T> query = criteriaBuilder.createQuery(type);
+        final Root<T> root = query.from(type);
+        query.where(root.get(ID).in(ids));
+
+        final PersistenceUnitUtil persistenceUnitUtil =
+                entityManager.getEntityManagerFactory().getPersistenceUnitUtil();
+        final Map<Object, T> entities = new HashMap<>();
+        for (T entity : entityManager.createQuery(query).getResultList()) {
+            entities.put(persistenceUnitUtil.getIdentifier(entity), entity);
+        }
+
+        // rows deleted since the ids were read are left out
+        return ids.stream().map(entities::get).filter(Objects::nonNull).toList();
+    }
+}
@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -17,6 +18,9 @@ public interface SchemaRepository
 
     Optional<SchemaRow> findByKey(String key);
 
+    @Query("SELECT s.lastUpdatedTimestamp FROM SchemaRow s WHERE s.id = ?1")
+    Optional<OffsetDateTime> findLastUpdatedTimestampById(UUID id);
+
     @Query(
             nativeQuery = true,
             value =
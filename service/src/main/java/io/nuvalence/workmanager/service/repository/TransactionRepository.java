@@ -2,12 +2,17 @@ package io.nuvalence.workmanager.service.repository;
 
 import io.nuvalence.workmanager.service.domain.profile.ProfileType;
 import io.nuvalence.workmanager.service.domain.transaction.Transaction;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.query.Param;
 
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -20,6 +25,17 @@ public interface TransactionRepository
                 JpaSpecificationExecutor<Transaction>,
                 TransactionRepositoryCustom {
 
+    @Override
+    @EntityGraph(Transaction.DETAIL_GRAPH)
+    Optional<Transaction> findById(UUID id);
+
+    @Override
+    @EntityGraph(Transaction.SEARCH_GRAPH)
+    Page<Transaction> findAll(Specification<Transaction> specification, Pageable pageable);
+
+    @EntityGraph(Transaction.WORKFLOW_GRAPH)
+    Optional<Transaction> findWorkflowViewById(UUID id);
+
     // TODO When we implement versioned transaction configuration, this will need to sort results
     @Query("SELECT t FROM Transaction t WHERE t.transactionDefinitionKey = :key")
     List<Transaction> searchByTransactionDefinitionKey(@Param("key") String key);
@@ -29,6 +45,7 @@ public interface TransactionRepository
                     + " = td.id AND td.category LIKE :category%")
     List<Transaction> searchByCategory(@Param("category") String category);
 
+    @EntityGraph(Transaction.WORKFLOW_GRAPH)
     @Query("SELECT t FROM Transaction t WHERE t.processInstanceId = :processInstanceId")
     Optional<Transaction> findByProcessInstanceId(
             @Param("processInstanceId") String processInstanceId);
@@ -39,16 +56,24 @@ public interface TransactionRepository
     @Query(value = "SELECT nextval('transaction_sequence')", nativeQuery = true)
     Long getNextTransactionSequenceValue();
 
+    @Query(
+            value = "SELECT nextval('transaction_sequence') FROM generate_series(1, :count)",
+            nativeQuery = true)
+    List<Long> getNextTransactionSequenceValues(@Param("count") int count);
+
     @Modifying
     @Query(
             nativeQuery = true,
             value =
-                    "UPDATE transaction SET is_completed = TRUE FROM ACT_HI_PROCINST WHERE"
-                        + " transaction.process_instance_id = ACT_HI_PROCINST.proc_inst_id_ AND"
-                        + " ACT_HI_PROCINST.state_ = 'COMPLETED'AND transaction.is_completed IS NOT"
-                        + " TRUE")
-    int markTransactionsAsCompleted();
+                    "UPDATE transaction SET is_completed = TRUE, completed_on ="
+                        + " COALESCE(transaction.completed_on, ACT_HI_PROCINST.end_time_) FROM"
+                        + " ACT_HI_PROCINST WHERE transaction.process_instance_id ="
+                        + " ACT_HI_PROCINST.proc_inst_id_ AND ACT_HI_PROCINST.state_ = 'COMPLETED'"
+                        + " AND ACT_HI_PROCINST.end_time_ >= :endedSince AND"
+                        + " transaction.is_completed IS NOT TRUE")
+    int markTransactionsAsCompleted(@Param("endedSince") OffsetDateTime endedSince);
 
+    @EntityGraph(Transaction.SEARCH_GRAPH)
     List<Transaction> findBySubjectProfileIdAndSubjectProfileType(
             UUID profileId, ProfileType profileType);
 }
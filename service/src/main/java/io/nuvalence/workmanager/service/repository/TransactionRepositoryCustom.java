@@ -2,11 +2,18 @@ package io.nuvalence.workmanager.service.repository;
 
 import io.nuvalence.workmanager.service.domain.transaction.Transaction;
 import io.nuvalence.workmanager.service.generated.models.TransactionCountByStatusModel;
+import io.nuvalence.workmanager.service.models.DashboardTabFilter;
+import io.nuvalence.workmanager.service.models.DataMergePatch;
+import io.nuvalence.workmanager.service.models.TransactionSummary;
+import io.nuvalence.workmanager.service.models.TransactionSummaryFields;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.time.OffsetDateTime;
+import java.util.Date;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
 /**
  * To be used for implementing transaction-specific repository methods.
@@ -15,9 +22,65 @@ public interface TransactionRepositoryCustom {
     List<TransactionCountByStatusModel> getTransactionCountsByStatus(
             Specification<Transaction> transactionSpecification);
 
-    Map<String, Long> getTransactionCountsByStatusSimplified(
-            Set<String> statuses, List<String> transactionDefinitionKeys);
+    /**
+     * Counts the transactions matching each dashboard tab with a single query.
+     *
+     * @param transactionDefinitionKeys definition keys of the transactions of the dashboard
+     * @param tabFilters filters keyed by tab label
+     * @return counts keyed by tab label
+     */
+    Map<String, Long> getTransactionCountsByTab(
+            List<String> transactionDefinitionKeys, Map<String, DashboardTabFilter> tabFilters);
 
-    Map<String, Long> getTransactionCountsByPrioritySimplified(
-            Set<String> priorities, List<String> transactionDefinitionKeys);
+    /**
+     * Counts the transactions matching each dashboard tab from the trigger-maintained
+     * transaction_count_by_definition_status_priority table. Only valid for static tabs, see
+     * {@link DashboardTabFilter#isStatic()}.
+     *
+     * @param transactionDefinitionKeys definition keys of the transactions of the dashboard
+     * @param tabFilters filters keyed by tab label
+     * @return counts keyed by tab label
+     */
+    Map<String, Long> getTransactionCountsByTabFromSummary(
+            List<String> transactionDefinitionKeys, Map<String, DashboardTabFilter> tabFilters);
+
+    /**
+     * Finds a page of transaction summaries, selecting only the requested columns and data values
+     * instead of loading the transaction entities.
+     *
+     * @param specification transactions to find
+     * @param pageable page and sort of the transactions
+     * @param fields fields to select
+     * @return page of transaction summaries
+     */
+    Page<TransactionSummary> findTransactionSummaries(
+            Specification<Transaction> specification,
+            Pageable pageable,
+            TransactionSummaryFields fields);
+
+    /**
+     * Marks the transactions of ended process instances as completed, in a single JDBC batch.
+     * Transactions already completed keep their completion timestamp.
+     *
+     * @param endTimesByProcessInstanceId end time of each process instance, keyed by its id
+     * @return number of transactions marked as completed
+     */
+    int markProcessInstancesAsCompleted(Map<String, Date> endTimesByProcessInstanceId);
+
+    /**
+     * Writes the attributes changed by a JSON merge patch to the data of a transaction, with
+     * jsonb_set and || updates of the changed subtrees instead of a write of the whole data column,
+     * then refreshes the transaction so that its data is not written again when it is flushed. The
+     * transaction must not have pending changes, as they are discarded by the refresh.
+     *
+     * @param transaction managed transaction to patch
+     * @param patch attributes changed by the patch
+     * @param lastUpdatedTimestamp timestamp of the update
+     * @param lastUpdatedBy user making the update, if known
+     */
+    void applyDataMergePatch(
+            Transaction transaction,
+            DataMergePatch patch,
+            OffsetDateTime lastUpdatedTimestamp,
+            String lastUpdatedBy);
 }
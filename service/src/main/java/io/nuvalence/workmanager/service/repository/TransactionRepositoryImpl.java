@@ -1,25 +1,52 @@
 package io.nuvalence.workmanager.service.repository;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.nuvalence.workmanager.service.config.exceptions.UnexpectedException;
 import io.nuvalence.workmanager.service.domain.transaction.Transaction;
 import io.nuvalence.workmanager.service.domain.transaction.TransactionPriority;
 import io.nuvalence.workmanager.service.generated.models.TransactionCountByStatusModel;
+import io.nuvalence.workmanager.service.mapper.JacksonJsonFormatMapperCustom;
+import io.nuvalence.workmanager.service.models.DashboardTabFilter;
+import io.nuvalence.workmanager.service.models.DataMergePatch;
 import io.nuvalence.workmanager.service.models.TransactionStatusCount;
+import io.nuvalence.workmanager.service.models.TransactionSummary;
+import io.nuvalence.workmanager.service.models.TransactionSummaryFields;
+import org.hibernate.Session;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
 import org.springframework.stereotype.Repository;
 
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.StringJoiner;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
 import jakarta.persistence.Tuple;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
 
 /**
  * Houses concrete Transaction repository method implementations.
@@ -27,8 +54,21 @@ import jakarta.persistence.criteria.Root;
 @Repository
 public class TransactionRepositoryImpl implements TransactionRepositoryCustom {
 
+    private static final String ID = "id";
     private static final String PRIORITY = "priority";
     private static final String STATUS = "status";
+    private static final String TRANSACTION_DEFINITION_KEY = "transactionDefinitionKey";
+    private static final String DATA = "data";
+    // package-private so query plan tests can check it, it is not prepared through Hibernate
+    static final String MARK_COMPLETED_SQL =
+            "UPDATE transaction SET is_completed = TRUE, completed_on = COALESCE(completed_on, ?)"
+                    + " WHERE process_instance_id = ? AND is_completed IS NOT TRUE";
+    private static final String PATCH_DATA_SQL =
+            "UPDATE transaction SET data = %s, last_updated_timestamp = ?,"
+                    + " last_updated_by = COALESCE(?, last_updated_by) WHERE id = ?";
+    // serializes patched values like the data column itself is serialized
+    private static final ObjectMapper DATA_MAPPER =
+            JacksonJsonFormatMapperCustom.createObjectMapper();
     @PersistenceContext private EntityManager entityManager;
 
     @Override
@@ -55,64 +95,259 @@ public class TransactionRepositoryImpl implements TransactionRepositoryCustom {
     }
 
     @Override
-    public Map<String, Long> getTransactionCountsByStatusSimplified(
-            Set<String> statuses, List<String> transactionDefinitionKeys) {
-        Map<String, Long> resultMap = new HashMap<>();
-        for (String status : statuses) {
-            resultMap.put(status, 0L);
+    public Map<String, Long> getTransactionCountsByTab(
+            List<String> transactionDefinitionKeys, Map<String, DashboardTabFilter> tabFilters) {
+        List<String> tabLabels = new ArrayList<>(tabFilters.keySet());
+        if (tabLabels.isEmpty() || transactionDefinitionKeys.isEmpty()) {
+            return zeroCounts(tabLabels);
         }
 
         CriteriaBuilder cb = entityManager.getCriteriaBuilder();
         CriteriaQuery<Tuple> query = cb.createTupleQuery();
         Root<Transaction> root = query.from(Transaction.class);
 
-        Predicate statusCondition = root.get(STATUS).in(statuses);
-        Predicate transactionKeyCondition =
-                root.get("transactionDefinitionKey").in(transactionDefinitionKeys);
+        // count(CASE WHEN <tab filter> THEN id END) per tab, the portable form of FILTER (WHERE)
+        List<Selection<?>> selections = new ArrayList<>();
+        for (String tabLabel : tabLabels) {
+            Predicate tabCondition =
+                    tabFilters
+                            .get(tabLabel)
+                            .getTransactionSpecification()
+                            .toPredicate(root, query, cb);
+            selections.add(cb.count(cb.<Object>selectCase().when(tabCondition, root.get(ID))));
+        }
 
-        query.multiselect(root.get(STATUS), cb.count(root));
-        query.where(cb.and(statusCondition, transactionKeyCondition));
-        query.groupBy(root.get(STATUS));
+        query.multiselect(selections);
+        query.where(root.get(TRANSACTION_DEFINITION_KEY).in(transactionDefinitionKeys));
 
-        List<Tuple> results = entityManager.createQuery(query).getResultList();
-        for (Tuple tuple : results) {
-            String status = tuple.get(0, String.class);
-            Long count = tuple.get(1, Long.class);
-            resultMap.put(status, count);
+        Tuple result = entityManager.createQuery(query).getSingleResult();
+        Map<String, Long> resultMap = new HashMap<>();
+        for (int i = 0; i < tabLabels.size(); i++) {
+            resultMap.put(tabLabels.get(i), result.get(i, Long.class));
         }
 
         return resultMap;
     }
 
     @Override
-    public Map<String, Long> getTransactionCountsByPrioritySimplified(
-            Set<String> priorities, List<String> transactionDefinitionKeys) {
-        Set<TransactionPriority> enumPriorities =
-                priorities.stream()
-                        .map(TransactionPriority::fromStringValue)
-                        .collect(Collectors.toSet());
+    public Map<String, Long> getTransactionCountsByTabFromSummary(
+            List<String> transactionDefinitionKeys, Map<String, DashboardTabFilter> tabFilters) {
+        List<String> tabLabels = new ArrayList<>(tabFilters.keySet());
+        if (tabLabels.isEmpty() || transactionDefinitionKeys.isEmpty()) {
+            return zeroCounts(tabLabels);
+        }
+
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("keys", transactionDefinitionKeys);
 
+        StringJoiner columns = new StringJoiner(", ");
+        for (int i = 0; i < tabLabels.size(); i++) {
+            DashboardTabFilter tabFilter = tabFilters.get(tabLabels.get(i));
+            StringJoiner conditions = new StringJoiner(" AND ");
+            if (tabFilter.getStatus() != null) {
+                conditions.add("status IN (:status" + i + ")");
+                parameters.put(STATUS + i, tabFilter.getStatus());
+            }
+            if (tabFilter.getPriority() != null) {
+                conditions.add("priority IN (:priority" + i + ")");
+                List<Integer> ranks =
+                        tabFilter.getPriority().stream().map(TransactionPriority::getRank).toList();
+                parameters.put(PRIORITY + i, ranks);
+            }
+            conditions.setEmptyValue("TRUE");
+
+            columns.add("COALESCE(SUM(transaction_count) FILTER (WHERE " + conditions + "), 0)");
+        }
+
+        Query query =
+                entityManager.createNativeQuery(
+                        "SELECT "
+                                + columns
+                                + " FROM transaction_count_by_definition_status_priority"
+                                + " WHERE transaction_definition_key IN (:keys)");
+        parameters.forEach(query::setParameter);
+
+        Object result = query.getSingleResult();
+        Object[] row = result instanceof Object[] array ? array : new Object[] {result};
         Map<String, Long> resultMap = new HashMap<>();
-        for (TransactionPriority priority : enumPriorities) {
-            resultMap.put(priority.toString(), 0L);
+        for (int i = 0; i < tabLabels.size(); i++) {
+            resultMap.put(tabLabels.get(i), ((Number) row[i]).longValue());
         }
 
+        return resultMap;
+    }
+
+    @Override
+    public int markProcessInstancesAsCompleted(Map<String, Date> endTimesByProcessInstanceId) {
+        if (endTimesByProcessInstanceId.isEmpty()) {
+            return 0;
+        }
+
+        return entityManager
+                .unwrap(Session.class)
+                .doReturningWork(
+                        connection -> {
+                            try (PreparedStatement statement =
+                                    connection.prepareStatement(MARK_COMPLETED_SQL)) {
+                                for (Map.Entry<String, Date> endTime :
+                                        endTimesByProcessInstanceId.entrySet()) {
+                                    statement.setTimestamp(
+                                            1, new Timestamp(endTime.getValue().getTime()));
+                                    statement.setString(2, endTime.getKey());
+                                    statement.addBatch();
+                                }
+
+                                return Arrays.stream(statement.executeBatch())
+                                        .map(count -> Math.max(count, 0))
+                                        .sum();
+                            }
+                        });
+    }
+
+    @Override
+    public void applyDataMergePatch(
+            Transaction transaction,
+            DataMergePatch patch,
+            OffsetDateTime lastUpdatedTimestamp,
+            String lastUpdatedBy) {
+        // top-level attributes are set with a single ||, nested ones with jsonb_set and removed
+        // ones with #-, all in one expression over the current data
+        String data = "COALESCE(data, '{}'::jsonb)";
+        List<Object> parameters = new ArrayList<>();
+        Map<String, Object> topLevelValues = new LinkedHashMap<>();
+        for (DataMergePatch.Change change : patch.getChanges()) {
+            String[] path = change.getPath().toArray(new String[0]);
+            if (change.isRemoval()) {
+                data = "(" + data + " #- ?::text[])";
+                parameters.add(path);
+            } else if (path.length == 1) {
+                topLevelValues.put(path[0], change.getValue());
+            } else {
+                data = "jsonb_set(" + data + ", ?::text[], ?::jsonb)";
+                parameters.add(path);
+                parameters.add(toJson(change.getValue()));
+            }
+        }
+        if (!topLevelValues.isEmpty()) {
+            data = "(" + data + " || ?::jsonb)";
+            parameters.add(toJson(topLevelValues));
+        }
+
+        String sql = String.format(PATCH_DATA_SQL, data);
+        entityManager
+                .unwrap(Session.class)
+                .doWork(
+                        connection -> {
+                            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                                int index = 1;
+                                for (Object parameter : parameters) {
+                                    if (parameter instanceof String[] path) {
+                                        statement.setArray(
+                                                index++, connection.createArrayOf("text", path));
+                                    } else {
+                                        statement.setString(index++, (String) parameter);
+                                    }
+                                }
+                                statement.setObject(index++, lastUpdatedTimestamp);
+                                statement.setString(index++, lastUpdatedBy);
+                                statement.setString(index, transaction.getId().toString());
+                                statement.executeUpdate();
+                            }
+                        });
+
+        entityManager.refresh(transaction);
+    }
+
+    private static String toJson(Object value) {
+        try {
+            return DATA_MAPPER.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new UnexpectedException("Unable to serialize transaction data", e);
+        }
+    }
+
+    @Override
+    public Page<TransactionSummary> findTransactionSummaries(
+            Specification<Transaction> specification,
+            Pageable pageable,
+            TransactionSummaryFields fields) {
         CriteriaBuilder cb = entityManager.getCriteriaBuilder();
         CriteriaQuery<Tuple> query = cb.createTupleQuery();
         Root<Transaction> root = query.from(Transaction.class);
 
-        query.multiselect(root.get(PRIORITY), cb.count(root));
-        Predicate priorityCondition = root.get(PRIORITY).in(enumPriorities);
-        Predicate transactionKeyCondition =
-                root.get("transactionDefinitionKey").in(transactionDefinitionKeys);
-        query.where(cb.and(priorityCondition, transactionKeyCondition));
-        query.groupBy(root.get(PRIORITY));
-
-        List<Tuple> results = entityManager.createQuery(query).getResultList();
-        for (Tuple tuple : results) {
-            TransactionPriority priority = tuple.get(0, TransactionPriority.class);
-            Long count = tuple.get(1, Long.class);
-            resultMap.put(priority.toString(), count);
+        List<Selection<?>> selections = new ArrayList<>();
+        for (String property : fields.getProperties()) {
+            selections.add(getPath(root, TransactionSummaryFields.getEntityAttribute(property)));
+        }
+        // jsonb_extract_path_text(data, 'a', 'b') is the function form of data #>> '{a,b}'
+        for (String dataPath : fields.getDataPaths()) {
+            List<Expression<?>> arguments = new ArrayList<>();
+            arguments.add(root.get(DATA).get(DATA));
+            TransactionSummaryFields.getDataPathKeys(dataPath)
+                    .forEach(key -> arguments.add(cb.literal(key)));
+            selections.add(
+                    cb.function(
+                            "jsonb_extract_path_text",
+                            String.class,
+                            arguments.toArray(new Expression<?>[0])));
+        }
+
+        query.multiselect(selections);
+        query.where(specification.toPredicate(root, query, cb));
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+
+        List<TransactionSummary> summaries =
+                entityManager
+                        .createQuery(query)
+                        .setFirstResult((int) pageable.getOffset())
+                        .setMaxResults(pageable.getPageSize())
+                        .getResultList()
+                        .stream()
+                        .map(tuple -> toTransactionSummary(tuple, fields))
+                        .toList();
+
+        return new PageImpl<>(summaries, pageable, countTransactions(specification));
+    }
+
+    private long countTransactions(Specification<Transaction> specification) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Transaction> root = query.from(Transaction.class);
+        query.where(specification.toPredicate(root, query, cb));
+        query.select(query.isDistinct() ? cb.countDistinct(root) : cb.count(root));
+
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private static Path<Object> getPath(Root<Transaction> root, String attributePath) {
+        String[] attributes = attributePath.split("\\.");
+        From<?, ?> from = root;
+        for (int i = 0; i < attributes.length - 1; i++) {
+            from = from.join(attributes[i], JoinType.LEFT);
+        }
+
+        return from.get(attributes[attributes.length - 1]);
+    }
+
+    private static TransactionSummary toTransactionSummary(
+            Tuple tuple, TransactionSummaryFields fields) {
+        TransactionSummary summary = new TransactionSummary();
+        BeanWrapper properties = PropertyAccessorFactory.forBeanPropertyAccess(summary);
+        int index = 0;
+        for (String property : fields.getProperties()) {
+            properties.setPropertyValue(property, tuple.get(index++));
+        }
+        for (String dataPath : fields.getDataPaths()) {
+            summary.getData().put(dataPath, tuple.get(index++, String.class));
+        }
+
+        return summary;
+    }
+
+    private static Map<String, Long> zeroCounts(List<String> tabLabels) {
+        Map<String, Long> resultMap = new HashMap<>();
+        for (String tabLabel : tabLabels) {
+            resultMap.put(tabLabel, 0L);
         }
 
         return resultMap;
@@ -0,0 +1,163 @@
+package io.nuvalence.workmanager.service.service;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.nuvalence.workmanager.service.domain.profile.ProfileAccess;
+import io.nuvalence.workmanager.service.domain.profile.ProfileType;
+import io.nuvalence.workmanager.service.models.AccessProfileDto;
+import io.nuvalence.workmanager.service.repository.EmployerUserLinkRepository;
+import io.nuvalence.workmanager.service.repository.IndividualUserLinkRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Provides the profiles users are linked to, as access profiles for authorization.
+ *
+ * <p>Access profiles are read with projection queries and cached for the current HTTP request, as
+ * they are needed by every authorization check. When the shared cache is enabled, they are also
+ * reused across requests for a short time. Changing the links of a user evicts their access
+ * profiles, again once the change has committed; other instances of the service only see the
+ * change once their shared cache entry expires.</p>
+ */
+@Service
+public class AccessProfileService {
+    private static final String REQUEST_ATTRIBUTE_PREFIX =
+            AccessProfileService.class.getName() + ".accessProfiles.";
+
+    private final IndividualUserLinkRepository individualUserLinkRepository;
+    private final EmployerUserLinkRepository employerUserLinkRepository;
+    private final Cache<UUID, List<AccessProfileDto>> sharedAccessProfiles;
+
+    /**
+     * Constructs a new AccessProfileService.
+     *
+     * @param individualUserLinkRepository individual user link repository
+     * @param employerUserLinkRepository employer user link repository
+     * @param sharedCacheEnabled whether access profiles are reused across requests
+     * @param sharedCacheTtl how long access profiles are reused across requests
+     * @param sharedCacheSize maximum number of users whose access profiles are reused
+     */
+    public AccessProfileService(
+            final IndividualUserLinkRepository individualUserLinkRepository,
+            final EmployerUserLinkRepository employerUserLinkRepository,
+            @Value("${accessProfiles.sharedCache.enabled:false}") final boolean sharedCacheEnabled,
+            @Value("${accessProfiles.sharedCache.ttl:30s}") final Duration sharedCacheTtl,
+            @Value("${accessProfiles.sharedCache.maximumSize:10000}") final long sharedCacheSize) {
+        this.individualUserLinkRepository = individualUserLinkRepository;
+        this.employerUserLinkRepository = employerUserLinkRepository;
+        this.sharedAccessProfiles =
+                sharedCacheEnabled
+                        ? CacheBuilder.newBuilder()
+                                .expireAfterWrite(sharedCacheTtl)
+                                .maximumSize(sharedCacheSize)
+                                .build()
+                        : null;
+    }
+
+    /**
+     * Returns the access profiles of a user.
+     *
+     * @param userId ID of the user
+     * @return the access profiles of the user, individual profiles first
+     */
+    @SuppressWarnings("unchecked")
+    public List<AccessProfileDto> getAccessProfiles(final UUID userId) {
+        final RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        final String attributeName = REQUEST_ATTRIBUTE_PREFIX + userId;
+        if (requestAttributes != null) {
+            final List<AccessProfileDto> requestAccessProfiles =
+                    (List<AccessProfileDto>)
+                            requestAttributes.getAttribute(
+                                    attributeName, RequestAttributes.SCOPE_REQUEST);
+            if (requestAccessProfiles != null) {
+                return requestAccessProfiles;
+            }
+        }
+
+        final List<AccessProfileDto> accessProfiles = getSharedAccessProfiles(userId);
+        if (requestAttributes != null) {
+            requestAttributes.setAttribute(
+                    attributeName, accessProfiles, RequestAttributes.SCOPE_REQUEST);
+        }
+
+        return accessProfiles;
+    }
+
+    /**
+     * Evicts the cached access profiles of a user, after their links changed.
+     *
+     * @param userId ID of the user
+     */
+    public void evictAccessProfiles(final UUID userId) {
+        if (userId == null) {
+            return;
+        }
+
+        final RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes != null) {
+            requestAttributes.removeAttribute(
+                    REQUEST_ATTRIBUTE_PREFIX + userId, RequestAttributes.SCOPE_REQUEST);
+        }
+
+        if (sharedAccessProfiles == null) {
+            return;
+        }
+        sharedAccessProfiles.invalidate(userId);
+        // other requests may read the links again before the change commits
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            sharedAccessProfiles.invalidate(userId);
+                        }
+                    });
+        }
+    }
+
+    private List<AccessProfileDto> getSharedAccessProfiles(final UUID userId) {
+        if (sharedAccessProfiles == null) {
+            return loadAccessProfiles(userId);
+        }
+
+        List<AccessProfileDto> accessProfiles = sharedAccessProfiles.getIfPresent(userId);
+        if (accessProfiles == null) {
+            accessProfiles = loadAccessProfiles(userId);
+            sharedAccessProfiles.put(userId, accessProfiles);
+        }
+
+        return accessProfiles;
+    }
+
+    private List<AccessProfileDto> loadAccessProfiles(final UUID userId) {
+        final List<AccessProfileDto> accessProfiles = new ArrayList<>();
+        for (ProfileAccess access :
+                individualUserLinkRepository.findProfileAccessByUserId(userId)) {
+            accessProfiles.add(toAccessProfile(access, ProfileType.INDIVIDUAL));
+        }
+        for (ProfileAccess access : employerUserLinkRepository.findProfileAccessByUserId(userId)) {
+            accessProfiles.add(toAccessProfile(access, ProfileType.EMPLOYER));
+        }
+
+        return Collections.unmodifiableList(accessProfiles);
+    }
+
+    private static AccessProfileDto toAccessProfile(
+            final ProfileAccess access, final ProfileType type) {
+        return AccessProfileDto.builder()
+                .id(access.getProfileId())
+                .type(type)
+                .level(access.getAccessLevel())
+                .build();
+    }
+}
@@ -2,7 +2,6 @@ package io.nuvalence.workmanager.service.service;
 
 import io.nuvalence.events.brokerclient.config.PublisherProperties;
 import io.nuvalence.events.event.AuditEvent;
-import io.nuvalence.events.event.service.EventGateway;
 import io.nuvalence.workmanager.service.config.exceptions.UnexpectedException;
 import io.nuvalence.workmanager.service.events.EventFactory;
 import io.nuvalence.workmanager.service.events.PublisherTopic;
@@ -22,7 +21,7 @@ import javax.annotation.PostConstruct;
 @RequiredArgsConstructor
 public class AuditEventService {
 
-    private final EventGateway eventGateway;
+    private final EventOutboxService eventOutboxService;
     private final PublisherProperties publisherProperties;
     private final RequestContextTimestamp requestContextTimestamp;
 
@@ -45,7 +44,8 @@ public class AuditEventService {
     }
 
     /**
-     * Post state change events to audit service.
+     * Post state change events to audit service. The event is published once the current database
+     * transaction commits.
      * @param auditEvent object containing specifics of the audit evet.
      * @return Result audit event id.
      */
@@ -58,9 +58,16 @@ public class AuditEventService {
                         auditEvent.getSummary(),
                         auditEvent.getBusinessObjectId(),
                         auditEvent.getBusinessObjectType());
-        event.getMetadata().setTimestamp(requestContextTimestamp.getCurrentTimestamp());
+        event.getMetadata()
+                .setTimestamp(
+                        auditEvent.getTimestamp() != null
+                                ? auditEvent.getTimestamp()
+                                : requestContextTimestamp.getCurrentTimestamp());
 
-        eventGateway.publishEvent(event, this.fullyQualifiedTopicName);
+        eventOutboxService.enqueue(
+                event,
+                this.fullyQualifiedTopicName,
+                String.valueOf(auditEvent.getBusinessObjectId()));
 
         return event.getMetadata().getId();
     }
@@ -1,22 +1,24 @@
 package io.nuvalence.workmanager.service.service;
 
-import io.nuvalence.workmanager.service.config.exceptions.BusinessLogicException;
+import io.nuvalence.auth.token.UserToken;
+import io.nuvalence.workmanager.service.domain.transaction.DashboardColumnConfiguration;
 import io.nuvalence.workmanager.service.domain.transaction.DashboardConfiguration;
 import io.nuvalence.workmanager.service.domain.transaction.DashboardTabConfiguration;
 import io.nuvalence.workmanager.service.domain.transaction.TransactionPriority;
-import io.nuvalence.workmanager.service.models.SearchTransactionsFilters;
-import io.nuvalence.workmanager.service.models.TransactionFilters;
+import io.nuvalence.workmanager.service.models.DashboardTabFilter;
 import io.nuvalence.workmanager.service.repository.DashboardConfigurationRepository;
 import io.nuvalence.workmanager.service.repository.TransactionRepository;
+import io.nuvalence.workmanager.service.utils.auth.CurrentUserUtility;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
+import java.util.Optional;
 
 import jakarta.ws.rs.NotFoundException;
 
@@ -31,13 +33,14 @@ public class DashboardConfigurationService {
     private static final String PRIORITY = "priority";
     private static final String ASSIGNED_TO_ME = "assignedToMe";
 
-    private static final int SINGLE_FILTER_SIZE = 1;
-
     private final DashboardConfigurationRepository dashboardConfigurationRepository;
     private final TransactionDefinitionSetOrderService transactionDefinitionSetOrderService;
     private final TransactionRepository transactionRepository;
     private final TransactionDefinitionService transactionDefinitionService;
 
+    @Value("${dashboard.countSummary.enabled:false}")
+    private boolean countSummaryEnabled;
+
     /**
      * Gets all dashboards that are expected to be listed.
      *
@@ -70,9 +73,30 @@ public class DashboardConfigurationService {
                 .orElseThrow(() -> new NotFoundException("Dashboard not found"));
     }
 
+    /**
+     * Gets the attribute paths shown by the columns of the dashboard of a transaction set.
+     *
+     * @param transactionSetKey transaction set key.
+     *
+     * @return attribute paths of the dashboard columns, empty if the set has no dashboard.
+     */
+    public List<String> getColumnAttributePaths(String transactionSetKey) {
+        return dashboardConfigurationRepository
+                .findByTransactionDefinitionSetKey(transactionSetKey)
+                .map(DashboardConfiguration::getColumns)
+                .orElse(List.of())
+                .stream()
+                .map(DashboardColumnConfiguration::getAttributePath)
+                .toList();
+    }
+
     /**
      * Counts the number of transactions for each tab in a dashboard.
      *
+     * <p>All tabs are counted with a single aggregate query. When the count summary is enabled,
+     * tabs that do not depend on the current user are counted from the trigger-maintained summary
+     * table instead.</p>
+     *
      * @param transactionSetKey transaction set key.
      *
      * @return map of tab label to count.
@@ -83,174 +107,78 @@ public class DashboardConfigurationService {
                         .findByTransactionDefinitionSetKey(transactionSetKey)
                         .orElseThrow(() -> new NotFoundException("Dashboard not found"));
 
-        Set<String> statusToCount = new HashSet<>();
-        Set<String> prioritiesToCount = new HashSet<>();
-
-        Map<String, Long> countResults = new HashMap<>();
-
         List<String> transactionDefinitionKeys =
                 transactionDefinitionService.createTransactionDefinitionKeysList(
                         null, transactionSetKey);
 
-        dashboardConfiguration.getTabs().stream()
-                .forEach(
-                        tab ->
-                                processDashboardTab(
-                                        tab,
-                                        statusToCount,
-                                        prioritiesToCount,
-                                        countResults,
-                                        transactionDefinitionKeys));
-
-        Map<String, Long> statusCounts =
-                transactionRepository.getTransactionCountsByStatusSimplified(
-                        statusToCount, transactionDefinitionKeys);
-        Map<String, Long> priorityCounts =
-                transactionRepository.getTransactionCountsByPrioritySimplified(
-                        prioritiesToCount, transactionDefinitionKeys);
-
-        integrateUnifiedCountsToFinalCountResults(
-                dashboardConfiguration, countResults, statusCounts, priorityCounts);
-
-        return countResults;
-    }
-
-    private void processDashboardTab(
-            DashboardTabConfiguration dashboardTab,
-            Set<String> statusToCount,
-            Set<String> prioritiesToCount,
-            Map<String, Long> countResults,
-            List<String> transactionDefinitionKeys) {
-        if (dashboardTab.getFilter().size() == SINGLE_FILTER_SIZE) {
-            String firstKey =
-                    dashboardTab.getFilter().keySet().stream()
-                            .findFirst()
-                            .orElseThrow(() -> new BusinessLogicException("Invalid filter keys"));
-            if (firstKey.equals(STATUS)) {
-                Object status = dashboardTab.getFilter().get(firstKey);
-                addObjectsToCount(statusToCount, status);
-            } else if (firstKey.equals(PRIORITY)) {
-                Object priorities = dashboardTab.getFilter().get(firstKey);
-                addObjectsToCount(prioritiesToCount, priorities);
-            } else if (firstKey.equals(ASSIGNED_TO_ME)) {
-                TransactionFilters filters =
-                        SearchTransactionsFilters.builder()
-                                .transactionDefinitionKeys(transactionDefinitionKeys)
-                                .assignedToMe((Boolean) dashboardTab.getFilter().get(firstKey))
-                                .build();
-
-                countResults.put(
-                        dashboardTab.getTabLabel(),
-                        transactionRepository.count(filters.getTransactionSpecifications()));
+        Map<String, Long> countResults = new HashMap<>();
+        Map<String, DashboardTabFilter> summaryTabs = new LinkedHashMap<>();
+        Map<String, DashboardTabFilter> queryTabs = new LinkedHashMap<>();
+        for (DashboardTabConfiguration dashboardTab : dashboardConfiguration.getTabs()) {
+            Optional<DashboardTabFilter> tabFilter = toTabFilter(dashboardTab);
+            if (tabFilter.isEmpty()) {
+                countResults.put(dashboardTab.getTabLabel(), 0L);
+            } else if (countSummaryEnabled && tabFilter.get().isStatic()) {
+                summaryTabs.put(dashboardTab.getTabLabel(), tabFilter.get());
+            } else {
+                queryTabs.put(dashboardTab.getTabLabel(), tabFilter.get());
             }
-        } else {
-            handleComplexFilters(countResults, dashboardTab, transactionDefinitionKeys);
         }
-    }
 
-    private void integrateUnifiedCountsToFinalCountResults(
-            DashboardConfiguration dashboardConfiguration,
-            Map<String, Long> countResults,
-            Map<String, Long> statusCounts,
-            Map<String, Long> priorityCounts) {
-        dashboardConfiguration.getTabs().stream()
-                .forEach(
-                        dashboardTab -> {
-                            if (dashboardTab.getFilter().size() == SINGLE_FILTER_SIZE) {
-                                String firstKey =
-                                        dashboardTab.getFilter().keySet().stream()
-                                                .findFirst()
-                                                .get();
-                                if (firstKey.equals(STATUS)) {
-                                    List<String> values =
-                                            getValuesFromFilter(dashboardTab, firstKey);
-                                    Long count = getCountForGivenTab(statusCounts, values);
-                                    countResults.put(dashboardTab.getTabLabel(), count);
-                                } else if (firstKey.equals(PRIORITY)) {
-                                    List<String> values =
-                                            getValuesFromFilter(dashboardTab, firstKey);
-                                    Long count = getCountForGivenTab(priorityCounts, values);
-                                    countResults.put(dashboardTab.getTabLabel(), count);
-                                }
-                            }
-                        });
+        if (!summaryTabs.isEmpty()) {
+            countResults.putAll(
+                    transactionRepository.getTransactionCountsByTabFromSummary(
+                            transactionDefinitionKeys, summaryTabs));
+        }
+        if (!queryTabs.isEmpty()) {
+            countResults.putAll(
+                    transactionRepository.getTransactionCountsByTab(
+                            transactionDefinitionKeys, queryTabs));
+        }
+
+        return countResults;
     }
 
-    private void handleComplexFilters(
-            Map<String, Long> countResults,
-            DashboardTabConfiguration dashboardTab,
-            List<String> transactionDefinitionKeys) {
-        if (dashboardTab.getFilter().isEmpty()) {
-            countResults.put(dashboardTab.getTabLabel(), 0L);
-            return;
+    /*
+     * Parses a tab filter. Empty means the tab matches no transactions, either because it has no
+     * filter or because it is restricted to the current user and there is none.
+     */
+    private Optional<DashboardTabFilter> toTabFilter(DashboardTabConfiguration dashboardTab) {
+        Map<String, Object> filter = dashboardTab.getFilter();
+        if (filter == null || filter.isEmpty()) {
+            return Optional.empty();
         }
 
-        List<String> priorityStrings = getValuesFromFilter(dashboardTab, PRIORITY);
+        List<String> status = getValuesFromFilter(filter, STATUS);
 
         List<TransactionPriority> priorities = null;
+        List<String> priorityStrings = getValuesFromFilter(filter, PRIORITY);
         if (priorityStrings != null) {
             priorities =
                     priorityStrings.stream().map(TransactionPriority::fromStringValue).toList();
         }
 
-        List<String> status = getValuesFromFilter(dashboardTab, STATUS);
-
-        Boolean assignedToMe = (Boolean) dashboardTab.getFilter().get(ASSIGNED_TO_ME);
-
-        TransactionFilters filters =
-                SearchTransactionsFilters.builder()
-                        .transactionDefinitionKeys(transactionDefinitionKeys)
-                        .priority(priorities)
-                        .status(status)
-                        .assignedToMe(assignedToMe)
-                        .build();
-
-        countResults.put(
-                dashboardTab.getTabLabel(),
-                transactionRepository.count(filters.getTransactionSpecifications()));
-    }
-
-    private void addObjectsToCount(Set<String> toCount, Object values) {
-        try {
-            if (values instanceof List) {
-                List<String> valueStrings = (List<String>) values;
-                toCount.addAll(valueStrings);
-
-            } else {
-                toCount.add(values.toString());
+        String assignedTo = null;
+        if (Boolean.TRUE.equals(filter.get(ASSIGNED_TO_ME))) {
+            Optional<String> userId =
+                    CurrentUserUtility.getCurrentUser().map(UserToken::getApplicationUserId);
+            if (userId.isEmpty()) {
+                return Optional.empty();
             }
-        } catch (Exception e) {
-            throw new BusinessLogicException("Invalid filter value");
+            assignedTo = userId.get();
         }
-    }
 
-    private List<String> getValuesFromFilter(
-            DashboardTabConfiguration dashboardTab, String firstKey) {
-        List<String> values = new ArrayList<>();
-        if (dashboardTab.getFilter().get(firstKey) instanceof List) {
-            values = (List<String>) dashboardTab.getFilter().get(firstKey);
-        } else {
-            values.add(dashboardTab.getFilter().get(firstKey).toString());
-        }
-        return values;
+        return Optional.of(new DashboardTabFilter(status, priorities, assignedTo));
     }
 
-    private Long getCountForGivenTab(Map<String, Long> counts, List<String> values) {
-        Long count = 0L;
-        if (values == null || values.isEmpty()) {
-            return count;
-        }
-
-        if (values.size() == SINGLE_FILTER_SIZE) {
-            return counts.get(values.get(0));
-        }
-
-        for (String value : values) {
-            if (counts.containsKey(value)) {
-                count += counts.get(value);
-            }
+    private List<String> getValuesFromFilter(Map<String, Object> filter, String key) {
+        Object values = filter.get(key);
+        if (values == null) {
+            return null;
+        } else if (values instanceof List<?> valueList) {
+            return valueList.isEmpty() ? null : valueList.stream().map(Object::toString).toList();
+        } else {
+            return List.of(values.toString());
         }
-
-        return count;
     }
 }
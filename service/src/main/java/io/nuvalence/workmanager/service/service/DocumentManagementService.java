@@ -2,7 +2,6 @@ package io.nuvalence.workmanager.service.service;
 
 import io.nuvalence.events.brokerclient.config.PublisherProperties;
 import io.nuvalence.events.event.InitiateDocumentProcessingEvent;
-import io.nuvalence.events.event.service.EventGateway;
 import io.nuvalence.workmanager.service.config.exceptions.UnexpectedException;
 import io.nuvalence.workmanager.service.events.EventFactory;
 import io.nuvalence.workmanager.service.events.PublisherTopic;
@@ -19,7 +18,7 @@ import java.util.UUID;
 @Component
 @RequiredArgsConstructor
 public class DocumentManagementService {
-    private final EventGateway eventGateway;
+    private final EventOutboxService eventOutboxService;
     private final PublisherProperties publisherProperties;
 
     /**
@@ -43,6 +42,7 @@ public class DocumentManagementService {
                             + PublisherTopic.DOCUMENT_PROCESSING_INITIATION.name());
         }
 
-        eventGateway.publishEvent(event, fullyQualifiedTopicNameOptional.get());
+        eventOutboxService.enqueue(
+                event, fullyQualifiedTopicNameOptional.get(), documentId.toString());
     }
 }
@@ -5,8 +5,12 @@ import io.nuvalence.workmanager.service.domain.profile.Employer;
 import io.nuvalence.workmanager.service.domain.profile.EmployerUserLink;
 import io.nuvalence.workmanager.service.domain.profile.ProfileInvitation;
 import io.nuvalence.workmanager.service.models.EmployerFilters;
+import io.nuvalence.workmanager.service.models.KeysetPage;
+import io.nuvalence.workmanager.service.models.RankedSearchQuery;
 import io.nuvalence.workmanager.service.models.auditevents.*;
 import io.nuvalence.workmanager.service.repository.EmployerRepository;
+import io.nuvalence.workmanager.service.repository.KeysetPaginator;
+import io.nuvalence.workmanager.service.repository.RankedSearchPaginator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Service;
@@ -25,12 +29,48 @@ import jakarta.transaction.Transactional;
 public class EmployerService {
     private final EmployerRepository repository;
     private final AuditEventService auditEventService;
+    private final KeysetPaginator keysetPaginator;
+    private final RankedSearchPaginator rankedSearchPaginator;
 
     public Page<Employer> getEmployersByFilters(final EmployerFilters filters) {
         return repository.findAll(
                 filters.getEmployerProfileSpecification(), filters.getPageRequest());
     }
 
+    /**
+     * Gets the page of the employer profiles matching the filters that follows the given cursor.
+     *
+     * @param filters the filters to apply
+     * @param cursor cursor returned with the previous page, or blank for the first page
+     * @param includeTotalCount whether the total number of matching profiles should be counted
+     * @return a keyset page of matching employer profiles
+     */
+    public KeysetPage<Employer> getEmployersByFiltersAfter(
+            final EmployerFilters filters, final String cursor, final Boolean includeTotalCount) {
+        return keysetPaginator.findPage(
+                Employer.class,
+                filters.getEmployerProfileSpecification(),
+                filters.getKeysetPageRequest(cursor, includeTotalCount));
+    }
+
+    /**
+     * Gets a page of the employer profiles matching the filters, the closest matches of the name
+     * and industry filters first. Falls back to {@link #getEmployersByFilters(EmployerFilters)}
+     * when neither is set.
+     *
+     * @param filters the filters to apply, sort attribute aside
+     * @return a page of matching employer profiles
+     */
+    public Page<Employer> getEmployersByRankedSearch(final EmployerFilters filters) {
+        final RankedSearchQuery search = filters.getRankedSearchQuery();
+        if (!search.isRanked()) {
+            return getEmployersByFilters(filters);
+        }
+
+        return rankedSearchPaginator.findPage(
+                Employer.class, search, filters.getUnsortedPageRequest());
+    }
+
     /**
      * Gets an employer profile by ID.
      *
@@ -18,9 +18,13 @@ import jakarta.transaction.Transactional;
 @RequiredArgsConstructor
 public class EmployerUserLinkService {
     private final EmployerUserLinkRepository repository;
+    private final AccessProfileService accessProfileService;
 
     public EmployerUserLink saveEmployerUserLink(EmployerUserLink employerUserLink) {
-        return repository.save(employerUserLink);
+        final EmployerUserLink savedLink = repository.save(employerUserLink);
+        accessProfileService.evictAccessProfiles(employerUserLink.getUserId());
+
+        return savedLink;
     }
 
     public Optional<EmployerUserLink> getEmployerUserLink(UUID profileId, UUID userId) {
@@ -32,7 +36,9 @@ public class EmployerUserLinkService {
     }
 
     public void deleteEmployerUserLink(UUID id) {
+        final Optional<UUID> userId = repository.findById(id).map(EmployerUserLink::getUserId);
         repository.deleteById(id);
+        userId.ifPresent(accessProfileService::evictAccessProfiles);
     }
 
     public Page<EmployerUserLink> getEmployerUserLinks(final EmployerUserLinkFilters filters) {
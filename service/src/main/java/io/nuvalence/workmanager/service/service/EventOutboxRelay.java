@@ -0,0 +1,229 @@
+package io.nuvalence.workmanager.service.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.nuvalence.events.event.Event;
+import io.nuvalence.events.event.service.EventGateway;
+import io.nuvalence.workmanager.service.domain.outbox.EventOutboxEntry;
+import io.nuvalence.workmanager.service.repository.EventOutboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Publishes the events written to the outbox by {@link EventOutboxService}.
+ *
+ * <p>Events are published at least once: an entry is deleted after the broker accepted it, so an
+ * entry may be published again if the relay stops in between. Events sharing an ordering key are
+ * published in the order they were written; a failed event is retried with an exponential backoff
+ * and holds back the later events of its key until it is published. An event that still fails
+ * after the maximum number of attempts is dead-lettered: it is kept in the outbox for inspection
+ * but no longer retried, and stops holding back its key.</p>
+ *
+ * <p>Only one relay must run at a time, see {@code EventOutboxRelayJob}. A run stops after the
+ * maximum relay duration, which must stay well under the lock duration of the job, and leaves the
+ * remaining entries to the next run.</p>
+ */
+@Slf4j
+@Service
+public class EventOutboxRelay {
+    private static final int MAX_ERROR_LENGTH = 1024;
+
+    private final EventOutboxRepository repository;
+    private final EventGateway eventGateway;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final Duration initialBackoff;
+    private final Duration maximumBackoff;
+    private final int maxAttempts;
+    private final Duration maxRelayDuration;
+    private final Counter publishedEvents;
+    private final Counter failedAttempts;
+    private final Counter deadLetteredEvents;
+    private final AtomicLong backlog = new AtomicLong();
+    private final AtomicLong deadLetters = new AtomicLong();
+    private final AtomicLong lagSeconds = new AtomicLong();
+
+    /**
+     * Constructs a new EventOutboxRelay.
+     *
+     * @param repository outbox repository
+     * @param eventGateway gateway events are published through
+     * @param objectMapper mapper events are read back with
+     * @param meterRegistry registry metrics are published to
+     * @param batchSize maximum number of entries read from the outbox at once
+     * @param initialBackoff delay before the first retry of a failed event
+     * @param maximumBackoff maximum delay between two retries of a failed event
+     * @param maxAttempts number of failed attempts after which an event is dead-lettered
+     * @param maxRelayDuration time after which a run stops relaying
+     */
+    @SuppressWarnings("java:S107")
+    public EventOutboxRelay(
+            final EventOutboxRepository repository,
+            final EventGateway eventGateway,
+            final ObjectMapper objectMapper,
+            final MeterRegistry meterRegistry,
+            @Value("${events.outbox.batchSize:100}") final int batchSize,
+            @Value("${events.outbox.initialBackoff:5s}") final Duration initialBackoff,
+            @Value("${events.outbox.maximumBackoff:10m}") final Duration maximumBackoff,
+            @Value("${events.outbox.maxAttempts:20}") final int maxAttempts,
+            @Value("${events.outbox.maxRelayDuration:1m}") final Duration maxRelayDuration) {
+        this.repository = repository;
+        this.eventGateway = eventGateway;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+        this.initialBackoff = initialBackoff;
+        this.maximumBackoff = maximumBackoff;
+        this.maxAttempts = maxAttempts;
+        this.maxRelayDuration = maxRelayDuration;
+        this.publishedEvents =
+                Counter.builder("events.outbox.published")
+                        .description("Outbox events published to the broker")
+                        .register(meterRegistry);
+        this.failedAttempts =
+                Counter.builder("events.outbox.failures")
+                        .description("Failed attempts to publish an outbox event")
+                        .register(meterRegistry);
+        this.deadLetteredEvents =
+                Counter.builder("events.outbox.deadLettered")
+                        .description("Outbox events given up on after too many failed attempts")
+                        .register(meterRegistry);
+        Gauge.builder("events.outbox.backlog", backlog, AtomicLong::get)
+                .description("Outbox events waiting to be published")
+                .register(meterRegistry);
+        Gauge.builder("events.outbox.deadLetters", deadLetters, AtomicLong::get)
+                .description("Dead-lettered outbox events kept for inspection")
+                .register(meterRegistry);
+        Gauge.builder("events.outbox.lag", lagSeconds, AtomicLong::get)
+                .description("Age of the oldest outbox event waiting to be published")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Publishes the outbox entries due for publication, batch by batch, until no full batch is
+     * left or the maximum relay duration has elapsed.
+     *
+     * @return number of published events
+     */
+    public int relay() {
+        final OffsetDateTime deadline = OffsetDateTime.now().plus(maxRelayDuration);
+        int published = 0;
+        int publishedInBatch;
+        do {
+            publishedInBatch = relayBatch(deadline);
+            published += publishedInBatch;
+        } while (publishedInBatch == batchSize && OffsetDateTime.now().isBefore(deadline));
+
+        updateBacklog();
+        return published;
+    }
+
+    private int relayBatch(OffsetDateTime deadline) {
+        final OffsetDateTime now = OffsetDateTime.now();
+        final Set<String> heldBackKeys = new HashSet<>();
+        int published = 0;
+        int attempted = 0;
+        for (EventOutboxEntry entry :
+                repository.findPublishable(now, PageRequest.of(0, batchSize))) {
+            if (heldBackKeys.contains(entry.getOrderingKey())) {
+                continue;
+            }
+            // entries left unattempted are read again by the next run
+            if (attempted++ > 0 && !OffsetDateTime.now().isBefore(deadline)) {
+                break;
+            }
+
+            try {
+                eventGateway.publishEvent(readEvent(entry), entry.getTopic());
+            } catch (Exception e) {
+                if (!deadLetter(entry, now, e)) {
+                    heldBackKeys.add(entry.getOrderingKey());
+                    scheduleRetry(entry, now, e);
+                }
+                continue;
+            }
+
+            repository.delete(entry);
+            publishedEvents.increment();
+            published++;
+        }
+
+        return published;
+    }
+
+    private Event readEvent(EventOutboxEntry entry) throws Exception {
+        return objectMapper.readValue(
+                entry.getPayload(), Class.forName(entry.getEventType()).asSubclass(Event.class));
+    }
+
+    private void scheduleRetry(EventOutboxEntry entry, OffsetDateTime now, Exception error) {
+        final int attempts = entry.getAttempts() + 1;
+        final Duration backoff = getBackoff(attempts);
+        log.warn(
+                "Failed to publish outbox event {} of type {} (attempt {}), retrying in {}",
+                entry.getId(),
+                entry.getEventType(),
+                attempts,
+                backoff,
+                error);
+
+        entry.setAttempts(attempts);
+        entry.setNextAttemptTimestamp(now.plus(backoff));
+        entry.setLastError(truncate(String.valueOf(error.getMessage())));
+        repository.save(entry);
+        failedAttempts.increment();
+    }
+
+    private boolean deadLetter(EventOutboxEntry entry, OffsetDateTime now, Exception error) {
+        final int attempts = entry.getAttempts() + 1;
+        if (attempts < maxAttempts) {
+            return false;
+        }
+
+        log.error(
+                "Giving up on outbox event {} of type {} with ordering key {} after {} attempts,"
+                        + " later events of the key are published without it",
+                entry.getId(),
+                entry.getEventType(),
+                entry.getOrderingKey(),
+                attempts,
+                error);
+
+        entry.setAttempts(attempts);
+        entry.setDeadLetteredTimestamp(now);
+        entry.setLastError(truncate(String.valueOf(error.getMessage())));
+        repository.save(entry);
+        failedAttempts.increment();
+        deadLetteredEvents.increment();
+        return true;
+    }
+
+    private static String truncate(String message) {
+        return message.substring(0, Math.min(message.length(), MAX_ERROR_LENGTH));
+    }
+
+    private Duration getBackoff(int attempts) {
+        final Duration backoff = initialBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return backoff.compareTo(maximumBackoff) > 0 ? maximumBackoff : backoff;
+    }
+
+    private void updateBacklog() {
+        backlog.set(repository.countByDeadLetteredTimestampIsNull());
+        deadLetters.set(repository.countByDeadLetteredTimestampIsNotNull());
+        lagSeconds.set(
+                repository
+                        .findOldestCreatedTimestamp()
+                        .map(oldest -> Duration.between(oldest, OffsetDateTime.now()).toSeconds())
+                        .orElse(0L));
+    }
+}
@@ -0,0 +1,56 @@
+package io.nuvalence.workmanager.service.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.nuvalence.events.event.Event;
+import io.nuvalence.workmanager.service.config.exceptions.UnexpectedException;
+import io.nuvalence.workmanager.service.domain.outbox.EventOutboxEntry;
+import io.nuvalence.workmanager.service.repository.EventOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.OffsetDateTime;
+
+import jakarta.transaction.Transactional;
+
+/**
+ * Writes events to the outbox, from which {@link EventOutboxRelay} publishes them once the database
+ * transaction they were written in has committed. Events of a rolled back transaction are never
+ * published, and publishing does not add broker round-trips to the request.
+ */
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class EventOutboxService {
+    private final EventOutboxRepository repository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Adds an event to the outbox.
+     *
+     * @param event event to publish
+     * @param topic fully qualified name of the topic to publish to
+     * @param orderingKey id of the business object the event is about; events sharing a key are
+     *     published in the order they were added
+     */
+    public void enqueue(Event event, String topic, String orderingKey) {
+        final String payload;
+        try {
+            payload = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new UnexpectedException(
+                    "Could not serialize event " + event.getClass().getSimpleName(), e);
+        }
+
+        final OffsetDateTime now = OffsetDateTime.now();
+        repository.save(
+                EventOutboxEntry.builder()
+                        .topic(topic)
+                        .eventType(event.getClass().getName())
+                        .payload(payload)
+                        .orderingKey(orderingKey)
+                        .createdTimestamp(now)
+                        .nextAttemptTimestamp(now)
+                        .build());
+    }
+}
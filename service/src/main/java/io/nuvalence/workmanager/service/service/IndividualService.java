@@ -6,8 +6,10 @@ import io.nuvalence.workmanager.service.domain.profile.Individual;
 import io.nuvalence.workmanager.service.domain.profile.IndividualUserLink;
 import io.nuvalence.workmanager.service.domain.profile.ProfileInvitation;
 import io.nuvalence.workmanager.service.models.IndividualFilters;
+import io.nuvalence.workmanager.service.models.KeysetPage;
 import io.nuvalence.workmanager.service.models.auditevents.*;
 import io.nuvalence.workmanager.service.repository.IndividualRepository;
+import io.nuvalence.workmanager.service.repository.KeysetPaginator;
 import io.nuvalence.workmanager.service.usermanagementapi.UserManagementService;
 import io.nuvalence.workmanager.service.usermanagementapi.models.User;
 import lombok.RequiredArgsConstructor;
@@ -36,6 +38,7 @@ public class IndividualService {
     private final IndividualRepository repository;
     private final AuditEventService auditEventService;
     private final UserManagementService userManagementService;
+    private final KeysetPaginator keysetPaginator;
 
     public Individual saveIndividual(final Individual individual) {
         if (individual.getMailingAddress() != null) {
@@ -75,6 +78,22 @@ public class IndividualService {
                 filters.getIndividualProfileSpecification(), filters.getPageRequest());
     }
 
+    /**
+     * Gets the page of the individual profiles matching the filters that follows the given cursor.
+     *
+     * @param filters the filters to apply
+     * @param cursor cursor returned with the previous page, or blank for the first page
+     * @param includeTotalCount whether the total number of matching profiles should be counted
+     * @return a keyset page of matching individual profiles
+     */
+    public KeysetPage<Individual> getIndividualsByFiltersAfter(
+            final IndividualFilters filters, final String cursor, final Boolean includeTotalCount) {
+        return keysetPaginator.findPage(
+                Individual.class,
+                filters.getIndividualProfileSpecification(),
+                filters.getKeysetPageRequest(cursor, includeTotalCount));
+    }
+
     /**
      * Posts an audit event for an individual profile being created.
      *
@@ -24,9 +24,13 @@ import jakarta.transaction.Transactional;
 public class IndividualUserLinkService {
     private final IndividualService individualService;
     private final IndividualUserLinkRepository repository;
+    private final AccessProfileService accessProfileService;
 
     public IndividualUserLink saveIndividualUserLink(final IndividualUserLink individualUserLink) {
-        return repository.save(individualUserLink);
+        final IndividualUserLink savedLink = repository.save(individualUserLink);
+        accessProfileService.evictAccessProfiles(individualUserLink.getUserId());
+
+        return savedLink;
     }
 
     public Optional<IndividualUserLink> getIndividualUserLinkByProfileAndUserId(
@@ -40,6 +44,7 @@ public class IndividualUserLinkService {
 
     public void deleteIndividualUserLink(IndividualUserLink individualUserLink) {
         repository.delete(individualUserLink);
+        accessProfileService.evictAccessProfiles(individualUserLink.getUserId());
     }
 
     public Page<IndividualUserLink> getIndividualLinksByFilters(
@@ -1,5 +1,6 @@
 package io.nuvalence.workmanager.service.service;
 
+import io.nuvalence.workmanager.service.domain.securemessaging.ConversationMessageCount;
 import io.nuvalence.workmanager.service.domain.securemessaging.Message;
 import io.nuvalence.workmanager.service.models.MessageFilters;
 import io.nuvalence.workmanager.service.repository.MessageRepository;
@@ -7,6 +8,9 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -33,4 +37,43 @@ public class MessageService {
     public int countByConversationId(final UUID conversationId) {
         return repository.countByConversationId(conversationId);
     }
+
+    /**
+     * Returns the original messages of several conversations, with a single query.
+     *
+     * @param conversationIds IDs of the conversations
+     * @return the original messages, by conversation ID
+     */
+    public Map<UUID, Message> getOriginalMessagesByConversationIds(
+            final Collection<UUID> conversationIds) {
+        final Map<UUID, Message> originalMessages = new HashMap<>();
+        if (conversationIds.isEmpty()) {
+            return originalMessages;
+        }
+
+        for (Message message : repository.findOriginalMessagesByConversationIds(conversationIds)) {
+            originalMessages.put(message.getConversation().getId(), message);
+        }
+
+        return originalMessages;
+    }
+
+    /**
+     * Counts the messages of several conversations, with a single query.
+     *
+     * @param conversationIds IDs of the conversations
+     * @return the number of messages, by conversation ID; conversations without messages are absent
+     */
+    public Map<UUID, Integer> countByConversationIds(final Collection<UUID> conversationIds) {
+        final Map<UUID, Integer> counts = new HashMap<>();
+        if (conversationIds.isEmpty()) {
+            return counts;
+        }
+
+        for (ConversationMessageCount count : repository.countByConversationIds(conversationIds)) {
+            counts.put(count.getConversationId(), (int) count.getMessageCount());
+        }
+
+        return counts;
+    }
 }
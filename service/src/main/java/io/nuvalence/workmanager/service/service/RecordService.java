@@ -10,7 +10,11 @@ import io.nuvalence.workmanager.service.domain.transaction.TransactionRecordLink
 import io.nuvalence.workmanager.service.generated.models.RecordUpdateRequest;
 import io.nuvalence.workmanager.service.mapper.EntityMapper;
 import io.nuvalence.workmanager.service.mapper.MissingSchemaException;
+import io.nuvalence.workmanager.service.models.KeysetPage;
+import io.nuvalence.workmanager.service.models.RankedSearchQuery;
 import io.nuvalence.workmanager.service.models.RecordFilters;
+import io.nuvalence.workmanager.service.repository.KeysetPaginator;
+import io.nuvalence.workmanager.service.repository.RankedSearchPaginator;
 import io.nuvalence.workmanager.service.repository.RecordRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -37,6 +41,8 @@ public class RecordService {
     private final RecordFactory factory;
     private final TransactionService transactionService;
     private final EntityMapper entityMapper;
+    private final KeysetPaginator keysetPaginator;
+    private final RankedSearchPaginator rankedSearchPaginator;
 
     /**
      * Create a new Record for a given record definition.
@@ -73,6 +79,40 @@ public class RecordService {
         return repository.findAll(filter.getRecordSpecification(), filter.getPageRequest());
     }
 
+    /**
+     * Returns the page of the records matching the filters that follows the given cursor.
+     *
+     * @param filter the filters to apply
+     * @param cursor cursor returned with the previous page, or blank for the first page
+     * @param includeTotalCount whether the total number of matching records should be counted
+     * @return a keyset page of matching records
+     */
+    public KeysetPage<Record> getRecordsByFiltersAfter(
+            RecordFilters filter, String cursor, Boolean includeTotalCount) {
+        return keysetPaginator.findPage(
+                Record.class,
+                filter.getRecordSpecification(),
+                filter.getKeysetPageRequest(cursor, includeTotalCount));
+    }
+
+    /**
+     * Returns a page of the records matching the filters, the closest matches of the record
+     * definition key and external id filters first. Falls back to
+     * {@link #getRecordsByFilters(RecordFilters)} when neither is set.
+     *
+     * @param filter the filters to apply, sort attribute aside
+     * @return a page of matching records
+     */
+    public Page<Record> getRecordsByRankedSearch(RecordFilters filter) {
+        final RankedSearchQuery search = filter.getRankedSearchQuery();
+        if (!search.isRanked()) {
+            return getRecordsByFilters(filter);
+        }
+
+        return rankedSearchPaginator.findPage(
+                Record.class, search, filter.getUnsortedPageRequest());
+    }
+
     /**
      * Update a record.
      *
@@ -0,0 +1,188 @@
+package io.nuvalence.workmanager.service.service;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import io.nuvalence.workmanager.service.domain.dynamicschema.Schema;
+import io.nuvalence.workmanager.service.repository.SchemaRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * In-process cache of parsed {@link Schema} instances, indexed by id and by key.
+ *
+ * <p>Cached schemas are shared between callers and must be treated as read-only. Each entry
+ * carries the schema's last updated timestamp as its version. Once an entry is older than the
+ * configured revalidation window, its version is compared against the database with a
+ * single-column query so that changes made by other replicas are picked up without re-parsing
+ * the schema JSON on every read.</p>
+ */
+@Slf4j
+@Component
+public class SchemaCache {
+    private final SchemaRepository schemaRepository;
+    private final Duration revalidateAfter;
+    private final Cache<UUID, CachedSchema> schemasById;
+    private final Cache<String, UUID> schemaIdsByKey;
+
+    /**
+     * Constructs a new SchemaCache.
+     *
+     * @param schemaRepository repository used to check cached schema versions
+     * @param meterRegistry registry cache metrics are published to
+     * @param maximumSize maximum number of schemas held in the cache
+     * @param revalidateAfter age after which a cached version is checked against the database
+     */
+    public SchemaCache(
+            final SchemaRepository schemaRepository,
+            final MeterRegistry meterRegistry,
+            @Value("${schemaCache.maximumSize:500}") final long maximumSize,
+            @Value("${schemaCache.revalidateAfter:30s}") final Duration revalidateAfter) {
+        this.schemaRepository = schemaRepository;
+        this.revalidateAfter = revalidateAfter;
+        this.schemasById = CacheBuilder.newBuilder().maximumSize(maximumSize).recordStats().build();
+        this.schemaIdsByKey =
+                CacheBuilder.newBuilder().maximumSize(maximumSize).recordStats().build();
+
+        GuavaCacheMetrics.monitor(meterRegistry, schemasById, "schemas.by-id");
+        GuavaCacheMetrics.monitor(meterRegistry, schemaIdsByKey, "schemas.by-key");
+    }
+
+    /**
+     * Returns the cached schema with the given id, if present and still current.
+     *
+     * @param id schema id
+     * @return cached schema, or empty if the schema must be loaded from the database
+     */
+    public Optional<Schema> getById(final UUID id) {
+        if (id == null) {
+            return Optional.empty();
+        }
+
+        final CachedSchema cached = schemasById.getIfPresent(id);
+        if (cached == null) {
+            return Optional.empty();
+        }
+
+        if (System.nanoTime() - cached.getVerifiedAt() < revalidateAfter.toNanos()) {
+            return Optional.of(cached.getSchema());
+        }
+
+        final Optional<OffsetDateTime> currentVersion =
+                schemaRepository.findLastUpdatedTimestampById(id);
+        final OffsetDateTime cachedVersion = cached.getSchema().getLastUpdatedTimestamp();
+        if (currentVersion.isPresent() && isSameVersion(currentVersion.get(), cachedVersion)) {
+            schemasById.put(id, new CachedSchema(cached.getSchema(), System.nanoTime()));
+            return Optional.of(cached.getSchema());
+        }
+
+        log.debug("Cached schema {} is stale, evicting", cached.getSchema().getKey());
+        evict(cached.getSchema());
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the cached schema with the given key, if present and still current.
+     *
+     * @param key schema key
+     * @return cached schema, or empty if the schema must be loaded from the database
+     */
+    public Optional<Schema> getByKey(final String key) {
+        if (key == null) {
+            return Optional.empty();
+        }
+
+        final UUID id = schemaIdsByKey.getIfPresent(key);
+        if (id == null) {
+            return Optional.empty();
+        }
+
+        final Optional<Schema> schema = getById(id);
+        if (schema.isEmpty()) {
+            schemaIdsByKey.invalidate(key);
+        }
+
+        return schema;
+    }
+
+    /**
+     * Adds a freshly loaded schema to the cache.
+     *
+     * @param schema schema to cache
+     */
+    public void put(final Schema schema) {
+        if (schema == null || schema.getId() == null) {
+            return;
+        }
+
+        schemasById.put(schema.getId(), new CachedSchema(schema, System.nanoTime()));
+        if (schema.getKey() != null) {
+            schemaIdsByKey.put(schema.getKey(), schema.getId());
+        }
+    }
+
+    /**
+     * Evicts a schema immediately and again once the current transaction commits, so that a
+     * concurrent reader cannot re-populate the cache with the pre-commit version.
+     *
+     * @param schema schema to evict
+     */
+    public void invalidate(final Schema schema) {
+        evict(schema);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            evict(schema);
+                        }
+                    });
+        }
+    }
+
+    /**
+     * Evicts every cached schema.
+     */
+    public void invalidateAll() {
+        schemasById.invalidateAll();
+        schemaIdsByKey.invalidateAll();
+    }
+
+    private void evict(final Schema schema) {
+        if (schema.getId() != null) {
+            schemasById.invalidate(schema.getId());
+        }
+        if (schema.getKey() != null) {
+            schemaIdsByKey.invalidate(schema.getKey());
+        }
+    }
+
+    private static boolean isSameVersion(
+            final OffsetDateTime current, final OffsetDateTime cached) {
+        if (current == null || cached == null) {
+            return Objects.equals(current, cached);
+        }
+
+        return current.isEqual(cached);
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static final class CachedSchema {
+        private final Schema schema;
+        private final long verifiedAt;
+    }
+}
@@ -45,6 +45,7 @@ public class SchemaService {
             "Unable to parse schema JSON stored in database.";
     private final SchemaRepository schemaRepository;
     private final DynamicSchemaMapper mapper;
+    private final SchemaCache schemaCache;
 
     /**
      * Fetches a schema from the database by key.
@@ -53,17 +54,9 @@ public class SchemaService {
      * @return Schema object
      */
     public Optional<Schema> getSchemaByKey(final String key) {
-        return schemaRepository
-                .findByKey(key)
-                .map(
-                        row -> {
-                            try {
-                                return mapper.schemaRowToSchema(row);
-                            } catch (JsonProcessingException e) {
-                                throw new UnexpectedException(
-                                        UNABLE_TO_PARSE_SCHEMA_JSON_STORED_IN_DATABASE, e);
-                            }
-                        });
+        return schemaCache
+                .getByKey(key)
+                .or(() -> schemaRepository.findByKey(key).map(this::parseAndCacheSchemaRow));
     }
 
     private Optional<SchemaRow> getSchemaRowByKey(final String key) {
@@ -77,17 +70,19 @@ public class SchemaService {
      * @return Schema object
      */
     public Optional<Schema> getSchemaById(final UUID id) {
-        return schemaRepository
-                .findById(id)
-                .map(
-                        row -> {
-                            try {
-                                return mapper.schemaRowToSchema(row);
-                            } catch (JsonProcessingException e) {
-                                throw new UnexpectedException(
-                                        UNABLE_TO_PARSE_SCHEMA_JSON_STORED_IN_DATABASE, e);
-                            }
-                        });
+        return schemaCache
+                .getById(id)
+                .or(() -> schemaRepository.findById(id).map(this::parseAndCacheSchemaRow));
+    }
+
+    private Schema parseAndCacheSchemaRow(final SchemaRow row) {
+        try {
+            final Schema schema = mapper.schemaRowToSchema(row);
+            schemaCache.put(schema);
+            return schema;
+        } catch (JsonProcessingException e) {
+            throw new UnexpectedException(UNABLE_TO_PARSE_SCHEMA_JSON_STORED_IN_DATABASE, e);
+        }
     }
 
     /**
@@ -145,7 +140,9 @@ public class SchemaService {
                                     validateSchemaChildren(schema, children, schemaParents, value));
             schemaRow.setChildren(children);
 
-            return mapper.schemaRowToSchema(schemaRepository.save(schemaRow));
+            final Schema savedSchema = mapper.schemaRowToSchema(schemaRepository.save(schemaRow));
+            schemaCache.invalidate(savedSchema);
+            return savedSchema;
         } catch (InvalidRegexPatternException e) {
             log.error(e.getMessage(), e);
             throw new UnexpectedException(e.getMessage(), e);
@@ -289,6 +286,7 @@ public class SchemaService {
      */
     public void deleteSchema(Schema schema) throws JsonProcessingException {
         schemaRepository.delete(mapper.schemaToSchemaRow(schema));
+        schemaCache.invalidate(schema);
     }
 
     private boolean dynaPropertyExists(DynaProperty[] properties, String propertyName) {
@@ -4,7 +4,6 @@ import io.nuvalence.events.brokerclient.config.PublisherProperties;
 import io.nuvalence.events.event.DirectNotificationEvent;
 import io.nuvalence.events.event.Event;
 import io.nuvalence.events.event.NotificationEvent;
-import io.nuvalence.events.event.service.EventGateway;
 import io.nuvalence.workmanager.service.domain.profile.ProfileInvitation;
 import io.nuvalence.workmanager.service.domain.profile.ProfileType;
 import io.nuvalence.workmanager.service.domain.transaction.Transaction;
@@ -34,7 +33,7 @@ public class SendNotificationService {
     private static final String PORTAL_URL = "portal-url";
 
     private final PublisherProperties publisherProperties;
-    private final EventGateway eventGateway;
+    private final EventOutboxService eventOutboxService;
 
     @Value("${dashboard.url}")
     private String dashboardUrl;
@@ -81,7 +80,7 @@ public class SendNotificationService {
                         notificationKey,
                         createNotificationParameterMap(properties, transaction));
 
-        sendNotification(notificationEvent);
+        sendNotification(notificationEvent, String.valueOf(transaction.getId()));
     }
 
     /**
@@ -110,10 +109,10 @@ public class SendNotificationService {
                 EventFactory.createDirectNotificationEvent(
                         "email", profileInvitation.getEmail(), templateKey, properties);
 
-        sendNotification(notificationEvent);
+        sendNotification(notificationEvent, String.valueOf(profileInvitation.getId()));
     }
 
-    private void sendNotification(Event notificationEvent) {
+    private void sendNotification(Event notificationEvent, String orderingKey) {
         Optional<String> fullyQualifiedTopicNameOptional =
                 publisherProperties.getFullyQualifiedTopicName(
                         PublisherTopic.NOTIFICATION_REQUESTS.name());
@@ -124,6 +123,7 @@ public class SendNotificationService {
                             + PublisherTopic.NOTIFICATION_REQUESTS.name());
         }
 
-        eventGateway.publishEvent(notificationEvent, fullyQualifiedTopicNameOptional.get());
+        eventOutboxService.enqueue(
+                notificationEvent, fullyQualifiedTopicNameOptional.get(), orderingKey);
     }
 }
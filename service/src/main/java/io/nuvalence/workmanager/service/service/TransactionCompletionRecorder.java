@@ -0,0 +1,106 @@
+package io.nuvalence.workmanager.service.service;
+
+import io.nuvalence.workmanager.service.repository.TransactionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Marks transactions as completed as soon as their process instance completes.
+ *
+ * <p>Completions seen within a database transaction are collected, and written in a single batch
+ * once it has committed, so that a transaction is never marked completed by a rolled back process
+ * instance. Completions that cannot be written are picked up by the TransactionCompletedUpdaterJob.
+ * </p>
+ */
+@Service
+@Slf4j
+@Profile("!test")
+public class TransactionCompletionRecorder {
+    private final TransactionRepository repository;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Constructs a new TransactionCompletionRecorder.
+     *
+     * @param repository transaction repository
+     * @param transactionManager transaction manager
+     */
+    public TransactionCompletionRecorder(
+            TransactionRepository repository, PlatformTransactionManager transactionManager) {
+        this.repository = repository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // the transaction of the process engine has already committed when completions are written
+        this.transactionTemplate.setPropagationBehavior(
+                TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Records the completion of a process instance.
+     *
+     * @param processInstanceId id of the completed process instance
+     * @param endTime time the process instance completed
+     */
+    public void recordCompletion(String processInstanceId, Date endTime) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            write(Map.of(processInstanceId, endTime));
+            return;
+        }
+
+        getPendingCompletions().put(processInstanceId, endTime);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Date> getPendingCompletions() {
+        final Map<String, Date> pendingCompletions =
+                (Map<String, Date>) TransactionSynchronizationManager.getResource(this);
+        if (pendingCompletions != null) {
+            return pendingCompletions;
+        }
+
+        final Map<String, Date> completions = new LinkedHashMap<>();
+        TransactionSynchronizationManager.bindResource(this, completions);
+        TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        write(completions);
+                    }
+
+                    @Override
+                    public void afterCompletion(int status) {
+                        TransactionSynchronizationManager.unbindResourceIfPossible(
+                                TransactionCompletionRecorder.this);
+                    }
+                });
+
+        return completions;
+    }
+
+    private void write(Map<String, Date> completions) {
+        try {
+            final Integer completedTransactions =
+                    transactionTemplate.execute(
+                            status -> repository.markProcessInstancesAsCompleted(completions));
+            log.debug(
+                    "Marked {} transactions as completed for {} completed process instances",
+                    completedTransactions,
+                    completions.size());
+        } catch (RuntimeException e) {
+            log.warn(
+                    "Unable to mark transactions of {} completed process instances as completed,"
+                            + " they will be reconciled later",
+                    completions.size(),
+                    e);
+        }
+    }
+}
@@ -20,6 +20,7 @@ import org.springframework.stereotype.Component;
 
 import java.time.Clock;
 import java.time.OffsetDateTime;
+import java.util.List;
 
 /**
  * Factory that encapsulates transaction initialization logic.
@@ -45,6 +46,21 @@ public class TransactionFactory {
      */
     public Transaction createTransaction(final TransactionDefinition definition)
             throws MissingSchemaException {
+        return createTransaction(definition, generateExternalId());
+    }
+
+    /**
+     * Create a new transaction for a given transaction definition, using an external ID allocated
+     * beforehand with {@link #generateExternalIds(int)}.
+     *
+     * @param definition Type of transaction to create
+     * @param externalId External ID of the transaction
+     * @return The newly created transaction
+     * @throws MissingSchemaException if the transaction definition references a schema that does not exist
+     */
+    public Transaction createTransaction(
+            final TransactionDefinition definition, final String externalId)
+            throws MissingSchemaException {
         String createdByUserId = null;
         String subjectUserId = null;
 
@@ -87,10 +103,25 @@ public class TransactionFactory {
                 .createdTimestamp(now)
                 .lastUpdatedTimestamp(now)
                 .data(new DynamicEntity(schema))
-                .externalId(generateExternalId())
+                .externalId(externalId)
                 .build();
     }
 
+    /**
+     * Allocates external IDs for several transactions with a single sequence query.
+     *
+     * @param count number of external IDs to allocate
+     * @return allocated external IDs
+     */
+    public List<String> generateExternalIds(int count) {
+        if (count <= 0) {
+            return List.of();
+        }
+        return repository.getNextTransactionSequenceValues(count).stream()
+                .map(ZBase32Encoder::encode)
+                .toList();
+    }
+
     private String generateExternalId() {
         Long sequenceValue = repository.getNextTransactionSequenceValue();
         return ZBase32Encoder.encode(sequenceValue);
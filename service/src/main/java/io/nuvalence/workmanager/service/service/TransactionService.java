@@ -1,6 +1,7 @@
 package io.nuvalence.workmanager.service.service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.google.common.collect.Lists;
 import io.nuvalence.auth.token.UserToken;
 import io.nuvalence.auth.util.SecurityContextUtility;
 import io.nuvalence.workmanager.service.config.exceptions.BusinessLogicException;
@@ -16,7 +17,6 @@ import io.nuvalence.workmanager.service.domain.dynamicschema.DynamicEntity;
 import io.nuvalence.workmanager.service.domain.dynamicschema.Schema;
 import io.nuvalence.workmanager.service.domain.dynamicschema.attributes.Document;
 import io.nuvalence.workmanager.service.domain.formconfig.FormConfiguration;
-import io.nuvalence.workmanager.service.domain.formconfig.formio.NuvalenceFormioComponent;
 import io.nuvalence.workmanager.service.domain.profile.Individual;
 import io.nuvalence.workmanager.service.domain.profile.ProfileType;
 import io.nuvalence.workmanager.service.domain.transaction.MissingTaskException;
@@ -24,27 +24,44 @@ import io.nuvalence.workmanager.service.domain.transaction.MissingTransactionExc
 import io.nuvalence.workmanager.service.domain.transaction.Transaction;
 import io.nuvalence.workmanager.service.domain.transaction.TransactionDefinition;
 import io.nuvalence.workmanager.service.generated.models.TransactionCountByStatusModel;
-import io.nuvalence.workmanager.service.mapper.FormConfigurationMapper;
 import io.nuvalence.workmanager.service.mapper.MissingSchemaException;
+import io.nuvalence.workmanager.service.models.DataMergePatch;
+import io.nuvalence.workmanager.service.models.KeysetPage;
 import io.nuvalence.workmanager.service.models.SearchTransactionsFilters;
+import io.nuvalence.workmanager.service.models.TransactionCreationItem;
+import io.nuvalence.workmanager.service.models.TransactionCreationResult;
 import io.nuvalence.workmanager.service.models.TransactionFilters;
+import io.nuvalence.workmanager.service.models.TransactionSummary;
+import io.nuvalence.workmanager.service.models.TransactionSummaryFields;
 import io.nuvalence.workmanager.service.models.auditevents.*;
 import io.nuvalence.workmanager.service.repository.CustomerProvidedDocumentRepository;
+import io.nuvalence.workmanager.service.repository.KeysetPaginator;
 import io.nuvalence.workmanager.service.repository.TransactionRepository;
 import io.nuvalence.workmanager.service.utils.RequestContextTimestamp;
+import io.nuvalence.workmanager.service.utils.UserUtility;
 import io.nuvalence.workmanager.service.utils.auth.CurrentUserUtility;
+import io.nuvalence.workmanager.service.utils.formconfig.formio.FormioValidationPlan;
+import io.nuvalence.workmanager.service.utils.formconfig.formio.FormioValidationPlanCache;
 import io.nuvalence.workmanager.service.utils.formconfig.formio.NuvalenceFormioValidator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.beanutils.DynaProperty;
 import org.apache.commons.lang3.StringUtils;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.OffsetDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -53,6 +70,7 @@ import java.util.Set;
 import java.util.StringJoiner;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import jakarta.transaction.Transactional;
 import jakarta.ws.rs.NotFoundException;
@@ -84,10 +102,15 @@ public class TransactionService {
     private final RequestContextTimestamp requestContextTimestamp;
     private final FormConfigurationService formConfigurationService;
 
-    private final FormConfigurationMapper formConfigMapper;
+    private final FormioValidationPlanCache formioValidationPlanCache;
     private final NuvalenceFormioValidator formIoValidator;
     private final IndividualService individualService;
     private final EmployerService employerService;
+    private final KeysetPaginator keysetPaginator;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${transactions.bulkCreation.chunkSize:100}")
+    private int bulkCreationChunkSize;
 
     /**
      * Create a new transaction for a given transaction definition.
@@ -145,22 +168,143 @@ public class TransactionService {
         return savedTransaction;
     }
 
+    /**
+     * Creates transactions for the given definitions and data, all with the given individual as
+     * subject.
+     *
+     * <p>External IDs are allocated with a single sequence query. Transactions are then inserted,
+     * their processes started and their creation audit events added to the outbox in chunks, each
+     * chunk in its own database transaction. If a chunk fails, its transactions are retried one by
+     * one so that a single bad item does not fail the others.</p>
+     *
+     * @param items transactions to create
+     * @param individual individual to associate with the transactions
+     * @return creation result of each item, in the order of the items
+     */
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
+    public List<TransactionCreationResult> createTransactions(
+            final List<TransactionCreationItem> items, final Individual individual) {
+        final TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        final List<String> externalIds =
+                transactionTemplate.execute(status -> factory.generateExternalIds(items.size()));
+
+        final TransactionCreationResult[] results = new TransactionCreationResult[items.size()];
+        for (List<Integer> chunk :
+                Lists.partition(
+                        IntStream.range(0, items.size()).boxed().toList(),
+                        bulkCreationChunkSize)) {
+            final Map<Integer, Transaction> transactions = new LinkedHashMap<>();
+            for (int index : chunk) {
+                try {
+                    transactions.put(
+                            index,
+                            buildTransaction(items.get(index), individual, externalIds.get(index)));
+                } catch (MissingSchemaException | BusinessLogicException e) {
+                    results[index] = TransactionCreationResult.failed(e.getMessage());
+                }
+            }
+
+            try {
+                transactionTemplate.executeWithoutResult(
+                        status -> saveAndStart(transactions, items));
+                transactions.forEach(
+                        (index, transaction) ->
+                                results[index] = TransactionCreationResult.created(transaction));
+            } catch (RuntimeException e) {
+                log.warn("Bulk transaction creation chunk failed, retrying one by one", e);
+                for (int index : transactions.keySet()) {
+                    results[index] =
+                            createTransactionInOwnTransaction(
+                                    transactionTemplate,
+                                    items.get(index),
+                                    individual,
+                                    externalIds.get(index));
+                }
+            }
+        }
+
+        return Arrays.asList(results);
+    }
+
+    private TransactionCreationResult createTransactionInOwnTransaction(
+            TransactionTemplate transactionTemplate,
+            TransactionCreationItem item,
+            Individual individual,
+            String externalId) {
+        try {
+            // the entity from the failed chunk was rolled back with its generated ID, start over
+            final Transaction transaction = buildTransaction(item, individual, externalId);
+            transactionTemplate.executeWithoutResult(
+                    status -> {
+                        repository.save(transaction);
+                        startTask(transaction, item.getDefinition().getProcessDefinitionKey());
+                        postAuditEventForTransactionCreated(transaction);
+                    });
+            return TransactionCreationResult.created(transaction);
+        } catch (MissingSchemaException | RuntimeException e) {
+            log.warn("Bulk creation of transaction with external ID {} failed", externalId, e);
+            return TransactionCreationResult.failed(e.getMessage());
+        }
+    }
+
+    private Transaction buildTransaction(
+            TransactionCreationItem item, Individual individual, String externalId)
+            throws MissingSchemaException {
+        final TransactionDefinition definition = item.getDefinition();
+        if (!definition.getSubjectType().equals(ProfileType.INDIVIDUAL)) {
+            throw new BusinessLogicException(
+                    "Subject type is not supported for transaction creation");
+        }
+
+        final Transaction transaction = factory.createTransaction(definition, externalId);
+        // mapped in the response without loading the definition again
+        transaction.setTransactionDefinition(definition);
+        transaction.setSubjectProfileId(individual.getId());
+        transaction.setSubjectProfileType(ProfileType.INDIVIDUAL);
+        transaction.setData(item.getData());
+        return transaction;
+    }
+
+    private void saveAndStart(
+            Map<Integer, Transaction> transactions, List<TransactionCreationItem> items) {
+        // inserts are flushed together, and batched by hibernate.jdbc.batch_size
+        repository.saveAll(transactions.values());
+        transactions.forEach(
+                (index, transaction) ->
+                        startTask(
+                                transaction,
+                                items.get(index).getDefinition().getProcessDefinitionKey()));
+        transactions.values().forEach(this::postAuditEventForTransactionCreated);
+    }
+
     private void startTask(Transaction transaction, String processDefinitionKey) {
         transactionTaskService.startTask(transaction, processDefinitionKey);
     }
 
     /**
-     * Looks up a transaction by ID.
+     * Looks up a transaction by ID, with all of its associations loaded.
      *
      * @param id ID of transaction to find
      * @return Optional wrapping transaction
      */
     public Optional<Transaction> getTransactionById(final UUID id) {
-        return repository.findById(id);
+        return repository.findById(id).map(this::fetchAssociations);
     }
 
     /**
-     * Looks up a transaction by processInstanceID.
+     * Looks up a transaction by ID for a workflow delegate. Only the columns of the transaction are
+     * loaded, its associations must not be used outside of the workflow transaction.
+     *
+     * @param id ID of transaction to find
+     * @return Optional wrapping transaction
+     */
+    public Optional<Transaction> getTransactionByIdForWorkflow(final UUID id) {
+        return repository.findWorkflowViewById(id);
+    }
+
+    /**
+     * Looks up a transaction by processInstanceID. Only the columns of the transaction are loaded,
+     * its associations must not be used outside of the workflow transaction.
      *
      * @param processInstanceId ID of the process instance
      * @return Optional wrapping transaction
@@ -200,6 +344,60 @@ public class TransactionService {
                 getTransactionById(partialUpdate.getId())
                         .orElseThrow(() -> new MissingTransactionException(partialUpdate.getId()));
 
+        applyPartialUpdate(partialUpdate, transaction);
+
+        if (partialUpdate.getData() != null) {
+            transaction.setData(partialUpdate.getData());
+        }
+
+        updateDocuments(partialUpdate, transaction, attributeConfigurations);
+
+        return updateTransaction(transaction);
+    }
+
+    /**
+     * Applies a partial update to a given transaction, with its data updated by a JSON merge patch.
+     * The attributes changed by the patch are written to the data column in place, and the update
+     * of the other columns leaves the data column out unless the data changed again. Documents are
+     * only reconciled with the data when a changed attribute held or now holds a document.
+     *
+     * @param partialUpdate Transaction instance carrying fields to update, other than data
+     * @param dataPatch attributes of the data changed by the patch
+     * @param attributeConfigurations Map of attribute configurations
+     * @return Updated version of transaction
+     * @throws MissingTransactionException If transaction matching update by id does not exist
+     */
+    public Transaction updateTransactionFromMergePatch(
+            final Transaction partialUpdate,
+            final DataMergePatch dataPatch,
+            Map<String, List<AttributeConfiguration>> attributeConfigurations)
+            throws MissingTransactionException {
+        final Transaction transaction =
+                getTransactionById(partialUpdate.getId())
+                        .orElseThrow(() -> new MissingTransactionException(partialUpdate.getId()));
+
+        // written first, as the transaction is refreshed with the patched data, which reloads its
+        // collections lazily
+        if (!dataPatch.isEmpty()) {
+            repository.applyDataMergePatch(
+                    transaction,
+                    dataPatch,
+                    requestContextTimestamp.getCurrentTimestamp(),
+                    UserUtility.getCurrentApplicationUserId().orElse(null));
+            fetchAssociations(transaction);
+        }
+
+        applyPartialUpdate(partialUpdate, transaction);
+
+        if (dataPatch.isDocumentsChanged()) {
+            updateDocuments(transaction, transaction, attributeConfigurations);
+        }
+
+        return updateTransaction(transaction);
+    }
+
+    private void applyPartialUpdate(
+            final Transaction partialUpdate, final Transaction transaction) {
         if (partialUpdate.getPriority() != null) {
             transaction.setPriority(partialUpdate.getPriority());
         }
@@ -245,14 +443,6 @@ public class TransactionService {
             // TODO come up with better way to unset assigned To.
             transaction.setAssignedTo(null);
         }
-
-        if (partialUpdate.getData() != null) {
-            transaction.setData(partialUpdate.getData());
-        }
-
-        updateDocuments(partialUpdate, transaction, attributeConfigurations);
-
-        return updateTransaction(transaction);
     }
 
     private Map<UUID, String> getAllDocumentsMap(Transaction transaction) {
@@ -441,6 +631,34 @@ public class TransactionService {
         return updateTransaction(transaction);
     }
 
+    /**
+     * Applies a partial update to a given transaction, with its data updated by a JSON merge patch,
+     * and evaluates the given task (with action) for completion.
+     *
+     * @param partialUpdate Transaction instance carrying fields to update, other than data
+     * @param dataPatch attributes of the data changed by the patch
+     * @param taskId ID of task to complete
+     * @param action optional workflow action passed that influences decisions in workflow
+     * @param attributeConfigurations Map of attribute configurations
+     * @return Updated version of transaction
+     * @throws MissingTransactionException If transaction matching update by id does not exist
+     * @throws MissingTaskException If the task targeted by taskId doesn't exist in the workflow
+     * @throws JsonProcessingException If the data could not be serialized to JSON
+     */
+    public Transaction updateTransactionFromMergePatchAndCompleteTask(
+            final Transaction partialUpdate,
+            final DataMergePatch dataPatch,
+            final String taskId,
+            final String action,
+            Map<String, List<AttributeConfiguration>> attributeConfigurations)
+            throws MissingTransactionException, MissingTaskException, JsonProcessingException {
+        final Transaction transaction =
+                updateTransactionFromMergePatch(partialUpdate, dataPatch, attributeConfigurations);
+        completeTask(transaction, taskId, action);
+
+        return updateTransaction(transaction);
+    }
+
     /**
      * Completes the given task, posting to the workflow the data in the transaction.
      *
@@ -464,13 +682,104 @@ public class TransactionService {
      */
     @SuppressWarnings("checkstyle:CyclomaticComplexity")
     public Page<Transaction> getFilteredTransactions(final TransactionFilters filters) {
+        return getFilteredTransactions(filters, null);
+    }
+
+    /**
+     * Returns a page of the transactions matching the filters that also satisfy an access
+     * specification, so that paging and totals only reflect transactions the user may see.
+     *
+     * @param filters the filters to apply
+     * @param accessSpecification restriction to transactions the user may access, may be null
+     * @return a page of matching transactions
+     */
+    public Page<Transaction> getFilteredTransactions(
+            final TransactionFilters filters,
+            final Specification<Transaction> accessSpecification) {
+        final Page<Transaction> transactions =
+                repository.findAll(
+                        getSearchSpecification(filters, accessSpecification),
+                        filters.getPageRequest());
+        transactions.forEach(this::fetchAssociations);
+
+        return transactions;
+    }
+
+    /**
+     * Returns a page of summaries of the transactions matching the filters and an access
+     * specification. Only the requested fields are read, transaction data and collections are not
+     * loaded.
+     *
+     * @param filters the filters to apply
+     * @param fields the fields to read
+     * @param accessSpecification restriction to transactions the user may access, may be null
+     * @return a page of summaries of matching transactions
+     */
+    public Page<TransactionSummary> getFilteredTransactionSummaries(
+            final TransactionFilters filters,
+            final TransactionSummaryFields fields,
+            final Specification<Transaction> accessSpecification) {
+        return repository.findTransactionSummaries(
+                getSearchSpecification(filters, accessSpecification),
+                filters.getPageRequest(),
+                fields);
+    }
+
+    /**
+     * Returns the page of the transactions matching the filters, and an optional access
+     * specification, that follows the given cursor.
+     *
+     * @param filters the filters to apply
+     * @param cursor cursor returned with the previous page, or blank for the first page
+     * @param includeTotalCount whether the total number of matching transactions should be counted
+     * @param accessSpecification restriction to transactions the user may access, may be null
+     * @return a keyset page of matching transactions
+     */
+    public KeysetPage<Transaction> getFilteredTransactionsAfter(
+            final TransactionFilters filters,
+            final String cursor,
+            final Boolean includeTotalCount,
+            final Specification<Transaction> accessSpecification) {
+        final KeysetPage<Transaction> transactions =
+                keysetPaginator.findPage(
+                        Transaction.class,
+                        getSearchSpecification(filters, accessSpecification),
+                        filters.getKeysetPageRequest(cursor, includeTotalCount),
+                        Transaction.SEARCH_GRAPH);
+        transactions.getContent().forEach(this::fetchAssociations);
+
+        return transactions;
+    }
+
+    /**
+     * Loads the lazy associations of a transaction that is handed over to callers, which map and
+     * authorize it after the session is closed. Collections are batch fetched, so loading them for
+     * every transaction of a page costs one query per collection.
+     */
+    private Transaction fetchAssociations(final Transaction transaction) {
+        Hibernate.initialize(transaction.getTransactionDefinition());
+        Hibernate.initialize(transaction.getCustomerProvidedDocuments());
+        Hibernate.initialize(transaction.getRecordLinks());
+        Hibernate.initialize(transaction.getAdditionalParties());
+
+        return transaction;
+    }
+
+    private Specification<Transaction> getSearchSpecification(
+            final TransactionFilters filters,
+            final Specification<Transaction> accessSpecification) {
         Map<String, List<String>> statusMap =
                 workflowTasksService.getStatusMap(
                         filters.getCategory(), filters.getTransactionDefinitionKeys());
 
         filters.setStatus(addInternalStatusesToPublicStatusList(filters.getStatus(), statusMap));
 
-        return repository.findAll(filters.getTransactionSpecifications(), filters.getPageRequest());
+        Specification<Transaction> specification = filters.getTransactionSpecifications();
+        if (accessSpecification != null) {
+            specification = specification.and(accessSpecification);
+        }
+
+        return specification;
     }
 
     /**
@@ -958,6 +1267,49 @@ public class TransactionService {
         if (formStepKey == null) {
             throw new BusinessLogicException("Form step key cannot be null");
         }
+        FormioValidationPlan validationPlan =
+                getValidationPlan(transactionDefinitionKey, transaction, task, context);
+        if (validationPlan != null) {
+            List<NuvalenceFormioValidationExItem> formioValidationErrors = new ArrayList<>();
+            formIoValidator.validateDataAgainstPlan(
+                    validationPlan, formStepKey, transaction.getData(), formioValidationErrors);
+            throwIfFormioValidationErrors(formioValidationErrors);
+        }
+    }
+
+    /**
+     * Validates every step of a form concurrently.
+     *
+     * @param transactionDefinitionKey Identifier for the transaction definition.
+     * @param transaction Transaction whose data is to be validated, not modified until validated.
+     * @param task Workflow task to be validated.
+     * @param context Context for form configuration.
+     * @param stopAtFirstFailingStep Whether to only report the errors of the first failing step.
+     *
+     * @throws NuvalenceFormioValidationException if any form step is invalid.
+     * @throws BusinessLogicException If the form configuration is invalid
+     */
+    public void validateForm(
+            String transactionDefinitionKey,
+            Transaction transaction,
+            String task,
+            String context,
+            boolean stopAtFirstFailingStep) {
+        FormioValidationPlan validationPlan =
+                getValidationPlan(transactionDefinitionKey, transaction, task, context);
+        if (validationPlan != null) {
+            List<NuvalenceFormioValidationExItem> formioValidationErrors = new ArrayList<>();
+            formIoValidator.validateStepsConcurrently(
+                    validationPlan,
+                    transaction.getData(),
+                    stopAtFirstFailingStep,
+                    formioValidationErrors);
+            throwIfFormioValidationErrors(formioValidationErrors);
+        }
+    }
+
+    private FormioValidationPlan getValidationPlan(
+            String transactionDefinitionKey, Transaction transaction, String task, String context) {
         final String userType =
                 CurrentUserUtility.getCurrentUser().map(UserToken::getUserType).orElse(null);
 
@@ -973,28 +1325,21 @@ public class TransactionService {
         }
         String formKey = optionalFormConfigurationKey.get();
 
-        Optional<FormConfiguration> formConfigurationOptional =
-                formConfigurationService.getFormConfigurationByKeys(
-                        transactionDefinitionKey, formKey);
-
-        if (formConfigurationOptional.isPresent()) {
-            FormConfiguration formConfiguration = formConfigurationOptional.get();
+        return formConfigurationService
+                .getFormConfigurationByKeys(transactionDefinitionKey, formKey)
+                .map(formioValidationPlanCache::getPlan)
+                .orElse(null);
+    }
 
-            NuvalenceFormioComponent formioComponent =
-                    formConfigMapper.formConfigToValidationConfigForStep(
-                            formConfiguration, formStepKey, false);
+    private void throwIfFormioValidationErrors(
+            List<NuvalenceFormioValidationExItem> formioValidationErrors) {
+        if (!formioValidationErrors.isEmpty()) {
+            NuvalenceFormioValidationExMessage formioValidationExMessage =
+                    NuvalenceFormioValidationExMessage.builder()
+                            .formioValidationErrors(formioValidationErrors)
+                            .build();
 
-            List<NuvalenceFormioValidationExItem> formioValidationErrors = new ArrayList<>();
-            formIoValidator.validateDataAgainstFormConfig(
-                    formioComponent, transaction.getData(), formioValidationErrors);
-            if (!formioValidationErrors.isEmpty()) {
-                NuvalenceFormioValidationExMessage formioValidationExMessage =
-                        NuvalenceFormioValidationExMessage.builder()
-                                .formioValidationErrors(formioValidationErrors)
-                                .build();
-
-                throw new NuvalenceFormioValidationException(formioValidationExMessage);
-            }
+            throw new NuvalenceFormioValidationException(formioValidationExMessage);
         }
     }
 
@@ -1038,13 +1383,23 @@ public class TransactionService {
         }
     }
 
-    public int updateCompletedTransactions() {
-        return repository.markTransactionsAsCompleted();
+    /**
+     * Marks as completed the transactions whose process instance completed since a given time.
+     *
+     * @param endedSince earliest end time of the process instances to check
+     * @return number of transactions marked as completed
+     */
+    public int updateCompletedTransactions(OffsetDateTime endedSince) {
+        return repository.markTransactionsAsCompleted(endedSince);
     }
 
     public List<Transaction> getTransactionsBySubjectProfileIdAndType(
             UUID subjectProfileId, ProfileType subjectProfileType) {
-        return repository.findBySubjectProfileIdAndSubjectProfileType(
-                subjectProfileId, subjectProfileType);
+        final List<Transaction> transactions =
+                repository.findBySubjectProfileIdAndSubjectProfileType(
+                        subjectProfileId, subjectProfileType);
+        transactions.forEach(this::fetchAssociations);
+
+        return transactions;
     }
 }
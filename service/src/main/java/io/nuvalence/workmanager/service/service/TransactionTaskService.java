@@ -8,10 +8,12 @@ import io.nuvalence.workmanager.service.domain.transaction.TransactionDefinition
 import io.nuvalence.workmanager.service.domain.workflow.WorkflowAction;
 import io.nuvalence.workmanager.service.domain.workflow.WorkflowTask;
 import io.nuvalence.workmanager.service.mapper.EntityMapper;
+import io.nuvalence.workmanager.service.utils.auth.BatchAuthorizationHandler;
 import io.nuvalence.workmanager.service.utils.camunda.CamundaWorkflowInspector;
 import io.nuvalence.workmanager.service.utils.camunda.CamundaWorkflowInspectorCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
 import org.camunda.bpm.engine.HistoryService;
 import org.camunda.bpm.engine.ProcessEngine;
 import org.camunda.bpm.engine.TaskService;
@@ -19,9 +21,15 @@ import org.camunda.bpm.engine.history.HistoricProcessInstance;
 import org.camunda.bpm.engine.task.Task;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 /**
@@ -35,6 +43,7 @@ public class TransactionTaskService {
     private final EntityMapper entityMapper;
     private final AuthorizationHandler authorizationHandler;
     private final CamundaWorkflowInspectorCache camundaWorkflowInspectorCache;
+    private final BatchAuthorizationHandler batchAuthorizationHandler;
 
     /**
      * Completes the given task, posting to the workflow the data in the transaction.
@@ -117,6 +126,90 @@ public class TransactionTaskService {
                 .toList();
     }
 
+    /**
+     * Lists currently active tasks on several transactions at once.
+     *
+     * <p>Active tasks of all the transactions are fetched with a single task query, workflow
+     * inspectors are resolved once per process definition, and the task access actions are
+     * authorized with one batched check per action.</p>
+     *
+     * @param transactions Transactions to find active tasks for
+     * @return active tasks the current user may access, by transaction ID
+     */
+    public Map<UUID, List<WorkflowTask>> getActiveTasksForCurrentUserByTransactionId(
+            final List<Transaction> transactions) {
+        final Map<String, List<Transaction>> transactionsByProcessInstance =
+                transactions.stream()
+                        .filter(
+                                transaction ->
+                                        StringUtils.isNotBlank(transaction.getProcessInstanceId()))
+                        .collect(Collectors.groupingBy(Transaction::getProcessInstanceId));
+        if (transactionsByProcessInstance.isEmpty()) {
+            return Map.of();
+        }
+
+        final List<Task> tasks =
+                processEngine
+                        .getTaskService()
+                        .createTaskQuery()
+                        .processInstanceIdIn(
+                                transactionsByProcessInstance.keySet().toArray(new String[0]))
+                        .active()
+                        .list();
+
+        final Map<String, CamundaWorkflowInspector> inspectors = new HashMap<>();
+        final Map<String, Set<Transaction>> transactionsToAuthorize = new HashMap<>();
+        for (Task task : tasks) {
+            final CamundaWorkflowInspector workflowInspector =
+                    inspectors.computeIfAbsent(
+                            task.getProcessDefinitionId(),
+                            camundaWorkflowInspectorCache::getByProcessDefinitionId);
+            workflowInspector
+                    .getAllowedAction(task.getTaskDefinitionKey())
+                    .ifPresent(
+                            action ->
+                                    transactionsToAuthorize
+                                            .computeIfAbsent(action, k -> new LinkedHashSet<>())
+                                            .addAll(
+                                                    transactionsByProcessInstance.get(
+                                                            task.getProcessInstanceId())));
+        }
+
+        final Map<String, Set<UUID>> allowedTransactionIds = new HashMap<>();
+        transactionsToAuthorize.forEach(
+                (action, candidates) ->
+                        allowedTransactionIds.put(
+                                action,
+                                batchAuthorizationHandler
+                                        .filterAllowed(action, new ArrayList<>(candidates))
+                                        .stream()
+                                        .map(Transaction::getId)
+                                        .collect(Collectors.toSet())));
+
+        final Map<UUID, List<WorkflowTask>> activeTasks = new HashMap<>();
+        for (Task task : tasks) {
+            final String taskKey = task.getTaskDefinitionKey();
+            final CamundaWorkflowInspector workflowInspector =
+                    inspectors.get(task.getProcessDefinitionId());
+            if (!workflowInspector.isCurrentUserTypeAllowed(taskKey)) {
+                continue;
+            }
+
+            final Optional<String> action = workflowInspector.getAllowedAction(taskKey);
+            for (Transaction transaction :
+                    transactionsByProcessInstance.get(task.getProcessInstanceId())) {
+                if (action.isEmpty()
+                        || allowedTransactionIds.get(action.get()).contains(transaction.getId())) {
+                    activeTasks
+                            .computeIfAbsent(transaction.getId(), k -> new ArrayList<>())
+                            .add(workflowInspector.getWorkflowTask(taskKey));
+                }
+            }
+        }
+
+        return activeTasks;
+    }
+
     /**
      * Lists first tasks available on a transaction definition.
      *
@@ -153,6 +246,44 @@ public class TransactionTaskService {
                         processDefinitionKey, Map.of("transactionId", transaction.getId()));
     }
 
+    /**
+     * Finds which of the given transactions have a workflow that reached an end event.
+     *
+     * <p>Transactions already flagged as completed are not checked again, the workflows of the
+     * others are checked with a single history query.</p>
+     *
+     * @param transactions Transactions to check
+     * @return IDs of the transactions whose workflow has reached an end event
+     */
+    public Set<UUID> getTransactionsThatReachedEndEvent(final List<Transaction> transactions) {
+        final Set<UUID> completedTransactionIds = new HashSet<>();
+        final Map<String, List<UUID>> openTransactionIds = new HashMap<>();
+        for (Transaction transaction : transactions) {
+            if (Boolean.TRUE.equals(transaction.getIsCompleted())) {
+                completedTransactionIds.add(transaction.getId());
+            } else if (StringUtils.isNotBlank(transaction.getProcessInstanceId())) {
+                openTransactionIds
+                        .computeIfAbsent(transaction.getProcessInstanceId(), k -> new ArrayList<>())
+                        .add(transaction.getId());
+            }
+        }
+
+        if (!openTransactionIds.isEmpty()) {
+            processEngine
+                    .getHistoryService()
+                    .createHistoricProcessInstanceQuery()
+                    .processInstanceIds(openTransactionIds.keySet())
+                    .finished()
+                    .list()
+                    .forEach(
+                            processInstance ->
+                                    completedTransactionIds.addAll(
+                                            openTransactionIds.get(processInstance.getId())));
+        }
+
+        return completedTransactionIds;
+    }
+
     /**
      * Checks if the workflow associated with the given transaction has reached an end event.
      *
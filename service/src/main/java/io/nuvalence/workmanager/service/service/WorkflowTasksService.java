@@ -1,24 +1,21 @@
 package io.nuvalence.workmanager.service.service;
 
 import io.nuvalence.workmanager.service.domain.transaction.TransactionDefinition;
+import io.nuvalence.workmanager.service.utils.camunda.WorkflowStatusCache;
+import io.nuvalence.workmanager.service.utils.camunda.WorkflowStatusCache.WorkflowStatuses;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.camunda.bpm.engine.ProcessEngine;
 import org.camunda.bpm.engine.repository.ProcessDefinition;
 import org.camunda.bpm.engine.repository.ProcessDefinitionQuery;
-import org.camunda.bpm.model.bpmn.Bpmn;
 import org.camunda.bpm.model.bpmn.BpmnModelInstance;
 import org.camunda.bpm.model.bpmn.instance.UserTask;
-import org.camunda.bpm.model.bpmn.instance.camunda.CamundaProperty;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.LinkedHashSet;
@@ -41,6 +38,7 @@ import jakarta.ws.rs.NotFoundException;
 public class WorkflowTasksService {
     private final ProcessEngine processEngine;
     private final TransactionDefinitionService transactionDefinitionService;
+    private final WorkflowStatusCache workflowStatusCache;
 
     /**
      * Gets all statuses from workflow process definitions.
@@ -67,21 +65,12 @@ public class WorkflowTasksService {
         // use Set remove duplicates, i.e. maybe 2 statuses map to 1 public status
         LinkedHashSet<String> distinctStatuses = new LinkedHashSet<>();
         for (ProcessDefinition definition : processDefinitions) {
-            try {
-                BpmnModelInstance modelInstance =
-                        Bpmn.readModelFromStream(new FileInputStream(definition.getResourceName()));
-                Collection<CamundaProperty> properties =
-                        modelInstance.getModelElementsByType(CamundaProperty.class);
-                for (CamundaProperty property : properties) {
-                    if (property.getAttributeValue("name").equals(statusType.propertyName)) {
-                        distinctStatuses.add(property.getCamundaValue());
-                    }
-                }
-            } catch (FileNotFoundException e) {
-                log.warn(
-                        "error parsing bpmn file {} for workflow statuses",
-                        definition.getResourceName(),
-                        e);
+            Optional<WorkflowStatuses> statuses = workflowStatusCache.getStatuses(definition);
+            if (statuses.isPresent()) {
+                distinctStatuses.addAll(
+                        statusType == StatusType.PUBLIC
+                                ? statuses.get().getPublicStatuses()
+                                : statuses.get().getInternalStatuses());
             }
         }
         return new ArrayList<>(distinctStatuses);
@@ -100,53 +89,20 @@ public class WorkflowTasksService {
         Map<String, List<String>> statusMap = new HashMap<>();
 
         for (ProcessDefinition definition : processDefinitions) {
-            processDefinitionAndAddStatus(definition, statusMap);
-        }
-
-        return statusMap;
-    }
-
-    private void processDefinitionAndAddStatus(
-            ProcessDefinition definition, Map<String, List<String>> statusMap) {
-        try {
-            BpmnModelInstance modelInstance =
-                    Bpmn.readModelFromStream(new FileInputStream(definition.getResourceName()));
-            Collection<CamundaProperty> properties =
-                    modelInstance.getModelElementsByType(CamundaProperty.class);
-
-            for (CamundaProperty property : properties) {
-                processCamundaProperty(property, statusMap);
+            Optional<WorkflowStatuses> statuses = workflowStatusCache.getStatuses(definition);
+            if (statuses.isEmpty()) {
+                continue;
             }
-        } catch (FileNotFoundException e) {
-            log.warn(
-                    "error parsing bpmn file {} for workflow statuses",
-                    definition.getResourceName(),
-                    e);
-        }
-    }
-
-    private void processCamundaProperty(
-            CamundaProperty property, Map<String, List<String>> statusMap) {
-        if (property.getAttributeValue("name").equals(StatusType.PUBLIC.propertyName)) {
-            String publicStatus = property.getCamundaValue();
 
-            Optional<CamundaProperty> internalStatusProperty =
-                    property
-                            .getParentElement()
-                            .getChildElementsByType(CamundaProperty.class)
-                            .stream()
-                            .filter(
-                                    p ->
-                                            p.getAttributeValue("name")
-                                                    .equals(StatusType.INTERNAL.propertyName))
-                            .findFirst();
-
-            if (internalStatusProperty.isPresent()) {
+            for (Map.Entry<String, List<String>> entry :
+                    statuses.get().getPublicToInternalStatuses().entrySet()) {
                 statusMap
-                        .computeIfAbsent(publicStatus, k -> new ArrayList<>())
-                        .add(internalStatusProperty.get().getCamundaValue());
+                        .computeIfAbsent(entry.getKey(), k -> new ArrayList<>())
+                        .addAll(entry.getValue());
             }
         }
+
+        return statusMap;
     }
 
     private List<ProcessDefinition> createProcessDefinitionSearchAndRetrieve(
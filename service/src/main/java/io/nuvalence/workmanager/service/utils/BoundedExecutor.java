@@ -0,0 +1,101 @@
+package io.nuvalence.workmanager.service.utils;
+
+import io.nuvalence.logging.util.CorrelationIdContext;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Base of the small bounded pools work is offloaded to. Each use extends it with its own thread
+ * name prefix and properties for its number of threads and queue capacity.
+ *
+ * <p>When the queue is full, tasks run on the submitting thread instead of being rejected, which
+ * also throttles submitters to the pace of the pool. Tasks run with the correlation id of the
+ * submitting thread.</p>
+ */
+public abstract class BoundedExecutor {
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * Constructs a new BoundedExecutor.
+     *
+     * @param threadNamePrefix prefix of the names of the pool threads
+     * @param threads number of threads running tasks
+     * @param queueCapacity maximum number of tasks waiting to run
+     */
+    protected BoundedExecutor(
+            final String threadNamePrefix, final int threads, final int queueCapacity) {
+        this.executor =
+                new ThreadPoolExecutor(
+                        threads,
+                        threads,
+                        0L,
+                        TimeUnit.MILLISECONDS,
+                        new ArrayBlockingQueue<>(queueCapacity),
+                        new CustomizableThreadFactory(threadNamePrefix),
+                        new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * Submits a task.
+     *
+     * @param task task to run
+     * @param <T> result of the task
+     * @return the pending result of the task
+     */
+    public <T> Future<T> submit(final Callable<T> task) {
+        final String correlationId = CorrelationIdContext.getCorrelationId();
+        return executor.submit(
+                () -> {
+                    final String previousCorrelationId = CorrelationIdContext.getCorrelationId();
+                    CorrelationIdContext.setCorrelationId(correlationId);
+                    try {
+                        return task.call();
+                    } finally {
+                        CorrelationIdContext.setCorrelationId(previousCorrelationId);
+                    }
+                });
+    }
+
+    /**
+     * Runs a task without waiting for it.
+     *
+     * @param task task to run
+     */
+    public void execute(final Runnable task) {
+        final String correlationId = CorrelationIdContext.getCorrelationId();
+        executor.execute(
+                () -> {
+                    final String previousCorrelationId = CorrelationIdContext.getCorrelationId();
+                    CorrelationIdContext.setCorrelationId(correlationId);
+                    try {
+                        task.run();
+                    } finally {
+                        CorrelationIdContext.setCorrelationId(previousCorrelationId);
+                    }
+                });
+    }
+
+    /**
+     * Gets the number of threads running tasks.
+     *
+     * @return size of the pool
+     */
+    public int getThreads() {
+        return executor.getMaximumPoolSize();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,27 @@
+package io.nuvalence.workmanager.service.utils;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs the work on configuration artifacts that does not touch the persistence context, such as
+ * rendering them for an export, concurrently on a small bounded pool.
+ *
+ * <p>When the queue is full, artifacts are processed on the submitting thread instead, which also
+ * throttles submitters to the pace of the pool.</p>
+ */
+@Component
+public class ConfigurationExecutor extends BoundedExecutor {
+
+    /**
+     * Constructs a new ConfigurationExecutor.
+     *
+     * @param threads number of threads processing configuration artifacts
+     * @param queueCapacity maximum number of configuration artifacts waiting to be processed
+     */
+    public ConfigurationExecutor(
+            @Value("${configuration.threads:4}") final int threads,
+            @Value("${configuration.queueCapacity:200}") final int queueCapacity) {
+        super("configuration-", threads, queueCapacity);
+    }
+}
@@ -5,7 +5,12 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import com.fasterxml.jackson.dataformat.yaml.YAMLGenerator;
+import io.nuvalence.logging.util.CorrelationIdContext;
 import io.nuvalence.workmanager.service.config.exceptions.UnexpectedException;
+import io.nuvalence.workmanager.service.domain.dynamicschema.jpa.SchemaRow;
+import io.nuvalence.workmanager.service.domain.formconfig.FormConfiguration;
+import io.nuvalence.workmanager.service.domain.transaction.TransactionDefinition;
+import io.nuvalence.workmanager.service.domain.transaction.TransactionDefinitionSet;
 import io.nuvalence.workmanager.service.mapper.DynamicSchemaMapper;
 import io.nuvalence.workmanager.service.mapper.FormConfigurationMapper;
 import io.nuvalence.workmanager.service.mapper.TransactionDefinitionMapper;
@@ -14,36 +19,45 @@ import io.nuvalence.workmanager.service.repository.FormConfigurationRepository;
 import io.nuvalence.workmanager.service.repository.SchemaRepository;
 import io.nuvalence.workmanager.service.repository.TransactionDefinitionRepository;
 import io.nuvalence.workmanager.service.repository.TransactionDefinitionSetRepository;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
-import org.apache.commons.lang3.SystemUtils;
 import org.camunda.bpm.engine.ProcessEngine;
+import org.camunda.bpm.engine.RepositoryService;
+import org.camunda.bpm.engine.repository.DecisionDefinition;
+import org.camunda.bpm.engine.repository.ProcessDefinition;
 import org.camunda.bpm.model.bpmn.Bpmn;
-import org.camunda.bpm.model.bpmn.BpmnModelInstance;
 import org.camunda.bpm.model.dmn.Dmn;
-import org.camunda.bpm.model.dmn.DmnModelInstance;
-import org.springframework.core.io.FileSystemResource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
-import java.io.File;
-import java.io.FileOutputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.attribute.PosixFilePermission;
-import java.nio.file.attribute.PosixFilePermissions;
 import java.text.SimpleDateFormat;
 import java.util.Arrays;
 import java.util.Calendar;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
-import java.util.Set;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 import java.util.zip.ZipOutputStream;
@@ -53,15 +67,21 @@ import java.util.zip.ZipOutputStream;
  */
 @SuppressWarnings({"ClassFanOutComplexity", "CyclomaticComplexity", "ClassDataAbstractionCoupling"})
 @Component
-@Transactional
-@RequiredArgsConstructor
 @Slf4j
 public class ConfigurationUtility {
     public static final String SCHEMAS_DIR = "schema";
     public static final String TRANSACTIONS_DIR = "transaction";
     public static final String TRANSACTIONS_SET_DIR = "transaction-set";
     public static final String WORKFLOWS_DIR = "workflow";
-    private static String exportTempDir = "/data/export_tmp";
+    private static final int EXPORT_BUFFER_SIZE = 64 * 1024;
+    private static final ObjectMapper YAML_MAPPER =
+            new ObjectMapper(
+                            new YAMLFactory()
+                                    .disable(YAMLGenerator.Feature.USE_NATIVE_TYPE_ID)
+                                    .disable(YAMLGenerator.Feature.WRITE_DOC_START_MARKER)
+                                    .enable(YAMLGenerator.Feature.MINIMIZE_QUOTES)
+                                    .enable(YAMLGenerator.Feature.INDENT_ARRAYS))
+                    .setSerializationInclusion(JsonInclude.Include.NON_NULL);
 
     private final TransactionDefinitionRepository transactionDefinitionRepository;
     private final TransactionDefinitionSetRepository transactionDefinitionSetRepository;
@@ -73,6 +93,60 @@ public class ConfigurationUtility {
     private final TransactionDefinitionSetMapper transactionDefinitionSetMapper;
     private final FormConfigurationMapper formConfigurationMapper;
     private final ObjectMapper objectMapper;
+    private final ConfigurationExecutor configurationExecutor;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final CustomizableThreadFactory exportThreadFactory;
+    private final int pageSize;
+
+    /**
+     * Constructs a new ConfigurationUtility.
+     *
+     * @param transactionDefinitionRepository transaction definition repository
+     * @param transactionDefinitionSetRepository transaction definition set repository
+     * @param schemaRepository schema repository
+     * @param formConfigurationRepository form configuration repository
+     * @param processEngine process engine
+     * @param dynamicSchemaMapper schema mapper
+     * @param transactionDefinitionMapper transaction definition mapper
+     * @param transactionDefinitionSetMapper transaction definition set mapper
+     * @param formConfigurationMapper form configuration mapper
+     * @param objectMapper object mapper
+     * @param configurationExecutor executor rendering exported documents
+     * @param transactionManager transaction manager
+     * @param pageSize number of entities read, and documents rendered, at a time
+     */
+    @SuppressWarnings("java:S107")
+    public ConfigurationUtility(
+            TransactionDefinitionRepository transactionDefinitionRepository,
+            TransactionDefinitionSetRepository transactionDefinitionSetRepository,
+            SchemaRepository schemaRepository,
+            FormConfigurationRepository formConfigurationRepository,
+            ProcessEngine processEngine,
+            DynamicSchemaMapper dynamicSchemaMapper,
+            TransactionDefinitionMapper transactionDefinitionMapper,
+            TransactionDefinitionSetMapper transactionDefinitionSetMapper,
+            FormConfigurationMapper formConfigurationMapper,
+            ObjectMapper objectMapper,
+            ConfigurationExecutor configurationExecutor,
+            PlatformTransactionManager transactionManager,
+            @Value("${configuration.export.pageSize:100}") int pageSize) {
+        this.transactionDefinitionRepository = transactionDefinitionRepository;
+        this.transactionDefinitionSetRepository = transactionDefinitionSetRepository;
+        this.schemaRepository = schemaRepository;
+        this.formConfigurationRepository = formConfigurationRepository;
+        this.processEngine = processEngine;
+        this.dynamicSchemaMapper = dynamicSchemaMapper;
+        this.transactionDefinitionMapper = transactionDefinitionMapper;
+        this.transactionDefinitionSetMapper = transactionDefinitionSetMapper;
+        this.formConfigurationMapper = formConfigurationMapper;
+        this.objectMapper = objectMapper;
+        this.configurationExecutor = configurationExecutor;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.exportThreadFactory = new CustomizableThreadFactory("configuration-export-");
+        this.exportThreadFactory.setDaemon(true);
+        this.pageSize = pageSize;
+    }
 
     /**
      * Gets the import timestamp string.
@@ -102,7 +176,10 @@ public class ConfigurationUtility {
     }
 
     /**
-     * Converts the ZipEntry to a ByteArrayInputStream.
+     * Converts the ZipEntry to a ByteArrayInputStream, without its blank lines.
+     *
+     * <p>The entry is decoded as a whole stream of UTF-8 and filtered line by line, so characters
+     * spanning read buffers are kept intact and only the filtered content is held in memory.</p>
      *
      * @param zipIn the ZipEntry.
      * @return a ByteArrayInputStream.
@@ -110,87 +187,85 @@ public class ConfigurationUtility {
      */
     public static ByteArrayInputStream readZipEntryToInputStream(ZipInputStream zipIn)
             throws IOException {
-        StringBuilder sb = new StringBuilder();
-        byte[] buffer = new byte[1024];
-        int read = zipIn.read(buffer, 0, buffer.length);
-        while (read >= 0) {
-            sb.append(new String(buffer, 0, read, StandardCharsets.UTF_8));
-            read = zipIn.read(buffer, 0, buffer.length);
+        // not closed, as that would close the archive rather than the entry
+        final BufferedReader reader =
+                new BufferedReader(new InputStreamReader(zipIn, StandardCharsets.UTF_8));
+        final ByteArrayOutputStream content = new ByteArrayOutputStream();
+        final byte[] lineSeparator = System.lineSeparator().getBytes(StandardCharsets.UTF_8);
+
+        String line = reader.readLine();
+        while (line != null) {
+            if (StringUtils.isNotBlank(line)) {
+                if (content.size() > 0) {
+                    content.write(lineSeparator);
+                }
+                content.write(line.getBytes(StandardCharsets.UTF_8));
+            }
+            line = reader.readLine();
         }
 
-        return new ByteArrayInputStream(
-                stripEmptyLinesFromString(sb.toString()).getBytes(StandardCharsets.UTF_8));
-    }
-
-    private static String stripEmptyLinesFromString(String str) {
-        return String.join(
-                System.lineSeparator(),
-                Arrays.stream(str.split("\\r?\\n|\\r"))
-                        .filter(StringUtils::isNotBlank)
-                        .toArray(String[]::new));
+        return new ByteArrayInputStream(content.toByteArray());
     }
 
     /**
-     * Gets the current configuration.
+     * Gets the current configuration, as a zip archive streamed while it is read.
+     *
+     * <p>The archive is written by {@link #writeConfiguration(OutputStream)} on a separate thread,
+     * through a bounded pipe, so it is neither buffered in memory nor written to disk. The
+     * resource can only be read once.</p>
      *
      * @return the current configuration.
      * @throws IOException on read/write errors.
-     * @throws UnexpectedException unexpected errors.
      */
-    public FileSystemResource getConfiguration() throws IOException {
-        // setting up temporary file to write to
-        File tempZipFile = createTempZipFile();
-
-        try (FileOutputStream fos = new FileOutputStream(tempZipFile);
-                ZipOutputStream zipOut = new ZipOutputStream(fos)) {
-
-            writeDirectoriesToZip(zipOut);
-            writeSchemasToZip(zipOut);
-            writeWorkflowsToZip(zipOut);
-            writeTransactionFiles(zipOut);
-            writeTransactionDefinitionSetFiles(zipOut);
-
-            return new FileSystemResource(tempZipFile);
-        } catch (IOException e) {
-            log.error(
-                    "Exception occurred in {}.getConfiguration: {}",
-                    this.getClass().getSimpleName(),
-                    e.getMessage());
-        }
+    public Resource getConfiguration() throws IOException {
+        final PipedInputStream inputStream = new PipedInputStream(EXPORT_BUFFER_SIZE);
+        final PipedOutputStream outputStream = new PipedOutputStream(inputStream);
+        final String correlationId = CorrelationIdContext.getCorrelationId();
+
+        exportThreadFactory
+                .newThread(
+                        () -> {
+                            CorrelationIdContext.setCorrelationId(correlationId);
+                            try {
+                                writeConfiguration(outputStream);
+                                outputStream.close();
+                            } catch (IOException | RuntimeException e) {
+                                // the pipe is left open, so reading fails rather than ending
+                                // with a truncated archive
+                                log.error(
+                                        "Exception occurred in {}.getConfiguration: {}",
+                                        this.getClass().getSimpleName(),
+                                        e.getMessage());
+                            }
+                        })
+                .start();
 
-        throw new UnexpectedException(
-                "An error occurred while attempting to retrieve the configuration.");
+        // not a subclass, so that the content length is not determined by reading the stream
+        return new InputStreamResource(inputStream);
     }
 
-    private static File createTempZipFile() throws IOException {
-        Path parentDir = Paths.get(exportTempDir);
-        if (!Files.exists(parentDir)) {
-            Files.createDirectories(parentDir);
-        }
-
-        Path tempDir = Files.createTempDirectory(Paths.get(exportTempDir), "temp");
-
-        if (tempDir == null) {
-            throw new IOException("Failed to create temp directory");
-        }
-
-        if (SystemUtils.IS_OS_UNIX) {
-            Set<PosixFilePermission> permissions = PosixFilePermissions.fromString("rwx------");
-            Files.setPosixFilePermissions(tempDir, permissions);
-        }
+    /**
+     * Writes the current configuration to a stream, as a zip archive.
+     *
+     * <p>Entities are read a page at a time, each page in its own read-only transaction, and the
+     * documents of a page are rendered concurrently, then written in order. Entries are sorted by
+     * key within each directory.</p>
+     *
+     * @param outputStream stream to write the archive to, left open.
+     * @throws IOException on read/write errors.
+     * @throws UnexpectedException unexpected errors.
+     */
+    public void writeConfiguration(OutputStream outputStream) throws IOException {
+        final ZipOutputStream zipOut = new ZipOutputStream(outputStream);
 
-        Path tempFile = Files.createTempFile(tempDir, "", ".zip");
-        setFilePermissions(tempFile.toFile());
-        return tempFile.toFile();
-    }
+        writeDirectoriesToZip(zipOut);
+        writeSchemasToZip(zipOut);
+        writeWorkflowsToZip(zipOut);
+        writeTransactionFiles(zipOut);
+        writeTransactionDefinitionSetFiles(zipOut);
 
-    private static void setFilePermissions(File file) throws IOException {
-        if (!file.setReadable(true, true)
-                || !file.setWritable(true, true)
-                || !file.setExecutable(true, true)) {
-            throw new IOException(
-                    "Failed to set permissions for the file: " + file.getAbsolutePath());
-        }
+        zipOut.finish();
+        zipOut.flush();
     }
 
     private void writeDirectoriesToZip(ZipOutputStream zipOut) throws IOException {
@@ -201,153 +276,219 @@ public class ConfigurationUtility {
         }
     }
 
-    private void writeSchemasToZip(ZipOutputStream zipOut) {
-        schemaRepository
-                .findAll()
-                .forEach(
-                        schemaRow -> {
-                            try {
-                                writeObjectToYamlFile(
-                                        zipOut,
-                                        SCHEMAS_DIR,
-                                        dynamicSchemaMapper.schemaRowToSchemaExportModel(schemaRow),
-                                        schemaRow.getKey());
-                            } catch (IOException e) {
-                                throw new UnexpectedException(e);
-                            }
-                        });
+    private void writeSchemasToZip(ZipOutputStream zipOut) throws IOException {
+        boolean hasNext = true;
+        for (int pageNumber = 0; hasNext; pageNumber++) {
+            final PageRequest pageRequest = PageRequest.of(pageNumber, pageSize, Sort.by("key"));
+            final Map<String, Future<byte[]>> entries = new LinkedHashMap<>();
+
+            hasNext =
+                    readOnlyTransactionTemplate.execute(
+                            status -> {
+                                final Page<SchemaRow> page = schemaRepository.findAll(pageRequest);
+                                for (SchemaRow schemaRow : page) {
+                                    entries.put(
+                                            yamlFileName(SCHEMAS_DIR, schemaRow.getKey()),
+                                            renderYaml(
+                                                    dynamicSchemaMapper
+                                                            .schemaRowToSchemaExportModel(
+                                                                    schemaRow)));
+                                }
+                                return page.hasNext();
+                            });
+
+            writeEntries(zipOut, entries);
+        }
     }
 
-    private void writeWorkflowsToZip(ZipOutputStream zipOut) {
-        processEngine
-                .getRepositoryService()
-                .createProcessDefinitionQuery()
-                .latestVersion()
-                .list()
-                .forEach(
-                        processDefinition -> {
-                            BpmnModelInstance bpmnModelInstance =
-                                    processEngine
-                                            .getRepositoryService()
-                                            .getBpmnModelInstance(processDefinition.getId());
-                            String fileName =
-                                    String.format(
-                                            "%s/%s_%s.bpmn",
-                                            WORKFLOWS_DIR,
-                                            processDefinition.getKey(),
-                                            UUID.randomUUID());
-                            try {
-                                writeStringToZip(
-                                        zipOut, fileName, Bpmn.convertToString(bpmnModelInstance));
-                            } catch (IOException e) {
-                                throw new UnexpectedException(e);
-                            }
-                        });
-
-        processEngine
-                .getRepositoryService()
-                .createDecisionDefinitionQuery()
-                .latestVersion()
-                .list()
-                .forEach(
-                        decisionDefinition -> {
-                            DmnModelInstance dmnModelInstance =
-                                    processEngine
-                                            .getRepositoryService()
-                                            .getDmnModelInstance(decisionDefinition.getId());
-                            String fileName =
-                                    String.format(
-                                            "%s/%s_%s.dmn",
-                                            WORKFLOWS_DIR,
-                                            decisionDefinition.getKey(),
-                                            UUID.randomUUID());
-                            try {
-                                writeStringToZip(
-                                        zipOut, fileName, Dmn.convertToString(dmnModelInstance));
-                            } catch (IOException e) {
-                                throw new UnexpectedException(e);
-                            }
-                        });
+    private void writeWorkflowsToZip(ZipOutputStream zipOut) throws IOException {
+        final RepositoryService repositoryService = processEngine.getRepositoryService();
+
+        List<ProcessDefinition> processDefinitions;
+        int first = 0;
+        do {
+            processDefinitions =
+                    repositoryService
+                            .createProcessDefinitionQuery()
+                            .latestVersion()
+                            .orderByProcessDefinitionKey()
+                            .asc()
+                            .listPage(first, pageSize);
+            first += pageSize;
+
+            final Map<String, Future<byte[]>> entries = new LinkedHashMap<>();
+            for (ProcessDefinition processDefinition : processDefinitions) {
+                entries.put(
+                        String.format(
+                                "%s/%s_%s.bpmn",
+                                WORKFLOWS_DIR, processDefinition.getKey(), UUID.randomUUID()),
+                        configurationExecutor.submit(
+                                () ->
+                                        Bpmn.convertToString(
+                                                        repositoryService.getBpmnModelInstance(
+                                                                processDefinition.getId()))
+                                                .getBytes(StandardCharsets.UTF_8)));
+            }
+            writeEntries(zipOut, entries);
+        } while (processDefinitions.size() == pageSize);
+
+        List<DecisionDefinition> decisionDefinitions;
+        first = 0;
+        do {
+            decisionDefinitions =
+                    repositoryService
+                            .createDecisionDefinitionQuery()
+                            .latestVersion()
+                            .orderByDecisionDefinitionKey()
+                            .asc()
+                            .listPage(first, pageSize);
+            first += pageSize;
+
+            final Map<String, Future<byte[]>> entries = new LinkedHashMap<>();
+            for (DecisionDefinition decisionDefinition : decisionDefinitions) {
+                entries.put(
+                        String.format(
+                                "%s/%s_%s.dmn",
+                                WORKFLOWS_DIR, decisionDefinition.getKey(), UUID.randomUUID()),
+                        configurationExecutor.submit(
+                                () ->
+                                        Dmn.convertToString(
+                                                        repositoryService.getDmnModelInstance(
+                                                                decisionDefinition.getId()))
+                                                .getBytes(StandardCharsets.UTF_8)));
+            }
+            writeEntries(zipOut, entries);
+        } while (decisionDefinitions.size() == pageSize);
     }
 
-    private void writeTransactionFiles(ZipOutputStream zipOut) {
-
-        transactionDefinitionRepository
-                .findAll()
-                .forEach(
-                        transactionDefinition -> {
-                            try {
-                                writeObjectToYamlFile(
-                                        zipOut,
-                                        TRANSACTIONS_DIR,
-                                        transactionDefinitionMapper
-                                                .transactionDefinitionToTransactionDefinitionExportModel(
-                                                        transactionDefinition),
-                                        transactionDefinition.getKey());
-                            } catch (IOException e) {
-                                throw new UnexpectedException(e);
-                            }
+    private void writeTransactionFiles(ZipOutputStream zipOut) throws IOException {
+        boolean hasNext = true;
+        for (int pageNumber = 0; hasNext; pageNumber++) {
+            final PageRequest pageRequest = PageRequest.of(pageNumber, pageSize, Sort.by("key"));
+            final Map<String, Future<byte[]>> entries = new LinkedHashMap<>();
+
+            hasNext =
+                    readOnlyTransactionTemplate.execute(
+                            status -> {
+                                final Page<TransactionDefinition> page =
+                                        transactionDefinitionRepository.findAll(pageRequest);
+                                final Map<String, List<FormConfiguration>> formConfigurations =
+                                        getFormConfigurations(page);
+
+                                for (TransactionDefinition transactionDefinition : page) {
+                                    putTransactionEntries(
+                                            entries,
+                                            transactionDefinition,
+                                            formConfigurations.getOrDefault(
+                                                    transactionDefinition.getKey(), List.of()));
+                                }
+                                return page.hasNext();
+                            });
+
+            writeEntries(zipOut, entries);
+        }
+    }
 
-                            formConfigurationRepository
-                                    .findByTransactionDefinitionKey(transactionDefinition.getKey())
-                                    .forEach(
-                                            formConfiguration -> {
-                                                try {
-                                                    writeObjectToYamlFile(
-                                                            zipOut,
-                                                            TRANSACTIONS_DIR,
-                                                            formConfigurationMapper
-                                                                    .formConfigurationToFormConfigurationExportModel(
-                                                                            formConfiguration),
-                                                            transactionDefinition
-                                                                    .getKey()
-                                                                    .concat("-form-")
-                                                                    .concat(
-                                                                            formConfiguration
-                                                                                    .getKey()));
-                                                } catch (IOException e) {
-                                                    throw new UnexpectedException(e);
-                                                }
-                                            });
-                        });
+    private Map<String, List<FormConfiguration>> getFormConfigurations(
+            Page<TransactionDefinition> transactionDefinitions) {
+        return formConfigurationRepository
+                .findByTransactionDefinitionKeyInOrderByKey(
+                        transactionDefinitions.map(TransactionDefinition::getKey).getContent())
+                .stream()
+                .collect(Collectors.groupingBy(FormConfiguration::getTransactionDefinitionKey));
     }
 
-    private void writeTransactionDefinitionSetFiles(ZipOutputStream zipOut) {
-        transactionDefinitionSetRepository
-                .findAll()
-                .forEach(
-                        transactionDefinitionSet -> {
-                            try {
-                                writeObjectToYamlFile(
-                                        zipOut,
-                                        TRANSACTIONS_SET_DIR,
-                                        transactionDefinitionSetMapper
-                                                .transactionDefinitionSetToExportModel(
-                                                        transactionDefinitionSet),
-                                        transactionDefinitionSet.getKey());
-                            } catch (IOException e) {
-                                throw new UnexpectedException(e);
-                            }
-                        });
+    private void putTransactionEntries(
+            Map<String, Future<byte[]>> entries,
+            TransactionDefinition transactionDefinition,
+            List<FormConfiguration> formConfigurations) {
+        entries.put(
+                yamlFileName(TRANSACTIONS_DIR, transactionDefinition.getKey()),
+                renderYaml(
+                        transactionDefinitionMapper
+                                .transactionDefinitionToTransactionDefinitionExportModel(
+                                        transactionDefinition)));
+
+        for (FormConfiguration formConfiguration : formConfigurations) {
+            entries.put(
+                    yamlFileName(
+                            TRANSACTIONS_DIR,
+                            transactionDefinition
+                                    .getKey()
+                                    .concat("-form-")
+                                    .concat(formConfiguration.getKey())),
+                    renderYaml(
+                            formConfigurationMapper.formConfigurationToFormConfigurationExportModel(
+                                    formConfiguration)));
+        }
     }
 
-    private void writeObjectToYamlFile(
-            ZipOutputStream zipOut, String directoryName, Object object, String schemaKey)
-            throws IOException {
-        zipOut.putNextEntry(new ZipEntry(String.format("%s/%s.yaml", directoryName, schemaKey)));
+    private void writeTransactionDefinitionSetFiles(ZipOutputStream zipOut) throws IOException {
+        boolean hasNext = true;
+        for (int pageNumber = 0; hasNext; pageNumber++) {
+            final PageRequest pageRequest = PageRequest.of(pageNumber, pageSize, Sort.by("key"));
+            final Map<String, Future<byte[]>> entries = new LinkedHashMap<>();
+
+            hasNext =
+                    readOnlyTransactionTemplate.execute(
+                            status -> {
+                                final Page<TransactionDefinitionSet> page =
+                                        transactionDefinitionSetRepository.findAll(pageRequest);
+                                for (TransactionDefinitionSet transactionDefinitionSet : page) {
+                                    entries.put(
+                                            yamlFileName(
+                                                    TRANSACTIONS_SET_DIR,
+                                                    transactionDefinitionSet.getKey()),
+                                            renderYaml(
+                                                    transactionDefinitionSetMapper
+                                                            .transactionDefinitionSetToExportModel(
+                                                                    transactionDefinitionSet)));
+                                }
+                                return page.hasNext();
+                            });
+
+            writeEntries(zipOut, entries);
+        }
+    }
 
-        ObjectMapper yamlMapper =
-                new ObjectMapper(
-                        new YAMLFactory()
-                                .disable(YAMLGenerator.Feature.USE_NATIVE_TYPE_ID)
-                                .disable(YAMLGenerator.Feature.WRITE_DOC_START_MARKER)
-                                .enable(YAMLGenerator.Feature.MINIMIZE_QUOTES)
-                                .enable(YAMLGenerator.Feature.INDENT_ARRAYS));
+    private static String yamlFileName(String directoryName, String key) {
+        return String.format("%s/%s.yaml", directoryName, key);
+    }
 
-        yamlMapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+    /**
+     * Renders an export model as YAML on the configuration executor. Export models are detached
+     * from the persistence context, so they can be rendered after their transaction ended.
+     */
+    private Future<byte[]> renderYaml(Object exportModel) {
+        return configurationExecutor.submit(() -> YAML_MAPPER.writeValueAsBytes(exportModel));
+    }
 
-        String yamlString = yamlMapper.writeValueAsString(object);
-        zipOut.write(yamlString.getBytes(StandardCharsets.UTF_8));
+    /**
+     * Writes rendered entries to the archive, in the order they were added, waiting for each to
+     * be rendered.
+     */
+    private static void writeEntries(ZipOutputStream zipOut, Map<String, Future<byte[]>> entries)
+            throws IOException {
+        for (Map.Entry<String, Future<byte[]>> entry : entries.entrySet()) {
+            final byte[] content;
+            try {
+                content = entry.getValue().get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                entries.values().forEach(future -> future.cancel(true));
+                throw new UnexpectedException(e);
+            } catch (ExecutionException e) {
+                entries.values().forEach(future -> future.cancel(true));
+                if (e.getCause() instanceof IOException ioException) {
+                    throw ioException;
+                }
+                throw new UnexpectedException(e.getCause());
+            }
+
+            zipOut.putNextEntry(new ZipEntry(entry.getKey()));
+            zipOut.write(content);
+            zipOut.closeEntry();
+        }
     }
 
     static String convertYamlToJson(String yaml) throws JsonProcessingException {
@@ -357,11 +498,4 @@ public class ConfigurationUtility {
         ObjectMapper jsonWriter = new ObjectMapper();
         return jsonWriter.writeValueAsString(obj);
     }
-
-    private void writeStringToZip(ZipOutputStream zipOut, String filePath, String content)
-            throws IOException {
-        zipOut.putNextEntry(new ZipEntry(filePath));
-        zipOut.write(content.getBytes(StandardCharsets.UTF_8));
-        zipOut.closeEntry();
-    }
 }
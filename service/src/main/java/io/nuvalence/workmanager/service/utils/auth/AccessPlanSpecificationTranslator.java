@@ -0,0 +1,430 @@
+package io.nuvalence.workmanager.service.utils.auth;
+
+import com.google.protobuf.Value;
+import dev.cerbos.api.v1.engine.Engine.PlanResourcesFilter.Expression;
+import dev.cerbos.api.v1.engine.Engine.PlanResourcesFilter.Expression.Operand;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+import jakarta.persistence.criteria.AbstractQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+
+/**
+ * Translates the condition of a Cerbos PlanResources response into a JPA specification.
+ *
+ * <p>Only resource attributes registered with the builder may appear in the condition. A condition
+ * that references any other attribute, or uses an operator this class does not know, is rejected
+ * with an {@link UnsupportedAccessPlanException} when it is translated, so the caller can fall
+ * back to checking individual rows.</p>
+ *
+ * @param <T> entity type the specification applies to
+ */
+public final class AccessPlanSpecificationTranslator<T> {
+    private static final List<String> RESOURCE_ATTRIBUTE_PREFIXES =
+            List.of("request.resource.attr.", "R.attr.");
+
+    private final Map<String, AttributeMapping> attributes;
+    private final Map<String, CollectionMapping> collections;
+
+    private AccessPlanSpecificationTranslator(
+            final Map<String, AttributeMapping> attributes,
+            final Map<String, CollectionMapping> collections) {
+        this.attributes = attributes;
+        this.collections = collections;
+    }
+
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Translates a plan condition into a specification.
+     *
+     * @param condition condition returned by Cerbos
+     * @return specification matching the resources the condition allows
+     * @throws UnsupportedAccessPlanException if the condition cannot be translated
+     */
+    public Specification<T> translate(final Operand condition) {
+        final PredicateFactory predicateFactory = compile(condition, Collections.emptyMap());
+
+        return (root, query, criteriaBuilder) ->
+                predicateFactory.create(new Context(root, query, criteriaBuilder, Map.of()));
+    }
+
+    private PredicateFactory compile(
+            final Operand operand, final Map<String, CollectionMapping> lambdaVariables) {
+        if (operand.hasValue() && operand.getValue().getKindCase() == Value.KindCase.BOOL_VALUE) {
+            final boolean value = operand.getValue().getBoolValue();
+            return context ->
+                    value
+                            ? context.criteriaBuilder.conjunction()
+                            : context.criteriaBuilder.disjunction();
+        }
+        if (!operand.hasExpression()) {
+            throw new UnsupportedAccessPlanException("Unsupported condition: " + operand);
+        }
+
+        final Expression expression = operand.getExpression();
+        return switch (expression.getOperator()) {
+            case "and" -> compileJunction(expression, lambdaVariables, true);
+            case "or" -> compileJunction(expression, lambdaVariables, false);
+            case "not" -> compileNot(expression, lambdaVariables);
+            case "eq" -> compileComparison(expression, lambdaVariables, true);
+            case "ne" -> compileComparison(expression, lambdaVariables, false);
+            case "in" -> compileIn(expression, lambdaVariables);
+            case "exists" -> compileExists(expression, lambdaVariables);
+            default -> throw new UnsupportedAccessPlanException(
+                    "Unsupported operator: " + expression.getOperator());
+        };
+    }
+
+    private PredicateFactory compileJunction(
+            final Expression expression,
+            final Map<String, CollectionMapping> lambdaVariables,
+            final boolean conjunction) {
+        final List<PredicateFactory> operands = new ArrayList<>();
+        for (Operand operand : expression.getOperandsList()) {
+            operands.add(compile(operand, lambdaVariables));
+        }
+
+        return context -> {
+            final Predicate[] predicates =
+                    operands.stream()
+                            .map(operand -> operand.create(context))
+                            .toArray(Predicate[]::new);
+            return conjunction
+                    ? context.criteriaBuilder.and(predicates)
+                    : context.criteriaBuilder.or(predicates);
+        };
+    }
+
+    private PredicateFactory compileNot(
+            final Expression expression, final Map<String, CollectionMapping> lambdaVariables) {
+        requireOperandCount(expression, 1);
+        final PredicateFactory operand = compile(expression.getOperands(0), lambdaVariables);
+
+        return context -> context.criteriaBuilder.not(operand.create(context));
+    }
+
+    private PredicateFactory compileComparison(
+            final Expression expression,
+            final Map<String, CollectionMapping> lambdaVariables,
+            final boolean equal) {
+        requireOperandCount(expression, 2);
+        final Operand variable = findOperand(expression, Operand::hasVariable);
+        final Operand value = findOperand(expression, Operand::hasValue);
+        final AttributeReference attribute =
+                resolveAttribute(variable.getVariable(), lambdaVariables);
+        final Object converted = attribute.convert(toJavaValue(value.getValue()));
+
+        return context -> {
+            final Path<Object> path = attribute.getPath(context);
+            if (converted == null) {
+                return equal
+                        ? context.criteriaBuilder.isNull(path)
+                        : context.criteriaBuilder.isNotNull(path);
+            }
+
+            return equal
+                    ? context.criteriaBuilder.equal(path, converted)
+                    : context.criteriaBuilder.notEqual(path, converted);
+        };
+    }
+
+    private PredicateFactory compileIn(
+            final Expression expression, final Map<String, CollectionMapping> lambdaVariables) {
+        requireOperandCount(expression, 2);
+        final Operand variable = findOperand(expression, Operand::hasVariable);
+        final Operand value = findOperand(expression, Operand::hasValue);
+        final AttributeReference attribute =
+                resolveAttribute(variable.getVariable(), lambdaVariables);
+        if (!(toJavaValue(value.getValue()) instanceof List<?> values)) {
+            throw new UnsupportedAccessPlanException("Expected a list for 'in': " + expression);
+        }
+
+        final List<Object> converted = values.stream().map(attribute::convert).toList();
+        return context ->
+                converted.isEmpty()
+                        ? context.criteriaBuilder.disjunction()
+                        : attribute.getPath(context).in(converted);
+    }
+
+    private PredicateFactory compileExists(
+            final Expression expression, final Map<String, CollectionMapping> lambdaVariables) {
+        requireOperandCount(expression, 2);
+        final String collectionAttribute = toResourceAttributeName(expression.getOperands(0));
+        final CollectionMapping collection =
+                collectionAttribute == null ? null : collections.get(collectionAttribute);
+        final Operand lambdaOperand = expression.getOperands(1);
+        if (collection == null
+                || !lambdaOperand.hasExpression()
+                || !"lambda".equals(lambdaOperand.getExpression().getOperator())) {
+            throw new UnsupportedAccessPlanException("Unsupported 'exists': " + expression);
+        }
+
+        final Expression lambda = lambdaOperand.getExpression();
+        requireOperandCount(lambda, 2);
+        if (!lambda.getOperands(1).hasVariable()) {
+            throw new UnsupportedAccessPlanException("Unsupported lambda: " + lambda);
+        }
+
+        final String variableName = lambda.getOperands(1).getVariable();
+        final Map<String, CollectionMapping> scope = new HashMap<>(lambdaVariables);
+        scope.put(variableName, collection);
+        final PredicateFactory body = compile(lambda.getOperands(0), scope);
+
+        return context -> {
+            // a correlated subquery keeps the outer query free of duplicate rows
+            final Subquery<Integer> subquery = context.query.subquery(Integer.class);
+            final Root<?> correlatedRoot = subquery.correlate(context.root);
+            final From<?, ?> element = correlatedRoot.join(collection.getAssociation());
+            subquery.select(context.criteriaBuilder.literal(1))
+                    .where(body.create(context.withLambdaVariable(variableName, element)));
+
+            return context.criteriaBuilder.exists(subquery);
+        };
+    }
+
+    private AttributeReference resolveAttribute(
+            final String variable, final Map<String, CollectionMapping> lambdaVariables) {
+        final String resourceAttribute = stripResourceAttributePrefix(variable);
+        if (resourceAttribute != null) {
+            final AttributeMapping mapping = attributes.get(resourceAttribute);
+            if (mapping == null) {
+                throw new UnsupportedAccessPlanException("Unmapped attribute: " + variable);
+            }
+            return new AttributeReference(null, mapping);
+        }
+
+        final int separator = variable.indexOf('.');
+        if (separator > 0) {
+            final String variableName = variable.substring(0, separator);
+            final CollectionMapping collection = lambdaVariables.get(variableName);
+            final AttributeMapping mapping =
+                    collection == null
+                            ? null
+                            : collection.getElementAttributes().get(
+                                    variable.substring(separator + 1));
+            if (mapping != null) {
+                return new AttributeReference(variableName, mapping);
+            }
+        }
+
+        throw new UnsupportedAccessPlanException("Unmapped attribute: " + variable);
+    }
+
+    private static String toResourceAttributeName(final Operand operand) {
+        return operand.hasVariable() ? stripResourceAttributePrefix(operand.getVariable()) : null;
+    }
+
+    private static String stripResourceAttributePrefix(final String variable) {
+        for (String prefix : RESOURCE_ATTRIBUTE_PREFIXES) {
+            if (variable.startsWith(prefix)) {
+                return variable.substring(prefix.length());
+            }
+        }
+
+        return null;
+    }
+
+    private static Operand findOperand(
+            final Expression expression, final java.util.function.Predicate<Operand> matcher) {
+        return expression.getOperandsList().stream()
+                .filter(matcher)
+                .findFirst()
+                .orElseThrow(
+                        () ->
+                                new UnsupportedAccessPlanException(
+                                        "Unsupported operands for '"
+                                                + expression.getOperator()
+                                                + "': "
+                                                + expression));
+    }
+
+    private static void requireOperandCount(final Expression expression, final int count) {
+        if (expression.getOperandsCount() != count) {
+            throw new UnsupportedAccessPlanException(
+                    "Expected " + count + " operands for '" + expression.getOperator() + "'");
+        }
+    }
+
+    private static Object toJavaValue(final Value value) {
+        return switch (value.getKindCase()) {
+            case NULL_VALUE -> null;
+            case BOOL_VALUE -> value.getBoolValue();
+            case NUMBER_VALUE -> value.getNumberValue();
+            case STRING_VALUE -> value.getStringValue();
+            case LIST_VALUE -> value.getListValue().getValuesList().stream()
+                    .map(AccessPlanSpecificationTranslator::toJavaValue)
+                    .toList();
+            default -> throw new UnsupportedAccessPlanException("Unsupported value: " + value);
+        };
+    }
+
+    /**
+     * Builder for AccessPlanSpecificationTranslator.
+     *
+     * @param <T> entity type the specification applies to
+     */
+    public static final class Builder<T> {
+        private final Map<String, AttributeMapping> attributes = new HashMap<>();
+        private final Map<String, CollectionMapping> collections = new HashMap<>();
+
+        private Builder() {}
+
+        /**
+         * Maps a resource attribute to an entity attribute.
+         *
+         * @param resourceAttribute attribute name as sent to Cerbos
+         * @param entityAttribute JPA attribute name on the entity
+         * @param converter converts plan values to the entity attribute's type
+         * @return this builder
+         */
+        public Builder<T> attribute(
+                final String resourceAttribute,
+                final String entityAttribute,
+                final Function<Object, Object> converter) {
+            attributes.put(resourceAttribute, new AttributeMapping(entityAttribute, converter));
+            return this;
+        }
+
+        /**
+         * Maps a list-valued resource attribute to an entity association, so that conditions such
+         * as {@code exists} over the list can be expressed as a subquery.
+         *
+         * @param resourceAttribute attribute name as sent to Cerbos
+         * @param association JPA association name on the entity
+         * @param elementAttributes mapping of element attributes to attributes of the associated
+         *     entity
+         * @return this builder
+         */
+        public Builder<T> collection(
+                final String resourceAttribute,
+                final String association,
+                final Map<String, AttributeMapping> elementAttributes) {
+            collections.put(
+                    resourceAttribute, new CollectionMapping(association, elementAttributes));
+            return this;
+        }
+
+        public AccessPlanSpecificationTranslator<T> build() {
+            return new AccessPlanSpecificationTranslator<>(
+                    Map.copyOf(attributes), Map.copyOf(collections));
+        }
+    }
+
+    /**
+     * Mapping of a resource attribute to an entity attribute.
+     */
+    public static final class AttributeMapping {
+        private final String entityAttribute;
+        private final Function<Object, Object> converter;
+
+        /**
+         * Constructs a new AttributeMapping.
+         *
+         * @param entityAttribute JPA attribute name on the entity
+         * @param converter converts plan values to the entity attribute's type
+         */
+        public AttributeMapping(
+                final String entityAttribute, final Function<Object, Object> converter) {
+            this.entityAttribute = Objects.requireNonNull(entityAttribute);
+            this.converter = Objects.requireNonNull(converter);
+        }
+
+        Object convert(final Object value) {
+            if (value == null) {
+                return null;
+            }
+
+            try {
+                return converter.apply(value);
+            } catch (IllegalArgumentException e) {
+                throw new UnsupportedAccessPlanException(
+                        "Cannot convert value for " + entityAttribute + ": " + value);
+            }
+        }
+    }
+
+    private static final class CollectionMapping {
+        private final String association;
+        private final Map<String, AttributeMapping> elementAttributes;
+
+        CollectionMapping(
+                final String association, final Map<String, AttributeMapping> elementAttributes) {
+            this.association = association;
+            this.elementAttributes = Map.copyOf(elementAttributes);
+        }
+
+        String getAssociation() {
+            return association;
+        }
+
+        Map<String, AttributeMapping> getElementAttributes() {
+            return elementAttributes;
+        }
+    }
+
+    private static final class AttributeReference {
+        private final String lambdaVariable;
+        private final AttributeMapping mapping;
+
+        AttributeReference(final String lambdaVariable, final AttributeMapping mapping) {
+            this.lambdaVariable = lambdaVariable;
+            this.mapping = mapping;
+        }
+
+        Object convert(final Object value) {
+            return mapping.convert(value);
+        }
+
+        Path<Object> getPath(final Context context) {
+            final From<?, ?> from =
+                    lambdaVariable == null
+                            ? context.root
+                            : context.lambdaVariables.get(lambdaVariable);
+            return from.get(mapping.entityAttribute);
+        }
+    }
+
+    private static final class Context {
+        private final Root<?> root;
+        private final AbstractQuery<?> query;
+        private final CriteriaBuilder criteriaBuilder;
+        private final Map<String, From<?, ?>> lambdaVariables;
+
+        Context(
+                final Root<?> root,
+                final AbstractQuery<?> query,
+                final CriteriaBuilder criteriaBuilder,
+                final Map<String, From<?, ?>> lambdaVariables) {
+            this.root = root;
+            this.query = query;
+            this.criteriaBuilder = criteriaBuilder;
+            this.lambdaVariables = lambdaVariables;
+        }
+
+        Context withLambdaVariable(final String name, final From<?, ?> from) {
+            final Map<String, From<?, ?>> variables = new HashMap<>(lambdaVariables);
+            variables.put(name, from);
+            return new Context(root, query, criteriaBuilder, variables);
+        }
+    }
+
+    @FunctionalInterface
+    private interface PredicateFactory {
+        Predicate create(Context context);
+    }
+}
@@ -0,0 +1,95 @@
+package io.nuvalence.workmanager.service.utils.auth;
+
+import dev.cerbos.sdk.PlanResourcesResult;
+import io.nuvalence.auth.access.AccessResource;
+import io.nuvalence.auth.access.AuthorizationHandler;
+import io.nuvalence.workmanager.service.config.CerbosBatchAuthorizer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Filters lists of resources down to the ones the current user may act on.
+ *
+ * <p>When Cerbos is configured the whole list is checked with one batched request, and searches
+ * can be restricted up front with a specification derived from a Cerbos query plan; otherwise
+ * each resource is checked individually with the {@link AuthorizationHandler}.</p>
+ */
+@Slf4j
+@Component
+public class BatchAuthorizationHandler {
+    private final AuthorizationHandler authorizationHandler;
+    private final ObjectProvider<CerbosBatchAuthorizer> batchAuthorizer;
+
+    public BatchAuthorizationHandler(
+            final AuthorizationHandler authorizationHandler,
+            final ObjectProvider<CerbosBatchAuthorizer> batchAuthorizer) {
+        this.authorizationHandler = authorizationHandler;
+        this.batchAuthorizer = batchAuthorizer;
+    }
+
+    /**
+     * Returns the resources the current user may perform the given action on, preserving order.
+     *
+     * @param action action to check
+     * @param resources resources to check
+     * @param <T> resource type
+     * @return allowed resources
+     */
+    public <T> List<T> filterAllowed(final String action, final List<T> resources) {
+        final CerbosBatchAuthorizer authorizer = batchAuthorizer.getIfAvailable();
+        if (authorizer != null) {
+            return authorizer.filterAllowed(action, resources);
+        }
+
+        return resources.stream()
+                .filter(resource -> authorizationHandler.isAllowedForInstance(action, resource))
+                .toList();
+    }
+
+    /**
+     * Builds a specification restricting a query to the resources the current user may perform the
+     * given action on.
+     *
+     * @param action action to check
+     * @param type entity type, annotated with {@link AccessResource}
+     * @param translator translator from the query plan to entity attributes
+     * @param <T> entity type
+     * @return specification, or empty if access cannot be expressed as a query and results must be
+     *     filtered with {@link #filterAllowed(String, List)} instead
+     */
+    public <T> Optional<Specification<T>> getAccessSpecification(
+            final String action,
+            final Class<T> type,
+            final AccessPlanSpecificationTranslator<T> translator) {
+        final CerbosBatchAuthorizer authorizer = batchAuthorizer.getIfAvailable();
+        final AccessResource accessResource = type.getAnnotation(AccessResource.class);
+        if (authorizer == null || accessResource == null) {
+            return Optional.empty();
+        }
+
+        final Optional<PlanResourcesResult> plan =
+                authorizer.planResources(accessResource.value(), action);
+        if (plan.isEmpty() || plan.get().isAlwaysDenied()) {
+            return Optional.of((root, query, criteriaBuilder) -> criteriaBuilder.disjunction());
+        }
+        if (plan.get().isAlwaysAllowed()) {
+            return Optional.of((root, query, criteriaBuilder) -> criteriaBuilder.conjunction());
+        }
+
+        try {
+            return plan.get().getCondition().map(translator::translate);
+        } catch (UnsupportedAccessPlanException e) {
+            log.debug(
+                    "Falling back to per-row checks for {} {}: {}",
+                    action,
+                    accessResource.value(),
+                    e.getMessage());
+            return Optional.empty();
+        }
+    }
+}
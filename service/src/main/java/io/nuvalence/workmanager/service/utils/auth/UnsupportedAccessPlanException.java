@@ -0,0 +1,12 @@
+package io.nuvalence.workmanager.service.utils.auth;
+
+/**
+ * Failure indicating that an access plan condition cannot be expressed as a database query.
+ */
+public class UnsupportedAccessPlanException extends RuntimeException {
+    private static final long serialVersionUID = 2716302864523140498L;
+
+    public UnsupportedAccessPlanException(String message) {
+        super(message);
+    }
+}
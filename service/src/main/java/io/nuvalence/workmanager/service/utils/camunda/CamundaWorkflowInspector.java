@@ -48,7 +48,13 @@ public class CamundaWorkflowInspector {
                     .build();
 
     private final BpmnModelInstance modelInstance;
-    private final Map<String, UserTask> userTasks;
+    private final Map<FlowNode, Lane> lanes;
+
+    // computed once per user task, as the model of a deployed process definition never changes
+    private final Map<String, WorkflowTask> workflowTasks;
+    private final Map<String, List<String>> allowedUserTypes;
+    private final Map<String, String> allowedActions;
+    private final List<WorkflowTask> firstTasks;
 
     /**
      * Creates a new inspector for the given model instance.
@@ -57,10 +63,27 @@ public class CamundaWorkflowInspector {
      */
     public CamundaWorkflowInspector(BpmnModelInstance modelInstance) {
         this.modelInstance = modelInstance;
-        this.userTasks = new HashMap<>();
-        modelInstance
-                .getModelElementsByType(UserTask.class)
-                .forEach(userTask -> userTasks.put(userTask.getId(), userTask));
+        this.lanes = new HashMap<>();
+        for (Lane lane : modelInstance.getModelElementsByType(Lane.class)) {
+            lane.getFlowNodeRefs().forEach(flowNode -> lanes.putIfAbsent(flowNode, lane));
+        }
+
+        this.workflowTasks = new HashMap<>();
+        this.allowedUserTypes = new HashMap<>();
+        this.allowedActions = new HashMap<>();
+        for (UserTask userTask : modelInstance.getModelElementsByType(UserTask.class)) {
+            final String taskKey = userTask.getId();
+            workflowTasks.put(taskKey, toWorkflowTask(userTask));
+            allowedUserTypes.put(
+                    taskKey,
+                    findPropertyInHierarchy(userTask, ALLOWED_USER_TYPES_EXTENSION_PROPERTY)
+                            .map(this::convertToList)
+                            .orElse(DEFAULT_ALLOWED_USER_TYPES));
+            findPropertyInHierarchy(userTask, ALLOWED_ACTION_EXTENSION_PROPERTY)
+                    .ifPresent(action -> allowedActions.put(taskKey, action));
+        }
+
+        this.firstTasks = findWorkflowFirstTasks();
     }
 
     /**
@@ -70,16 +93,7 @@ public class CamundaWorkflowInspector {
      * @return workflow task
      */
     public WorkflowTask getWorkflowTask(String taskKey) {
-        UserTask userTask = userTasks.get(taskKey);
-        if (userTask == null) {
-            return null;
-        }
-
-        return WorkflowTask.builder()
-                .key(userTask.getId())
-                .name(userTask.getName())
-                .actions(getActionsForTask(userTask))
-                .build();
+        return workflowTasks.get(taskKey);
     }
 
     /**
@@ -88,28 +102,32 @@ public class CamundaWorkflowInspector {
      * @return list of first tasks
      */
     public List<WorkflowTask> getWorkflowFirstTasks() {
+        return firstTasks;
+    }
+
+    private List<WorkflowTask> findWorkflowFirstTasks() {
 
         Collection<StartEvent> startEvents = modelInstance.getModelElementsByType(StartEvent.class);
 
-        List<UserTask> firstTasks = new ArrayList<>();
+        List<UserTask> firstUserTasks = new ArrayList<>();
 
         for (StartEvent startEvent : startEvents) {
-            findFirstUserTasks(startEvent, firstTasks, new AtomicBoolean(false));
+            findFirstUserTasks(startEvent, firstUserTasks, new AtomicBoolean(false));
         }
 
-        return firstTasks.stream()
-                .map(
-                        userTask -> {
-                            String id = userTask.getId();
-                            return WorkflowTask.builder()
-                                    .key(id)
-                                    .name(userTask.getName())
-                                    .actions(getActionsForTask(userTask))
-                                    .build();
-                        })
+        return firstUserTasks.stream()
+                .map(userTask -> workflowTasks.get(userTask.getId()))
                 .toList();
     }
 
+    private WorkflowTask toWorkflowTask(UserTask userTask) {
+        return WorkflowTask.builder()
+                .key(userTask.getId())
+                .name(userTask.getName())
+                .actions(getActionsForTask(userTask))
+                .build();
+    }
+
     private void findFirstUserTasks(
             FlowNode flowNode, List<UserTask> tasksCollector, AtomicBoolean reachesEndEvent) {
 
@@ -166,25 +184,43 @@ public class CamundaWorkflowInspector {
             final String taskKey,
             final AuthorizationHandler authorizationHandler,
             final Object subject) {
-        final UserTask userTask = userTasks.get(taskKey);
-        if (userTask == null) {
+        if (!workflowTasks.containsKey(taskKey)) {
             return false;
         }
 
-        final List<String> allowedUserTypes =
-                findPropertyInHierarchy(userTask, ALLOWED_USER_TYPES_EXTENSION_PROPERTY)
-                        .map(this::convertToList)
-                        .orElse(DEFAULT_ALLOWED_USER_TYPES);
         final boolean passesAccessCheck =
-                findPropertyInHierarchy(userTask, ALLOWED_ACTION_EXTENSION_PROPERTY)
+                getAllowedAction(taskKey)
                         .map(action -> authorizationHandler.isAllowedForInstance(action, subject))
                         .orElse(true);
 
-        return allowedUserTypes.contains(
-                        CurrentUserUtility.getCurrentUser()
-                                .map(UserToken::getUserType)
-                                .orElse("unknown"))
-                && passesAccessCheck;
+        return isCurrentUserTypeAllowed(taskKey) && passesAccessCheck;
+    }
+
+    /**
+     * Returns true if the type of the current user may access the task, regardless of the subject.
+     *
+     * @param taskKey Key of task to check
+     * @return true if the task exists and allows the current user type
+     */
+    public boolean isCurrentUserTypeAllowed(final String taskKey) {
+        final List<String> taskAllowedUserTypes = allowedUserTypes.get(taskKey);
+        if (taskAllowedUserTypes == null) {
+            return false;
+        }
+
+        return taskAllowedUserTypes.contains(
+                CurrentUserUtility.getCurrentUser().map(UserToken::getUserType).orElse("unknown"));
+    }
+
+    /**
+     * Gets the action the current user must be allowed to perform on the subject to access the
+     * task.
+     *
+     * @param taskKey Key of task to check
+     * @return action, or empty if the task does not restrict access by action
+     */
+    public Optional<String> getAllowedAction(final String taskKey) {
+        return Optional.ofNullable(allowedActions.get(taskKey));
     }
 
     private List<WorkflowAction> getActionsForTask(UserTask task) {
@@ -260,12 +296,8 @@ public class CamundaWorkflowInspector {
     private BaseElement getParentElement(BaseElement element) {
         // If element is in a swim lane get the lane (which is not the direct parent element in the
         // BPMN XML).
-        if (element instanceof FlowNode) {
-            for (Lane lane : modelInstance.getModelElementsByType(Lane.class)) {
-                if (lane.getFlowNodeRefs().contains(element)) {
-                    return lane;
-                }
-            }
+        if (element instanceof FlowNode flowNode && lanes.containsKey(flowNode)) {
+            return lanes.get(flowNode);
         }
 
         return element.getParentElement() instanceof BaseElement baseElement ? baseElement : null;
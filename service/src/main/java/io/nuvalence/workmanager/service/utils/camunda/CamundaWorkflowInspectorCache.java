@@ -1,5 +1,6 @@
 package io.nuvalence.workmanager.service.utils.camunda;
 
+import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
@@ -12,17 +13,35 @@ import org.camunda.bpm.engine.repository.ProcessDefinition;
 import org.camunda.bpm.engine.runtime.ProcessInstance;
 import org.camunda.bpm.model.bpmn.Bpmn;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.time.Duration;
 import java.util.Optional;
 
 /**
  * Cache to store workflow inspectors.
+ *
+ * <p>Inspectors are keyed by process definition ID, which never changes once deployed. The latest
+ * process definition of each key and the process definition of each process instance are cached
+ * as well. The former is invalidated when a new version of the process definition is deployed on
+ * this node, and expires shortly for deployments on other nodes; the latter only changes when a
+ * process instance is migrated, and expires after a while.</p>
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class CamundaWorkflowInspectorCache {
     private final ProcessEngine processEngine;
+    private final Cache<String, String> latestProcessDefinitionIds =
+            CacheBuilder.newBuilder()
+                    .maximumSize(1000)
+                    .expireAfterWrite(Duration.ofMinutes(1))
+                    .build();
+    private final Cache<String, String> processInstanceDefinitionIds =
+            CacheBuilder.newBuilder()
+                    .maximumSize(10000)
+                    .expireAfterWrite(Duration.ofMinutes(10))
+                    .build();
     private final LoadingCache<String, CamundaWorkflowInspector> cache =
             CacheBuilder.newBuilder()
                     .maximumSize(1000)
@@ -70,21 +89,12 @@ public class CamundaWorkflowInspectorCache {
      * @return workflow inspector
      */
     public CamundaWorkflowInspector getByProcessInstanceId(String processInstanceId) {
-        final String processDefinitionId =
-                getProcessInstance(processInstanceId)
-                        .map(ProcessInstance::getProcessDefinitionId)
-                        .or(
-                                () ->
-                                        getHistoricProcessInstance(processInstanceId)
-                                                .map(
-                                                        HistoricProcessInstance
-                                                                ::getProcessDefinitionId))
-                        .orElseThrow(
-                                () ->
-                                        new RuntimeException(
-                                                "No process definition found for process instance"
-                                                        + " ID: "
-                                                        + processInstanceId));
+        String processDefinitionId = processInstanceDefinitionIds.getIfPresent(processInstanceId);
+        if (processDefinitionId == null) {
+            processDefinitionId = findProcessInstanceDefinitionId(processInstanceId);
+            processInstanceDefinitionIds.put(processInstanceId, processDefinitionId);
+        }
+
         return getByProcessDefinitionId(processDefinitionId);
     }
 
@@ -95,25 +105,56 @@ public class CamundaWorkflowInspectorCache {
      * @return workflow inspector
      */
     public CamundaWorkflowInspector getByProcessDefinitionKey(String processDefinitionKey) {
-        final String processDefinitionId =
-                Optional.ofNullable(
-                                processEngine
-                                        .getRepositoryService()
-                                        .createProcessDefinitionQuery()
-                                        .processDefinitionKey(processDefinitionKey)
-                                        .latestVersion()
-                                        .singleResult())
-                        .map(ProcessDefinition::getId)
-                        .orElseThrow(
-                                () ->
-                                        new RuntimeException(
-                                                "No process definition found for process definition"
-                                                        + " key: "
-                                                        + processDefinitionKey));
+        String processDefinitionId = latestProcessDefinitionIds.getIfPresent(processDefinitionKey);
+        if (processDefinitionId == null) {
+            processDefinitionId = findLatestProcessDefinitionId(processDefinitionKey);
+            latestProcessDefinitionIds.put(processDefinitionKey, processDefinitionId);
+        }
 
         return getByProcessDefinitionId(processDefinitionId);
     }
 
+    /**
+     * Forgets the latest process definition of a key once a new version of it has been deployed.
+     *
+     * @param event deployment of the process definition
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProcessDefinitionDeployed(ProcessDefinitionDeployedEvent event) {
+        log.debug("Process definition deployed for key: {}", event.getProcessDefinitionKey());
+        latestProcessDefinitionIds.invalidate(event.getProcessDefinitionKey());
+    }
+
+    private String findProcessInstanceDefinitionId(String processInstanceId) {
+        return getProcessInstance(processInstanceId)
+                .map(ProcessInstance::getProcessDefinitionId)
+                .or(
+                        () ->
+                                getHistoricProcessInstance(processInstanceId)
+                                        .map(HistoricProcessInstance::getProcessDefinitionId))
+                .orElseThrow(
+                        () ->
+                                new RuntimeException(
+                                        "No process definition found for process instance ID: "
+                                                + processInstanceId));
+    }
+
+    private String findLatestProcessDefinitionId(String processDefinitionKey) {
+        return Optional.ofNullable(
+                        processEngine
+                                .getRepositoryService()
+                                .createProcessDefinitionQuery()
+                                .processDefinitionKey(processDefinitionKey)
+                                .latestVersion()
+                                .singleResult())
+                .map(ProcessDefinition::getId)
+                .orElseThrow(
+                        () ->
+                                new RuntimeException(
+                                        "No process definition found for process definition key: "
+                                                + processDefinitionKey));
+    }
+
     private Optional<ProcessInstance> getProcessInstance(String processInstanceId) {
         return Optional.ofNullable(
                 processEngine
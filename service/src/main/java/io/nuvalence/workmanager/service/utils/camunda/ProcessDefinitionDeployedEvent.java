@@ -0,0 +1,11 @@
+package io.nuvalence.workmanager.service.utils.camunda;
+
+import lombok.Value;
+
+/**
+ * Application event published when a process definition is deployed on this node.
+ */
+@Value
+public class ProcessDefinitionDeployedEvent {
+    String processDefinitionKey;
+}
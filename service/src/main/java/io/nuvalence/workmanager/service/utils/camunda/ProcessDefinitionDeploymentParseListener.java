@@ -0,0 +1,26 @@
+package io.nuvalence.workmanager.service.utils.camunda;
+
+import lombok.RequiredArgsConstructor;
+import org.camunda.bpm.engine.impl.bpmn.parser.AbstractBpmnParseListener;
+import org.camunda.bpm.engine.impl.bpmn.parser.BpmnParseListener;
+import org.camunda.bpm.engine.impl.persistence.entity.ProcessDefinitionEntity;
+import org.camunda.bpm.engine.impl.util.xml.Element;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * BpmnParseListener publishing a ProcessDefinitionDeployedEvent for each parsed process
+ * definition. Process definitions are parsed when they are deployed, and when the process engine
+ * reloads them, which only results in a spurious event.
+ */
+@RequiredArgsConstructor
+public class ProcessDefinitionDeploymentParseListener extends AbstractBpmnParseListener
+        implements BpmnParseListener {
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    @Override
+    public void parseProcess(Element processElement, ProcessDefinitionEntity processDefinition) {
+        super.parseProcess(processElement, processDefinition);
+        applicationEventPublisher.publishEvent(
+                new ProcessDefinitionDeployedEvent(processDefinition.getKey()));
+    }
+}
@@ -0,0 +1,42 @@
+package io.nuvalence.workmanager.service.utils.camunda;
+
+import io.nuvalence.workmanager.service.service.TransactionCompletionRecorder;
+import lombok.RequiredArgsConstructor;
+import org.camunda.bpm.engine.history.HistoricProcessInstance;
+import org.camunda.bpm.engine.impl.history.event.HistoricProcessInstanceEventEntity;
+import org.camunda.bpm.engine.impl.history.event.HistoryEvent;
+import org.camunda.bpm.engine.impl.history.event.HistoryEventTypes;
+import org.camunda.bpm.engine.impl.history.handler.HistoryEventHandler;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * HistoryEventHandler recording the completion of process instances, so that their transactions
+ * are marked as completed without waiting for the TransactionCompletedUpdaterJob.
+ */
+@Component
+@RequiredArgsConstructor
+@Profile("!test")
+public class TransactionCompletionHistoryEventHandler implements HistoryEventHandler {
+
+    private final TransactionCompletionRecorder transactionCompletionRecorder;
+
+    @Override
+    public void handleEvent(HistoryEvent historyEvent) {
+        if (historyEvent instanceof HistoricProcessInstanceEventEntity processInstanceEvent
+                && historyEvent.isEventOfType(HistoryEventTypes.PROCESS_INSTANCE_END)
+                && HistoricProcessInstance.STATE_COMPLETED.equals(
+                        processInstanceEvent.getState())) {
+            transactionCompletionRecorder.recordCompletion(
+                    processInstanceEvent.getProcessInstanceId(),
+                    processInstanceEvent.getEndTime());
+        }
+    }
+
+    @Override
+    public void handleEvents(List<HistoryEvent> historyEvents) {
+        historyEvents.forEach(this::handleEvent);
+    }
+}
@@ -0,0 +1,45 @@
+package io.nuvalence.workmanager.service.utils.camunda;
+
+import lombok.RequiredArgsConstructor;
+import org.camunda.bpm.engine.ProcessEngine;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.cfg.ProcessEnginePlugin;
+import org.camunda.bpm.engine.impl.history.handler.HistoryEventHandler;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ProcessEnginePlugin for attaching the TransactionCompletionHistoryEventHandler to the Camunda
+ * process engine, next to the default database history event handler.
+ */
+@Component
+@RequiredArgsConstructor
+@Profile("!test")
+public class TransactionCompletionProcessEnginePlugin implements ProcessEnginePlugin {
+
+    private final TransactionCompletionHistoryEventHandler historyEventHandler;
+
+    @Override
+    public void preInit(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        List<HistoryEventHandler> historyEventHandlers =
+                processEngineConfiguration.getCustomHistoryEventHandlers();
+        if (historyEventHandlers == null) {
+            historyEventHandlers = new ArrayList<>();
+            processEngineConfiguration.setCustomHistoryEventHandlers(historyEventHandlers);
+        }
+        historyEventHandlers.add(historyEventHandler);
+    }
+
+    @Override
+    public void postInit(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        // in this case only preInit is necessary
+    }
+
+    @Override
+    public void postProcessEngineBuild(ProcessEngine processEngine) {
+        // in this case only preInit is necessary
+    }
+}
@@ -0,0 +1,140 @@
+package io.nuvalence.workmanager.service.utils.camunda;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.camunda.bpm.engine.ProcessEngine;
+import org.camunda.bpm.engine.repository.ProcessDefinition;
+import org.camunda.bpm.model.bpmn.Bpmn;
+import org.camunda.bpm.model.bpmn.BpmnModelInstance;
+import org.camunda.bpm.model.bpmn.instance.camunda.CamundaProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Cache of the statuses declared as Camunda extension properties in each process definition.
+ *
+ * <p>Entries are keyed by process definition ID. A deployed process definition never changes, and
+ * a new deployment gets a new ID, so entries never need to be invalidated.</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class WorkflowStatusCache {
+    private static final String PUBLIC_STATUS_PROPERTY = "publicStatus";
+    private static final String INTERNAL_STATUS_PROPERTY = "status";
+
+    private final ProcessEngine processEngine;
+    private final LoadingCache<String, WorkflowStatuses> cache =
+            CacheBuilder.newBuilder()
+                    .maximumSize(1000)
+                    .build(
+                            new CacheLoader<>() {
+                                @Override
+                                public @NonNull WorkflowStatuses load(
+                                        @NonNull String processDefinitionId) {
+                                    log.debug(
+                                            "Loading workflow statuses for process definition ID:"
+                                                    + " {}",
+                                            processDefinitionId);
+                                    return readStatuses(processDefinitionId);
+                                }
+                            });
+
+    /**
+     * Gets the statuses declared in a process definition.
+     *
+     * @param processDefinition process definition
+     * @return statuses, or empty if the process definition model could not be read
+     */
+    public Optional<WorkflowStatuses> getStatuses(ProcessDefinition processDefinition) {
+        try {
+            return Optional.of(cache.getUnchecked(processDefinition.getId()));
+        } catch (UncheckedExecutionException e) {
+            log.warn(
+                    "error parsing bpmn file {} for workflow statuses",
+                    processDefinition.getResourceName(),
+                    e.getCause());
+            return Optional.empty();
+        }
+    }
+
+    private WorkflowStatuses readStatuses(String processDefinitionId) {
+        final ProcessDefinition processDefinition =
+                processEngine.getRepositoryService().getProcessDefinition(processDefinitionId);
+        final BpmnModelInstance modelInstance;
+        try (InputStream resource =
+                processEngine
+                        .getRepositoryService()
+                        .getResourceAsStream(
+                                processDefinition.getDeploymentId(),
+                                processDefinition.getResourceName())) {
+            modelInstance = Bpmn.readModelFromStream(resource);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        final LinkedHashSet<String> publicStatuses = new LinkedHashSet<>();
+        final LinkedHashSet<String> internalStatuses = new LinkedHashSet<>();
+        final Map<String, List<String>> publicToInternalStatuses = new HashMap<>();
+        for (CamundaProperty property :
+                modelInstance.getModelElementsByType(CamundaProperty.class)) {
+            final String name = property.getAttributeValue("name");
+            if (property.getCamundaValue() == null) {
+                continue;
+            }
+            if (INTERNAL_STATUS_PROPERTY.equals(name)) {
+                internalStatuses.add(property.getCamundaValue());
+            } else if (PUBLIC_STATUS_PROPERTY.equals(name)) {
+                publicStatuses.add(property.getCamundaValue());
+                property.getParentElement().getChildElementsByType(CamundaProperty.class).stream()
+                        .filter(p -> INTERNAL_STATUS_PROPERTY.equals(p.getAttributeValue("name")))
+                        .filter(p -> p.getCamundaValue() != null)
+                        .findFirst()
+                        .ifPresent(
+                                internal ->
+                                        publicToInternalStatuses
+                                                .computeIfAbsent(
+                                                        property.getCamundaValue(),
+                                                        k -> new ArrayList<>())
+                                                .add(internal.getCamundaValue()));
+            }
+        }
+
+        final Map<String, List<String>> immutableStatusMap = new HashMap<>();
+        publicToInternalStatuses.forEach((k, v) -> immutableStatusMap.put(k, List.copyOf(v)));
+        return new WorkflowStatuses(
+                List.copyOf(publicStatuses),
+                List.copyOf(internalStatuses),
+                Map.copyOf(immutableStatusMap));
+    }
+
+    /**
+     * Statuses declared in a process definition.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class WorkflowStatuses {
+        /** Distinct public statuses, in declaration order. */
+        private final List<String> publicStatuses;
+        /** Distinct internal statuses, in declaration order. */
+        private final List<String> internalStatuses;
+        /** Internal statuses declared alongside each public status. */
+        private final Map<String, List<String>> publicToInternalStatuses;
+    }
+}
@@ -0,0 +1,211 @@
+package io.nuvalence.workmanager.service.utils.formconfig.formio;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import javax.script.Bindings;
+import javax.script.Compilable;
+import javax.script.CompiledScript;
+import javax.script.ScriptEngine;
+import javax.script.ScriptEngineManager;
+import javax.script.ScriptException;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Evaluates Form.io conditional expressions (hide, require) against a transaction data model.
+ *
+ * <p>Script engines are not thread safe, so evaluation runs in a fixed number of slots, each with
+ * its own worker thread, JavaScript engine and bounded cache of expressions compiled by that
+ * engine. A caller waits at most the configured timeout for a free slot, then at most the timeout
+ * again for its expression.</p>
+ *
+ * <p>A running script cannot be interrupted, so a slot whose expression times out is abandoned:
+ * its worker thread is left to finish on its own, and the slot is replaced by a new one with a new
+ * thread and engine. Each expression is evaluated with its own bindings, so variables it assigns
+ * are not seen by later expressions.</p>
+ */
+@Slf4j
+@Component
+public class FormioExpressionEvaluator {
+    private static final String ENGINE_NAME = "JavaScript";
+    private static final String MODEL_VARIABLE = "model";
+
+    private final BlockingQueue<EvaluationSlot> slots;
+    private final Duration timeout;
+    private final int maxCompiledScriptsPerThread;
+    private final CustomizableThreadFactory threadFactory;
+
+    /**
+     * Constructs a new FormioExpressionEvaluator.
+     *
+     * @param threads number of slots (and therefore threads and script engines) evaluating
+     *     expressions
+     * @param timeout maximum time a single expression may run, and may wait for a slot
+     * @param maxCompiledScriptsPerThread maximum number of compiled expressions kept per engine
+     */
+    public FormioExpressionEvaluator(
+            @Value("${formio.expressions.threads:4}") final int threads,
+            @Value("${formio.expressions.timeout:2s}") final Duration timeout,
+            @Value("${formio.expressions.maxCompiledScriptsPerThread:1000}")
+                    final int maxCompiledScriptsPerThread) {
+        this.threadFactory = new CustomizableThreadFactory("formio-expression-");
+        // an abandoned runaway script must not keep the JVM alive on shutdown
+        this.threadFactory.setDaemon(true);
+
+        this.timeout = timeout;
+        this.maxCompiledScriptsPerThread = maxCompiledScriptsPerThread;
+        this.slots = new ArrayBlockingQueue<>(threads);
+        for (int i = 0; i < threads; i++) {
+            slots.add(new EvaluationSlot());
+        }
+    }
+
+    /**
+     * Evaluates an expression, exposing the data model to it as the {@code model} variable.
+     *
+     * @param expression JavaScript expression
+     * @param model data model of the entity being validated
+     * @return true if the expression evaluated to true
+     * @throws ScriptException if the expression is invalid, fails, exceeds the timeout, or no slot
+     *     frees up within the timeout
+     */
+    public boolean evaluate(final String expression, final Map<String, Object> model)
+            throws ScriptException {
+        final String normalizedExpression = expression.replace("?.", ".");
+
+        final EvaluationSlot slot;
+        try {
+            slot = slots.poll(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ScriptException("Expression evaluation interrupted: " + expression);
+        }
+        if (slot == null) {
+            throw new ScriptException("No expression evaluator available for: " + expression);
+        }
+
+        boolean abandoned = false;
+        try {
+            final Future<Object> result = slot.submit(normalizedExpression, model);
+            try {
+                return Boolean.parseBoolean(
+                        String.valueOf(result.get(timeout.toMillis(), TimeUnit.MILLISECONDS)));
+            } catch (TimeoutException e) {
+                abandoned = true;
+                log.warn("Abandoning expression evaluation thread after timeout: {}", expression);
+                throw new ScriptException("Expression evaluation timed out: " + expression);
+            } catch (InterruptedException e) {
+                abandoned = true;
+                Thread.currentThread().interrupt();
+                throw new ScriptException("Expression evaluation interrupted: " + expression);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof ScriptException scriptException) {
+                    throw scriptException;
+                }
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                throw new ScriptException(String.valueOf(e.getCause()));
+            }
+        } finally {
+            if (abandoned) {
+                slot.abandon();
+                slots.add(new EvaluationSlot());
+            } else {
+                slots.add(slot);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        EvaluationSlot slot = slots.poll();
+        while (slot != null) {
+            slot.abandon();
+            slot = slots.poll();
+        }
+    }
+
+    /**
+     * Worker thread owning a script engine, used by one caller at a time.
+     */
+    private final class EvaluationSlot {
+        private final ThreadPoolExecutor worker =
+                new ThreadPoolExecutor(
+                        1,
+                        1,
+                        0L,
+                        TimeUnit.MILLISECONDS,
+                        new ArrayBlockingQueue<>(1),
+                        threadFactory);
+
+        // only used on the worker thread
+        private CompilingEngine engine;
+
+        Future<Object> submit(final String expression, final Map<String, Object> model) {
+            return worker.submit(
+                    () -> {
+                        if (engine == null) {
+                            engine = new CompilingEngine(maxCompiledScriptsPerThread);
+                        }
+                        return engine.eval(expression, model);
+                    });
+        }
+
+        void abandon() {
+            worker.shutdownNow();
+        }
+    }
+
+    /**
+     * Script engine owned by a single thread, together with the expressions it has compiled.
+     */
+    private static final class CompilingEngine {
+        private final ScriptEngine engine;
+        private final Map<String, CompiledScript> compiledScripts;
+
+        CompilingEngine(final int maxCompiledScripts) {
+            this.engine = new ScriptEngineManager().getEngineByName(ENGINE_NAME);
+            this.compiledScripts =
+                    new LinkedHashMap<>(16, 0.75f, true) {
+                        private static final long serialVersionUID = 1L;
+
+                        @Override
+                        protected boolean removeEldestEntry(
+                                final Map.Entry<String, CompiledScript> eldest) {
+                            return size() > maxCompiledScripts;
+                        }
+                    };
+        }
+
+        Object eval(final String expression, final Map<String, Object> model)
+                throws ScriptException {
+            final Bindings bindings = engine.createBindings();
+            bindings.put(MODEL_VARIABLE, model);
+            if (!(engine instanceof Compilable compilable)) {
+                return engine.eval(expression, bindings);
+            }
+
+            CompiledScript compiledScript = compiledScripts.get(expression);
+            if (compiledScript == null) {
+                compiledScript = compilable.compile(expression);
+                compiledScripts.put(expression, compiledScript);
+            }
+
+            return compiledScript.eval(bindings);
+        }
+    }
+}
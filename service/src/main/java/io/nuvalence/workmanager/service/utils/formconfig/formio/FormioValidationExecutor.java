@@ -0,0 +1,34 @@
+package io.nuvalence.workmanager.service.utils.formconfig.formio;
+
+import io.nuvalence.workmanager.service.utils.BoundedExecutor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs the validation of form steps concurrently, on a small bounded pool.
+ *
+ * <p>When the queue is full, steps are validated on the submitting thread instead, so a burst of
+ * submissions degrades to sequential validation rather than failing.</p>
+ *
+ * <p>Expressions of every step are evaluated in the slots of the {@link FormioExpressionEvaluator},
+ * so the pool is never larger than the number of slots: additional threads would only wait for a
+ * slot, and could time out doing so.</p>
+ */
+@Component
+public class FormioValidationExecutor extends BoundedExecutor {
+
+    /**
+     * Constructs a new FormioValidationExecutor.
+     *
+     * @param threads number of threads validating form steps, at most the number of expression
+     *     evaluation slots
+     * @param queueCapacity maximum number of form steps waiting to be validated
+     * @param expressionThreads number of expression evaluation slots
+     */
+    public FormioValidationExecutor(
+            @Value("${formio.validation.threads:4}") final int threads,
+            @Value("${formio.validation.queueCapacity:100}") final int queueCapacity,
+            @Value("${formio.expressions.threads:4}") final int expressionThreads) {
+        super("formio-validation-", Math.min(threads, expressionThreads), queueCapacity);
+    }
+}
@@ -0,0 +1,274 @@
+package io.nuvalence.workmanager.service.utils.formconfig.formio;
+
+import io.nuvalence.workmanager.service.config.exceptions.ProvidedDataException;
+import io.nuvalence.workmanager.service.domain.formconfig.formio.NuvalenceFormioComponent;
+import io.nuvalence.workmanager.service.domain.formconfig.formio.NuvalenceFormioComponentOption;
+import io.nuvalence.workmanager.service.domain.formconfig.formio.NuvalenceFormioComponentProperties;
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import java.util.stream.Collectors;
+
+/**
+ * Form configuration compiled for validation.
+ *
+ * <p>Components are flattened in depth-first order, so the descendants of a component are the
+ * components right after it, up to its subtree end. Field paths are split, patterns compiled and
+ * relative dates parsed once, when the plan is compiled; plans are immutable and can be shared by
+ * concurrent validations.</p>
+ */
+@Slf4j
+public final class FormioValidationPlan {
+
+    // GenericValidator.matchRegexp rejects every value when the expression is empty
+    private static final Pattern NEVER_MATCHES = Pattern.compile("(?!)");
+
+    private final FormioValidationNode[] nodes;
+    private final int[] subtreeEnds;
+    private final int[] steps;
+    private final Map<String, Integer> stepIndexes;
+    private final boolean expressionsPresent;
+
+    private FormioValidationPlan(List<FormioValidationNode> nodes, List<Integer> subtreeEnds) {
+        this.nodes = nodes.toArray(new FormioValidationNode[0]);
+        this.subtreeEnds = subtreeEnds.stream().mapToInt(Integer::intValue).toArray();
+
+        List<Integer> stepList = new ArrayList<>();
+        Map<String, Integer> stepsByKey = new HashMap<>();
+        for (int child = 1; child < this.subtreeEnds[0]; child = this.subtreeEnds[child]) {
+            stepList.add(child);
+            stepsByKey.putIfAbsent(this.nodes[child].getKey(), child);
+        }
+        this.steps = stepList.stream().mapToInt(Integer::intValue).toArray();
+        this.stepIndexes = Collections.unmodifiableMap(stepsByKey);
+        this.expressionsPresent = nodes.stream().anyMatch(node -> node.getExpressions() != null);
+    }
+
+    /**
+     * Compiles a component tree into a validation plan.
+     *
+     * @param rootComponent root of the component tree, not modified
+     * @return the validation plan
+     */
+    public static FormioValidationPlan compile(NuvalenceFormioComponent rootComponent) {
+        List<FormioValidationNode> nodes = new ArrayList<>();
+        List<Integer> subtreeEnds = new ArrayList<>();
+        compile(rootComponent, nodes, subtreeEnds);
+        return new FormioValidationPlan(nodes, subtreeEnds);
+    }
+
+    private static void compile(
+            NuvalenceFormioComponent component,
+            List<FormioValidationNode> nodes,
+            List<Integer> subtreeEnds) {
+        int index = nodes.size();
+        nodes.add(compileNode(component));
+        subtreeEnds.add(index);
+
+        if (component.getComponents() != null) {
+            for (NuvalenceFormioComponent subComponent : component.getComponents()) {
+                compile(subComponent, nodes, subtreeEnds);
+            }
+        }
+        subtreeEnds.set(index, nodes.size());
+    }
+
+    private static FormioValidationNode compileNode(NuvalenceFormioComponent component) {
+        String key = component.getKey();
+        List<String> validation =
+                component.getValidators() == null
+                        ? null
+                        : component.getValidators().getValidation();
+        FormioValidationNode.FormioValidationNodeBuilder builder =
+                FormioValidationNode.builder()
+                        .key(key)
+                        .keyPath(key == null ? null : key.split("\\."))
+                        .keyContextProvider(component.isKeyContextProvider())
+                        .expressions(
+                                component.getExpressions() == null
+                                        ? null
+                                        : Collections.unmodifiableMap(
+                                                new LinkedHashMap<>(component.getExpressions())))
+                        .emailValidation(validation != null && validation.contains("email"));
+
+        NuvalenceFormioComponentProperties props = component.getProps();
+        if (props != null) {
+            builder.propsPresent(true)
+                    .required(props.isRequired())
+                    .max(props.getMax())
+                    .min(props.getMin())
+                    .maxLength(props.getMaxLength())
+                    .minLength(props.getMinLength())
+                    .minDate(props.getMinDate())
+                    .maxDate(props.getMaxDate())
+                    .relativeMinDate(RelativeDateOffset.parse(props.getRelativeMinDate()))
+                    .relativeMaxDate(RelativeDateOffset.parse(props.getRelativeMaxDate()))
+                    .formErrorLabel(
+                            props.getFormErrorLabel() == null
+                                            || props.getFormErrorLabel().isBlank()
+                                    ? null
+                                    : props.getFormErrorLabel());
+            compilePattern(key, props.getPattern(), builder);
+            if (props.getSelectOptions() != null) {
+                builder.selectOptions(
+                        props.getSelectOptions().stream()
+                                .map(NuvalenceFormioComponentOption::getKey)
+                                .collect(Collectors.toSet()));
+            }
+        }
+
+        return builder.build();
+    }
+
+    private static void compilePattern(
+            String key, String pattern, FormioValidationNode.FormioValidationNodeBuilder builder) {
+        if (pattern == null) {
+            return;
+        }
+        if (pattern.isEmpty()) {
+            builder.pattern(NEVER_MATCHES);
+            return;
+        }
+        try {
+            builder.pattern(Pattern.compile(pattern));
+        } catch (PatternSyntaxException e) {
+            // reported when a value is validated against it, like before plans were compiled
+            log.warn("Invalid pattern for component {}", key, e);
+            builder.patternError(e);
+        }
+    }
+
+    /**
+     * Returns the index of the top-level component with the given key.
+     *
+     * @param stepKey key of the form step
+     * @return index of the step component
+     * @throws ProvidedDataException if the form configuration has no such step
+     */
+    int getStepIndex(String stepKey) {
+        Integer index = stepIndexes.get(stepKey);
+        if (index == null) {
+            throw new ProvidedDataException(
+                    "The provided formStepKey does not exist in the form configuration");
+        }
+        return index;
+    }
+
+    /**
+     * Returns the indexes of the top-level components, in form order.
+     *
+     * @return indexes of the step components
+     */
+    int[] getSteps() {
+        return steps.clone();
+    }
+
+    boolean isExpressionsPresent() {
+        return expressionsPresent;
+    }
+
+    int size() {
+        return nodes.length;
+    }
+
+    FormioValidationNode getNode(int index) {
+        return nodes[index];
+    }
+
+    int getSubtreeEnd(int index) {
+        return subtreeEnds[index];
+    }
+
+    /**
+     * Compiled component.
+     */
+    @Value
+    @Builder
+    static class FormioValidationNode {
+        String key;
+        String[] keyPath;
+        boolean keyContextProvider;
+        Map<String, String> expressions;
+        boolean emailValidation;
+        boolean propsPresent;
+        boolean required;
+        BigDecimal max;
+        BigDecimal min;
+        Integer maxLength;
+        Integer minLength;
+        Pattern pattern;
+        PatternSyntaxException patternError;
+        LocalDate minDate;
+        LocalDate maxDate;
+        RelativeDateOffset relativeMinDate;
+        RelativeDateOffset relativeMaxDate;
+        Set<String> selectOptions;
+        String formErrorLabel;
+    }
+
+    /**
+     * Relative date such as {@code -2-week}, parsed into an amount and a unit.
+     */
+    @Value
+    static class RelativeDateOffset {
+        String value;
+        int amount;
+        ChronoUnit unit;
+
+        static RelativeDateOffset parse(String relativeDate) {
+            if (relativeDate == null) {
+                return null;
+            }
+
+            String[] parts = relativeDate.replaceFirst("^-", "").split("-");
+            try {
+                int amount = Integer.parseInt((relativeDate.startsWith("-") ? "-" : "") + parts[0]);
+                return new RelativeDateOffset(relativeDate, amount, parseUnit(parts[1]));
+            } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+                return new RelativeDateOffset(relativeDate, 0, null);
+            }
+        }
+
+        private static ChronoUnit parseUnit(String dateUnit) {
+            switch (dateUnit) {
+                case "day":
+                    return ChronoUnit.DAYS;
+                case "week":
+                    return ChronoUnit.WEEKS;
+                case "month":
+                    return ChronoUnit.MONTHS;
+                case "year":
+                    return ChronoUnit.YEARS;
+                default:
+                    return null;
+            }
+        }
+
+        /**
+         * Applies the offset to a date.
+         *
+         * @param date date to offset
+         * @return the offset date
+         * @throws IllegalArgumentException if the relative date is invalid
+         */
+        LocalDate from(LocalDate date) {
+            if (unit == null) {
+                throw new IllegalArgumentException("Invalid date unit");
+            }
+            return date.plus(amount, unit);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package io.nuvalence.workmanager.service.utils.formconfig.formio;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.nuvalence.workmanager.service.config.SpringConfig;
+import io.nuvalence.workmanager.service.domain.formconfig.FormConfiguration;
+import io.nuvalence.workmanager.service.domain.formconfig.formio.NuvalenceFormioComponent;
+import io.nuvalence.workmanager.service.mapper.FormConfigurationMapper;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Cache of form configurations compiled for validation.
+ *
+ * <p>Plans are keyed by form configuration ID and last update timestamp, so an updated form
+ * configuration is compiled again and its previous plan simply expires.</p>
+ */
+@Component
+public class FormioValidationPlanCache {
+    private final Cache<String, FormioValidationPlan> plans =
+            CacheBuilder.newBuilder()
+                    .maximumSize(500)
+                    .expireAfterAccess(Duration.ofHours(1))
+                    .build();
+
+    /**
+     * Returns the validation plan of a form configuration, compiling it if needed.
+     *
+     * @param formConfiguration form configuration
+     * @return the validation plan
+     */
+    public FormioValidationPlan getPlan(FormConfiguration formConfiguration) {
+        if (formConfiguration.getId() == null) {
+            return compile(formConfiguration);
+        }
+
+        String cacheKey =
+                formConfiguration.getId() + ":" + formConfiguration.getLastUpdatedTimestamp();
+        FormioValidationPlan plan = plans.getIfPresent(cacheKey);
+        if (plan == null) {
+            plan = compile(formConfiguration);
+            plans.put(cacheKey, plan);
+        }
+        return plan;
+    }
+
+    private FormioValidationPlan compile(FormConfiguration formConfiguration) {
+        NuvalenceFormioComponent rootComponent =
+                SpringConfig.getMapper()
+                        .convertValue(
+                                formConfiguration.getConfiguration(),
+                                NuvalenceFormioComponent.class);
+        rootComponent.setKey(FormConfigurationMapper.DEFAULT_ROOT_CONFIG_KEY);
+        return FormioValidationPlan.compile(rootComponent);
+    }
+}
@@ -1,11 +1,15 @@
 package io.nuvalence.workmanager.service.utils.formconfig.formio;
 
+import io.nuvalence.workmanager.service.config.exceptions.ProvidedDataException;
+import io.nuvalence.workmanager.service.config.exceptions.UnexpectedException;
 import io.nuvalence.workmanager.service.config.exceptions.model.NuvalenceFormioValidationExItem;
 import io.nuvalence.workmanager.service.domain.dynamicschema.DynamicEntity;
 import io.nuvalence.workmanager.service.domain.formconfig.formio.NuvalenceFormioComponent;
-import io.nuvalence.workmanager.service.domain.formconfig.formio.NuvalenceFormioComponentOption;
 import io.nuvalence.workmanager.service.mapper.EntityMapper;
+import io.nuvalence.workmanager.service.utils.formconfig.formio.FormioValidationPlan.FormioValidationNode;
+import io.nuvalence.workmanager.service.utils.formconfig.formio.FormioValidationPlan.RelativeDateOffset;
 import kotlin.Pair;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.beanutils.DynaBean;
 import org.apache.commons.beanutils.DynaProperty;
@@ -14,20 +18,32 @@ import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
-import javax.script.ScriptEngine;
-import javax.script.ScriptEngineManager;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import javax.script.ScriptException;
 
 /**
  * DynaBeans validator for transactions based on a specific form configuration converted to a NuvalenceFormioComponent.
+ *
+ * <p>Form configurations are compiled into a {@link FormioValidationPlan} first, which is walked
+ * for each validation.</p>
  */
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class NuvalenceFormioValidator {
 
+    private static final int NO_STEP = -1;
+
+    private final FormioExpressionEvaluator expressionEvaluator;
+    private final FormioValidationExecutor validationExecutor;
+
     /**
      * Transaction update dynaEntity validator.
      *
@@ -39,462 +55,400 @@ public class NuvalenceFormioValidator {
             NuvalenceFormioComponent component,
             DynamicEntity dynaEntity,
             List<NuvalenceFormioValidationExItem> formioValidationErrors) {
-        validateDataAgainstFormConfig(component, dynaEntity, "", formioValidationErrors);
+        validateDataAgainstPlan(
+                FormioValidationPlan.compile(component), null, dynaEntity, formioValidationErrors);
     }
 
-    private void validateDataAgainstFormConfig(
-            NuvalenceFormioComponent component,
+    /**
+     * Transaction update dynaEntity validator, for a form configuration compiled beforehand.
+     *
+     * @param plan Form configuration compiled for validation
+     * @param formStepKey Key of the form step to validate, or null to validate every step
+     * @param dynaEntity Data submitted when requesting a transaction update
+     * @param formioValidationErrors list of validation errors found
+     * @throws ProvidedDataException if the form configuration has no step with the given key
+     */
+    public void validateDataAgainstPlan(
+            FormioValidationPlan plan,
+            String formStepKey,
             DynamicEntity dynaEntity,
-            String partialParentPath,
-            List<NuvalenceFormioValidationExItem> formioValidationErrors) {
-
-        if (component.getKey() != null) {
-            Pair<Object, DynaProperty> field = getFieldValue(component.getKey(), dynaEntity);
-
-            // Validate expressions
-            validateExpressions(component, dynaEntity, partialParentPath, formioValidationErrors);
-
-            // Validate props
-            validateComponentProps(component, field, partialParentPath, formioValidationErrors);
-
-            // Apply validators
-            applyValidators(component, field, partialParentPath, formioValidationErrors);
-
-            // Validate List sub components
-            if (field != null
-                    && field.getSecond() != null
-                    && field.getSecond().getType() != null
-                    && field.getSecond().getType().equals(List.class)
-                    && field.getSecond().getContentType() != null) {
-
-                if (field.getSecond().getContentType().equals(DynamicEntity.class)
-                        || field.getSecond().getContentType().equals(List.class)) {
-                    List<Object> list = (List<Object>) field.getFirst();
-                    validateList(list, component, partialParentPath, formioValidationErrors);
-                }
-                return;
-            }
-        }
-
-        validateSubComponents(component, partialParentPath, formioValidationErrors, dynaEntity);
-    }
-
-    private void validateList(
-            List<Object> list,
-            NuvalenceFormioComponent component,
-            String partialParentPath,
             List<NuvalenceFormioValidationExItem> formioValidationErrors) {
-        for (int i = 0; i < list.size(); i++) {
-            Object currentObject = list.get(i);
-            if (currentObject instanceof DynamicEntity dynamicEntity) {
-                String parentPath =
-                        component.isKeyContextProvider()
-                                ? component.getKey() + "[" + i + "]"
-                                : partialParentPath;
-
-                validateSubComponents(component, parentPath, formioValidationErrors, dynamicEntity);
-            }
-        }
+        int step = formStepKey == null ? NO_STEP : plan.getStepIndex(formStepKey);
+        new ValidationRun(plan, formioValidationErrors, new IdentityHashMap<>())
+                .validate(0, dynaEntity, "", step);
     }
 
-    private void validateExpressions(
-            NuvalenceFormioComponent component,
+    /**
+     * Transaction update dynaEntity validator, validating every step of a form configuration
+     * concurrently. The entity must not be modified until validation completes.
+     *
+     * @param plan Form configuration compiled for validation
+     * @param dynaEntity Data submitted when requesting a transaction update
+     * @param stopAtFirstFailingStep whether to only report the errors of the first failing step
+     * @param formioValidationErrors list of validation errors found, in form step order
+     * @throws UnexpectedException if interrupted while waiting for the validation of a step
+     */
+    public void validateStepsConcurrently(
+            FormioValidationPlan plan,
             DynamicEntity dynaEntity,
-            String partialParentPath,
+            boolean stopAtFirstFailingStep,
             List<NuvalenceFormioValidationExItem> formioValidationErrors) {
-        if (component.getExpressions() != null) {
-            overrideValidationsBasedOnExpressions(
-                    component, dynaEntity, partialParentPath, formioValidationErrors);
+        // expressions of every step are evaluated against the same read-only data model
+        Map<String, Object> dataModel =
+                plan.isExpressionsPresent()
+                        ? Collections.unmodifiableMap(
+                                EntityMapper.getInstance()
+                                        .convertAttributesToGenericMap(dynaEntity))
+                        : null;
+
+        List<Future<List<NuvalenceFormioValidationExItem>>> stepResults = new ArrayList<>();
+        for (int step : plan.getSteps()) {
+            stepResults.add(
+                    validationExecutor.submit(
+                            () -> {
+                                List<NuvalenceFormioValidationExItem> stepErrors =
+                                        new ArrayList<>();
+                                Map<DynamicEntity, Map<String, Object>> dataModels =
+                                        new IdentityHashMap<>();
+                                if (dataModel != null) {
+                                    dataModels.put(dynaEntity, dataModel);
+                                }
+                                new ValidationRun(plan, stepErrors, dataModels)
+                                        .validate(0, dynaEntity, "", step);
+                                return stepErrors;
+                            }));
         }
-    }
 
-    private void applyValidators(
-            NuvalenceFormioComponent component,
-            Pair<Object, DynaProperty> field,
-            String partialParentPath,
-            List<NuvalenceFormioValidationExItem> formioValidationErrors) {
-        if (component.getValidators() != null
-                && component.getValidators().getValidation() != null) {
-            for (String validation : component.getValidators().getValidation()) {
-                if (validation.equals("email")
-                        && fieldIsNotNull(field)
-                        && field.getSecond().getType().equals(String.class)) {
-                    String fieldValue = (String) field.getFirst();
-                    if (!GenericValidator.isEmail(fieldValue)) {
-                        addValidationError(
-                                component, "email", partialParentPath, formioValidationErrors);
-                    }
+        try {
+            for (Future<List<NuvalenceFormioValidationExItem>> stepResult : stepResults) {
+                List<NuvalenceFormioValidationExItem> stepErrors = getStepErrors(stepResult);
+                formioValidationErrors.addAll(stepErrors);
+                if (stopAtFirstFailingStep && !stepErrors.isEmpty()) {
+                    break;
                 }
             }
+        } finally {
+            stepResults.forEach(stepResult -> stepResult.cancel(true));
         }
     }
 
-    private void validateSubComponents(
-            NuvalenceFormioComponent component,
-            String partialParentPath,
-            List<NuvalenceFormioValidationExItem> formioValidationErrors,
-            DynamicEntity dynaEntity) {
-        if (component.getComponents() != null) {
-            for (NuvalenceFormioComponent subComponent : component.getComponents()) {
-                validateDataAgainstFormConfig(
-                        subComponent, dynaEntity, partialParentPath, formioValidationErrors);
-            }
-        }
-    }
-
-    private void overrideValidationsBasedOnExpressions(
-            NuvalenceFormioComponent component,
-            DynamicEntity dynaEntity,
-            String partialParentPath,
-            List<NuvalenceFormioValidationExItem> formioValidationErrors) {
-
-        final EntityMapper mapper = EntityMapper.getInstance();
-        Map<String, Object> data = mapper.convertAttributesToGenericMap(dynaEntity);
-
-        for (Map.Entry<String, String> expressionEntry : component.getExpressions().entrySet()) {
-            String expressionKey = expressionEntry.getKey();
-            String expressionValue = expressionEntry.getValue();
-
-            if ((expressionKey.equals("hide") || expressionKey.equals("props.hidden"))
-                    && evaluateExpression(
-                            expressionValue,
-                            data,
-                            component,
-                            partialParentPath,
-                            formioValidationErrors)) {
-                clearValidationProps(component);
-            }
-            if ((expressionKey.equals("require") || expressionKey.equals("props.required"))
-                    && evaluateExpression(
-                            expressionValue,
-                            data,
-                            component,
-                            partialParentPath,
-                            formioValidationErrors)) {
-                component.getProps().setRequired(true);
+    private List<NuvalenceFormioValidationExItem> getStepErrors(
+            Future<List<NuvalenceFormioValidationExItem>> stepResult) {
+        try {
+            return stepResult.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UnexpectedException("Interrupted while validating form steps", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
             }
+            throw new UnexpectedException("Unable to validate form step", e.getCause());
         }
     }
 
-    private void clearValidationProps(NuvalenceFormioComponent component) {
-        component.setProps(null);
-        component.setExpressions(null);
-        component.setValidators(null);
-
-        if (component.getComponents() != null) {
-            for (NuvalenceFormioComponent childComponent : component.getComponents()) {
-                clearValidationProps(childComponent);
+    /**
+     * State of a single validation against a plan. Expressions hide components or make them
+     * required for the rest of the validation, without altering the shared plan.
+     */
+    private final class ValidationRun {
+        private final FormioValidationPlan plan;
+        private final List<NuvalenceFormioValidationExItem> formioValidationErrors;
+        private final Map<DynamicEntity, Map<String, Object>> dataModels;
+        private final boolean[] hidden;
+        private final boolean[] required;
+        private final LocalDate today = LocalDate.now();
+
+        private ValidationRun(
+                FormioValidationPlan plan,
+                List<NuvalenceFormioValidationExItem> formioValidationErrors,
+                Map<DynamicEntity, Map<String, Object>> dataModels) {
+            this.plan = plan;
+            this.formioValidationErrors = formioValidationErrors;
+            this.dataModels = dataModels;
+            this.hidden = new boolean[plan.size()];
+            this.required = new boolean[plan.size()];
+        }
+
+        private void validate(
+                int index, DynamicEntity dynaEntity, String partialParentPath, int step) {
+            FormioValidationNode node = plan.getNode(index);
+
+            if (node.getKey() != null) {
+                Pair<Object, DynaProperty> field =
+                        getFieldValue(node.getKey(), node.getKeyPath(), dynaEntity);
+
+                // Validate expressions
+                validateExpressions(index, dynaEntity, partialParentPath);
+
+                // Validate props
+                validateComponentProps(index, field, partialParentPath);
+
+                // Apply validators
+                applyValidators(index, field, partialParentPath);
+
+                // Validate List sub components
+                if (field != null
+                        && field.getSecond() != null
+                        && field.getSecond().getType() != null
+                        && field.getSecond().getType().equals(List.class)
+                        && field.getSecond().getContentType() != null) {
+
+                    if (field.getSecond().getContentType().equals(DynamicEntity.class)
+                            || field.getSecond().getContentType().equals(List.class)) {
+                        List<Object> list = (List<Object>) field.getFirst();
+                        validateList(list, index, partialParentPath, step);
+                    }
+                    return;
+                }
             }
-        }
-    }
-
-    private boolean evaluateExpression(
-            String expression,
-            Map<String, Object> data,
-            NuvalenceFormioComponent component,
-            String partialParentPath,
-            List<NuvalenceFormioValidationExItem> formioValidationErrors) {
-
-        String normalizedExpression = expression.replace("?.", ".");
-        final ScriptEngine javaScriptEngine =
-                new ScriptEngineManager().getEngineByName("JavaScript");
 
-        javaScriptEngine.put("model", data);
-        try {
-            return Boolean.valueOf(javaScriptEngine.eval(normalizedExpression).toString());
-        } catch (ScriptException e) {
-            log.debug("javascript expression error", e);
-            addValidationError(component, "expression", partialParentPath, formioValidationErrors);
-
-            return false;
+            validateSubComponents(index, partialParentPath, dynaEntity, step);
         }
-    }
 
-    private void validateComponentProps(
-            NuvalenceFormioComponent component,
-            Pair<Object, DynaProperty> field,
-            String partialParentPath,
-            List<NuvalenceFormioValidationExItem> formioValidationErrors) {
+        private void validateList(
+                List<Object> list, int index, String partialParentPath, int step) {
+            FormioValidationNode node = plan.getNode(index);
+            for (int i = 0; i < list.size(); i++) {
+                Object currentObject = list.get(i);
+                if (currentObject instanceof DynamicEntity dynamicEntity) {
+                    String parentPath =
+                            node.isKeyContextProvider()
+                                    ? node.getKey() + "[" + i + "]"
+                                    : partialParentPath;
 
-        if (component.getProps() == null) {
-            return;
+                    validateSubComponents(index, parentPath, dynamicEntity, step);
+                }
+            }
         }
 
-        validateRequiredField(component, field, partialParentPath, formioValidationErrors);
+        private void validateSubComponents(
+                int index, String partialParentPath, DynamicEntity dynaEntity, int step) {
+            if (step != NO_STEP) {
+                validate(step, dynaEntity, partialParentPath, NO_STEP);
+                return;
+            }
 
-        if (!fieldIsNotNull(field)) {
-            return;
+            int subtreeEnd = plan.getSubtreeEnd(index);
+            for (int child = index + 1; child < subtreeEnd; child = plan.getSubtreeEnd(child)) {
+                validate(child, dynaEntity, partialParentPath, NO_STEP);
+            }
         }
 
-        validateMaxValue(component, field, partialParentPath, formioValidationErrors);
-        validateMinValue(component, field, partialParentPath, formioValidationErrors);
-        validateRelativeMaxDate(component, field, partialParentPath, formioValidationErrors);
-        validateRelativeMinDate(component, field, partialParentPath, formioValidationErrors);
-        validateMaxDate(component, field, partialParentPath, formioValidationErrors);
-        validateMinDate(component, field, partialParentPath, formioValidationErrors);
-        validateFieldLength(component, field, partialParentPath, formioValidationErrors, true);
-        validateFieldLength(component, field, partialParentPath, formioValidationErrors, false);
-        validatePattern(component, field, partialParentPath, formioValidationErrors);
-        validateSelectOptions(component, field, partialParentPath, formioValidationErrors);
-    }
-
-    private void validateRequiredField(
-            NuvalenceFormioComponent component,
-            Pair<Object, DynaProperty> field,
-            String partialParentPath,
-            List<NuvalenceFormioValidationExItem> formioValidationErrors) {
-        if (component.getProps().isRequired() && !isFieldPresent(field)) {
-            addValidationError(component, "required", partialParentPath, formioValidationErrors);
-        }
-    }
+        private void validateExpressions(
+                int index, DynamicEntity dynaEntity, String partialParentPath) {
+            Map<String, String> expressions = plan.getNode(index).getExpressions();
+            if (expressions == null || hidden[index]) {
+                return;
+            }
 
-    private void validateMaxValue(
-            NuvalenceFormioComponent component,
-            Pair<Object, DynaProperty> field,
-            String partialParentPath,
-            List<NuvalenceFormioValidationExItem> formioValidationErrors) {
-        BigDecimal max = component.getProps().getMax();
-        if (max == null) {
-            return;
+            // the data model is shared by every expression evaluated against the same entity
+            Map<String, Object> data =
+                    dataModels.computeIfAbsent(
+                            dynaEntity,
+                            entity ->
+                                    EntityMapper.getInstance()
+                                            .convertAttributesToGenericMap(entity));
+
+            for (Map.Entry<String, String> expressionEntry : expressions.entrySet()) {
+                String expressionKey = expressionEntry.getKey();
+                String expressionValue = expressionEntry.getValue();
+
+                if ((expressionKey.equals("hide") || expressionKey.equals("props.hidden"))
+                        && evaluateExpression(expressionValue, data, index, partialParentPath)) {
+                    // hides the component and all of its sub components
+                    Arrays.fill(hidden, index, plan.getSubtreeEnd(index), true);
+                }
+                if ((expressionKey.equals("require") || expressionKey.equals("props.required"))
+                        && evaluateExpression(expressionValue, data, index, partialParentPath)) {
+                    required[index] = true;
+                }
+            }
         }
 
-        BigDecimal value = getNumericValue(field);
-        if (value != null && value.compareTo(max) > 0) {
-            addValidationError(component, "max", partialParentPath, formioValidationErrors);
-        }
-    }
+        private boolean evaluateExpression(
+                String expression,
+                Map<String, Object> data,
+                int index,
+                String partialParentPath) {
 
-    private void validateMinValue(
-            NuvalenceFormioComponent component,
-            Pair<Object, DynaProperty> field,
-            String partialParentPath,
-            List<NuvalenceFormioValidationExItem> formioValidationErrors) {
-        BigDecimal min = component.getProps().getMin();
-        if (min == null) {
-            return;
-        }
+            try {
+                return expressionEvaluator.evaluate(expression, data);
+            } catch (ScriptException e) {
+                log.debug("javascript expression error", e);
+                addValidationError(index, "expression", partialParentPath);
 
-        BigDecimal value = getNumericValue(field);
-        if (value != null && value.compareTo(min) < 0) {
-            addValidationError(component, "min", partialParentPath, formioValidationErrors);
+                return false;
+            }
         }
-    }
-
-    private void validateRelativeMaxDate(
-            NuvalenceFormioComponent component,
-            Pair<Object, DynaProperty> field,
-            String partialParentPath,
-            List<NuvalenceFormioValidationExItem> formioValidationErrors) {
-        validateRelativeDate(
-                component,
-                field,
-                partialParentPath,
-                formioValidationErrors,
-                component.getProps().getRelativeMaxDate(),
-                LocalDate::isAfter,
-                "relativeMaxDate");
-    }
-
-    private void validateRelativeMinDate(
-            NuvalenceFormioComponent component,
-            Pair<Object, DynaProperty> field,
-            String partialParentPath,
-            List<NuvalenceFormioValidationExItem> formioValidationErrors) {
-        validateRelativeDate(
-                component,
-                field,
-                partialParentPath,
-                formioValidationErrors,
-                component.getProps().getRelativeMinDate(),
-                LocalDate::isBefore,
-                "relativeMinDate");
-    }
 
-    private void validateRelativeDate(
-            NuvalenceFormioComponent component,
-            Pair<Object, DynaProperty> field,
-            String partialParentPath,
-            List<NuvalenceFormioValidationExItem> formioValidationErrors,
-            String relativeDate,
-            DateValidationCondition validationCondition,
-            String errorType) {
-
-        if (relativeDate == null) {
-            return;
+        private void applyValidators(
+                int index, Pair<Object, DynaProperty> field, String partialParentPath) {
+            if (plan.getNode(index).isEmailValidation()
+                    && !hidden[index]
+                    && fieldIsNotNull(field)
+                    && field.getSecond().getType().equals(String.class)) {
+                String fieldValue = (String) field.getFirst();
+                if (!GenericValidator.isEmail(fieldValue)) {
+                    addValidationError(index, "email", partialParentPath);
+                }
+            }
         }
 
-        String[] parts = relativeDate.replaceFirst("^-", "").split("-");
-        int numberOfUnitInt =
-                Integer.parseInt((relativeDate.startsWith("-") ? "-" : "") + parts[0]);
-        String dateUnit = parts[1];
-
-        LocalDate validationDate = LocalDate.now();
-
-        switch (dateUnit) {
-            case "day":
-                validationDate = validationDate.plusDays(numberOfUnitInt);
-                break;
-            case "week":
-                validationDate = validationDate.plusWeeks(numberOfUnitInt);
-                break;
-            case "month":
-                validationDate = validationDate.plusMonths(numberOfUnitInt);
-                break;
-            case "year":
-                validationDate = validationDate.plusYears(numberOfUnitInt);
-                break;
-            default:
-                throw new IllegalArgumentException("Invalid date unit");
-        }
+        private void validateComponentProps(
+                int index, Pair<Object, DynaProperty> field, String partialParentPath) {
+            FormioValidationNode node = plan.getNode(index);
+            if (!node.isPropsPresent() || hidden[index]) {
+                return;
+            }
 
-        LocalDate value = (LocalDate) field.getFirst();
+            if ((node.isRequired() || required[index]) && !isFieldPresent(field)) {
+                addValidationError(index, "required", partialParentPath);
+            }
 
-        if (validationCondition.test(value, validationDate)) {
-            addValidationError(component, errorType, partialParentPath, formioValidationErrors);
-        }
-    }
+            if (!fieldIsNotNull(field)) {
+                return;
+            }
 
-    private void validateMaxDate(
-            NuvalenceFormioComponent component,
-            Pair<Object, DynaProperty> field,
-            String partialParentPath,
-            List<NuvalenceFormioValidationExItem> formioValidationErrors) {
-        LocalDate max = component.getProps().getMaxDate();
-        if (max == null) {
-            return;
-        }
+            validateNumericValue(index, node, field, partialParentPath);
+            validateRelativeDate(
+                    index,
+                    field,
+                    partialParentPath,
+                    node.getRelativeMaxDate(),
+                    LocalDate::isAfter,
+                    "relativeMaxDate");
+            validateRelativeDate(
+                    index,
+                    field,
+                    partialParentPath,
+                    node.getRelativeMinDate(),
+                    LocalDate::isBefore,
+                    "relativeMinDate");
+            validateDate(index, node, field, partialParentPath);
+            validateString(index, node, field, partialParentPath);
+        }
+
+        private void validateNumericValue(
+                int index,
+                FormioValidationNode node,
+                Pair<Object, DynaProperty> field,
+                String partialParentPath) {
+            if (node.getMax() == null && node.getMin() == null) {
+                return;
+            }
 
-        LocalDate value = (LocalDate) field.getFirst();
-        if (value.isAfter(max)) {
-            addValidationError(component, "maxDate", partialParentPath, formioValidationErrors);
+            BigDecimal value = getNumericValue(field);
+            if (value == null) {
+                return;
+            }
+            if (node.getMax() != null && value.compareTo(node.getMax()) > 0) {
+                addValidationError(index, "max", partialParentPath);
+            }
+            if (node.getMin() != null && value.compareTo(node.getMin()) < 0) {
+                addValidationError(index, "min", partialParentPath);
+            }
         }
-    }
 
-    private void validateMinDate(
-            NuvalenceFormioComponent component,
-            Pair<Object, DynaProperty> field,
-            String partialParentPath,
-            List<NuvalenceFormioValidationExItem> formioValidationErrors) {
-        LocalDate min = component.getProps().getMinDate();
-        if (min == null) {
-            return;
-        }
+        private void validateRelativeDate(
+                int index,
+                Pair<Object, DynaProperty> field,
+                String partialParentPath,
+                RelativeDateOffset relativeDate,
+                DateValidationCondition validationCondition,
+                String errorType) {
 
-        LocalDate value = (LocalDate) field.getFirst();
-        if (value.isBefore(min)) {
-            addValidationError(component, "minDate", partialParentPath, formioValidationErrors);
-        }
-    }
+            if (relativeDate == null) {
+                return;
+            }
 
-    private void validateFieldLength(
-            NuvalenceFormioComponent component,
-            Pair<Object, DynaProperty> field,
-            String partialParentPath,
-            List<NuvalenceFormioValidationExItem> formioValidationErrors,
-            boolean isMaxLength) {
-        Integer length =
-                isMaxLength
-                        ? component.getProps().getMaxLength()
-                        : component.getProps().getMinLength();
-        if (length == null || !field.getSecond().getType().equals(String.class)) {
-            return;
-        }
+            LocalDate validationDate = relativeDate.from(today);
+            LocalDate value = (LocalDate) field.getFirst();
 
-        String fieldValue = (String) field.getFirst();
-        boolean condition =
-                isMaxLength ? fieldValue.length() > length : fieldValue.length() < length;
-        if (condition) {
-            addValidationError(
-                    component,
-                    isMaxLength ? "maxLength" : "minLength",
-                    partialParentPath,
-                    formioValidationErrors);
+            if (validationCondition.test(value, validationDate)) {
+                addValidationError(index, errorType, partialParentPath);
+            }
         }
-    }
 
-    private void validatePattern(
-            NuvalenceFormioComponent component,
-            Pair<Object, DynaProperty> field,
-            String partialParentPath,
-            List<NuvalenceFormioValidationExItem> formioValidationErrors) {
-        String pattern = component.getProps().getPattern();
-        if (pattern == null || !field.getSecond().getType().equals(String.class)) {
-            return;
+        private void validateDate(
+                int index,
+                FormioValidationNode node,
+                Pair<Object, DynaProperty> field,
+                String partialParentPath) {
+            if (node.getMaxDate() != null
+                    && ((LocalDate) field.getFirst()).isAfter(node.getMaxDate())) {
+                addValidationError(index, "maxDate", partialParentPath);
+            }
+            if (node.getMinDate() != null
+                    && ((LocalDate) field.getFirst()).isBefore(node.getMinDate())) {
+                addValidationError(index, "minDate", partialParentPath);
+            }
         }
 
-        String fieldValue = (String) field.getFirst();
-        if (!GenericValidator.matchRegexp(fieldValue, pattern)) {
-            addValidationError(component, "pattern", partialParentPath, formioValidationErrors);
-        }
-    }
+        private void validateString(
+                int index,
+                FormioValidationNode node,
+                Pair<Object, DynaProperty> field,
+                String partialParentPath) {
+            if (!field.getSecond().getType().equals(String.class)) {
+                return;
+            }
 
-    private void validateSelectOptions(
-            NuvalenceFormioComponent component,
-            Pair<Object, DynaProperty> field,
-            String partialParentPath,
-            List<NuvalenceFormioValidationExItem> formioValidationErrors) {
-        List<NuvalenceFormioComponentOption> options = component.getProps().getSelectOptions();
-        if (options == null || !field.getSecond().getType().equals(String.class)) {
-            return;
+            String fieldValue = (String) field.getFirst();
+            if (node.getMaxLength() != null && fieldValue.length() > node.getMaxLength()) {
+                addValidationError(index, "maxLength", partialParentPath);
+            }
+            if (node.getMinLength() != null && fieldValue.length() < node.getMinLength()) {
+                addValidationError(index, "minLength", partialParentPath);
+            }
+            if (node.getPatternError() != null) {
+                throw node.getPatternError();
+            }
+            if (node.getPattern() != null && !node.getPattern().matcher(fieldValue).matches()) {
+                addValidationError(index, "pattern", partialParentPath);
+            }
+            if (node.getSelectOptions() != null
+                    && !node.getSelectOptions().contains(fieldValue)) {
+                addValidationError(index, "selectOptions", partialParentPath);
+            }
         }
 
-        String fieldValue = (String) field.getFirst();
-        Optional<String> valueMatched =
-                options.stream()
-                        .map(NuvalenceFormioComponentOption::getKey)
-                        .filter(option -> option.equals(fieldValue))
-                        .findFirst();
-
-        if (valueMatched.isEmpty()) {
-            addValidationError(
-                    component, "selectOptions", partialParentPath, formioValidationErrors);
-        }
-    }
+        private void addValidationError(int index, String errorName, String partialParentPath) {
+            FormioValidationNode node = plan.getNode(index);
 
-    private void addValidationError(
-            NuvalenceFormioComponent control,
-            String errorName,
-            String partialParentPath,
-            List<NuvalenceFormioValidationExItem> formioValidationErrors) {
+            if (!partialParentPath.isBlank()) {
+                partialParentPath = partialParentPath + ".";
+            }
 
-        if (!partialParentPath.isBlank()) {
-            partialParentPath = partialParentPath + ".";
-        }
+            NuvalenceFormioValidationExItem errorItem =
+                    NuvalenceFormioValidationExItem.builder()
+                            .controlName(partialParentPath + node.getKey())
+                            .errorName(errorName)
+                            .build();
 
-        NuvalenceFormioValidationExItem errorItem =
-                NuvalenceFormioValidationExItem.builder()
-                        .controlName(partialParentPath + control.getKey())
-                        .errorName(errorName)
-                        .build();
+            if (!hidden[index] && node.getFormErrorLabel() != null) {
+                errorItem.setErrorMessage(node.getFormErrorLabel());
+            }
 
-        if (control.getProps() != null
-                && control.getProps().getFormErrorLabel() != null
-                && !control.getProps().getFormErrorLabel().isBlank()) {
-            errorItem.setErrorMessage(control.getProps().getFormErrorLabel());
+            formioValidationErrors.add(errorItem);
         }
-
-        formioValidationErrors.add(errorItem);
     }
 
-    private Pair<Object, DynaProperty> getFieldValue(String fieldPath, DynaBean dynaBean) {
-        int dotIndex = fieldPath.indexOf(".");
+    private Pair<Object, DynaProperty> getFieldValue(
+            String fieldPath, String[] keyPath, DynaBean dynaBean) {
         try {
-            if (dotIndex == -1) {
-                DynaProperty property = dynaBean.getDynaClass().getDynaProperty(fieldPath);
-                return new Pair<>(dynaBean.get(fieldPath), property);
-            } else {
-                String firstFieldName = fieldPath.substring(0, dotIndex);
-                String remainingFieldName = fieldPath.substring(dotIndex + 1);
-
-                DynaProperty dynaProperty = dynaBean.getDynaClass().getDynaProperty(firstFieldName);
-                Object fieldValue = dynaBean.get(dynaProperty.getName());
-
-                if (fieldValue instanceof DynaBean dynaBeanField) {
-                    return getFieldValue(remainingFieldName, dynaBeanField);
+            DynaBean currentBean = dynaBean;
+            for (int i = 0; i < keyPath.length - 1; i++) {
+                if (currentBean.get(keyPath[i]) instanceof DynaBean dynaBeanField) {
+                    currentBean = dynaBeanField;
                 } else {
                     return null;
                 }
             }
+
+            String fieldName = keyPath[keyPath.length - 1];
+            DynaProperty property = currentBean.getDynaClass().getDynaProperty(fieldName);
+            return new Pair<>(currentBean.get(fieldName), property);
         } catch (IllegalArgumentException e) {
             log.warn("Field {} not property in the schema", fieldPath);
             return null;
@@ -0,0 +1,145 @@
+package io.nuvalence.workmanager.service.audit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.nuvalence.events.event.dto.StateChangeEventData;
+import io.nuvalence.workmanager.service.audit.transaction.PriorityChangedAuditHandler;
+import io.nuvalence.workmanager.service.audit.transaction.StatusChangedAuditHandler;
+import io.nuvalence.workmanager.service.domain.transaction.Transaction;
+import io.nuvalence.workmanager.service.domain.transaction.TransactionPriority;
+import io.nuvalence.workmanager.service.models.auditevents.AuditActivityType;
+import io.nuvalence.workmanager.service.models.auditevents.AuditEventRequestObjectDto;
+import io.nuvalence.workmanager.service.service.AuditEventService;
+import io.nuvalence.workmanager.service.utils.RequestContextTimestamp;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@ExtendWith(MockitoExtension.class)
+class CoalescedAuditHandlerTest {
+
+    @Mock private AuditEventService auditEventService;
+    @Mock private AuditEventExecutor auditEventExecutor;
+    @Mock private RequestContextTimestamp requestContextTimestamp;
+
+    private final OffsetDateTime timestamp = OffsetDateTime.now();
+    private Transaction transaction;
+    private CoalescedAuditHandler<Transaction> auditHandler;
+
+    @BeforeEach
+    void setup() {
+        when(requestContextTimestamp.getCurrentTimestamp()).thenReturn(timestamp);
+        doAnswer(
+                        invocation -> {
+                            invocation.getArgument(0, Runnable.class).run();
+                            return null;
+                        })
+                .when(auditEventExecutor)
+                .execute(any(Runnable.class));
+
+        transaction =
+                Transaction.builder()
+                        .id(UUID.randomUUID())
+                        .externalId("externalId")
+                        .priority(TransactionPriority.LOW)
+                        .status("Draft")
+                        .build();
+        auditHandler =
+                new CoalescedAuditHandler<>(
+                        List.of(
+                                new PriorityChangedAuditHandler(auditEventService),
+                                new StatusChangedAuditHandler(auditEventService)),
+                        auditEventService,
+                        auditEventExecutor,
+                        requestContextTimestamp,
+                        AuditActivityType.TRANSACTION_UPDATED);
+    }
+
+    @Test
+    void publishAuditEvent_singleChange_recordsHandlerEvent() {
+        auditHandler.handlePreUpdateState(transaction);
+        transaction.setStatus("Review");
+        auditHandler.handlePostUpdateState(transaction);
+
+        auditHandler.publishAuditEvent("originatorId");
+
+        ArgumentCaptor<AuditEventRequestObjectDto> auditEventCaptor =
+                ArgumentCaptor.forClass(AuditEventRequestObjectDto.class);
+        verify(auditEventService).sendAuditEvent(auditEventCaptor.capture());
+
+        AuditEventRequestObjectDto capturedEvent = auditEventCaptor.getValue();
+        assertEquals(timestamp, capturedEvent.getTimestamp());
+        StateChangeEventData eventData = (StateChangeEventData) capturedEvent.getData();
+        assertEquals("Draft", eventData.getOldState());
+        assertEquals("Review", eventData.getNewState());
+        assertEquals(
+                AuditActivityType.TRANSACTION_STATUS_CHANGED.getValue(),
+                eventData.getActivityType());
+    }
+
+    @Test
+    void publishAuditEvent_severalChanges_recordsMergedEvent() throws Exception {
+        auditHandler.handlePreUpdateState(transaction);
+        transaction.setStatus("Review");
+        transaction.setPriority(TransactionPriority.HIGH);
+        auditHandler.handlePostUpdateState(transaction);
+
+        auditHandler.publishAuditEvent("originatorId");
+
+        ArgumentCaptor<AuditEventRequestObjectDto> auditEventCaptor =
+                ArgumentCaptor.forClass(AuditEventRequestObjectDto.class);
+        verify(auditEventService).sendAuditEvent(auditEventCaptor.capture());
+
+        AuditEventRequestObjectDto capturedEvent = auditEventCaptor.getValue();
+        assertEquals("originatorId", capturedEvent.getOriginatorId());
+        assertEquals(transaction.getId(), capturedEvent.getBusinessObjectId());
+        assertEquals(timestamp, capturedEvent.getTimestamp());
+        assertEquals(
+                "Transaction externalId priority was changed; Transaction externalId changed its"
+                        + " status to [Review]. Previously it was [Draft]",
+                capturedEvent.getSummary());
+
+        StateChangeEventData eventData = (StateChangeEventData) capturedEvent.getData();
+        assertEquals(AuditActivityType.TRANSACTION_UPDATED.getValue(), eventData.getActivityType());
+        ObjectMapper objectMapper = new ObjectMapper();
+        assertEquals(
+                Map.of(
+                        AuditActivityType.TRANSACTION_PRIORITY_CHANGED.getValue(),
+                        TransactionPriority.LOW.name(),
+                        AuditActivityType.TRANSACTION_STATUS_CHANGED.getValue(),
+                        "Draft"),
+                objectMapper.readValue(eventData.getOldState(), new TypeReference<>() {}));
+        assertEquals(
+                Map.of(
+                        AuditActivityType.TRANSACTION_PRIORITY_CHANGED.getValue(),
+                        TransactionPriority.HIGH.name(),
+                        AuditActivityType.TRANSACTION_STATUS_CHANGED.getValue(),
+                        "Review"),
+                objectMapper.readValue(eventData.getNewState(), new TypeReference<>() {}));
+    }
+
+    @Test
+    void publishAuditEvent_noChange_recordsNothing() {
+        auditHandler.handlePreUpdateState(transaction);
+        auditHandler.handlePostUpdateState(transaction);
+
+        auditHandler.publishAuditEvent("originatorId");
+
+        verify(auditEventService, never()).sendAuditEvent(any());
+    }
+}
@@ -3,9 +3,11 @@ package io.nuvalence.workmanager.service.audit;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.after;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
@@ -88,6 +90,7 @@ import java.util.UUID;
 @AutoConfigureMockMvc(addFilters = false)
 @ActiveProfiles("test")
 class DynamicDataChangedAuditHandlerTest {
+    private static final long AUDIT_TIMEOUT_MILLIS = 5000;
 
     private final JsonFileLoader jsonLoader = new JsonFileLoader();
     private String nestedSchemaKey = "OfficeInfo";
@@ -213,7 +216,8 @@ class DynamicDataChangedAuditHandlerTest {
 
         ArgumentCaptor<AuditEventRequestObjectDto> auditEventCaptor =
                 ArgumentCaptor.forClass(AuditEventRequestObjectDto.class);
-        verify(transactionAuditEventService).sendAuditEvent(auditEventCaptor.capture());
+        verify(transactionAuditEventService, timeout(AUDIT_TIMEOUT_MILLIS))
+                .sendAuditEvent(auditEventCaptor.capture());
 
         AuditEventRequestObjectDto capturedEvent = auditEventCaptor.getValue();
         ObjectMapper objectMapper = new ObjectMapper();
@@ -265,7 +269,8 @@ class DynamicDataChangedAuditHandlerTest {
 
         ArgumentCaptor<AuditEventRequestObjectDto> auditEventCaptor =
                 ArgumentCaptor.forClass(AuditEventRequestObjectDto.class);
-        verify(transactionAuditEventService).sendAuditEvent(auditEventCaptor.capture());
+        verify(transactionAuditEventService, timeout(AUDIT_TIMEOUT_MILLIS))
+                .sendAuditEvent(auditEventCaptor.capture());
 
         AuditEventRequestObjectDto capturedEvent = auditEventCaptor.getValue();
         ObjectMapper objectMapper = new ObjectMapper();
@@ -312,7 +317,8 @@ class DynamicDataChangedAuditHandlerTest {
 
         ArgumentCaptor<AuditEventRequestObjectDto> auditEventCaptor =
                 ArgumentCaptor.forClass(AuditEventRequestObjectDto.class);
-        verify(transactionAuditEventService).sendAuditEvent(auditEventCaptor.capture());
+        verify(transactionAuditEventService, timeout(AUDIT_TIMEOUT_MILLIS))
+                .sendAuditEvent(auditEventCaptor.capture());
 
         AuditEventRequestObjectDto capturedEvent = auditEventCaptor.getValue();
         ObjectMapper objectMapper = new ObjectMapper();
@@ -364,12 +370,17 @@ class DynamicDataChangedAuditHandlerTest {
                 .andExpect(jsonPath("$.id").value(savedTransaction.getId().toString()))
                 .andExpect(jsonPath("$.data.age").value("50"));
 
-        assertTrue(
-                output.getOut()
-                        .contains(
-                                "An unexpected exception occurred when recording audit event for"
-                                        + " dynamic data change in transaction "
-                                        + savedTransaction.getId()));
+        // audit events are recorded asynchronously
+        final String expectedMessage =
+                "An unexpected exception occurred when recording audit event for"
+                        + " dynamic data change in transaction "
+                        + savedTransaction.getId();
+        final long deadline = System.currentTimeMillis() + AUDIT_TIMEOUT_MILLIS;
+        while (!output.getOut().contains(expectedMessage)
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertTrue(output.getOut().contains(expectedMessage));
     }
 
     @Test
@@ -399,7 +410,8 @@ class DynamicDataChangedAuditHandlerTest {
 
         ArgumentCaptor<AuditEventRequestObjectDto> auditEventCaptor =
                 ArgumentCaptor.forClass(AuditEventRequestObjectDto.class);
-        verify(transactionAuditEventService).sendAuditEvent(auditEventCaptor.capture());
+        verify(transactionAuditEventService, timeout(AUDIT_TIMEOUT_MILLIS))
+                .sendAuditEvent(auditEventCaptor.capture());
 
         AuditEventRequestObjectDto capturedEvent = auditEventCaptor.getValue();
         ObjectMapper objectMapper = new ObjectMapper();
@@ -446,7 +458,8 @@ class DynamicDataChangedAuditHandlerTest {
         // Capture the arguments passed to postStateChangeEvent method
         ArgumentCaptor<AuditEventRequestObjectDto> auditEventCaptor =
                 ArgumentCaptor.forClass(AuditEventRequestObjectDto.class);
-        verify(transactionAuditEventService).sendAuditEvent(auditEventCaptor.capture());
+        verify(transactionAuditEventService, timeout(AUDIT_TIMEOUT_MILLIS))
+                .sendAuditEvent(auditEventCaptor.capture());
 
         AuditEventRequestObjectDto capturedEvent = auditEventCaptor.getValue();
         Assertions.assertNotNull(capturedEvent);
@@ -476,7 +489,7 @@ class DynamicDataChangedAuditHandlerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.id").value(savedTransaction.getId().toString()));
 
-        verify(transactionAuditEventService, never())
+        verify(transactionAuditEventService, after(AUDIT_TIMEOUT_MILLIS).never())
                 .sendAuditEvent(any(AuditEventRequestObjectDto.class));
     }
 
@@ -511,7 +524,8 @@ class DynamicDataChangedAuditHandlerTest {
 
         ArgumentCaptor<AuditEventRequestObjectDto> auditEventCaptor =
                 ArgumentCaptor.forClass(AuditEventRequestObjectDto.class);
-        verify(transactionAuditEventService).sendAuditEvent(auditEventCaptor.capture());
+        verify(transactionAuditEventService, timeout(AUDIT_TIMEOUT_MILLIS))
+                .sendAuditEvent(auditEventCaptor.capture());
 
         AuditEventRequestObjectDto capturedEvent = auditEventCaptor.getValue();
         Assertions.assertNotNull(capturedEvent);
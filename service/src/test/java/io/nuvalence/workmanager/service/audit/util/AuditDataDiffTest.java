@@ -0,0 +1,148 @@
+package io.nuvalence.workmanager.service.audit.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.nuvalence.workmanager.service.domain.dynamicschema.DynamicEntity;
+import io.nuvalence.workmanager.service.domain.dynamicschema.Schema;
+import io.nuvalence.workmanager.service.domain.dynamicschema.attributes.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+class AuditDataDiffTest {
+    private Schema addressSchema;
+    private Schema contactSchema;
+
+    @BeforeEach
+    void setup() {
+        addressSchema =
+                Schema.builder()
+                        .name("Address")
+                        .property("line1", String.class)
+                        .property("city", String.class)
+                        .build();
+        contactSchema =
+                Schema.builder()
+                        .name("Contact")
+                        .property("firstName", String.class)
+                        .property("lastName", String.class)
+                        .property("age", Integer.class)
+                        .computedProperty(
+                                "name", String.class, "#concat(\" \", firstName, lastName)")
+                        .property("address", addressSchema)
+                        .property("addresses", List.class, addressSchema)
+                        .property("document", Document.class)
+                        .build();
+    }
+
+    @Test
+    void between_sameData_isEmpty() {
+        final AuditDataDiff diff =
+                AuditDataDiff.between(
+                        AuditDataSnapshot.of(contact("Thomas", "New York")),
+                        AuditDataSnapshot.of(contact("Thomas", "New York")));
+
+        assertTrue(diff.isEmpty());
+    }
+
+    @Test
+    void between_changedValues_flattensOnlyChangedPaths() {
+        final AuditDataDiff diff =
+                AuditDataDiff.between(
+                        AuditDataSnapshot.of(contact("Thomas", "New York")),
+                        AuditDataSnapshot.of(contact("Neo", "Albany")));
+
+        assertEquals(
+                Map.of(
+                        "firstName", "Thomas",
+                        "address.city", "New York",
+                        "addresses[0].city", "New York"),
+                diff.getBefore());
+        assertEquals(
+                Map.of(
+                        "firstName", "Neo",
+                        "address.city", "Albany",
+                        "addresses[0].city", "Albany"),
+                diff.getAfter());
+    }
+
+    @Test
+    void between_addedAndRemovedValues() {
+        final DynamicEntity before = contact("Thomas", "New York");
+        final DynamicEntity after = contact("Thomas", "New York");
+        after.set("age", 37);
+        after.set("lastName", null);
+        final DynamicEntity secondAddress = new DynamicEntity(addressSchema);
+        secondAddress.set("city", "Albany");
+        after.add("addresses", secondAddress);
+
+        final AuditDataDiff diff =
+                AuditDataDiff.between(AuditDataSnapshot.of(before), AuditDataSnapshot.of(after));
+
+        assertEquals(Map.of("lastName", "Anderson"), diff.getBefore());
+        assertEquals(Map.of("age", "37", "addresses[1].city", "Albany"), diff.getAfter());
+    }
+
+    @Test
+    void between_changedDocument_recordsDocumentIds() {
+        final UUID previousDocumentId = UUID.randomUUID();
+        final UUID newDocumentId = UUID.randomUUID();
+        final DynamicEntity before = contact("Thomas", "New York");
+        before.set("document", new Document(previousDocumentId, "before.pdf"));
+        final DynamicEntity after = contact("Thomas", "New York");
+        after.set("document", new Document(newDocumentId, "after.pdf"));
+
+        final AuditDataDiff diff =
+                AuditDataDiff.between(AuditDataSnapshot.of(before), AuditDataSnapshot.of(after));
+
+        assertEquals(Map.of("document", previousDocumentId.toString()), diff.getBefore());
+        assertEquals(Map.of("document", newDocumentId.toString()), diff.getAfter());
+    }
+
+    @Test
+    void of_unchangedSubtrees_haveEqualHashes() {
+        final AuditDataSnapshot before = AuditDataSnapshot.of(contact("Thomas", "New York"));
+        final AuditDataSnapshot after = AuditDataSnapshot.of(contact("Neo", "New York"));
+
+        assertEquals(
+                before.getAttributes().get("address").getHash(),
+                after.getAttributes().get("address").getHash());
+        assertEquals(
+                before.getAttributes().get("addresses").getHash(),
+                after.getAttributes().get("addresses").getHash());
+        assertTrue(before.getHash() != after.getHash());
+    }
+
+    @Test
+    void of_nullEntity_isEmpty() {
+        final AuditDataDiff diff =
+                AuditDataDiff.between(
+                        AuditDataSnapshot.of(null), AuditDataSnapshot.of(contact("Thomas", null)));
+
+        assertEquals(Map.of(), diff.getBefore());
+        assertEquals(Map.of("firstName", "Thomas", "lastName", "Anderson"), diff.getAfter());
+    }
+
+    private DynamicEntity contact(String firstName, String city) {
+        final DynamicEntity contact = new DynamicEntity(contactSchema);
+        contact.set("firstName", firstName);
+        contact.set("lastName", "Anderson");
+        if (city != null) {
+            contact.set("address", address(city));
+            contact.add("addresses", address(city));
+        }
+
+        return contact;
+    }
+
+    private DynamicEntity address(String city) {
+        final DynamicEntity address = new DynamicEntity(addressSchema);
+        address.set("line1", "123 Street St");
+        address.set("city", city);
+        return address;
+    }
+}
@@ -3,6 +3,7 @@ package io.nuvalence.workmanager.service.camunda.delegates;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyBoolean;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.eq;
@@ -96,37 +97,15 @@ class FormValidationDelegateTest {
 
         doNothing()
                 .when(transactionService)
-                .validateFormStep(
-                        eq(stepKeyOne),
-                        eq(transactionDefinitionKey),
-                        eq(transaction),
-                        any(),
-                        any());
-        doNothing()
-                .when(transactionService)
-                .validateFormStep(
-                        eq(stepKeyTwo),
-                        eq(transactionDefinitionKey),
-                        eq(transaction),
-                        any(),
-                        any());
+                .validateForm(
+                        eq(transactionDefinitionKey), eq(transaction), any(), eq(""), eq(false));
 
         delegate.execute(execution);
 
         verify(transactionService, times(1))
-                .validateFormStep(
-                        eq(stepKeyOne),
-                        eq(transactionDefinitionKey),
-                        eq(transaction),
-                        any(),
-                        any());
-        verify(transactionService, times(1))
-                .validateFormStep(
-                        eq(stepKeyTwo),
-                        eq(transactionDefinitionKey),
-                        eq(transaction),
-                        any(),
-                        any());
+                .validateForm(
+                        eq(transactionDefinitionKey), eq(transaction), any(), eq(""), eq(false));
+        verify(transactionService, never()).validateFormStep(any(), any(), any(), any(), any());
     }
 
     @Test
@@ -173,50 +152,24 @@ class FormValidationDelegateTest {
 
         String errorMessageOne = "Error Message One";
         String errorMessageTwo = "Error Message Two";
-        NuvalenceFormioValidationExItem nuvalenceFormioValidationExItemOne =
-                NuvalenceFormioValidationExItem.builder().errorName(errorMessageOne).build();
-        NuvalenceFormioValidationExItem nuvalenceFormioValidationExItemTwo =
-                NuvalenceFormioValidationExItem.builder().errorName(errorMessageTwo).build();
-
-        List<NuvalenceFormioValidationExItem> formioErrorsOne =
-                new ArrayList<>(Arrays.asList(nuvalenceFormioValidationExItemOne));
-        List<NuvalenceFormioValidationExItem> formioErrorsTwo =
-                new ArrayList<>(Arrays.asList(nuvalenceFormioValidationExItemTwo));
-        List<NuvalenceFormioValidationExItem> formioErrorsTotal =
+        List<NuvalenceFormioValidationExItem> formioErrors =
                 new ArrayList<>(
                         Arrays.asList(
-                                nuvalenceFormioValidationExItemOne,
-                                nuvalenceFormioValidationExItemTwo));
-
-        NuvalenceFormioValidationExMessage formioValidationExMessageOne =
-                NuvalenceFormioValidationExMessage.builder()
-                        .formioValidationErrors(formioErrorsOne)
-                        .build();
-        NuvalenceFormioValidationExMessage formioValidationExMessageTwo =
-                NuvalenceFormioValidationExMessage.builder()
-                        .formioValidationErrors(formioErrorsTwo)
-                        .build();
-        NuvalenceFormioValidationExMessage formioValidationExMessageTotal =
+                                NuvalenceFormioValidationExItem.builder()
+                                        .errorName(errorMessageOne)
+                                        .build(),
+                                NuvalenceFormioValidationExItem.builder()
+                                        .errorName(errorMessageTwo)
+                                        .build()));
+        NuvalenceFormioValidationExMessage formioValidationExMessage =
                 NuvalenceFormioValidationExMessage.builder()
-                        .formioValidationErrors(formioErrorsTotal)
+                        .formioValidationErrors(formioErrors)
                         .build();
 
-        doThrow(new NuvalenceFormioValidationException(formioValidationExMessageOne))
+        doThrow(new NuvalenceFormioValidationException(formioValidationExMessage))
                 .when(transactionService)
-                .validateFormStep(
-                        eq(stepKeyOne),
-                        eq(transactionDefinitionKey),
-                        eq(transaction),
-                        any(),
-                        any());
-        doThrow(new NuvalenceFormioValidationException(formioValidationExMessageTwo))
-                .when(transactionService)
-                .validateFormStep(
-                        eq(stepKeyTwo),
-                        eq(transactionDefinitionKey),
-                        eq(transaction),
-                        any(),
-                        any());
+                .validateForm(
+                        eq(transactionDefinitionKey), eq(transaction), any(), eq(""), eq(false));
 
         NuvalenceFormioValidationException exception =
                 assertThrows(
@@ -329,7 +282,8 @@ class FormValidationDelegateTest {
 
         delegate.execute(execution);
 
-        verify(transactionService, never()).validateFormStep(any(), any(), any(), any(), any());
+        verify(transactionService, never())
+                .validateForm(any(), any(), any(), any(), anyBoolean());
     }
 
     @Test
@@ -354,6 +308,7 @@ class FormValidationDelegateTest {
 
         delegate.execute(execution);
 
-        verify(transactionService, never()).validateFormStep(any(), any(), any(), any(), any());
+        verify(transactionService, never())
+                .validateForm(any(), any(), any(), any(), anyBoolean());
     }
 }
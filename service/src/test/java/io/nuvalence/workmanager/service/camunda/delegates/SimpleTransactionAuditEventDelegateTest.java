@@ -53,7 +53,7 @@ class SimpleTransactionAuditEventDelegateTest {
             Optional<Transaction> optionalTransaction = Optional.of(transaction);
 
             when(execution.getVariable("transactionId")).thenReturn(transactionId);
-            when(transactionService.getTransactionById(transactionId))
+            when(transactionService.getTransactionByIdForWorkflow(transactionId))
                     .thenReturn(optionalTransaction);
             mocked.when(SecurityContextUtility::getAuthenticatedUserId).thenReturn(originatorId);
             CamundaProperties camundaProperties = Mockito.mock(CamundaProperties.class);
@@ -90,11 +90,12 @@ class SimpleTransactionAuditEventDelegateTest {
             UUID transactionId = UUID.randomUUID();
             String originatorId = UUID.randomUUID().toString();
             when(execution.getVariable("transactionId")).thenReturn(transactionId);
-            when(transactionService.getTransactionById(transactionId)).thenReturn(Optional.empty());
+            when(transactionService.getTransactionByIdForWorkflow(transactionId))
+                    .thenReturn(Optional.empty());
             mocked.when(SecurityContextUtility::getAuthenticatedUserId).thenReturn(originatorId);
             service.execute(execution);
             verify(execution).getVariable("transactionId");
-            verify(transactionService).getTransactionById(transactionId);
+            verify(transactionService).getTransactionByIdForWorkflow(transactionId);
 
             String outputString = output.getOut();
 
@@ -116,7 +117,8 @@ class SimpleTransactionAuditEventDelegateTest {
             UUID transactionId = UUID.randomUUID();
             String originatorId = UUID.randomUUID().toString();
             when(execution.getVariable("transactionId")).thenReturn(transactionId);
-            when(transactionService.getTransactionById(any())).thenThrow(RuntimeException.class);
+            when(transactionService.getTransactionByIdForWorkflow(any()))
+                    .thenThrow(RuntimeException.class);
             mocked.when(SecurityContextUtility::getAuthenticatedUserId).thenReturn(originatorId);
             service.execute(execution);
             verify(transactionAuditEventService, never())
@@ -147,7 +149,7 @@ class SimpleTransactionAuditEventDelegateTest {
             Optional<Transaction> optionalTransaction = Optional.of(transaction);
 
             when(execution.getVariable("transactionId")).thenReturn(transactionId);
-            when(transactionService.getTransactionById(transactionId))
+            when(transactionService.getTransactionByIdForWorkflow(transactionId))
                     .thenReturn(optionalTransaction);
             mocked.when(SecurityContextUtility::getAuthenticatedUserId).thenReturn(originatorId);
             CamundaProperties camundaProperties = Mockito.mock(CamundaProperties.class);
@@ -165,7 +167,7 @@ class SimpleTransactionAuditEventDelegateTest {
 
             service.execute(execution);
             verify(execution).getVariable("transactionId");
-            verify(transactionService).getTransactionById(transactionId);
+            verify(transactionService).getTransactionByIdForWorkflow(transactionId);
 
             String outputString = output.getOut();
 
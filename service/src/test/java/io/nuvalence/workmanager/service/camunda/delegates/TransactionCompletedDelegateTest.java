@@ -46,7 +46,7 @@ class TransactionCompletedDelegateTest {
         Transaction transaction = new Transaction();
 
         when(execution.getVariable("transactionId")).thenReturn(transactionId);
-        when(transactionService.getTransactionById(transactionId))
+        when(transactionService.getTransactionByIdForWorkflow(transactionId))
                 .thenReturn(Optional.of(transaction));
 
         if (!undoCompleted) {
@@ -68,7 +68,7 @@ class TransactionCompletedDelegateTest {
 
         ArgumentCaptor<Transaction> transactionCaptor = ArgumentCaptor.forClass(Transaction.class);
 
-        verify(transactionService).getTransactionById(transactionId);
+        verify(transactionService).getTransactionByIdForWorkflow(transactionId);
         verify(transactionService).updateTransaction(transactionCaptor.capture());
         if (undoCompleted) {
             assertFalse(transactionCaptor.getValue().getIsCompleted());
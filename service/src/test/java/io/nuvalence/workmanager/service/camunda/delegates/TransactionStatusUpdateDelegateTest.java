@@ -67,7 +67,7 @@ class TransactionStatusUpdateDelegateTest {
         // Act and Assert
         statusUpdateDelegate.execute(execution);
 
-        Mockito.verify(transactionService).getTransactionById(transactionId);
+        Mockito.verify(transactionService).getTransactionByIdForWorkflow(transactionId);
 
         ArgumentCaptor<Transaction> transactionCaptor = ArgumentCaptor.forClass(Transaction.class);
         Mockito.verify(transactionService).updateTransaction(transactionCaptor.capture());
@@ -110,7 +110,7 @@ class TransactionStatusUpdateDelegateTest {
         // Act and Assert
         statusUpdateDelegate.execute(execution);
 
-        Mockito.verify(transactionService).getTransactionById(transactionId);
+        Mockito.verify(transactionService).getTransactionByIdForWorkflow(transactionId);
 
         ArgumentCaptor<Transaction> transactionCaptor = ArgumentCaptor.forClass(Transaction.class);
         Mockito.verify(transactionService).updateTransaction(transactionCaptor.capture());
@@ -133,7 +133,7 @@ class TransactionStatusUpdateDelegateTest {
         mockCamundaProperty(camundaProperties);
 
         TransactionService transactionService = Mockito.mock(TransactionService.class);
-        Mockito.when(transactionService.getTransactionById(transactionId))
+        Mockito.when(transactionService.getTransactionByIdForWorkflow(transactionId))
                 .thenReturn(Optional.empty());
 
         TransactionStatusUpdateDelegate statusUpdateDelegate =
@@ -143,7 +143,7 @@ class TransactionStatusUpdateDelegateTest {
         statusUpdateDelegate.execute(execution);
 
         // Verify that transactionService methods were called with default status
-        Mockito.verify(transactionService).getTransactionById(transactionId);
+        Mockito.verify(transactionService).getTransactionByIdForWorkflow(transactionId);
         Mockito.verify(transactionService, Mockito.never())
                 .updateTransaction(Mockito.any(Transaction.class));
     }
@@ -199,7 +199,7 @@ class TransactionStatusUpdateDelegateTest {
                         .build();
 
         Optional<Transaction> transactionOptional = Optional.of(transaction);
-        Mockito.when(transactionService.getTransactionById(transactionId))
+        Mockito.when(transactionService.getTransactionByIdForWorkflow(transactionId))
                 .thenReturn(transactionOptional);
         Mockito.when(transactionService.updateTransaction(transaction)).thenReturn(transaction);
     }
@@ -0,0 +1,206 @@
+package io.nuvalence.workmanager.service.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+
+import dev.cerbos.sdk.CerbosBlockingClient;
+import dev.cerbos.sdk.CerbosClientBuilder;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.nuvalence.auth.access.AccessResource;
+import io.nuvalence.auth.util.SecurityContextUtility;
+import io.nuvalence.workmanager.service.service.AccessProfileService;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.springframework.context.support.StaticApplicationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+import org.testcontainers.utility.MountableFile;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Runs CerbosBatchAuthorizer against a Cerbos server loaded with the test policy in
+ * resources/cerbos/policies, which lets owners view their resources. Requires Docker; skipped
+ * otherwise.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class CerbosBatchAuthorizerTest {
+    private static final int GRPC_PORT = 3593;
+    private static final int HTTP_PORT = 3592;
+    private static final int MAX_RESOURCES_PER_REQUEST = 2;
+
+    @Container
+    private static final GenericContainer<?> CERBOS =
+            new GenericContainer<>(DockerImageName.parse("ghcr.io/cerbos/cerbos:0.32.0"))
+                    .withCopyFileToContainer(
+                            MountableFile.forClasspathResource("cerbos/policies"), "/policies")
+                    .withExposedPorts(HTTP_PORT, GRPC_PORT)
+                    .waitingFor(Wait.forHttp("/_cerbos/health").forPort(HTTP_PORT));
+
+    private static CerbosBlockingClient cerbosClient;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CerbosBatchAuthorizer authorizer;
+    private MockedStatic<SecurityContextUtility> securityContextUtility;
+    private String userId;
+
+    @BeforeAll
+    static void connect() throws CerbosClientBuilder.InvalidClientConfigurationException {
+        cerbosClient =
+                new CerbosClientBuilder(CERBOS.getHost() + ":" + CERBOS.getMappedPort(GRPC_PORT))
+                        .withPlaintext()
+                        .buildBlockingClient();
+    }
+
+    @BeforeEach
+    void setup() {
+        final StaticApplicationContext applicationContext = new StaticApplicationContext();
+        applicationContext.refresh();
+        meterRegistry = new SimpleMeterRegistry();
+        authorizer =
+                new CerbosBatchAuthorizer(
+                        cerbosClient,
+                        new CerbosPrincipalAttributeProviderImpl(mock(AccessProfileService.class)),
+                        applicationContext,
+                        meterRegistry,
+                        Duration.ofMinutes(1),
+                        100,
+                        MAX_RESOURCES_PER_REQUEST);
+
+        securityContextUtility = mockStatic(SecurityContextUtility.class);
+        authenticateAs(UUID.randomUUID().toString());
+    }
+
+    @AfterEach
+    void tearDown() {
+        securityContextUtility.close();
+        SecurityContextHolder.clearContext();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void filterAllowedSplitsResourcesIntoBatches() {
+        final String otherUserId = UUID.randomUUID().toString();
+        final List<TestResource> resources =
+                List.of(
+                        new TestResource(userId),
+                        new TestResource(otherUserId),
+                        new TestResource(userId),
+                        new TestResource(userId),
+                        new TestResource(otherUserId));
+
+        final List<TestResource> allowed = authorizer.filterAllowed("view", resources);
+
+        assertEquals(List.of(resources.get(0), resources.get(2), resources.get(3)), allowed);
+        assertEquals(3, roundTrips());
+        assertEquals(5, checkedResources());
+    }
+
+    @Test
+    void filterAllowedReusesCachedDecisions() {
+        final List<TestResource> resources =
+                List.of(new TestResource(userId), new TestResource(UUID.randomUUID().toString()));
+        authorizer.filterAllowed("view", resources);
+
+        final List<TestResource> allowed = authorizer.filterAllowed("view", resources);
+
+        assertEquals(List.of(resources.get(0)), allowed);
+        assertEquals(1, roundTrips());
+        assertEquals(2, checkedResources());
+    }
+
+    @Test
+    void filterAllowedChecksAgainForAnotherAction() {
+        final List<TestResource> resources = List.of(new TestResource(userId));
+        authorizer.filterAllowed("view", resources);
+
+        assertTrue(authorizer.filterAllowed("update", resources).isEmpty());
+        assertEquals(2, roundTrips());
+    }
+
+    @Test
+    void filterAllowedChecksAgainForAnotherPrincipal() {
+        final List<TestResource> resources = List.of(new TestResource(userId));
+        authorizer.filterAllowed("view", resources);
+
+        authenticateAs(UUID.randomUUID().toString());
+
+        assertTrue(authorizer.filterAllowed("view", resources).isEmpty());
+        assertEquals(2, roundTrips());
+    }
+
+    @Test
+    void filterAllowedOnlyChecksResourcesNotCachedYet() {
+        final TestResource cached = new TestResource(userId);
+        final TestResource uncached = new TestResource(UUID.randomUUID().toString());
+        authorizer.filterAllowed("view", List.of(cached));
+
+        final List<TestResource> allowed =
+                authorizer.filterAllowed("view", List.of(cached, uncached));
+
+        assertEquals(List.of(cached), allowed);
+        assertEquals(2, roundTrips());
+        assertEquals(2, checkedResources());
+    }
+
+    @Test
+    void filterAllowedRecordsRoundTripsPerHttpRequest() {
+        final ServletRequestAttributes requestAttributes =
+                new ServletRequestAttributes(new MockHttpServletRequest());
+        RequestContextHolder.setRequestAttributes(requestAttributes);
+
+        authorizer.filterAllowed(
+                "view",
+                List.of(
+                        new TestResource(userId),
+                        new TestResource(userId),
+                        new TestResource(userId)));
+        requestAttributes.requestCompleted();
+
+        final DistributionSummary summary =
+                meterRegistry.get("cerbos.check.requests.per.http.request").summary();
+        assertEquals(1, summary.count());
+        assertEquals(2, summary.totalAmount());
+    }
+
+    private void authenticateAs(String id) {
+        userId = id;
+        securityContextUtility.when(SecurityContextUtility::getAuthenticatedUserId).thenReturn(id);
+        SecurityContextHolder.getContext()
+                .setAuthentication(new TestingAuthenticationToken(id, null, "ROLE_USER"));
+    }
+
+    private double roundTrips() {
+        return meterRegistry.get("cerbos.check.requests").counter().count();
+    }
+
+    private double checkedResources() {
+        return meterRegistry.get("cerbos.check.resources").counter().count();
+    }
+
+    /** Resource checked against the test policy. */
+    @Getter
+    @AllArgsConstructor
+    @AccessResource("test_resource")
+    static class TestResource {
+        private final String owner;
+    }
+}
@@ -90,7 +90,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
-import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.InputStreamResource;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -103,8 +103,9 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 
-import java.io.File;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.OffsetDateTime;
 import java.time.Period;
 import java.util.ArrayList;
@@ -1679,16 +1680,15 @@ class AdminApiDelegateImplTest {
 
     @Test
     void exportConfiguration() throws Exception {
-
-        File tempFile = new File("tmp");
-        tempFile.createNewFile();
-        when(configurationUtility.getConfiguration()).thenReturn(new FileSystemResource("tmp"));
+        byte[] archive = "archive".getBytes(StandardCharsets.UTF_8);
+        when(configurationUtility.getConfiguration())
+                .thenReturn(new InputStreamResource(new ByteArrayInputStream(archive)));
 
         mockMvc.perform(get("/api/v1/admin/configuration/export"))
                 .andExpect(status().isOk())
-                .andExpect(content().contentType("application/zip"));
+                .andExpect(content().contentType("application/zip"))
+                .andExpect(content().bytes(archive));
 
-        assert (tempFile.delete());
         verify(configurationUtility, times(1)).getConfiguration();
     }
 
@@ -63,10 +63,12 @@ import org.springframework.test.web.servlet.MockMvc;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import jakarta.ws.rs.ForbiddenException;
 
@@ -858,12 +860,7 @@ class ConversationsApiDelegateImplTest {
         doNothing()
                 .when(entityReferenceService)
                 .validateEntityReference(any(EntityReference.class), any(UUID.class));
-        when(messageService.getOriginalMessageByConversationId(any()))
-                .thenReturn(Optional.of(createMessage()));
-        when(messageService.countByConversationId(any())).thenReturn(1);
-        when(messageService.getOriginalMessageByConversationId(any()))
-                .thenReturn(Optional.of(createMessage()));
-        when(messageService.countByConversationId(any())).thenReturn(1);
+        mockConversationPageMessages();
 
         mockMvc.perform(
                         get("/api/v1/conversations")
@@ -909,9 +906,7 @@ class ConversationsApiDelegateImplTest {
         doNothing()
                 .when(entityReferenceService)
                 .validateEntityReference(any(EntityReference.class), eq(null));
-        when(messageService.getOriginalMessageByConversationId(any()))
-                .thenReturn(Optional.of(createMessage()));
-        when(messageService.countByConversationId(any())).thenReturn(1);
+        mockConversationPageMessages();
 
         mockMvc.perform(
                         get("/api/v1/conversations")
@@ -952,9 +947,7 @@ class ConversationsApiDelegateImplTest {
         doNothing()
                 .when(entityReferenceService)
                 .validateEntityReference(any(EntityReference.class), any(UUID.class));
-        when(messageService.getOriginalMessageByConversationId(any()))
-                .thenReturn(Optional.of(createMessage()));
-        when(messageService.countByConversationId(any())).thenReturn(1);
+        mockConversationPageMessages();
 
         mockMvc.perform(
                         get("/api/v1/conversations")
@@ -1028,9 +1021,7 @@ class ConversationsApiDelegateImplTest {
         doNothing()
                 .when(entityReferenceService)
                 .validateEntityReference(any(EntityReference.class), eq(null));
-        when(messageService.getOriginalMessageByConversationId(any()))
-                .thenReturn(Optional.of(createMessage()));
-        when(messageService.countByConversationId(any())).thenReturn(1);
+        mockConversationPageMessages();
 
         mockMvc.perform(
                         get("/api/v1/conversations")
@@ -1131,12 +1122,28 @@ class ConversationsApiDelegateImplTest {
 
     private Page<Conversation> createConversationPage() {
         Conversation conversation = createConversation();
+        conversation.setId(UUID.randomUUID());
         List<Message> messages = List.of(createMessage());
         conversation.setReplies(messages);
         List<Conversation> conversations = Arrays.asList(conversation);
         return new PageImpl<>(conversations);
     }
 
+    private void mockConversationPageMessages() {
+        when(messageService.getOriginalMessagesByConversationIds(any()))
+                .thenAnswer(
+                        invocation ->
+                                invocation.<Collection<UUID>>getArgument(0).stream()
+                                        .collect(
+                                                Collectors.toMap(
+                                                        id -> id, id -> createMessage())));
+        when(messageService.countByConversationIds(any()))
+                .thenAnswer(
+                        invocation ->
+                                invocation.<Collection<UUID>>getArgument(0).stream()
+                                        .collect(Collectors.toMap(id -> id, id -> 1)));
+    }
+
     private Page<Message> createMessagePage() {
         List<Message> messages = List.of(createMessage(), createMessage());
         return new PageImpl<>(messages);
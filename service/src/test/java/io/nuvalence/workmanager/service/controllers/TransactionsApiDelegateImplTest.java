@@ -14,6 +14,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -67,6 +68,7 @@ import io.nuvalence.workmanager.service.generated.models.CustomerProvidedDocumen
 import io.nuvalence.workmanager.service.generated.models.CustomerProvidedDocumentModelResponse;
 import io.nuvalence.workmanager.service.generated.models.InitiateDocumentProcessingModelRequest;
 import io.nuvalence.workmanager.service.generated.models.LinkedTransaction;
+import io.nuvalence.workmanager.service.generated.models.TransactionBulkCreationRequest;
 import io.nuvalence.workmanager.service.generated.models.TransactionCountByStatusModel;
 import io.nuvalence.workmanager.service.generated.models.TransactionCreationRequest;
 import io.nuvalence.workmanager.service.generated.models.TransactionLinkModificationRequest;
@@ -74,7 +76,10 @@ import io.nuvalence.workmanager.service.generated.models.TransactionUpdateReques
 import io.nuvalence.workmanager.service.mapper.MissingSchemaException;
 import io.nuvalence.workmanager.service.mapper.OffsetDateTimeMapper;
 import io.nuvalence.workmanager.service.models.SearchTransactionsFilters;
+import io.nuvalence.workmanager.service.models.TransactionCreationResult;
 import io.nuvalence.workmanager.service.models.TransactionFilters;
+import io.nuvalence.workmanager.service.models.TransactionSummary;
+import io.nuvalence.workmanager.service.models.TransactionSummaryFields;
 import io.nuvalence.workmanager.service.models.auditevents.AuditActivityType;
 import io.nuvalence.workmanager.service.service.DocumentManagementService;
 import io.nuvalence.workmanager.service.service.EmployerUserLinkService;
@@ -91,6 +96,7 @@ import io.nuvalence.workmanager.service.usermanagementapi.UserManagementService;
 import io.nuvalence.workmanager.service.usermanagementapi.models.User;
 import io.nuvalence.workmanager.service.utils.JsonFileLoader;
 import io.nuvalence.workmanager.service.utils.UserUtility;
+import io.nuvalence.workmanager.service.utils.auth.BatchAuthorizationHandler;
 import io.nuvalence.workmanager.service.utils.auth.CurrentUserUtility;
 import org.apache.commons.beanutils.DynaProperty;
 import org.hamcrest.Matchers;
@@ -110,10 +116,12 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
 import org.springframework.boot.test.system.CapturedOutput;
 import org.springframework.boot.test.system.OutputCaptureExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.context.SecurityContext;
@@ -172,6 +180,8 @@ class TransactionsApiDelegateImplTest {
 
     @MockBean private AuthorizationHandler authorizationHandler;
 
+    @SpyBean private BatchAuthorizationHandler batchAuthorizationHandler;
+
     @MockBean private TransactionService transactionService;
     @MockBean private SchemaService schemaService;
     @MockBean private TransactionDefinitionService transactionDefinitionService;
@@ -741,6 +751,69 @@ class TransactionsApiDelegateImplTest {
         }
     }
 
+    @Test
+    void getTransactionsSummaryViewReadsRequestedFieldsWithinAccessSpecification()
+            throws Exception {
+        final Specification<Transaction> access =
+                (root, query, criteriaBuilder) -> criteriaBuilder.conjunction();
+        doReturn(Optional.of(access))
+                .when(batchAuthorizationHandler)
+                .getAccessSpecification(eq("view"), eq(Transaction.class), any());
+
+        final TransactionSummary summary = new TransactionSummary();
+        summary.setId(UUID.randomUUID());
+        summary.setStatus("Review");
+        summary.getData().put("address.city", "Paris");
+        when(transactionService.getFilteredTransactionSummaries(any(), any(), eq(access)))
+                .thenReturn(new PageImpl<>(List.of(summary)));
+
+        try (MockedStatic<UserUtility> mock = Mockito.mockStatic(UserUtility.class)) {
+            mock.when(UserUtility::getAuthenticatedUserType).thenReturn("agency");
+
+            mockMvc.perform(get("/api/v1/transactions?fields=status,data.address.city"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.items", hasSize(1)))
+                    .andExpect(jsonPath("$.items[0].id").value(summary.getId().toString()))
+                    .andExpect(jsonPath("$.items[0].status").value("Review"))
+                    .andExpect(jsonPath("$.items[0].data.address.city").value("Paris"));
+        }
+
+        final ArgumentCaptor<TransactionSummaryFields> fields =
+                ArgumentCaptor.forClass(TransactionSummaryFields.class);
+        verify(transactionService)
+                .getFilteredTransactionSummaries(any(), fields.capture(), eq(access));
+        assertEquals(Set.of("id", "status"), fields.getValue().getProperties());
+        assertEquals(Set.of("address.city"), fields.getValue().getDataPaths());
+        verify(transactionService, never()).getFilteredTransactions(any());
+    }
+
+    @Test
+    void getTransactionsSummaryViewFiltersFullTransactionsWhenAccessIsNotAQuery()
+            throws Exception {
+        doReturn(Optional.empty())
+                .when(batchAuthorizationHandler)
+                .getAccessSpecification(eq("view"), eq(Transaction.class), any());
+
+        final Transaction allowed = getCommonTransactionBuilder().externalId("allowed").build();
+        final Transaction denied = getCommonTransactionBuilder().externalId("denied").build();
+        mockPrivateTransactionDefinition(allowed);
+        mockPrivateTransactionDefinition(denied);
+        when(transactionService.getFilteredTransactions(any()))
+                .thenReturn(new PageImpl<>(List.of(allowed, denied)));
+        when(authorizationHandler.isAllowedForInstance("view", denied)).thenReturn(false);
+
+        try (MockedStatic<UserUtility> mock = Mockito.mockStatic(UserUtility.class)) {
+            mock.when(UserUtility::getAuthenticatedUserType).thenReturn("agency");
+
+            mockMvc.perform(get("/api/v1/transactions?view=summary"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.items", hasSize(1)))
+                    .andExpect(jsonPath("$.items[0].externalId").value("allowed"));
+        }
+
+        verify(transactionService, never()).getFilteredTransactionSummaries(any(), any(), any());
+    }
+
     @Test
     void getTransactionsInvalidMaxsize() throws Exception {
         // Arrange
@@ -1245,6 +1318,82 @@ class TransactionsApiDelegateImplTest {
                 .andExpect(jsonPath("$.id").value(transaction.getId().toString()));
     }
 
+    @Test
+    void postTransactionsReportsResultPerItem() throws Exception {
+        when(individualService.createOrGetIndividualForCurrentUser())
+                .thenReturn(Individual.builder().build());
+
+        final TransactionDefinition transactionDefinition =
+                TransactionDefinition.builder()
+                        .id(UUID.randomUUID())
+                        .key("key")
+                        .processDefinitionKey("key")
+                        .subjectType(ProfileType.INDIVIDUAL)
+                        .schemaKey("schemaKey")
+                        .build();
+        Mockito.when(transactionDefinitionService.getTransactionDefinitionByKey("key"))
+                .thenReturn(Optional.of(transactionDefinition));
+        Mockito.when(transactionDefinitionService.getTransactionDefinitionByKey("missing"))
+                .thenReturn(Optional.empty());
+        Mockito.when(schemaService.getSchemaByKey("schemaKey"))
+                .thenReturn(Optional.of(Schema.builder().key("schemaKey").build()));
+
+        final Transaction transaction =
+                Transaction.builder()
+                        .id(UUID.randomUUID())
+                        .transactionDefinitionId(transactionDefinition.getId())
+                        .transactionDefinitionKey("key")
+                        .processInstanceId("processInstanceId")
+                        .status("new")
+                        .createdTimestamp(OffsetDateTime.now())
+                        .lastUpdatedTimestamp(OffsetDateTime.now())
+                        .data(new DynamicEntity(Schema.builder().build()))
+                        .subjectProfileId(UUID.randomUUID())
+                        .subjectProfileType(ProfileType.INDIVIDUAL)
+                        .build();
+        mockPrivateTransactionDefinition(transaction);
+        when(transactionService.createTransactions(any(), any()))
+                .thenReturn(
+                        List.of(
+                                TransactionCreationResult.created(transaction),
+                                TransactionCreationResult.failed("process start failed")));
+
+        final TransactionBulkCreationRequest request =
+                new TransactionBulkCreationRequest()
+                        .transactions(
+                                List.of(
+                                        new TransactionCreationRequest()
+                                                .transactionDefinitionKey("key"),
+                                        new TransactionCreationRequest()
+                                                .transactionDefinitionKey("missing"),
+                                        new TransactionCreationRequest()
+                                                .transactionDefinitionKey("key")));
+        final String postBody = new ObjectMapper().writeValueAsString(request);
+
+        // Act and Assert
+        mockMvc.perform(
+                        post("/api/v1/transactions/bulk")
+                                .header("Authorization", "token")
+                                .content(postBody)
+                                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results[0].status").value("CREATED"))
+                .andExpect(
+                        jsonPath("$.results[0].transaction.id")
+                                .value(transaction.getId().toString()))
+                .andExpect(jsonPath("$.results[1].status").value("FAILED"))
+                .andExpect(jsonPath("$.results[2].index").value(2))
+                .andExpect(jsonPath("$.results[2].error").value("process start failed"));
+
+        verify(transactionDefinitionService, times(1)).getTransactionDefinitionByKey("key");
+        verify(individualUserLinkService, times(1)).createAdminUserLinkForProfile(transaction);
+        // created transactions are mapped as one page, and audited by the service
+        verify(transactionTaskService, times(1))
+                .getActiveTasksForCurrentUserByTransactionId(List.of(transaction));
+        verify(transactionTaskService, never()).getActiveTasksForCurrentUser(any());
+        verify(transactionService, never()).postAuditEventForTransactionCreated(any());
+    }
+
     @Test
     void postTransactionWithoutPermissions() throws Exception {
         final TransactionCreationRequest request =
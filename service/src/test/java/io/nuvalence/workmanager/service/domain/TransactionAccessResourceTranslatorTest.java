@@ -36,7 +36,7 @@ class TransactionAccessResourceTranslatorTest {
         Transaction transaction = new Transaction();
         TransactionModel expectedModel = new TransactionModel();
         when(applicationContext.getBean(TransactionMapper.class)).thenReturn(mapper);
-        when(mapper.transactionToTransactionModel(transaction)).thenReturn(expectedModel);
+        when(mapper.transactionToAccessResourceModel(transaction)).thenReturn(expectedModel);
 
         // Act
         Object result = translator.translate(transaction);
@@ -44,7 +44,7 @@ class TransactionAccessResourceTranslatorTest {
         // Assert
         assertEquals(expectedModel, result);
         verify(applicationContext, times(1)).getBean(TransactionMapper.class);
-        verify(mapper, times(1)).transactionToTransactionModel(transaction);
+        verify(mapper, times(1)).transactionToAccessResourceModel(transaction);
     }
 
     @Test
@@ -58,6 +58,6 @@ class TransactionAccessResourceTranslatorTest {
         // Assert
         assertEquals(resource, result);
         verify(applicationContext, never()).getBean((String) any());
-        verify(mapper, never()).transactionToTransactionModel(any());
+        verify(mapper, never()).transactionToAccessResourceModel(any());
     }
 }
@@ -1,6 +1,7 @@
 package io.nuvalence.workmanager.service.domain.dynamicschema;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -48,4 +49,39 @@ class DynamicEntityDynaBeanTest {
                     dynaBean.get("computed");
                 });
     }
+
+    @Test
+    void computedAttributeSupportsConcatFunction() {
+        var dynaClass =
+                Schema.builder()
+                        .property("firstName", String.class)
+                        .property("lastName", String.class)
+                        .computedProperty(
+                                "fullName", String.class, "#concat(' ', firstName, lastName)")
+                        .build();
+        var dynaBean = new DynamicEntityDynaBean(dynaClass);
+        dynaBean.set("firstName", "John");
+        dynaBean.set("lastName", "Doe");
+
+        assertEquals("John Doe", dynaBean.get("fullName"));
+    }
+
+    @Test
+    void computedExpressionIsParsedOncePerSchema() {
+        var dynaClass =
+                Schema.builder()
+                        .property("name", String.class)
+                        .computedProperty("computed", String.class, "name")
+                        .build();
+        var first = new DynamicEntityDynaBean(dynaClass);
+        var second = new DynamicEntityDynaBean(dynaClass);
+        first.set("name", "first");
+        second.set("name", "second");
+
+        assertEquals("first", first.get("computed"));
+        assertEquals("second", second.get("computed"));
+
+        var property = (ComputedDynaProperty) dynaClass.getDynaProperty("computed");
+        assertSame(property.getCompiledExpression(), property.getCompiledExpression());
+    }
 }
@@ -1,7 +1,13 @@
 package io.nuvalence.workmanager.service.domain.dynamicschema;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.util.ReflectionTestUtils.getField;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.nuvalence.workmanager.service.mapper.EntityMapper;
@@ -19,6 +25,7 @@ import org.mockito.Mock;
 import org.springframework.context.ApplicationContext;
 
 import java.util.List;
+import java.util.Map;
 
 class DynamicEntityTest {
 
@@ -165,6 +172,28 @@ class DynamicEntityTest {
                 "UnsupportedOperationException was expected");
     }
 
+    @Test
+    void preSaveKeepsLoadedDataThatSerializesTheSame() throws Exception {
+        final ApplicationContext context = mock(ApplicationContext.class);
+        when(context.getBean(EntityMapper.class)).thenReturn(mapper);
+        mapper.setApplicationContext(context);
+        contact.preSave();
+        final ObjectMapper objectMapper = new ObjectMapper();
+        final Map<?, ?> loaded =
+                objectMapper.readValue(
+                        objectMapper.writeValueAsString(getField(contact, "data")), Map.class);
+        setField(contact, "data", loaded);
+
+        contact.preSave();
+        assertSame(loaded, getField(contact, "data"));
+
+        contact.set("firstName", "Neo");
+        contact.preSave();
+        final Map<?, ?> saved = (Map<?, ?>) getField(contact, "data");
+        assertNotSame(loaded, saved);
+        assertEquals("Neo", saved.get("firstName"));
+    }
+
     @Test
     void attemptToAccessComputedPropertyAsListOrMapThrowsUnsupportedException() {
         assertThrows(
@@ -100,6 +100,11 @@ class TransactionTest {
                         List.class,
                         relatedParties1,
                         relatedParties2) // Add if Transaction has List<RelatedParty>
+                .withIgnoredFields(
+                        "transactionDefinition",
+                        "customerProvidedDocuments",
+                        "recordLinks",
+                        "additionalParties")
                 .usingGetClass()
                 .verify();
     }
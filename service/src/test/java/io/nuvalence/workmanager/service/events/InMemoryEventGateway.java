@@ -0,0 +1,57 @@
+package io.nuvalence.workmanager.service.events;
+
+import io.nuvalence.events.event.Event;
+import io.nuvalence.events.event.service.EventGateway;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Broker stand-in for tests, keeping the published events in memory by topic.
+ */
+public class InMemoryEventGateway implements EventGateway {
+    private final Map<String, List<Event>> eventsByTopic = new ConcurrentHashMap<>();
+    private final AtomicInteger failuresLeft = new AtomicInteger();
+
+    @Override
+    public void publishEvent(Event event, String topic) {
+        if (failuresLeft.getAndUpdate(left -> Math.max(left - 1, 0)) > 0) {
+            throw new IllegalStateException("Broker unavailable");
+        }
+
+        eventsByTopic
+                .computeIfAbsent(topic, key -> Collections.synchronizedList(new ArrayList<>()))
+                .add(event);
+    }
+
+    /**
+     * Makes the next publications fail, as if the broker was unavailable.
+     *
+     * @param failures number of publications to fail
+     */
+    public void failNext(int failures) {
+        failuresLeft.set(failures);
+    }
+
+    /**
+     * Gets the events published to a topic, in publication order.
+     *
+     * @param topic fully qualified topic name
+     * @return published events
+     */
+    public List<Event> getPublishedEvents(String topic) {
+        return List.copyOf(eventsByTopic.getOrDefault(topic, List.of()));
+    }
+
+    /**
+     * Forgets the published events.
+     */
+    public void clear() {
+        eventsByTopic.clear();
+        failuresLeft.set(0);
+    }
+}
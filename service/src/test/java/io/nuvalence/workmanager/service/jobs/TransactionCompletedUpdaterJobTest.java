@@ -1,16 +1,23 @@
 package io.nuvalence.workmanager.service.jobs;
 
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.nuvalence.workmanager.service.service.TransactionService;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+
 /**
  * Job to update transactions that are completed.
  */
@@ -19,19 +26,45 @@ class TransactionCompletedUpdaterJobTest {
 
     @Mock private TransactionService transactionService;
 
-    @InjectMocks private TransactionCompletedUpdaterJob job;
+    private TransactionCompletedUpdaterJob job;
+
+    @BeforeEach
+    void setup() {
+        job =
+                new TransactionCompletedUpdaterJob(
+                        transactionService, Duration.ofDays(1), Duration.ofMinutes(5));
+    }
 
     @Test
     void testRun() {
-        when(transactionService.updateCompletedTransactions()).thenReturn(5);
+        when(transactionService.updateCompletedTransactions(any())).thenReturn(5);
         job.run();
-        verify(transactionService, times(1)).updateCompletedTransactions();
+        verify(transactionService, times(1)).updateCompletedTransactions(any());
     }
 
     @Test
     void testInit() {
-        when(transactionService.updateCompletedTransactions()).thenReturn(5);
+        when(transactionService.updateCompletedTransactions(any())).thenReturn(5);
+        job.init();
+        verify(transactionService, times(1)).updateCompletedTransactions(any());
+    }
+
+    @Test
+    void testRun_checksProcessInstancesEndedSincePreviousRun() {
+        final OffsetDateTime createdAt = OffsetDateTime.now();
+        when(transactionService.updateCompletedTransactions(any())).thenReturn(0);
+
         job.run();
-        verify(transactionService, times(1)).updateCompletedTransactions();
+        final OffsetDateTime secondRunStartedAfter = OffsetDateTime.now();
+        job.run();
+
+        ArgumentCaptor<OffsetDateTime> endedSinceCaptor =
+                ArgumentCaptor.forClass(OffsetDateTime.class);
+        verify(transactionService, times(2))
+                .updateCompletedTransactions(endedSinceCaptor.capture());
+        List<OffsetDateTime> endedSince = endedSinceCaptor.getAllValues();
+        assertTrue(!endedSince.get(0).isAfter(createdAt.minusDays(1)));
+        assertTrue(endedSince.get(1).isAfter(createdAt.minusMinutes(6)));
+        assertTrue(!endedSince.get(1).isAfter(secondRunStartedAfter.minusMinutes(5)));
     }
 }
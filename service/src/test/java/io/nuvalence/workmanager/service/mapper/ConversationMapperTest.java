@@ -3,6 +3,8 @@ package io.nuvalence.workmanager.service.mapper;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.nuvalence.workmanager.service.domain.profile.ProfileType;
@@ -23,8 +25,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -61,6 +66,37 @@ class ConversationMapperTest {
         assertNotNull(responseModel);
     }
 
+    @Test
+    void testConversationPageToResponseModels() {
+        Conversation first = createConversation();
+        first.setId(UUID.randomUUID());
+        Conversation second = createConversation();
+        second.setId(UUID.randomUUID());
+        List<UUID> conversationIds = List.of(first.getId(), second.getId());
+        Message originalMessage = createOriginalMessage();
+        ResponseMessageModel originalMessageModel = new ResponseMessageModel();
+        when(messageService.getOriginalMessagesByConversationIds(conversationIds))
+                .thenReturn(
+                        Map.of(first.getId(), originalMessage, second.getId(), originalMessage));
+        when(messageService.countByConversationIds(conversationIds))
+                .thenReturn(Map.of(first.getId(), 3));
+        when(messageMapper.messageToResponseModel(originalMessage))
+                .thenReturn(originalMessageModel);
+
+        Page<ConversationResponseModel> responseModels =
+                mapper.conversationPageToResponseModels(new PageImpl<>(List.of(first, second)));
+
+        assertEquals(2, responseModels.getNumberOfElements());
+        ConversationResponseModel firstModel = responseModels.getContent().get(0);
+        assertEquals(first.getId(), firstModel.getId());
+        assertEquals("subject", firstModel.getSubject());
+        assertEquals(originalMessageModel, firstModel.getOriginalMessage());
+        assertEquals(3, firstModel.getTotalMessages());
+        assertEquals(0, responseModels.getContent().get(1).getTotalMessages());
+        verify(messageService, never()).getOriginalMessageByConversationId(any());
+        verify(messageService, never()).countByConversationId(any());
+    }
+
     @Test
     void testCreateModelToConversation() {
         // Create a sample ConversationCreateModel instance
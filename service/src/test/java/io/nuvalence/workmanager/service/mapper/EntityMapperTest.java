@@ -1,6 +1,11 @@
 package io.nuvalence.workmanager.service.mapper;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -9,9 +14,11 @@ import ch.qos.logback.classic.Level;
 import ch.qos.logback.classic.Logger;
 import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.core.Appender;
+import io.nuvalence.workmanager.service.config.exceptions.BusinessLogicException;
 import io.nuvalence.workmanager.service.domain.dynamicschema.DynamicEntity;
 import io.nuvalence.workmanager.service.domain.dynamicschema.Schema;
 import io.nuvalence.workmanager.service.domain.dynamicschema.attributes.Document;
+import io.nuvalence.workmanager.service.models.DataMergePatch;
 import io.nuvalence.workmanager.service.service.SchemaService;
 import io.nuvalence.workmanager.service.utils.JsonFileLoader;
 import io.nuvalence.workmanager.service.utils.testutils.DataUtils;
@@ -28,6 +35,7 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.time.LocalDate;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -247,4 +255,84 @@ class EntityMapperTest {
                                                                 "Unable to convert property to"
                                                                         + " generic map")));
     }
+
+    @Test
+    void applyMergePatch_recordsOnlyChangedAttributes() throws MissingSchemaException {
+        when(schemaService.getSchemaByKey("OfficeInfo"))
+                .thenReturn(Optional.ofNullable(officeInfoSchema));
+        DynamicEntity entity = new DynamicEntity(schema);
+        entityMapper.applyMappedPropertiesToEntity(entity, transactionData);
+        DynamicEntity officeInfo = (DynamicEntity) entity.get("officeInfo");
+
+        Map<String, Object> patch = new LinkedHashMap<>();
+        patch.put("firstName", "newFirstName");
+        patch.put("lastName", "myLastName");
+        patch.put("email", null);
+        patch.put("officeInfo", Map.of("city", "newCity"));
+
+        DataMergePatch result = entityMapper.applyMergePatch(entity, patch);
+
+        assertEquals("newFirstName", entity.get("firstName"));
+        assertNull(entity.get("email"));
+        assertSame(officeInfo, entity.get("officeInfo"));
+        assertEquals("newCity", officeInfo.get("city"));
+        assertEquals("myOfficeAddress", officeInfo.get("address"));
+        assertEquals(
+                List.of(
+                        new DataMergePatch.Change(List.of("firstName"), "newFirstName", false),
+                        new DataMergePatch.Change(List.of("email"), null, true),
+                        new DataMergePatch.Change(List.of("officeInfo", "city"), "newCity", false)),
+                result.getChanges());
+        assertFalse(result.isDocumentsChanged());
+    }
+
+    @Test
+    void applyMergePatch_recordsComputedAttributesOfChangedEntities()
+            throws MissingSchemaException {
+        Schema computedSchema =
+                Schema.builder()
+                        .id(UUID.randomUUID())
+                        .property("name", String.class)
+                        .computedProperty("computedName", String.class, "name")
+                        .build();
+        DynamicEntity entity = new DynamicEntity(computedSchema);
+        entity.set("name", "oldName");
+
+        DataMergePatch unchanged = entityMapper.applyMergePatch(entity, Map.of("name", "oldName"));
+        DataMergePatch changed = entityMapper.applyMergePatch(entity, Map.of("name", "newName"));
+
+        assertTrue(unchanged.isEmpty());
+        assertEquals(
+                List.of(
+                        new DataMergePatch.Change(List.of("name"), "newName", false),
+                        new DataMergePatch.Change(List.of("computedName"), "newName", false)),
+                changed.getChanges());
+    }
+
+    @Test
+    void applyMergePatch_replacedDocument_flagsDocumentChange() throws MissingSchemaException {
+        DynamicEntity entity = new DynamicEntity(schema);
+        UUID documentId = UUID.randomUUID();
+
+        DataMergePatch result =
+                entityMapper.applyMergePatch(
+                        entity, Map.of("document", Map.of("documentId", documentId.toString())));
+
+        assertEquals(documentId, ((Document) entity.get("document")).getDocumentId());
+        assertTrue(result.isDocumentsChanged());
+    }
+
+    @Test
+    void applyMergePatch_valueNotMatchingSchema_isRejected() {
+        DynamicEntity entity = new DynamicEntity(schema);
+        Map<String, Object> unknownKeyPatch = Map.of("keyNotFound", "value");
+        Map<String, Object> invalidTypePatch = Map.of("age", "notANumber");
+
+        assertThrows(
+                BusinessLogicException.class,
+                () -> entityMapper.applyMergePatch(entity, unknownKeyPatch));
+        assertThrows(
+                BusinessLogicException.class,
+                () -> entityMapper.applyMergePatch(entity, invalidTypePatch));
+    }
 }
@@ -1,6 +1,9 @@
 package io.nuvalence.workmanager.service.mapper;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import io.nuvalence.workmanager.service.domain.customerprovideddocument.CustomerProvidedDocument;
@@ -17,6 +20,7 @@ import io.nuvalence.workmanager.service.generated.models.CustomerProvidedDocumen
 import io.nuvalence.workmanager.service.generated.models.TransactionModel;
 import io.nuvalence.workmanager.service.generated.models.WorkflowActionModel;
 import io.nuvalence.workmanager.service.generated.models.WorkflowTaskModel;
+import io.nuvalence.workmanager.service.models.TransactionSummary;
 import io.nuvalence.workmanager.service.service.TransactionTaskService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -30,6 +34,8 @@ import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 @ExtendWith(SpringExtension.class)
@@ -197,4 +203,56 @@ class TransactionMapperTest {
 
         assertEquals(model, mapper.transactionToTransactionModel(transaction));
     }
+
+    @Test
+    void transactionsToTransactionModelsFetchesWorkflowStateOnce() {
+        ReflectionTestUtils.setField(transaction, "id", UUID.randomUUID());
+        model.setId(transaction.getId());
+        final List<Transaction> transactions = List.of(transaction);
+        when(transactionTaskService.getActiveTasksForCurrentUserByTransactionId(transactions))
+                .thenReturn(
+                        Map.of(
+                                transaction.getId(),
+                                List.of(
+                                        WorkflowTask.builder()
+                                                .key("active-task")
+                                                .name("Active Task")
+                                                .action(
+                                                        WorkflowAction.builder()
+                                                                .key("Complete")
+                                                                .uiLabel("Complete")
+                                                                .uiClass("PRIMARY")
+                                                                .modalContext("complete")
+                                                                .build())
+                                                .build())));
+        when(transactionTaskService.getTransactionsThatReachedEndEvent(transactions))
+                .thenReturn(Set.of());
+
+        assertEquals(List.of(model), mapper.transactionsToTransactionModels(transactions));
+        verify(transactionTaskService, never()).getActiveTasksForCurrentUser(transaction);
+        verify(transactionTaskService, never()).hasReachedEndEvent(transaction);
+    }
+
+    @Test
+    void transactionSummaryToTransactionModelNestsDataValues() {
+        final TransactionSummary summary = new TransactionSummary();
+        summary.setId(UUID.randomUUID());
+        summary.setStatus("new");
+        summary.setPriority(TransactionPriority.HIGH);
+        summary.setSubjectProfileType(ProfileType.INDIVIDUAL);
+        summary.getData().put("firstName", "myFirstName");
+        summary.getData().put("address.city", "Cityville");
+        summary.getData().put("address.city.name", "ignored");
+
+        final TransactionModel summaryModel = mapper.transactionSummaryToTransactionModel(summary);
+
+        assertEquals(summary.getId(), summaryModel.getId());
+        assertEquals("new", summaryModel.getStatus());
+        assertEquals(TransactionPriority.HIGH.getValue(), summaryModel.getPriority());
+        assertEquals(ProfileType.INDIVIDUAL.getValue(), summaryModel.getSubjectProfileType());
+        assertEquals(
+                Map.of("firstName", "myFirstName", "address", Map.of("city", "Cityville")),
+                summaryModel.getData());
+        verifyNoInteractions(transactionTaskService);
+    }
 }
@@ -0,0 +1,97 @@
+package io.nuvalence.workmanager.service.models;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.node.TextNode;
+import io.nuvalence.workmanager.service.config.exceptions.ProvidedDataException;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.util.UUID;
+
+class PageCursorTest {
+
+    @Test
+    void encodeAndDecodeRoundTrip() {
+        final UUID id = UUID.randomUUID();
+        final PageCursor cursor =
+                new PageCursor(
+                        "createdTimestamp",
+                        "DESC",
+                        new TextNode("2023-10-01T10:15:30Z"),
+                        new TextNode(id.toString()));
+
+        final String encoded = cursor.encode();
+        final PageCursor decoded = PageCursor.decode(encoded);
+
+        assertFalse(encoded.contains("="));
+        assertEquals("createdTimestamp", decoded.getSortBy());
+        assertEquals("DESC", decoded.getSortOrder());
+        assertEquals("2023-10-01T10:15:30Z", decoded.getValue().asText());
+        assertEquals(id.toString(), decoded.getId().asText());
+    }
+
+    @Test
+    void decodeRejectsMalformedCursor() {
+        assertThrows(ProvidedDataException.class, () -> PageCursor.decode("not a cursor!"));
+        assertThrows(ProvidedDataException.class, () -> PageCursor.decode("e30"));
+    }
+
+    @Test
+    void keysetPageRequestWithoutCursorStartsAtFirstPage() {
+        final RecordFilters filters =
+                new RecordFilters(null, null, null, "createdTimestamp", "DESC", 0, 25);
+
+        final KeysetPageRequest request = filters.getKeysetPageRequest("", null);
+
+        assertNull(request.getCursor());
+        assertEquals(Sort.Direction.DESC, request.getDirection());
+        assertEquals(25, request.getPageSize());
+        assertFalse(request.isIncludeTotalCount());
+    }
+
+    @Test
+    void keysetPageRequestDecodesMatchingCursor() {
+        final String cursor =
+                new PageCursor(
+                                "createdTimestamp",
+                                "ASC",
+                                new TextNode("2023-10-01T10:15:30Z"),
+                                new TextNode(UUID.randomUUID().toString()))
+                        .encode();
+        final RecordFilters filters =
+                new RecordFilters(null, null, null, "createdTimestamp", "ASC", 0, 25);
+
+        final KeysetPageRequest request = filters.getKeysetPageRequest(cursor, true);
+
+        assertEquals("createdTimestamp", request.getCursor().getSortBy());
+        assertTrue(request.isIncludeTotalCount());
+    }
+
+    @Test
+    void keysetPageRequestRejectsCursorFromAnotherSortOrder() {
+        final String cursor =
+                new PageCursor(
+                                "createdTimestamp",
+                                "ASC",
+                                new TextNode("2023-10-01T10:15:30Z"),
+                                new TextNode(UUID.randomUUID().toString()))
+                        .encode();
+        final RecordFilters filters =
+                new RecordFilters(null, null, null, "createdTimestamp", "DESC", 0, 25);
+
+        assertThrows(
+                ProvidedDataException.class, () -> filters.getKeysetPageRequest(cursor, false));
+    }
+
+    @Test
+    void keysetPageRequestRejectsUnsupportedSortAttribute() {
+        final RecordFilters filters = new RecordFilters(null, null, null, "status", "ASC", 0, 25);
+
+        assertThrows(ProvidedDataException.class, () -> filters.getKeysetPageRequest("", false));
+    }
+}
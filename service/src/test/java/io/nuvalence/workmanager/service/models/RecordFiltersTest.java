@@ -175,4 +175,34 @@ class RecordFiltersTest {
         verify(criteriaBuilder, never()).like(any(Expression.class), any(String.class));
         verify(criteriaBuilder, atMost(2)).and();
     }
+
+    @Test
+    void testRankedSearchQuery() {
+        List<String> statusList = Arrays.asList("Active", "Expired");
+        recordFilters = new RecordFilters("KEY", statusList, "ExtID", null, null, null, null);
+
+        RankedSearchQuery search = recordFilters.getRankedSearchQuery();
+
+        Assertions.assertTrue(search.isRanked());
+        Assertions.assertEquals("record", search.getTable());
+        Assertions.assertEquals(
+                List.of(
+                        "SELECT id FROM record"
+                                + " WHERE lower(record_definition_key) LIKE"
+                                + " :recordDefinitionKeyPattern"
+                                + " AND lower(external_id) LIKE :externalIdPattern"
+                                + " AND status IN (:status)"),
+                search.getMatches());
+        Assertions.assertEquals(2, search.getScores().size());
+        Assertions.assertEquals("key", search.getParameters().get("recordDefinitionKey"));
+        Assertions.assertEquals("%extid%", search.getParameters().get("externalIdPattern"));
+        Assertions.assertEquals(statusList, search.getParameters().get("status"));
+    }
+
+    @Test
+    void testRankedSearchQueryWithoutPartialMatchFilters() {
+        recordFilters = new RecordFilters(null, List.of("Active"), null, null, null, null, null);
+
+        Assertions.assertFalse(recordFilters.getRankedSearchQuery().isRanked());
+    }
 }
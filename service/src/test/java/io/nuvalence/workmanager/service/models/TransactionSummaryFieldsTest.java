@@ -0,0 +1,58 @@
+package io.nuvalence.workmanager.service.models;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.nuvalence.workmanager.service.config.exceptions.ProvidedDataException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+class TransactionSummaryFieldsTest {
+
+    @Test
+    void ofSplitsPropertiesAndDataPaths() {
+        final TransactionSummaryFields fields =
+                TransactionSummaryFields.of(List.of("status", "data.address.city", " priority "));
+
+        assertEquals(List.of("id", "status", "priority"), List.copyOf(fields.getProperties()));
+        assertEquals(Set.of("address.city"), fields.getDataPaths());
+        assertEquals(
+                List.of("address", "city"),
+                TransactionSummaryFields.getDataPathKeys("address.city"));
+    }
+
+    @Test
+    void ofRejectsUnsupportedFields() {
+        assertThrows(
+                ProvidedDataException.class,
+                () -> TransactionSummaryFields.of(List.of("customerProvidedDocuments")));
+        assertThrows(
+                ProvidedDataException.class,
+                () -> TransactionSummaryFields.of(List.of("data.a'); drop table x;--")));
+        assertThrows(
+                ProvidedDataException.class, () -> TransactionSummaryFields.of(List.of("data.")));
+    }
+
+    @Test
+    void withColumnsAddsPropertiesAndDataPathsOfDashboardColumns() {
+        final TransactionSummaryFields fields =
+                TransactionSummaryFields.withColumns(
+                        Arrays.asList("district", "data.firstName", "activeTasks", null));
+
+        assertTrue(fields.getProperties().contains("district"));
+        assertTrue(fields.getProperties().contains("status"));
+        assertEquals(Set.of("firstName"), fields.getDataPaths());
+    }
+
+    @Test
+    void entityAttributesFollowTheEntityNames() {
+        assertEquals("isCompleted", TransactionSummaryFields.getEntityAttribute("isComplete"));
+        assertEquals(
+                "transactionDefinition.name",
+                TransactionSummaryFields.getEntityAttribute("transactionDefinitionName"));
+    }
+}
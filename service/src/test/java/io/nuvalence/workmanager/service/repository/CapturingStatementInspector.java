@@ -0,0 +1,36 @@
+package io.nuvalence.workmanager.service.repository;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Records the SQL statements Hibernate prepares, so tests can check the statements produced by
+ * specifications, entity graphs and repository methods instead of copies of them.
+ */
+class CapturingStatementInspector implements StatementInspector {
+    private static final long serialVersionUID = 1L;
+
+    private final List<String> statements = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        statements.add(sql);
+        return sql;
+    }
+
+    /** Forgets the statements recorded so far. */
+    void clear() {
+        statements.clear();
+    }
+
+    /**
+     * Returns the statements recorded since the last {@link #clear()}.
+     *
+     * @return statements in the order they were prepared
+     */
+    List<String> getStatements() {
+        return List.copyOf(statements);
+    }
+}
@@ -0,0 +1,184 @@
+package io.nuvalence.workmanager.service.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Arrays;
+
+/**
+ * Measures employer profile search latency on a generated dataset, with the OR-ed partial-match
+ * filters of EmployerFilters and with the ranked search of EmployerFilters.getRankedSearchQuery.
+ *
+ * <p>Generates the number of profiles given by the SEARCH_BENCHMARK_PROFILES environment variable
+ * (e.g. 1000000), a third of them with another name, and only runs when it is set. Latencies are
+ * logged; the test only fails when both searches do not match the same profiles. Requires
+ * Docker.</p>
+ */
+@Slf4j
+@Tag("benchmark")
+@Testcontainers(disabledWithoutDocker = true)
+@EnabledIfEnvironmentVariable(named = "SEARCH_BENCHMARK_PROFILES", matches = "\\d+")
+class EmployerSearchBenchmarkTest {
+    private static final int WARMUP_RUNS = 3;
+    private static final int MEASURED_RUNS = 20;
+
+    // String.format template: % is escaped as %%
+    private static final String GENERATE_PROFILES_SQL =
+            "INSERT INTO employer_profile (id, fein, legal_name, business_type, industry,"
+                    + " summary_of_business, business_phone, created_by, created_timestamp,"
+                    + " last_updated_by, last_updated_timestamp)"
+                    + " SELECT gen_random_uuid(), lpad(i::text, 9, '0'),"
+                    + " (ARRAY['Acme', 'Summit', 'Harbor', 'Pioneer', 'Granite', 'Cedar',"
+                    + " 'Atlas', 'Beacon', 'Crescent', 'Evergreen', 'Falcon', 'Keystone',"
+                    + " 'Liberty', 'Maple', 'Northern', 'Orchard', 'Prairie', 'Redwood', 'Silver',"
+                    + " 'Valley'])[1 + (i * 7919) %% 20]"
+                    + " || ' ' || (ARRAY['Logistics', 'Bakery', 'Consulting', 'Builders', 'Farms',"
+                    + " 'Dental', 'Motors', 'Printing', 'Software', 'Textiles', 'Plumbing',"
+                    + " 'Roofing'])[1 + (i * 104729) %% 12]"
+                    + " || ' ' || (ARRAY['Inc', 'LLC', 'Co', 'Group', 'Partners'])[1 + i %% 5]"
+                    + " || ' ' || i,"
+                    + " (ARRAY['CORPORATION', 'SOLE_PROPRIETORSHIP', 'PARTNERSHIP', 'LLC',"
+                    + " 'LLP'])[1 + (i / 5) %% 5],"
+                    + " (ARRAY['Retail Trade', 'Construction', 'Manufacturing', 'Health Care',"
+                    + " 'Transportation', 'Professional Services', 'Agriculture',"
+                    + " 'Food Services'])[1 + (i * 31) %% 8],"
+                    + " 'Generated for benchmarks', '555-0100', 'benchmark', now(), 'benchmark',"
+                    + " now() FROM generate_series(1, %d) i";
+    private static final String GENERATE_OTHER_NAMES_SQL =
+            "INSERT INTO employer_profile_other_names (employer_profile_id, other_names)"
+                    + " SELECT id, split_part(legal_name, ' ', 2) || ' ' || split_part(legal_name,"
+                    + " ' ', 1) || ' ' || fein FROM employer_profile WHERE fein::int % 3 = 0";
+
+    // what EmployerFilters.getEmployerProfileSpecification produces for name and industry
+    private static final String FILTER_PAGE_SQL =
+            "SELECT e.id FROM employer_profile e WHERE %s ORDER BY e.legal_name LIMIT 25";
+    private static final String FILTER_COUNT_SQL =
+            "SELECT count(*) FROM employer_profile e WHERE %s";
+    private static final String FILTER_PREDICATE =
+            "lower(e.legal_name) LIKE '%%%1$s%%' OR EXISTS (SELECT 1 FROM"
+                    + " employer_profile_other_names o WHERE o.employer_profile_id = e.id AND"
+                    + " lower(o.other_names) LIKE '%%%1$s%%') OR lower(e.industry) LIKE '%%%1$s%%'";
+
+    // what RankedSearchPaginator runs for EmployerFilters.getRankedSearchQuery
+    private static final String RANKED_MATCHES =
+            "SELECT id FROM employer_profile WHERE lower(legal_name) LIKE '%%%1$s%%'"
+                    + " UNION SELECT employer_profile_id FROM employer_profile_other_names"
+                    + " WHERE lower(other_names) LIKE '%%%1$s%%'"
+                    + " UNION SELECT id FROM employer_profile"
+                    + " WHERE lower(industry) LIKE '%%%1$s%%'";
+    private static final String RANKED_PAGE_SQL =
+            "SELECT t.id FROM employer_profile t WHERE t.id IN (%s) ORDER BY GREATEST("
+                    + "word_similarity('%2$s', lower(t.legal_name)),"
+                    + " (SELECT max(word_similarity('%2$s', lower(o.other_names)))"
+                    + " FROM employer_profile_other_names o WHERE o.employer_profile_id = t.id),"
+                    + " word_similarity('%2$s', lower(t.industry))) DESC, t.id LIMIT 25";
+    private static final String RANKED_COUNT_SQL = "SELECT count(*) FROM (%s) matches";
+
+    // a database of its own, the generated dataset would skew the plans of other tests
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = PostgresFixture.newContainer();
+
+    private static Connection connection;
+
+    @BeforeAll
+    static void generateDataset() throws Exception {
+        connection = PostgresFixture.connect(POSTGRES);
+        PostgresFixture.migrate(connection);
+
+        final int profiles = Integer.parseInt(System.getenv("SEARCH_BENCHMARK_PROFILES"));
+        final long start = System.nanoTime();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(String.format(GENERATE_PROFILES_SQL, profiles));
+            statement.execute(GENERATE_OTHER_NAMES_SQL);
+            statement.execute("ANALYZE");
+        }
+        log.info(
+                "Generated {} employer profiles in {} ms",
+                profiles,
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @AfterAll
+    static void close() throws Exception {
+        if (connection != null) {
+            connection.close();
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"acme", "logistics", "summit bakery", "retail", "1234"})
+    void searchLatency(String term) throws Exception {
+        final String predicate = String.format(FILTER_PREDICATE, term);
+        final String matches = String.format(RANKED_MATCHES, term);
+
+        final long filterCount = count(String.format(FILTER_COUNT_SQL, predicate));
+        final long rankedCount = count(String.format(RANKED_COUNT_SQL, matches));
+        assertEquals(filterCount, rankedCount, "ranked search must match the same profiles");
+
+        final double[] filterMillis =
+                measure(
+                        String.format(FILTER_PAGE_SQL, predicate),
+                        String.format(FILTER_COUNT_SQL, predicate));
+        final double[] rankedMillis =
+                measure(
+                        String.format(RANKED_PAGE_SQL, matches, term),
+                        String.format(RANKED_COUNT_SQL, matches));
+
+        log.info(
+                "'{}' matches {} profiles: partial-match filters p50 {} ms, p95 {} ms;"
+                        + " ranked search p50 {} ms, p95 {} ms",
+                term,
+                rankedCount,
+                percentile(filterMillis, 50),
+                percentile(filterMillis, 95),
+                percentile(rankedMillis, 50),
+                percentile(rankedMillis, 95));
+    }
+
+    private static long count(String sql) throws Exception {
+        try (Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    /** Runs a page query and its count query like a listing does, returning sorted latencies. */
+    private static double[] measure(String pageSql, String countSql) throws Exception {
+        final double[] millis = new double[MEASURED_RUNS];
+        for (int run = -WARMUP_RUNS; run < MEASURED_RUNS; run++) {
+            final long start = System.nanoTime();
+            try (Statement statement = connection.createStatement();
+                    ResultSet resultSet = statement.executeQuery(pageSql)) {
+                while (resultSet.next()) {
+                    resultSet.getObject(1);
+                }
+            }
+            count(countSql);
+            if (run >= 0) {
+                millis[run] = (System.nanoTime() - start) / 1_000_000d;
+            }
+        }
+
+        Arrays.sort(millis);
+        return millis;
+    }
+
+    private static double percentile(double[] sortedMillis, int percentile) {
+        final int index = (int) Math.ceil(percentile / 100d * sortedMillis.length) - 1;
+        return sortedMillis[Math.max(index, 0)];
+    }
+}
@@ -0,0 +1,114 @@
+package io.nuvalence.workmanager.service.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.nuvalence.workmanager.service.domain.outbox.EventOutboxEntry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * Runs the outbox queries of the relay against Postgres.
+ */
+@PostgresJpaTest
+class EventOutboxRepositoryTest {
+    // the columns keep microseconds
+    private static final OffsetDateTime NOW = OffsetDateTime.now().truncatedTo(ChronoUnit.MICROS);
+
+    @Autowired private EventOutboxRepository repository;
+
+    @Autowired private TestEntityManager entityManager;
+
+    @BeforeEach
+    void clearOutbox() {
+        repository.deleteAll();
+    }
+
+    @Test
+    void findPublishableReturnsDueEntriesInIdOrder() {
+        final EventOutboxEntry first = persist("a", NOW.minusSeconds(1));
+        final EventOutboxEntry second = persist("b", NOW.minusSeconds(2));
+        final EventOutboxEntry third = persist("a", NOW);
+        persist("c", NOW.plusMinutes(1));
+
+        assertEquals(
+                List.of(first.getId(), second.getId(), third.getId()), findPublishableIds(10));
+    }
+
+    @Test
+    void findPublishableHoldsBackEntriesBehindABackingOffEntryOfTheirKey() {
+        persist("a", NOW.plusMinutes(1));
+        persist("a", NOW);
+        final EventOutboxEntry otherKey = persist("b", NOW);
+        // entries written before the backing off one are not held back
+        final EventOutboxEntry beforeBackoff = persist("c", NOW);
+        persist("c", NOW.plusMinutes(1));
+
+        assertEquals(List.of(otherKey.getId(), beforeBackoff.getId()), findPublishableIds(10));
+    }
+
+    @Test
+    void findPublishableSkipsDeadLettersWithoutHoldingBackTheirKey() {
+        final EventOutboxEntry deadLetter = persist("a", NOW.plusMinutes(1));
+        deadLetter.setDeadLetteredTimestamp(NOW);
+        final EventOutboxEntry dueDeadLetter = persist("b", NOW);
+        dueDeadLetter.setDeadLetteredTimestamp(NOW);
+        final EventOutboxEntry afterDeadLetter = persist("a", NOW);
+        entityManager.flush();
+
+        assertEquals(List.of(afterDeadLetter.getId()), findPublishableIds(10));
+        assertEquals(1, repository.countByDeadLetteredTimestampIsNull());
+        assertEquals(2, repository.countByDeadLetteredTimestampIsNotNull());
+    }
+
+    @Test
+    void findPublishableReadsOneBatch() {
+        final EventOutboxEntry first = persist("a", NOW);
+        final EventOutboxEntry second = persist("b", NOW);
+        persist("c", NOW);
+
+        assertEquals(List.of(first.getId(), second.getId()), findPublishableIds(2));
+    }
+
+    @Test
+    void findOldestCreatedTimestampIgnoresDeadLetters() {
+        final EventOutboxEntry deadLetter = persist("a", NOW);
+        deadLetter.setCreatedTimestamp(NOW.minusHours(1));
+        deadLetter.setDeadLetteredTimestamp(NOW);
+        final EventOutboxEntry pending = persist("b", NOW);
+        pending.setCreatedTimestamp(NOW.minusMinutes(5));
+        entityManager.flush();
+        entityManager.clear();
+
+        assertEquals(
+                pending.getCreatedTimestamp().toInstant(),
+                repository.findOldestCreatedTimestamp().orElseThrow().toInstant());
+    }
+
+    private List<Long> findPublishableIds(int batchSize) {
+        entityManager.flush();
+        entityManager.clear();
+
+        return repository.findPublishable(NOW, PageRequest.of(0, batchSize)).stream()
+                .map(EventOutboxEntry::getId)
+                .toList();
+    }
+
+    private EventOutboxEntry persist(String orderingKey, OffsetDateTime nextAttemptTimestamp) {
+        return entityManager.persist(
+                EventOutboxEntry.builder()
+                        .topic("topic")
+                        .eventType("event")
+                        .payload("{}")
+                        .orderingKey(orderingKey)
+                        .createdTimestamp(NOW)
+                        .nextAttemptTimestamp(nextAttemptTimestamp)
+                        .build());
+    }
+}
@@ -0,0 +1,153 @@
+package io.nuvalence.workmanager.service.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.nuvalence.workmanager.service.domain.profile.Employer;
+import io.nuvalence.workmanager.service.models.EmployerFilters;
+import io.nuvalence.workmanager.service.models.KeysetPage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Pages through employer profiles like the employer listing does, with sort values shared by
+ * several rows on both sides of page boundaries.
+ */
+@PostgresJpaTest
+class KeysetPaginatorTest {
+    private static final String INDUSTRY = "Keyset pagination";
+    private static final int PAGE_SIZE = 2;
+    private static final OffsetDateTime CREATED =
+            OffsetDateTime.of(2024, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+    // three profiles created at the same time, then three, then one
+    private static final int[] CREATED_MINUTES = {0, 0, 0, 1, 1, 1, 2};
+
+    @Autowired private KeysetPaginator keysetPaginator;
+
+    @Autowired private TestEntityManager entityManager;
+
+    private List<UUID> ids;
+
+    @BeforeEach
+    void createProfiles() {
+        for (int i = 0; i < CREATED_MINUTES.length; i++) {
+            entityManager.persist(employer(i));
+        }
+        entityManager.flush();
+
+        // the tracked entity listener stamps the creation time, so it is set afterwards
+        for (int i = 0; i < CREATED_MINUTES.length; i++) {
+            entityManager
+                    .getEntityManager()
+                    .createQuery(
+                            "UPDATE Employer e SET e.createdTimestamp = :created"
+                                    + " WHERE e.legalName = :legalName")
+                    .setParameter("created", CREATED.plusMinutes(CREATED_MINUTES[i]))
+                    .setParameter("legalName", legalName(i))
+                    .executeUpdate();
+        }
+        entityManager.clear();
+
+        ids =
+                entityManager
+                        .getEntityManager()
+                        .createQuery(
+                                "SELECT e.id FROM Employer e WHERE e.industry = :industry",
+                                UUID.class)
+                        .setParameter("industry", INDUSTRY)
+                        .getResultList();
+        assertEquals(CREATED_MINUTES.length, ids.size());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"ASC", "DESC"})
+    void findPageVisitsEveryRowOnceInSortOrder(String sortOrder) {
+        final List<Employer> visited = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            final KeysetPage<Employer> page = findPage(sortOrder, cursor, false);
+            assertTrue(page.getContent().size() <= PAGE_SIZE);
+            assertNull(page.getTotalCount());
+            visited.addAll(page.getContent());
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(4, pages);
+        final List<UUID> visitedIds = visited.stream().map(Employer::getId).toList();
+        assertEquals(ids.size(), visitedIds.size(), "rows were repeated or skipped");
+        assertEquals(new HashSet<>(ids), new HashSet<>(visitedIds), "rows were skipped");
+
+        for (int i = 1; i < visited.size(); i++) {
+            final int comparison =
+                    visited.get(i - 1)
+                            .getCreatedTimestamp()
+                            .compareTo(visited.get(i).getCreatedTimestamp());
+            assertTrue(
+                    "DESC".equals(sortOrder) ? comparison >= 0 : comparison <= 0,
+                    "rows are not in " + sortOrder + " order");
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"ASC", "DESC"})
+    void findPageCountsOnlyWhenRequested(String sortOrder) {
+        final KeysetPage<Employer> firstPage = findPage(sortOrder, null, true);
+        assertEquals(ids.size(), firstPage.getTotalCount());
+        assertNotNull(firstPage.getNextCursor());
+
+        final KeysetPage<Employer> secondPage =
+                findPage(sortOrder, firstPage.getNextCursor(), true);
+        assertEquals(ids.size(), secondPage.getTotalCount());
+        assertEquals(PAGE_SIZE, secondPage.getContent().size());
+
+        assertNull(findPage(sortOrder, firstPage.getNextCursor(), false).getTotalCount());
+    }
+
+    private KeysetPage<Employer> findPage(
+            String sortOrder, String cursor, boolean includeTotalCount) {
+        final EmployerFilters filters =
+                EmployerFilters.builder()
+                        .industry(INDUSTRY)
+                        .sortBy("createdTimestamp")
+                        .sortOrder(sortOrder)
+                        .pageSize(PAGE_SIZE)
+                        .build();
+
+        // the cursor is decoded from its encoded form, like a client hands it back
+        return keysetPaginator.findPage(
+                Employer.class,
+                filters.getEmployerProfileSpecification(),
+                filters.getKeysetPageRequest(cursor, includeTotalCount));
+    }
+
+    private static Employer employer(int index) {
+        return Employer.builder()
+                .fein("00-000000" + index)
+                .legalName(legalName(index))
+                .type("LLC")
+                .industry(INDUSTRY)
+                .summaryOfBusiness("Keyset pagination test")
+                .businessPhone("555-0100")
+                .createdBy("test")
+                .lastUpdatedBy("test")
+                .build();
+    }
+
+    private static String legalName(int index) {
+        return "Keyset Employer " + index;
+    }
+}
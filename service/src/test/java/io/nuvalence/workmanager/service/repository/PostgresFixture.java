@@ -0,0 +1,179 @@
+package io.nuvalence.workmanager.service.repository;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import liquibase.Contexts;
+import liquibase.LabelExpression;
+import liquibase.Liquibase;
+import liquibase.database.Database;
+import liquibase.database.DatabaseFactory;
+import liquibase.database.jvm.JdbcConnection;
+import liquibase.resource.ClassLoaderResourceAccessor;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Postgres databases migrated with the Liquibase changelog, for the tests that depend on Postgres
+ * itself: query plans, native queries and jsonb functions. Requires Docker.
+ */
+final class PostgresFixture {
+    // 16 is the first version able to plan statements with unbound parameters
+    private static final String IMAGE = "postgres:16-alpine";
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static PostgreSQLContainer<?> sharedContainer;
+
+    private PostgresFixture() {}
+
+    /**
+     * Creates a container that is not started yet, for tests that need a database of their own.
+     *
+     * @return new Postgres container
+     */
+    static PostgreSQLContainer<?> newContainer() {
+        return new PostgreSQLContainer<>(IMAGE);
+    }
+
+    /**
+     * Returns the container shared by the tests of this JVM, starting and migrating it on first
+     * use. It is stopped when the JVM exits.
+     *
+     * @return started and migrated Postgres container
+     * @throws Exception if the container cannot be started or migrated
+     */
+    static synchronized PostgreSQLContainer<?> sharedContainer() throws Exception {
+        if (sharedContainer == null) {
+            final PostgreSQLContainer<?> container = newContainer();
+            container.start();
+            try (Connection connection = connect(container)) {
+                migrate(connection);
+            }
+            sharedContainer = container;
+        }
+
+        return sharedContainer;
+    }
+
+    /**
+     * Opens a connection to the database of a started container.
+     *
+     * @param container started Postgres container
+     * @return new connection
+     * @throws SQLException if the connection cannot be opened
+     */
+    static Connection connect(PostgreSQLContainer<?> container) throws SQLException {
+        return DriverManager.getConnection(
+                container.getJdbcUrl(), container.getUsername(), container.getPassword());
+    }
+
+    /**
+     * Runs the Liquibase changelog, then collects statistics for the planner.
+     *
+     * @param connection connection to an empty database
+     * @throws Exception if the changelog cannot be applied
+     */
+    static void migrate(Connection connection) throws Exception {
+        try (Statement statement = connection.createStatement()) {
+            // owned by Camunda in the running application, but referenced by a data migration
+            statement.execute(
+                    "CREATE TABLE act_hi_procinst (proc_inst_id_ VARCHAR(64), state_ VARCHAR(255),"
+                            + " end_time_ TIMESTAMP)");
+        }
+
+        final Database database =
+                DatabaseFactory.getInstance()
+                        .findCorrectDatabaseImplementation(new JdbcConnection(connection));
+        new Liquibase(
+                        "db/changelog/changelog-master.xml",
+                        new ClassLoaderResourceAccessor(),
+                        database)
+                .update(new Contexts(), new LabelExpression());
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE");
+        }
+    }
+
+    /**
+     * Asserts that a statement reads the checked tables through indexes only.
+     *
+     * <p>Sequential scans are disabled while planning, so the planner only picks one when no index
+     * can answer the predicate. JDBC parameters are planned as generic parameters, so statements
+     * can be checked as Hibernate sends them.</p>
+     *
+     * @param connection connection to a migrated database
+     * @param sql statement to plan, with or without JDBC parameters
+     * @param checkedRelations tables that must not be scanned sequentially
+     * @throws Exception if the statement cannot be planned
+     */
+    static void assertIndexed(Connection connection, String sql, Set<String> checkedRelations)
+            throws Exception {
+        final JsonNode plan;
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SET enable_seqscan = off");
+            try (ResultSet resultSet =
+                    statement.executeQuery(
+                            "EXPLAIN (FORMAT JSON, GENERIC_PLAN) " + numberParameters(sql))) {
+                resultSet.next();
+                plan = OBJECT_MAPPER.readTree(resultSet.getString(1)).get(0).get("Plan");
+            } finally {
+                statement.execute("RESET enable_seqscan");
+            }
+        }
+
+        final List<String> sequentialScans = new ArrayList<>();
+        collectSequentialScans(plan, checkedRelations, sequentialScans);
+
+        assertTrue(
+                sequentialScans.isEmpty(),
+                () ->
+                        "'"
+                                + sql
+                                + "' scans "
+                                + sequentialScans
+                                + " sequentially: "
+                                + plan.toPrettyString());
+    }
+
+    /** Replaces JDBC parameter markers outside string literals with numbered parameters. */
+    private static String numberParameters(String sql) {
+        final StringBuilder numbered = new StringBuilder(sql.length());
+        boolean inLiteral = false;
+        int parameter = 0;
+        for (char c : sql.toCharArray()) {
+            if (c == '\'') {
+                inLiteral = !inLiteral;
+            }
+            if (c == '?' && !inLiteral) {
+                numbered.append('$').append(++parameter);
+            } else {
+                numbered.append(c);
+            }
+        }
+
+        return numbered.toString();
+    }
+
+    private static void collectSequentialScans(
+            JsonNode node, Set<String> checkedRelations, Collection<String> sequentialScans) {
+        if ("Seq Scan".equals(node.path("Node Type").asText())
+                && checkedRelations.contains(node.path("Relation Name").asText())) {
+            sequentialScans.add(node.path("Relation Name").asText());
+        }
+
+        for (JsonNode child : node.path("Plans")) {
+            collectSequentialScans(child, checkedRelations, sequentialScans);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package io.nuvalence.workmanager.service.repository;
+
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ContextConfiguration;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Runs a test class against {@link PostgresJpaTestConfiguration}. The database is migrated once by
+ * {@link PostgresFixture}, and each test runs in a transaction that is rolled back. Requires
+ * Docker; skipped otherwise.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest(properties = "spring.liquibase.enabled=false")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ContextConfiguration(classes = PostgresJpaTestConfiguration.class)
+@interface PostgresJpaTest {}
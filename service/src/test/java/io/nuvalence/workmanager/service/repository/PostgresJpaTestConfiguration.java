@@ -0,0 +1,47 @@
+package io.nuvalence.workmanager.service.repository;
+
+import io.nuvalence.workmanager.service.utils.SpringApplicationContext;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import javax.sql.DataSource;
+
+/**
+ * JPA slice of the application on the shared Postgres container of {@link PostgresFixture}: the
+ * entities, the Spring Data repositories and the repositories built on the entity manager.
+ */
+@Configuration(proxyBeanMethods = false)
+@EntityScan("io.nuvalence.workmanager.service.domain")
+@EnableJpaRepositories("io.nuvalence.workmanager.service.repository")
+@Import({KeysetPaginator.class, RankedSearchPaginator.class, SpringApplicationContext.class})
+class PostgresJpaTestConfiguration {
+
+    @Bean
+    DataSource dataSource() throws Exception {
+        final PostgreSQLContainer<?> postgres = PostgresFixture.sharedContainer();
+        return DataSourceBuilder.create()
+                .url(postgres.getJdbcUrl())
+                .username(postgres.getUsername())
+                .password(postgres.getPassword())
+                .build();
+    }
+
+    @Bean
+    CapturingStatementInspector capturingStatementInspector() {
+        return new CapturingStatementInspector();
+    }
+
+    @Bean
+    HibernatePropertiesCustomizer statementInspectorCustomizer(
+            CapturingStatementInspector statementInspector) {
+        return properties ->
+                properties.put(AvailableSettings.STATEMENT_INSPECTOR, statementInspector);
+    }
+}
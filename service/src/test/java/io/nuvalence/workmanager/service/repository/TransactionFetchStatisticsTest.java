@@ -0,0 +1,283 @@
+package io.nuvalence.workmanager.service.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import io.nuvalence.workmanager.service.domain.customerprovideddocument.CustomerProvidedDocument;
+import io.nuvalence.workmanager.service.domain.customerprovideddocument.ReviewStatus;
+import io.nuvalence.workmanager.service.domain.dynamicschema.DynamicEntity;
+import io.nuvalence.workmanager.service.domain.dynamicschema.Schema;
+import io.nuvalence.workmanager.service.domain.profile.ProfileType;
+import io.nuvalence.workmanager.service.domain.profile.RelatedParty;
+import io.nuvalence.workmanager.service.domain.transaction.Transaction;
+import io.nuvalence.workmanager.service.domain.transaction.TransactionDefinition;
+import io.nuvalence.workmanager.service.generated.models.TransactionModel;
+import io.nuvalence.workmanager.service.mapper.TransactionMapper;
+import io.nuvalence.workmanager.service.models.SearchTransactionsFilters;
+import io.nuvalence.workmanager.service.service.SchemaService;
+import io.nuvalence.workmanager.service.service.TransactionService;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Pins the number of SQL statements issued by the transaction reads of each use case, so that a
+ * change to the fetch plan of the transaction associations does not silently bring back eager
+ * loading or per-row queries.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class TransactionFetchStatisticsTest {
+    private static final String DEFINITION_KEY = "fetchStatistics";
+
+    @Autowired private TransactionRepository transactionRepository;
+    @Autowired private TransactionDefinitionRepository transactionDefinitionRepository;
+    @Autowired private TransactionService transactionService;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+    @Autowired private TransactionMapper transactionMapper;
+
+    @MockBean private SchemaService schemaService;
+
+    private Schema schema;
+    private TransactionDefinition definition;
+    private final List<Transaction> transactions = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        schema =
+                Schema.builder()
+                        .id(UUID.randomUUID())
+                        .key(DEFINITION_KEY)
+                        .name(DEFINITION_KEY)
+                        .property("name", String.class)
+                        .build();
+        when(schemaService.getSchemaById(any())).thenReturn(Optional.of(schema));
+
+        definition =
+                transactionDefinitionRepository.save(
+                        TransactionDefinition.builder()
+                                .key(DEFINITION_KEY)
+                                .name("Fetch statistics")
+                                .processDefinitionKey("test_process")
+                                .schemaKey(DEFINITION_KEY)
+                                .defaultStatus("new")
+                                .defaultFormConfigurationKey("form")
+                                .isPublicVisible(true)
+                                .createdBy("test")
+                                .lastUpdatedBy("test")
+                                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionRepository.deleteAll(transactions);
+        transactions.clear();
+        transactionDefinitionRepository.delete(definition);
+    }
+
+    @Test
+    void workflowLookupOnlyReadsTheTransactionRow() {
+        final Transaction transaction = createTransactions(1).get(0);
+
+        final Statistics statistics = clearStatistics();
+        final Transaction loaded =
+                transactionService.getTransactionByIdForWorkflow(transaction.getId()).orElseThrow();
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertFalse(Hibernate.isInitialized(loaded.getCustomerProvidedDocuments()));
+    }
+
+    @Test
+    void detailLookupLoadsEveryAssociation() {
+        final Transaction transaction = createTransactions(1).get(0);
+
+        final Transaction loaded =
+                transactionService.getTransactionById(transaction.getId()).orElseThrow();
+
+        assertTrue(Hibernate.isInitialized(loaded.getTransactionDefinition()));
+        assertTrue(Hibernate.isInitialized(loaded.getCustomerProvidedDocuments()));
+        assertTrue(Hibernate.isInitialized(loaded.getRecordLinks()));
+        assertTrue(Hibernate.isInitialized(loaded.getAdditionalParties()));
+    }
+
+    @Test
+    void detailStatementCountDoesNotGrowWithTheAssociations() {
+        final Transaction bare = createTransactions(1).get(0);
+        final Transaction associated = createTransactions(1).get(0);
+        addAssociations(associated, 3);
+
+        final Statistics statistics = clearStatistics();
+        transactionService.getTransactionById(bare.getId()).orElseThrow();
+        final long bareStatements = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        final Transaction loaded =
+                transactionService.getTransactionById(associated.getId()).orElseThrow();
+
+        assertEquals(3, loaded.getCustomerProvidedDocuments().size());
+        assertEquals(3, loaded.getAdditionalParties().size());
+        assertEquals(bareStatements, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void searchStatementCountDoesNotGrowWithThePageSize() {
+        createTransactions(1);
+        final Statistics statistics = clearStatistics();
+        transactionService.getFilteredTransactions(searchFilters());
+        final long singleTransactionStatements = statistics.getPrepareStatementCount();
+
+        createTransactions(4);
+        statistics.clear();
+        final List<Transaction> page =
+                transactionService.getFilteredTransactions(searchFilters()).getContent();
+
+        assertEquals(5, page.size());
+        assertEquals(singleTransactionStatements, statistics.getPrepareStatementCount());
+        page.forEach(this::assertSearchAssociationsLoaded);
+    }
+
+    @Test
+    void keysetStatementCountDoesNotGrowWithThePageSize() {
+        createTransactions(1);
+        final Statistics statistics = clearStatistics();
+        transactionService.getFilteredTransactionsAfter(searchFilters(), null, false, null);
+        final long singleTransactionStatements = statistics.getPrepareStatementCount();
+
+        createTransactions(4);
+        statistics.clear();
+        final List<Transaction> page =
+                transactionService
+                        .getFilteredTransactionsAfter(searchFilters(), null, false, null)
+                        .getContent();
+
+        assertEquals(5, page.size());
+        assertEquals(singleTransactionStatements, statistics.getPrepareStatementCount());
+        page.forEach(this::assertSearchAssociationsLoaded);
+    }
+
+    @Test
+    void listedTransactionsMapAfterTheSessionIsClosed() {
+        final List<Transaction> created = createTransactions(2);
+        addAssociations(created.get(0), 2);
+
+        final List<Transaction> searched =
+                transactionService.getFilteredTransactions(searchFilters()).getContent();
+        final List<Transaction> keyset =
+                transactionService
+                        .getFilteredTransactionsAfter(searchFilters(), null, false, null)
+                        .getContent();
+
+        // maps every association the list mapping reads, without resolving workflow tasks
+        for (List<Transaction> page : List.of(searched, keyset)) {
+            final Map<UUID, TransactionModel> models =
+                    page.stream()
+                            .map(transactionMapper::transactionToAccessResourceModel)
+                            .collect(Collectors.toMap(TransactionModel::getId, model -> model));
+
+            assertEquals(2, models.size());
+            final TransactionModel associated = models.get(created.get(0).getId());
+            assertEquals(2, associated.getCustomerProvidedDocuments().size());
+            assertEquals(2, associated.getAdditionalParties().size());
+            assertTrue(associated.getRecordLinks().isEmpty());
+            assertEquals("Fetch statistics", associated.getTransactionDefinitionName());
+        }
+    }
+
+    private void assertSearchAssociationsLoaded(Transaction transaction) {
+        assertTrue(Hibernate.isInitialized(transaction.getTransactionDefinition()));
+        assertTrue(Hibernate.isInitialized(transaction.getCustomerProvidedDocuments()));
+        assertTrue(Hibernate.isInitialized(transaction.getRecordLinks()));
+        assertTrue(Hibernate.isInitialized(transaction.getAdditionalParties()));
+    }
+
+    private void addAssociations(Transaction transaction, int count) {
+        final List<RelatedParty> parties = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            transaction
+                    .getCustomerProvidedDocuments()
+                    .add(
+                            CustomerProvidedDocument.builder()
+                                    .id(UUID.randomUUID())
+                                    .reviewStatus(ReviewStatus.NEW)
+                                    .transactionId(transaction.getId())
+                                    .dataPath("document" + i)
+                                    .active(true)
+                                    .classifier("test")
+                                    .createdBy("test")
+                                    .lastUpdatedBy("test")
+                                    .createdTimestamp(OffsetDateTime.now())
+                                    .lastUpdatedTimestamp(OffsetDateTime.now())
+                                    .rejectionReasons(new ArrayList<>())
+                                    .build());
+            parties.add(new RelatedParty(ProfileType.INDIVIDUAL, UUID.randomUUID(), transaction));
+        }
+        transaction.setAdditionalParties(parties);
+        transactionRepository.save(transaction);
+    }
+
+    private List<Transaction> createTransactions(int count) {
+        final List<Transaction> created = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            final Transaction transaction =
+                    Transaction.builder()
+                            .transactionDefinitionId(definition.getId())
+                            .transactionDefinitionKey(DEFINITION_KEY)
+                            .transactionDefinition(definition)
+                            .processInstanceId(UUID.randomUUID().toString())
+                            .externalId(UUID.randomUUID().toString())
+                            .status("new")
+                            .createdBy("test")
+                            .subjectUserId("test")
+                            .subjectProfileId(UUID.randomUUID())
+                            .subjectProfileType(ProfileType.INDIVIDUAL)
+                            .createdTimestamp(OffsetDateTime.now())
+                            .lastUpdatedTimestamp(OffsetDateTime.now())
+                            .data(new DynamicEntity(schema))
+                            .customerProvidedDocuments(new ArrayList<>())
+                            .build();
+            transaction.setLastUpdatedBy("test");
+            created.add(transactionRepository.save(transaction));
+        }
+        transactions.addAll(created);
+
+        return created;
+    }
+
+    private SearchTransactionsFilters searchFilters() {
+        return SearchTransactionsFilters.builder()
+                .transactionDefinitionKeys(List.of(DEFINITION_KEY))
+                .sortBy("createdTimestamp")
+                .sortOrder("ASC")
+                .pageNumber(0)
+                .pageSize(10)
+                .build();
+    }
+
+    private Statistics clearStatistics() {
+        final Statistics statistics =
+                entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        return statistics;
+    }
+}
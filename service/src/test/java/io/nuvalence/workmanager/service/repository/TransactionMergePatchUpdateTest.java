@@ -0,0 +1,245 @@
+package io.nuvalence.workmanager.service.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import io.nuvalence.workmanager.service.domain.dynamicschema.DynamicEntity;
+import io.nuvalence.workmanager.service.domain.dynamicschema.Schema;
+import io.nuvalence.workmanager.service.domain.dynamicschema.jpa.SchemaRow;
+import io.nuvalence.workmanager.service.domain.profile.ProfileType;
+import io.nuvalence.workmanager.service.domain.profile.RelatedParty;
+import io.nuvalence.workmanager.service.domain.transaction.Transaction;
+import io.nuvalence.workmanager.service.domain.transaction.TransactionDefinition;
+import io.nuvalence.workmanager.service.domain.transaction.TransactionPriority;
+import io.nuvalence.workmanager.service.generated.models.TransactionModel;
+import io.nuvalence.workmanager.service.mapper.CustomerProvidedDocumentMapper;
+import io.nuvalence.workmanager.service.mapper.EntityMapper;
+import io.nuvalence.workmanager.service.mapper.EntityMapperImpl;
+import io.nuvalence.workmanager.service.mapper.RelatedPartyMapper;
+import io.nuvalence.workmanager.service.mapper.TransactionMapper;
+import io.nuvalence.workmanager.service.models.DataMergePatch;
+import io.nuvalence.workmanager.service.service.AuditEventService;
+import io.nuvalence.workmanager.service.service.EmployerService;
+import io.nuvalence.workmanager.service.service.FormConfigurationService;
+import io.nuvalence.workmanager.service.service.IndividualService;
+import io.nuvalence.workmanager.service.service.SchemaService;
+import io.nuvalence.workmanager.service.service.TransactionDefinitionService;
+import io.nuvalence.workmanager.service.service.TransactionFactory;
+import io.nuvalence.workmanager.service.service.TransactionService;
+import io.nuvalence.workmanager.service.service.TransactionTaskService;
+import io.nuvalence.workmanager.service.service.WorkflowTasksService;
+import io.nuvalence.workmanager.service.utils.RequestContextTimestamp;
+import io.nuvalence.workmanager.service.utils.formconfig.formio.FormioValidationPlanCache;
+import io.nuvalence.workmanager.service.utils.formconfig.formio.NuvalenceFormioValidator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Runs merge patch updates of transactions against Postgres, where the patch is written to the
+ * jsonb data column in place. Tests are not run in a transaction, so that updated transactions
+ * are mapped after their transaction has committed, as the API does.
+ */
+@PostgresJpaTest
+@Import({TransactionService.class, EntityMapperImpl.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TransactionMergePatchUpdateTest {
+    private static final String KEY = "mergePatchUpdate";
+    private static final String ADDRESS_KEY = "mergePatchUpdateAddress";
+
+    @Autowired private TransactionService transactionService;
+    @Autowired private EntityMapper entityMapper;
+    @Autowired private TransactionRepository transactionRepository;
+    @Autowired private TransactionDefinitionRepository transactionDefinitionRepository;
+    @Autowired private SchemaRepository schemaRepository;
+    @Autowired private CapturingStatementInspector statementInspector;
+
+    @MockBean private SchemaService schemaService;
+    @MockBean private RequestContextTimestamp requestContextTimestamp;
+    @MockBean private TransactionTaskService transactionTaskService;
+    @MockBean private TransactionDefinitionService transactionDefinitionService;
+    @MockBean private TransactionFactory transactionFactory;
+    @MockBean private WorkflowTasksService workflowTasksService;
+    @MockBean private AuditEventService auditEventService;
+    @MockBean private FormConfigurationService formConfigurationService;
+    @MockBean private FormioValidationPlanCache formioValidationPlanCache;
+    @MockBean private NuvalenceFormioValidator formioValidator;
+    @MockBean private IndividualService individualService;
+    @MockBean private EmployerService employerService;
+
+    private TransactionMapper transactionMapper;
+    private SchemaRow schemaRow;
+    private Schema schema;
+    private Schema addressSchema;
+    private TransactionDefinition definition;
+    private Transaction transaction;
+
+    @BeforeEach
+    void setUp() {
+        when(requestContextTimestamp.getCurrentTimestamp())
+                .thenReturn(OffsetDateTime.now().truncatedTo(ChronoUnit.MICROS));
+        schemaRow =
+                schemaRepository.save(
+                        SchemaRow.builder()
+                                .key(KEY)
+                                .name(KEY)
+                                .schemaJson("{}")
+                                .createdBy("test")
+                                .lastUpdatedBy("test")
+                                .build());
+        addressSchema =
+                Schema.builder()
+                        .id(UUID.randomUUID())
+                        .key(ADDRESS_KEY)
+                        .name(ADDRESS_KEY)
+                        .property("city", String.class)
+                        .build();
+        schema =
+                Schema.builder()
+                        .id(schemaRow.getId())
+                        .key(KEY)
+                        .name(KEY)
+                        .property("name", String.class)
+                        .property("address", addressSchema)
+                        .build();
+        when(schemaService.getSchemaById(any())).thenReturn(Optional.of(schema));
+        when(schemaService.getSchemaByKey(eq(KEY))).thenReturn(Optional.of(schema));
+        when(schemaService.getSchemaByKey(eq(ADDRESS_KEY))).thenReturn(Optional.of(addressSchema));
+
+        definition =
+                transactionDefinitionRepository.save(
+                        TransactionDefinition.builder()
+                                .key(KEY)
+                                .name("Merge patch update")
+                                .processDefinitionKey("test_process")
+                                .schemaKey(KEY)
+                                .defaultStatus("new")
+                                .defaultFormConfigurationKey("form")
+                                .isPublicVisible(true)
+                                .createdBy("test")
+                                .lastUpdatedBy("test")
+                                .build());
+        transaction = persistTransaction();
+
+        transactionMapper = Mappers.getMapper(TransactionMapper.class);
+        transactionMapper.setEntityMapper(entityMapper);
+        transactionMapper.setTransactionTaskService(transactionTaskService);
+        transactionMapper.setCustomerProvidedDocumentMapper(
+                Mappers.getMapper(CustomerProvidedDocumentMapper.class));
+        transactionMapper.setRelatedPartyMapper(Mappers.getMapper(RelatedPartyMapper.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionRepository.deleteById(transaction.getId());
+        transactionDefinitionRepository.delete(definition);
+        schemaRepository.delete(schemaRow);
+    }
+
+    @Test
+    void mergePatchUpdateIsMappedAfterCommit() throws Exception {
+        final Transaction updated =
+                updateFromMergePatch(Transaction.builder().id(transaction.getId()).build());
+
+        final TransactionModel model = transactionMapper.transactionToTransactionModel(updated);
+
+        assertEquals(Map.of("city", "Lyon"), model.getData().get("address"));
+        assertEquals(1, model.getAdditionalParties().size());
+        assertTrue(model.getCustomerProvidedDocuments().isEmpty());
+        assertTrue(model.getRecordLinks().isEmpty());
+        // only the data changed, which the patch already wrote
+        assertTrue(transactionUpdates().isEmpty());
+    }
+
+    @Test
+    void mergePatchUpdateLeavesTheDataOutOfTheUpdateOfOtherColumns() throws Exception {
+        final Transaction updated =
+                updateFromMergePatch(
+                        Transaction.builder()
+                                .id(transaction.getId())
+                                .priority(TransactionPriority.HIGH)
+                                .build());
+
+        final List<String> updates = transactionUpdates();
+        assertEquals(1, updates.size());
+        assertTrue(updates.get(0).contains("priority="));
+        assertFalse(updates.get(0).contains("data="));
+        assertEquals(
+                "HIGH", transactionMapper.transactionToTransactionModel(updated).getPriority());
+
+        final Transaction stored =
+                transactionService.getTransactionById(transaction.getId()).orElseThrow();
+        assertEquals(TransactionPriority.HIGH, stored.getPriority());
+        assertEquals("Jane", stored.getData().get("name"));
+        assertEquals("Lyon", ((DynamicEntity) stored.getData().get("address")).get("city"));
+    }
+
+    private Transaction updateFromMergePatch(Transaction partialUpdate) throws Exception {
+        final DataMergePatch patch =
+                entityMapper.applyMergePatch(
+                        transaction.getData(), Map.of("address", Map.of("city", "Lyon")));
+        statementInspector.clear();
+
+        return transactionService.updateTransactionFromMergePatch(partialUpdate, patch, Map.of());
+    }
+
+    private List<String> transactionUpdates() {
+        return statementInspector.getStatements().stream()
+                .filter(sql -> sql.matches("(?is)update \"?transaction\"? set .*"))
+                .toList();
+    }
+
+    private Transaction persistTransaction() {
+        final DynamicEntity data = new DynamicEntity(schema);
+        data.set("name", "Jane");
+        final DynamicEntity address = new DynamicEntity(addressSchema);
+        address.set("city", "Paris");
+        data.set("address", address);
+
+        final Transaction created =
+                Transaction.builder()
+                        .transactionDefinitionId(definition.getId())
+                        .transactionDefinitionKey(KEY)
+                        .transactionDefinition(definition)
+                        .processInstanceId(UUID.randomUUID().toString())
+                        .externalId("T-1")
+                        .status("new")
+                        .createdBy("test")
+                        .subjectUserId("test")
+                        .subjectProfileId(UUID.randomUUID())
+                        .subjectProfileType(ProfileType.INDIVIDUAL)
+                        .createdTimestamp(OffsetDateTime.now())
+                        .lastUpdatedTimestamp(OffsetDateTime.now())
+                        .data(data)
+                        .build();
+        created.setLastUpdatedBy("test");
+        created.setAdditionalParties(
+                new ArrayList<>(
+                        List.of(
+                                new RelatedParty(
+                                        ProfileType.INDIVIDUAL, UUID.randomUUID(), created))));
+
+        return transactionRepository.save(created);
+    }
+}
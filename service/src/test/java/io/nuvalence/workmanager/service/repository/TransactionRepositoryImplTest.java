@@ -0,0 +1,350 @@
+package io.nuvalence.workmanager.service.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.nuvalence.workmanager.service.domain.dynamicschema.DynamicEntity;
+import io.nuvalence.workmanager.service.domain.dynamicschema.Schema;
+import io.nuvalence.workmanager.service.domain.dynamicschema.attributes.Document;
+import io.nuvalence.workmanager.service.domain.dynamicschema.jpa.SchemaRow;
+import io.nuvalence.workmanager.service.domain.transaction.Transaction;
+import io.nuvalence.workmanager.service.domain.transaction.TransactionDefinition;
+import io.nuvalence.workmanager.service.mapper.EntityMapper;
+import io.nuvalence.workmanager.service.mapper.EntityMapperImpl;
+import io.nuvalence.workmanager.service.mapper.MissingSchemaException;
+import io.nuvalence.workmanager.service.models.DataMergePatch;
+import io.nuvalence.workmanager.service.models.TransactionSummary;
+import io.nuvalence.workmanager.service.models.TransactionSummaryFields;
+import io.nuvalence.workmanager.service.service.SchemaService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Runs the custom transaction queries against Postgres, where the transaction data is a jsonb
+ * column read and patched with Postgres specific functions and operators.
+ */
+@PostgresJpaTest
+@Import(EntityMapperImpl.class)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+class TransactionRepositoryImplTest {
+    private static final String KEY = "repositoryTest";
+    private static final String ADDRESS_KEY = "repositoryTestAddress";
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Autowired private TransactionRepository transactionRepository;
+
+    @Autowired private EntityMapper entityMapper;
+
+    @Autowired private TestEntityManager entityManager;
+
+    @MockBean private SchemaService schemaService;
+
+    private Schema schema;
+    private Schema addressSchema;
+    private TransactionDefinition definition;
+
+    @BeforeEach
+    void createDefinition() {
+        final SchemaRow schemaRow =
+                entityManager.persistFlushFind(
+                        SchemaRow.builder()
+                                .key(KEY)
+                                .name(KEY)
+                                .schemaJson("{}")
+                                .createdBy("test")
+                                .lastUpdatedBy("test")
+                                .build());
+
+        addressSchema =
+                Schema.builder()
+                        .id(UUID.randomUUID())
+                        .key(ADDRESS_KEY)
+                        .name(ADDRESS_KEY)
+                        .property("city", String.class)
+                        .property("lines", List.class, String.class)
+                        .computedProperty("computedCity", String.class, "city")
+                        .build();
+        schema =
+                Schema.builder()
+                        .id(schemaRow.getId())
+                        .key(KEY)
+                        .name(KEY)
+                        .property("name", String.class)
+                        .property("address", addressSchema)
+                        .property("proof", Document.class)
+                        .computedProperty("computedName", String.class, "name")
+                        .build();
+        when(schemaService.getSchemaById(any())).thenReturn(Optional.of(schema));
+        when(schemaService.getSchemaByKey(eq(KEY))).thenReturn(Optional.of(schema));
+        when(schemaService.getSchemaByKey(eq(ADDRESS_KEY))).thenReturn(Optional.of(addressSchema));
+
+        definition =
+                entityManager.persistFlushFind(
+                        TransactionDefinition.builder()
+                                .key(KEY)
+                                .name("Repository test")
+                                .processDefinitionKey("test_process")
+                                .schemaKey(KEY)
+                                .defaultStatus("new")
+                                .defaultFormConfigurationKey("form")
+                                .isPublicVisible(true)
+                                .createdBy("test")
+                                .lastUpdatedBy("test")
+                                .build());
+    }
+
+    @Test
+    void findTransactionSummariesReadsRequestedPropertiesAndDataPaths() {
+        final Transaction transaction = persistTransaction("T-1", "new", "Jane", "Paris");
+
+        final Page<TransactionSummary> page =
+                transactionRepository.findTransactionSummaries(
+                        ofDefinition(),
+                        PageRequest.of(0, 10),
+                        TransactionSummaryFields.of(
+                                List.of(
+                                        "externalId",
+                                        "status",
+                                        "transactionDefinitionName",
+                                        "data.name",
+                                        "data.address.city",
+                                        "data.address.zip")));
+
+        assertEquals(1, page.getContent().size());
+        final TransactionSummary summary = page.getContent().get(0);
+        assertEquals(transaction.getId(), summary.getId());
+        assertEquals("T-1", summary.getExternalId());
+        assertEquals("new", summary.getStatus());
+        assertEquals("Repository test", summary.getTransactionDefinitionName());
+        assertEquals("Jane", summary.getData().get("name"));
+        assertEquals("Paris", summary.getData().get("address.city"));
+        assertNull(summary.getData().get("address.zip"));
+        // not requested
+        assertNull(summary.getAssignedTo());
+    }
+
+    @Test
+    void findTransactionSummariesReadsNullsForMissingData() {
+        persistTransaction("T-1", "new", null, null);
+
+        final TransactionSummary summary =
+                transactionRepository
+                        .findTransactionSummaries(
+                                ofDefinition(),
+                                PageRequest.of(0, 10),
+                                TransactionSummaryFields.of(
+                                        List.of("data.name", "data.address.city")))
+                        .getContent()
+                        .get(0);
+
+        assertNull(summary.getData().get("name"));
+        assertNull(summary.getData().get("address.city"));
+    }
+
+    @Test
+    void findTransactionSummariesPagesInSortOrderAndCountsEveryMatch() {
+        for (int i = 1; i <= 5; i++) {
+            persistTransaction("T-" + i, "new", "Name " + i, null);
+        }
+
+        final Page<TransactionSummary> page =
+                transactionRepository.findTransactionSummaries(
+                        ofDefinition(),
+                        PageRequest.of(1, 2, Sort.by(Sort.Direction.DESC, "externalId")),
+                        TransactionSummaryFields.of(List.of("externalId")));
+
+        assertEquals(
+                List.of("T-3", "T-2"),
+                page.getContent().stream().map(TransactionSummary::getExternalId).toList());
+        assertEquals(5, page.getTotalElements());
+        assertEquals(3, page.getTotalPages());
+    }
+
+    @Test
+    void findTransactionSummariesCountsOnlyTransactionsMatchingTheSpecification() {
+        persistTransaction("T-1", "new", null, null);
+        persistTransaction("T-2", "review", null, null);
+        persistTransaction("T-3", "review", null, null);
+
+        final Specification<Transaction> inReview =
+                ofDefinition().and((root, query, cb) -> cb.equal(root.get("status"), "review"));
+        final Page<TransactionSummary> page =
+                transactionRepository.findTransactionSummaries(
+                        inReview,
+                        PageRequest.of(0, 1, Sort.by("externalId")),
+                        TransactionSummaryFields.of(List.of("status")));
+
+        assertEquals(1, page.getContent().size());
+        assertEquals("review", page.getContent().get(0).getStatus());
+        assertEquals(2, page.getTotalElements());
+    }
+
+    @Test
+    void applyDataMergePatchMergesNestedAttributes() throws Exception {
+        final Transaction transaction = persistTransaction("T-1", "new", "Jane", "Paris");
+
+        patchData(transaction, Map.of("address", Map.of("city", "Lyon")));
+
+        final JsonNode data = readData(transaction);
+        assertEquals("Jane", data.get("name").asText());
+        assertEquals("Lyon", data.at("/address/city").asText());
+        assertEquals(List.of("1 Main Street"), textValues(data.at("/address/lines")));
+        assertEquals("Lyon", data.at("/address/computedCity").asText());
+    }
+
+    @Test
+    void applyDataMergePatchReplacesArrays() throws Exception {
+        final Transaction transaction = persistTransaction("T-1", "new", "Jane", "Paris");
+
+        patchData(transaction, Map.of("address", Map.of("lines", List.of("Flat 2", "2 Side St"))));
+
+        final JsonNode data = readData(transaction);
+        assertEquals(List.of("Flat 2", "2 Side St"), textValues(data.at("/address/lines")));
+        assertEquals("Paris", data.at("/address/city").asText());
+    }
+
+    @Test
+    void applyDataMergePatchRemovesNullAttributes() throws Exception {
+        final Transaction transaction = persistTransaction("T-1", "new", "Jane", "Paris");
+        final Map<String, Object> patch = new HashMap<>();
+        patch.put("name", null);
+
+        final Transaction patched = patchData(transaction, patch);
+
+        final JsonNode data = readData(transaction);
+        assertFalse(data.has("name"));
+        assertFalse(data.has("computedName"));
+        assertEquals("Paris", data.at("/address/city").asText());
+        assertNull(patched.getData().get("name"));
+        assertEquals("patcher", patched.getLastUpdatedBy());
+    }
+
+    @Test
+    void applyDataMergePatchWritesDocuments() throws Exception {
+        final Transaction transaction = persistTransaction("T-1", "new", "Jane", null);
+        final UUID documentId = UUID.randomUUID();
+
+        final DataMergePatch mergePatch =
+                entityMapper.applyMergePatch(
+                        load(transaction).getData(),
+                        Map.of("proof", Map.of("documentId", documentId.toString())));
+
+        assertTrue(mergePatch.isDocumentsChanged());
+        final Transaction patched = applyDataMergePatch(transaction, mergePatch);
+        assertEquals(documentId.toString(), readData(transaction).at("/proof/documentId").asText());
+        assertEquals(documentId, ((Document) patched.getData().get("proof")).getDocumentId());
+    }
+
+    @Test
+    void applyDataMergePatchRecomputesComputedAttributes() throws Exception {
+        final Transaction transaction = persistTransaction("T-1", "new", "Jane", null);
+
+        final Transaction patched = patchData(transaction, Map.of("name", "John"));
+
+        assertEquals("John", readData(transaction).get("computedName").asText());
+        assertEquals("John", patched.getData().get("computedName"));
+    }
+
+    private Transaction patchData(Transaction transaction, Map<String, Object> patch)
+            throws MissingSchemaException {
+        final Transaction loaded = load(transaction);
+        return applyDataMergePatch(
+                loaded, entityMapper.applyMergePatch(loaded.getData(), patch));
+    }
+
+    private Transaction applyDataMergePatch(Transaction transaction, DataMergePatch mergePatch) {
+        final Transaction loaded = load(transaction);
+        transactionRepository.applyDataMergePatch(
+                loaded, mergePatch, OffsetDateTime.now(), "patcher");
+
+        return loaded;
+    }
+
+    private Transaction load(Transaction transaction) {
+        return entityManager.find(Transaction.class, transaction.getId());
+    }
+
+    // the data column as stored, rather than as mapped back onto the entity
+    private JsonNode readData(Transaction transaction) throws JsonProcessingException {
+        final Object data =
+                entityManager
+                        .getEntityManager()
+                        .createNativeQuery(
+                                "SELECT CAST(data AS text) FROM transaction WHERE id = ?1")
+                        .setParameter(1, transaction.getId().toString())
+                        .getSingleResult();
+
+        return OBJECT_MAPPER.readTree((String) data);
+    }
+
+    private static List<String> textValues(JsonNode array) {
+        final List<String> values = new ArrayList<>();
+        array.forEach(value -> values.add(value.asText()));
+
+        return values;
+    }
+
+    private Specification<Transaction> ofDefinition() {
+        return (root, query, cb) -> cb.equal(root.get("transactionDefinitionKey"), KEY);
+    }
+
+    private Transaction persistTransaction(
+            String externalId, String status, String name, String city) {
+        final DynamicEntity data = new DynamicEntity(schema);
+        data.set("name", name);
+        if (city != null) {
+            final DynamicEntity address = new DynamicEntity(addressSchema);
+            address.set("city", city);
+            address.set("lines", new ArrayList<>(List.of("1 Main Street")));
+            data.set("address", address);
+        }
+
+        final Transaction transaction =
+                Transaction.builder()
+                        .transactionDefinitionId(definition.getId())
+                        .transactionDefinitionKey(KEY)
+                        .transactionDefinition(definition)
+                        .processInstanceId(UUID.randomUUID().toString())
+                        .externalId(externalId)
+                        .status(status)
+                        .createdBy("test")
+                        .subjectUserId("test")
+                        .createdTimestamp(OffsetDateTime.now())
+                        .lastUpdatedTimestamp(OffsetDateTime.now())
+                        .data(data)
+                        .customerProvidedDocuments(new ArrayList<>())
+                        .build();
+        transaction.setLastUpdatedBy("test");
+        entityManager.persistAndFlush(transaction);
+        entityManager.clear();
+
+        return transaction;
+    }
+}
@@ -0,0 +1,154 @@
+package io.nuvalence.workmanager.service.repository;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import io.nuvalence.workmanager.service.domain.profile.ProfileType;
+import io.nuvalence.workmanager.service.domain.transaction.Transaction;
+import io.nuvalence.workmanager.service.domain.transaction.TransactionPriority;
+import io.nuvalence.workmanager.service.models.ByUserTransactionsFilters;
+import io.nuvalence.workmanager.service.models.DashboardTabFilter;
+import io.nuvalence.workmanager.service.models.SearchTransactionsFilters;
+import io.nuvalence.workmanager.service.models.TransactionFilters;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.sql.Connection;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+import javax.sql.DataSource;
+
+/**
+ * Checks that the statements issued by transaction search, dashboard counts and the completion
+ * job are served by indexes. The statements are the ones Hibernate prepares for the real filters
+ * and repository methods, recorded while running them against the migrated Postgres database.
+ */
+@Tag("query-plan")
+@PostgresJpaTest
+class TransactionSearchQueryPlanTest {
+    private static final Set<String> CHECKED_RELATIONS = Set.of("transaction", "related_party");
+    private static final UUID PROFILE_ID = UUID.randomUUID();
+
+    @Autowired private TransactionRepository transactionRepository;
+
+    @Autowired private CapturingStatementInspector statementInspector;
+
+    @Autowired private DataSource dataSource;
+
+    @BeforeEach
+    void clearStatements() {
+        statementInspector.clear();
+    }
+
+    static Stream<Arguments> searches() {
+        final OffsetDateTime now = OffsetDateTime.now();
+        return Stream.of(
+                Arguments.of(
+                        "definition keys and status",
+                        searchFilters()
+                                .transactionDefinitionKeys(List.of("a", "b"))
+                                .status(List.of("Draft", "Review"))
+                                .build()),
+                Arguments.of("status", searchFilters().status(List.of("Draft")).build()),
+                Arguments.of(
+                        "priority",
+                        searchFilters()
+                                .priority(
+                                        List.of(TransactionPriority.LOW, TransactionPriority.HIGH))
+                                .build()),
+                Arguments.of("assigned to", searchFilters().assignedTo(List.of("user")).build()),
+                Arguments.of(
+                        "created date range",
+                        searchFilters().startDate(now.minusDays(7)).endDate(now).build()),
+                Arguments.of(
+                        "subject profile",
+                        searchFilters().subjectProfileId(List.of(PROFILE_ID)).build()),
+                Arguments.of(
+                        "external id, case-insensitive",
+                        searchFilters().externalId("ABC-123").build()),
+                Arguments.of(
+                        "additional party",
+                        searchFilters().additionalParties(List.of(PROFILE_ID)).build()),
+                Arguments.of(
+                        "open transactions of a profile",
+                        ByUserTransactionsFilters.builder()
+                                .subjectProfileId(List.of(PROFILE_ID))
+                                .isCompleted(false)
+                                .sortBy("lastUpdatedTimestamp")
+                                .sortOrder("DESC")
+                                .pageNumber(0)
+                                .pageSize(50)
+                                .build()));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("searches")
+    void searchDoesNotScanWholeTable(String name, TransactionFilters filters) throws Exception {
+        final Specification<Transaction> specification = filters.getTransactionSpecifications();
+        transactionRepository.findAll(specification, filters.getPageRequest());
+        transactionRepository.count(specification);
+
+        assertIndexed(statementInspector.getStatements());
+    }
+
+    @Test
+    void dashboardCountsDoNotScanWholeTable() throws Exception {
+        final TransactionFilters filters =
+                searchFilters().transactionDefinitionKeys(List.of("a")).build();
+        transactionRepository.getTransactionCountsByStatus(filters.getTransactionSpecifications());
+        transactionRepository.getTransactionCountsByTab(
+                List.of("a"),
+                Map.of(
+                        "assigned",
+                        new DashboardTabFilter(List.of("Review"), null, "user"),
+                        "urgent",
+                        new DashboardTabFilter(null, List.of(TransactionPriority.URGENT), null)));
+
+        assertIndexed(statementInspector.getStatements());
+    }
+
+    @Test
+    void profileTransactionsDoNotScanWholeTable() throws Exception {
+        transactionRepository.findBySubjectProfileIdAndSubjectProfileType(
+                PROFILE_ID, ProfileType.INDIVIDUAL);
+
+        assertIndexed(statementInspector.getStatements());
+    }
+
+    @Test
+    void completionJobDoesNotScanWholeTable() throws Exception {
+        transactionRepository.markTransactionsAsCompleted(OffsetDateTime.now().minusDays(1));
+
+        assertIndexed(statementInspector.getStatements());
+        try (Connection connection = dataSource.getConnection()) {
+            PostgresFixture.assertIndexed(
+                    connection, TransactionRepositoryImpl.MARK_COMPLETED_SQL, CHECKED_RELATIONS);
+        }
+    }
+
+    private static SearchTransactionsFilters.SearchTransactionsFiltersBuilder searchFilters() {
+        return SearchTransactionsFilters.builder()
+                .sortBy("createdTimestamp")
+                .sortOrder("DESC")
+                .pageNumber(0)
+                .pageSize(25);
+    }
+
+    private void assertIndexed(List<String> statements) throws Exception {
+        assertFalse(statements.isEmpty(), "no statement was recorded");
+        try (Connection connection = dataSource.getConnection()) {
+            for (String sql : statements) {
+                PostgresFixture.assertIndexed(connection, sql, CHECKED_RELATIONS);
+            }
+        }
+    }
+}
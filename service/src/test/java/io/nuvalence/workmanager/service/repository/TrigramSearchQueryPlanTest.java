@@ -0,0 +1,117 @@
+package io.nuvalence.workmanager.service.repository;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import io.nuvalence.workmanager.service.domain.profile.Employer;
+import io.nuvalence.workmanager.service.domain.record.Record;
+import io.nuvalence.workmanager.service.models.EmployerFilters;
+import io.nuvalence.workmanager.service.models.RankedSearchQuery;
+import io.nuvalence.workmanager.service.models.RecordFilters;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+
+import java.sql.Connection;
+import java.util.List;
+import java.util.Set;
+import javax.sql.DataSource;
+
+/**
+ * Checks that the partial-match filters of the employer profile and record listings, and their
+ * ranked search, are served by trigram indexes. The statements are the ones Hibernate prepares
+ * for the real filters and {@link RankedSearchPaginator}, recorded while running them against the
+ * migrated Postgres database.
+ */
+@Tag("query-plan")
+@PostgresJpaTest
+class TrigramSearchQueryPlanTest {
+    private static final Set<String> CHECKED_RELATIONS =
+            Set.of("employer_profile", "employer_profile_other_names", "record");
+
+    // the second page, so that the count query runs even though nothing matches
+    private static final PageRequest SECOND_PAGE = PageRequest.of(1, 25);
+
+    @Autowired private EmployerRepository employerRepository;
+
+    @Autowired private RecordRepository recordRepository;
+
+    @Autowired private RankedSearchPaginator rankedSearchPaginator;
+
+    @Autowired private CapturingStatementInspector statementInspector;
+
+    @Autowired private DataSource dataSource;
+
+    @BeforeEach
+    void clearStatements() {
+        statementInspector.clear();
+    }
+
+    @Test
+    void employerIndustryFilterDoesNotScanWholeTable() throws Exception {
+        final EmployerFilters filters = employerFilters().industry("Retail").build();
+
+        employerRepository.findAll(
+                filters.getEmployerProfileSpecification(), filters.getPageRequest());
+        employerRepository.count(filters.getEmployerProfileSpecification());
+
+        assertIndexed(statementInspector.getStatements());
+    }
+
+    @Test
+    void employerRankedSearchDoesNotScanWholeTable() throws Exception {
+        final RankedSearchQuery search =
+                employerFilters()
+                        .name("Acme")
+                        .fein("12-345")
+                        .type("LLC")
+                        .industry("Retail")
+                        .build()
+                        .getRankedSearchQuery();
+
+        rankedSearchPaginator.findPage(Employer.class, search, SECOND_PAGE);
+
+        assertIndexed(statementInspector.getStatements());
+    }
+
+    @Test
+    void recordFilterDoesNotScanWholeTable() throws Exception {
+        final RecordFilters filters = recordFilters();
+
+        recordRepository.findAll(filters.getRecordSpecification(), filters.getPageRequest());
+        recordRepository.count(filters.getRecordSpecification());
+
+        assertIndexed(statementInspector.getStatements());
+    }
+
+    @Test
+    void recordRankedSearchDoesNotScanWholeTable() throws Exception {
+        rankedSearchPaginator.findPage(
+                Record.class, recordFilters().getRankedSearchQuery(), SECOND_PAGE);
+
+        assertIndexed(statementInspector.getStatements());
+    }
+
+    private static EmployerFilters.EmployerFiltersBuilder employerFilters() {
+        return EmployerFilters.builder()
+                .sortBy("createdTimestamp")
+                .sortOrder("ASC")
+                .pageNumber(0)
+                .pageSize(25);
+    }
+
+    private static RecordFilters recordFilters() {
+        return new RecordFilters(
+                "Permit", List.of("Active"), "AB12", "createdTimestamp", "ASC", 0, 25);
+    }
+
+    private void assertIndexed(List<String> statements) throws Exception {
+        assertFalse(statements.isEmpty(), "no statement was recorded");
+        try (Connection connection = dataSource.getConnection()) {
+            for (String sql : statements) {
+                PostgresFixture.assertIndexed(connection, sql, CHECKED_RELATIONS);
+            }
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package io.nuvalence.workmanager.service.service;
+
+import static io.nuvalence.workmanager.service.domain.profile.ProfileType.EMPLOYER;
+import static io.nuvalence.workmanager.service.domain.profile.ProfileType.INDIVIDUAL;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.nuvalence.workmanager.service.domain.profile.ProfileAccess;
+import io.nuvalence.workmanager.service.domain.profile.ProfileAccessLevel;
+import io.nuvalence.workmanager.service.models.AccessProfileDto;
+import io.nuvalence.workmanager.service.repository.EmployerUserLinkRepository;
+import io.nuvalence.workmanager.service.repository.IndividualUserLinkRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+@ExtendWith(MockitoExtension.class)
+class AccessProfileServiceTest {
+
+    @Mock private IndividualUserLinkRepository individualUserLinkRepository;
+    @Mock private EmployerUserLinkRepository employerUserLinkRepository;
+
+    private final UUID userId = UUID.randomUUID();
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void getAccessProfiles_mapsProjectedLinks() {
+        UUID individualId = UUID.randomUUID();
+        UUID employerId = UUID.randomUUID();
+        when(individualUserLinkRepository.findProfileAccessByUserId(userId))
+                .thenReturn(List.of(profileAccess(individualId, ProfileAccessLevel.ADMIN)));
+        when(employerUserLinkRepository.findProfileAccessByUserId(userId))
+                .thenReturn(List.of(profileAccess(employerId, ProfileAccessLevel.READER)));
+
+        List<AccessProfileDto> accessProfiles = service(false).getAccessProfiles(userId);
+
+        assertEquals(
+                List.of(
+                        AccessProfileDto.builder()
+                                .id(individualId)
+                                .type(INDIVIDUAL)
+                                .level(ProfileAccessLevel.ADMIN)
+                                .build(),
+                        AccessProfileDto.builder()
+                                .id(employerId)
+                                .type(EMPLOYER)
+                                .level(ProfileAccessLevel.READER)
+                                .build()),
+                accessProfiles);
+    }
+
+    @Test
+    void getAccessProfiles_withinRequest_readsLinksOnce() {
+        RequestContextHolder.setRequestAttributes(
+                new ServletRequestAttributes(new MockHttpServletRequest()));
+        AccessProfileService service = service(false);
+
+        List<AccessProfileDto> accessProfiles = service.getAccessProfiles(userId);
+
+        assertSame(accessProfiles, service.getAccessProfiles(userId));
+        verify(individualUserLinkRepository, times(1)).findProfileAccessByUserId(userId);
+        verify(employerUserLinkRepository, times(1)).findProfileAccessByUserId(userId);
+    }
+
+    @Test
+    void getAccessProfiles_withoutSharedCache_readsLinksForEachRequest() {
+        AccessProfileService service = service(false);
+
+        service.getAccessProfiles(userId);
+        service.getAccessProfiles(userId);
+
+        verify(individualUserLinkRepository, times(2)).findProfileAccessByUserId(userId);
+    }
+
+    @Test
+    void getAccessProfiles_withSharedCache_readsLinksOnceAcrossRequests() {
+        AccessProfileService service = service(true);
+
+        service.getAccessProfiles(userId);
+        service.getAccessProfiles(userId);
+
+        verify(individualUserLinkRepository, times(1)).findProfileAccessByUserId(userId);
+    }
+
+    @Test
+    void evictAccessProfiles_readsLinksAgain() {
+        RequestContextHolder.setRequestAttributes(
+                new ServletRequestAttributes(new MockHttpServletRequest()));
+        AccessProfileService service = service(true);
+
+        service.getAccessProfiles(userId);
+        service.evictAccessProfiles(userId);
+        service.getAccessProfiles(userId);
+
+        verify(individualUserLinkRepository, times(2)).findProfileAccessByUserId(userId);
+    }
+
+    private AccessProfileService service(boolean sharedCacheEnabled) {
+        return new AccessProfileService(
+                individualUserLinkRepository,
+                employerUserLinkRepository,
+                sharedCacheEnabled,
+                Duration.ofMinutes(1),
+                100);
+    }
+
+    private static ProfileAccess profileAccess(UUID profileId, ProfileAccessLevel accessLevel) {
+        return new ProfileAccess() {
+            @Override
+            public UUID getProfileId() {
+                return profileId;
+            }
+
+            @Override
+            public ProfileAccessLevel getAccessLevel() {
+                return accessLevel;
+            }
+        };
+    }
+}
@@ -1,21 +1,33 @@
 package io.nuvalence.workmanager.service.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.nuvalence.auth.token.UserToken;
 import io.nuvalence.workmanager.service.domain.transaction.DashboardConfiguration;
 import io.nuvalence.workmanager.service.domain.transaction.DashboardTabConfiguration;
 import io.nuvalence.workmanager.service.domain.transaction.TransactionDefinitionSet;
+import io.nuvalence.workmanager.service.domain.transaction.TransactionPriority;
+import io.nuvalence.workmanager.service.models.DashboardTabFilter;
 import io.nuvalence.workmanager.service.repository.DashboardConfigurationRepository;
 import io.nuvalence.workmanager.service.repository.TransactionRepository;
+import io.nuvalence.workmanager.service.utils.auth.CurrentUserUtility;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.List;
 import java.util.Map;
@@ -28,6 +40,8 @@ import jakarta.ws.rs.NotFoundException;
 @ExtendWith(MockitoExtension.class)
 class DashboardConfigurationServiceTest {
 
+    private static final List<String> TRANSACTION_KEYS = List.of("key");
+
     @Mock private DashboardConfigurationRepository repository;
 
     @Mock private TransactionDefinitionSetOrderService transactionDefinitionSetOrderService;
@@ -105,121 +119,164 @@ class DashboardConfigurationServiceTest {
 
     @Test
     void testCountTabsForDashboardSimpleStatus() {
-        DashboardTabConfiguration tabConfiguration =
+        mockDashboard(
                 DashboardTabConfiguration.builder()
                         .tabLabel("one")
                         .filter(Map.of("status", "Draft"))
-                        .build();
-        DashboardConfiguration dashboardConfiguration =
-                DashboardConfiguration.builder().tabs(List.of(tabConfiguration)).build();
-
-        when(repository.findByTransactionDefinitionSetKey("key"))
-                .thenReturn(Optional.of(dashboardConfiguration));
-
-        List<String> transactionDefinitionKeys = List.of("key");
-        when(transactionDefinitionService.createTransactionDefinitionKeysList(any(), any()))
-                .thenReturn(transactionDefinitionKeys);
-
-        when(transactionRepository.getTransactionCountsByStatusSimplified(
-                        Set.of("Draft"), transactionDefinitionKeys))
-                .thenReturn(Map.of("Draft", 1L));
+                        .build());
+        when(transactionRepository.getTransactionCountsByTab(eq(TRANSACTION_KEYS), any()))
+                .thenReturn(Map.of("one", 1L));
 
         Map<String, Long> result = service.countTabsForDashboard("key");
 
-        assertEquals(1, result.size());
-        assertTrue(result.keySet().contains("one"));
-        assertEquals(1L, result.get("one"));
+        assertEquals(Map.of("one", 1L), result);
+        DashboardTabFilter tabFilter = captureQueriedTabs().get("one");
+        assertEquals(List.of("Draft"), tabFilter.getStatus());
+        assertNull(tabFilter.getPriority());
+        assertNull(tabFilter.getAssignedTo());
     }
 
     @Test
     void testCountTabsForDashboardSimplePriority() {
-        DashboardTabConfiguration tabConfiguration =
+        mockDashboard(
                 DashboardTabConfiguration.builder()
                         .tabLabel("one")
                         .filter(Map.of("priority", "LOW"))
-                        .build();
-        DashboardConfiguration dashboardConfiguration =
-                DashboardConfiguration.builder().tabs(List.of(tabConfiguration)).build();
-
-        when(repository.findByTransactionDefinitionSetKey("key"))
-                .thenReturn(Optional.of(dashboardConfiguration));
-
-        List<String> transactionDefinitionKeys = List.of("key");
-        when(transactionDefinitionService.createTransactionDefinitionKeysList(any(), any()))
-                .thenReturn(transactionDefinitionKeys);
-
-        when(transactionRepository.getTransactionCountsByPrioritySimplified(
-                        Set.of("LOW"), transactionDefinitionKeys))
-                .thenReturn(Map.of("LOW", 1L));
+                        .build());
+        when(transactionRepository.getTransactionCountsByTab(eq(TRANSACTION_KEYS), any()))
+                .thenReturn(Map.of("one", 1L));
 
         Map<String, Long> result = service.countTabsForDashboard("key");
 
-        assertEquals(1, result.size());
-        assertTrue(result.keySet().contains("one"));
-        assertEquals(1L, result.get("one"));
+        assertEquals(Map.of("one", 1L), result);
+        DashboardTabFilter tabFilter = captureQueriedTabs().get("one");
+        assertNull(tabFilter.getStatus());
+        assertEquals(List.of(TransactionPriority.LOW), tabFilter.getPriority());
     }
 
     @Test
     void testCountTabsForDashboardSimpleAssignedToMe() {
-        DashboardTabConfiguration tabConfiguration =
+        mockDashboard(
                 DashboardTabConfiguration.builder()
                         .tabLabel("one")
                         .filter(Map.of("assignedToMe", true))
-                        .build();
-        DashboardConfiguration dashboardConfiguration =
-                DashboardConfiguration.builder().tabs(List.of(tabConfiguration)).build();
+                        .build());
+        when(transactionRepository.getTransactionCountsByTab(eq(TRANSACTION_KEYS), any()))
+                .thenReturn(Map.of("one", 1L));
+        UserToken userToken = mock(UserToken.class);
+        when(userToken.getApplicationUserId()).thenReturn("user-id");
+
+        Map<String, Long> result;
+        try (MockedStatic<CurrentUserUtility> currentUser =
+                Mockito.mockStatic(CurrentUserUtility.class)) {
+            currentUser.when(CurrentUserUtility::getCurrentUser).thenReturn(Optional.of(userToken));
+            result = service.countTabsForDashboard("key");
+        }
+
+        assertEquals(Map.of("one", 1L), result);
+        assertEquals("user-id", captureQueriedTabs().get("one").getAssignedTo());
+    }
 
-        when(repository.findByTransactionDefinitionSetKey("key"))
-                .thenReturn(Optional.of(dashboardConfiguration));
-        when(transactionRepository.count(any())).thenReturn(1L);
+    @Test
+    void testCountTabsForDashboardAssignedToMeWithoutUser() {
+        mockDashboard(
+                DashboardTabConfiguration.builder()
+                        .tabLabel("one")
+                        .filter(Map.of("assignedToMe", true))
+                        .build());
 
         Map<String, Long> result = service.countTabsForDashboard("key");
 
-        assertEquals(1, result.size());
-        assertTrue(result.keySet().contains("one"));
-        assertEquals(1L, result.get("one"));
+        assertEquals(Map.of("one", 0L), result);
+        verify(transactionRepository, never()).getTransactionCountsByTab(any(), any());
     }
 
     @Test
     void testCountTabsForDashboardList() {
-        DashboardTabConfiguration tabConfiguration =
+        mockDashboard(
                 DashboardTabConfiguration.builder()
                         .tabLabel("one")
                         .filter(Map.of("status", List.of("Draft", "Review")))
-                        .build();
-        DashboardConfiguration dashboardConfiguration =
-                DashboardConfiguration.builder().tabs(List.of(tabConfiguration)).build();
-
-        when(repository.findByTransactionDefinitionSetKey("key"))
-                .thenReturn(Optional.of(dashboardConfiguration));
-        when(transactionRepository.getTransactionCountsByStatusSimplified(any(), any()))
-                .thenReturn(Map.of("Draft", 3L, "Review", 2L));
+                        .build());
+        when(transactionRepository.getTransactionCountsByTab(eq(TRANSACTION_KEYS), any()))
+                .thenReturn(Map.of("one", 5L));
 
         Map<String, Long> result = service.countTabsForDashboard("key");
 
-        assertEquals(1, result.size());
-        assertTrue(result.keySet().contains("one"));
-        assertEquals(5L, result.get("one"));
+        assertEquals(Map.of("one", 5L), result);
+        assertEquals(List.of("Draft", "Review"), captureQueriedTabs().get("one").getStatus());
     }
 
     @Test
-    void testCountTabsForComplex() {
-        DashboardTabConfiguration tabConfiguration =
+    void testCountTabsForComplexInSingleQuery() {
+        mockDashboard(
                 DashboardTabConfiguration.builder()
                         .tabLabel("one")
                         .filter(Map.of("status", "Draft", "priority", "LOW"))
-                        .build();
-        DashboardConfiguration dashboardConfiguration =
-                DashboardConfiguration.builder().tabs(List.of(tabConfiguration)).build();
+                        .build(),
+                DashboardTabConfiguration.builder()
+                        .tabLabel("two")
+                        .filter(Map.of("status", "Review"))
+                        .build(),
+                DashboardTabConfiguration.builder().tabLabel("three").filter(Map.of()).build());
+        when(transactionRepository.getTransactionCountsByTab(eq(TRANSACTION_KEYS), any()))
+                .thenReturn(Map.of("one", 4L, "two", 2L));
+
+        Map<String, Long> result = service.countTabsForDashboard("key");
+
+        assertEquals(Map.of("one", 4L, "two", 2L, "three", 0L), result);
+        Map<String, DashboardTabFilter> queriedTabs = captureQueriedTabs();
+        assertEquals(Set.of("one", "two"), queriedTabs.keySet());
+        assertEquals(List.of("Draft"), queriedTabs.get("one").getStatus());
+        assertEquals(List.of(TransactionPriority.LOW), queriedTabs.get("one").getPriority());
+        verify(transactionRepository, never()).getTransactionCountsByTabFromSummary(any(), any());
+    }
 
+    @Test
+    void testCountTabsUsesSummaryForStaticTabs() {
+        ReflectionTestUtils.setField(service, "countSummaryEnabled", true);
+        mockDashboard(
+                DashboardTabConfiguration.builder()
+                        .tabLabel("static")
+                        .filter(Map.of("status", "Draft", "priority", "LOW"))
+                        .build(),
+                DashboardTabConfiguration.builder()
+                        .tabLabel("mine")
+                        .filter(Map.of("assignedToMe", true))
+                        .build());
+        when(transactionRepository.getTransactionCountsByTabFromSummary(
+                        eq(TRANSACTION_KEYS), any()))
+                .thenReturn(Map.of("static", 7L));
+        when(transactionRepository.getTransactionCountsByTab(eq(TRANSACTION_KEYS), any()))
+                .thenReturn(Map.of("mine", 1L));
+        UserToken userToken = mock(UserToken.class);
+        when(userToken.getApplicationUserId()).thenReturn("user-id");
+
+        Map<String, Long> result;
+        try (MockedStatic<CurrentUserUtility> currentUser =
+                Mockito.mockStatic(CurrentUserUtility.class)) {
+            currentUser.when(CurrentUserUtility::getCurrentUser).thenReturn(Optional.of(userToken));
+            result = service.countTabsForDashboard("key");
+        }
+
+        assertEquals(Map.of("static", 7L, "mine", 1L), result);
+        assertEquals(Set.of("mine"), captureQueriedTabs().keySet());
+    }
+
+    private void mockDashboard(DashboardTabConfiguration... tabs) {
+        DashboardConfiguration dashboardConfiguration =
+                DashboardConfiguration.builder().tabs(List.of(tabs)).build();
         when(repository.findByTransactionDefinitionSetKey("key"))
                 .thenReturn(Optional.of(dashboardConfiguration));
-        when(transactionRepository.count(any())).thenReturn(4L);
-
-        Map<String, Long> result = service.countTabsForDashboard("key");
+        when(transactionDefinitionService.createTransactionDefinitionKeysList(null, "key"))
+                .thenReturn(TRANSACTION_KEYS);
+    }
 
-        assertEquals(1, result.size());
-        assertTrue(result.keySet().contains("one"));
-        assertEquals(4L, result.get("one"));
+    @SuppressWarnings("unchecked")
+    private Map<String, DashboardTabFilter> captureQueriedTabs() {
+        ArgumentCaptor<Map<String, DashboardTabFilter>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(transactionRepository)
+                .getTransactionCountsByTab(eq(TRANSACTION_KEYS), captor.capture());
+        return captor.getValue();
     }
 }
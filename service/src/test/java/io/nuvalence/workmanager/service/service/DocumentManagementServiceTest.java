@@ -8,7 +8,6 @@ import static org.mockito.Mockito.when;
 
 import io.nuvalence.events.brokerclient.config.PublisherProperties;
 import io.nuvalence.events.event.InitiateDocumentProcessingEvent;
-import io.nuvalence.events.event.service.EventGateway;
 import io.nuvalence.workmanager.service.config.exceptions.UnexpectedException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -22,7 +21,7 @@ import java.util.UUID;
 
 class DocumentManagementServiceTest {
 
-    @Mock private EventGateway eventGateway;
+    @Mock private EventOutboxService eventOutboxService;
 
     @Mock private PublisherProperties publisherProperties;
 
@@ -32,7 +31,7 @@ class DocumentManagementServiceTest {
     void setUp() {
         MockitoAnnotations.openMocks(this);
         documentManagementService =
-                new DocumentManagementService(eventGateway, publisherProperties);
+                new DocumentManagementService(eventOutboxService, publisherProperties);
     }
 
     @Test
@@ -45,8 +44,11 @@ class DocumentManagementServiceTest {
 
         documentManagementService.initiateDocumentProcessing(documentId, processorsNames);
 
-        verify(eventGateway)
-                .publishEvent(any(InitiateDocumentProcessingEvent.class), eq("topicName"));
+        verify(eventOutboxService)
+                .enqueue(
+                        any(InitiateDocumentProcessingEvent.class),
+                        eq("topicName"),
+                        eq(documentId.toString()));
     }
 
     @Test
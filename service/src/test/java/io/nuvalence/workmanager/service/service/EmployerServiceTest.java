@@ -3,13 +3,18 @@ package io.nuvalence.workmanager.service.service;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.nuvalence.workmanager.service.domain.profile.*;
 import io.nuvalence.workmanager.service.models.EmployerFilters;
+import io.nuvalence.workmanager.service.models.RankedSearchQuery;
 import io.nuvalence.workmanager.service.models.auditevents.*;
 import io.nuvalence.workmanager.service.repository.EmployerRepository;
+import io.nuvalence.workmanager.service.repository.KeysetPaginator;
+import io.nuvalence.workmanager.service.repository.RankedSearchPaginator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -31,12 +36,19 @@ class EmployerServiceTest {
 
     @Mock private EmployerRepository repository;
     @Mock private AuditEventService employerAuditEventService;
+    @Mock private KeysetPaginator keysetPaginator;
+    @Mock private RankedSearchPaginator rankedSearchPaginator;
 
     private EmployerService service;
 
     @BeforeEach
     public void setUp() {
-        service = new EmployerService(repository, employerAuditEventService);
+        service =
+                new EmployerService(
+                        repository,
+                        employerAuditEventService,
+                        keysetPaginator,
+                        rankedSearchPaginator);
     }
 
     @Test
@@ -63,6 +75,59 @@ class EmployerServiceTest {
         assertEquals(employerPageExpected, employerPageResult);
     }
 
+    @Test
+    void getEmployersByRankedSearch() {
+        Employer employer = Employer.builder().id(UUID.randomUUID()).build();
+        Page<Employer> employerPageExpected = new PageImpl<>(Collections.singletonList(employer));
+        ArgumentCaptor<RankedSearchQuery> searchCaptor =
+                ArgumentCaptor.forClass(RankedSearchQuery.class);
+
+        when(rankedSearchPaginator.findPage(
+                        eq(Employer.class), searchCaptor.capture(), eq(PageRequest.of(1, 10))))
+                .thenReturn(employerPageExpected);
+
+        Page<Employer> employerPageResult =
+                service.getEmployersByRankedSearch(
+                        EmployerFilters.builder()
+                                .sortBy("legalName")
+                                .sortOrder("ASC")
+                                .pageNumber(1)
+                                .pageSize(10)
+                                .name("Acme")
+                                .industry("Retail")
+                                .build());
+
+        assertEquals(employerPageExpected, employerPageResult);
+        RankedSearchQuery search = searchCaptor.getValue();
+        assertEquals("employer_profile", search.getTable());
+        assertEquals(3, search.getMatches().size());
+        assertEquals(3, search.getScores().size());
+        assertEquals("acme", search.getParameters().get("name"));
+        assertEquals("%retail%", search.getParameters().get("industryPattern"));
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void getEmployersByRankedSearch_NoPartialMatchFilters() {
+        Page<Employer> employerPageExpected = new PageImpl<>(Collections.emptyList());
+
+        when(repository.findAll(any(Specification.class), any(PageRequest.class)))
+                .thenReturn(employerPageExpected);
+
+        Page<Employer> employerPageResult =
+                service.getEmployersByRankedSearch(
+                        EmployerFilters.builder()
+                                .sortBy("legalName")
+                                .sortOrder("ASC")
+                                .pageNumber(0)
+                                .pageSize(10)
+                                .fein("fein")
+                                .build());
+
+        assertEquals(employerPageExpected, employerPageResult);
+        verifyNoInteractions(rankedSearchPaginator);
+    }
+
     @Test
     void getEmployerById_Success() {
         Employer employer = Employer.builder().id(UUID.randomUUID()).build();
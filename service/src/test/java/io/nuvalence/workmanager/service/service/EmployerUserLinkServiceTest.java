@@ -27,20 +27,22 @@ import java.util.UUID;
 class EmployerUserLinkServiceTest {
 
     @Mock private EmployerUserLinkRepository repository;
+    @Mock private AccessProfileService accessProfileService;
     @Mock private UserManagementClient userManagementClient;
 
     private EmployerUserLinkService service;
 
     @BeforeEach
     public void setUp() {
-        service = new EmployerUserLinkService(repository);
+        service = new EmployerUserLinkService(repository, accessProfileService);
     }
 
     @Test
     void saveEmployerUserLink() {
-        EmployerUserLink link = new EmployerUserLink();
+        EmployerUserLink link = EmployerUserLink.builder().userId(UUID.randomUUID()).build();
         service.saveEmployerUserLink(link);
         verify(repository, times(1)).save(link);
+        verify(accessProfileService).evictAccessProfiles(link.getUserId());
     }
 
     @Test
@@ -77,6 +79,19 @@ class EmployerUserLinkServiceTest {
         verify(repository, times(1)).deleteById(id);
     }
 
+    @Test
+    void deleteEmployerUserLink_evictsAccessProfilesOfUser() {
+        UUID id = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        EmployerUserLink link = EmployerUserLink.builder().id(id).userId(userId).build();
+        when(repository.findById(id)).thenReturn(Optional.of(link));
+
+        service.deleteEmployerUserLink(id);
+
+        verify(repository).deleteById(id);
+        verify(accessProfileService).evictAccessProfiles(userId);
+    }
+
     @Test
     void getEmployerUserLinks() {
         UUID profileId = UUID.randomUUID();
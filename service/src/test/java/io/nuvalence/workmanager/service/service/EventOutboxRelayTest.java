@@ -0,0 +1,204 @@
+package io.nuvalence.workmanager.service.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.nuvalence.events.event.Event;
+import io.nuvalence.events.event.InitiateDocumentProcessingEvent;
+import io.nuvalence.workmanager.service.config.SpringConfig;
+import io.nuvalence.workmanager.service.domain.outbox.EventOutboxEntry;
+import io.nuvalence.workmanager.service.events.EventFactory;
+import io.nuvalence.workmanager.service.events.InMemoryEventGateway;
+import io.nuvalence.workmanager.service.repository.EventOutboxRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@ExtendWith(MockitoExtension.class)
+class EventOutboxRelayTest {
+    private static final String TOPIC = "document-processing";
+    private static final int BATCH_SIZE = 10;
+
+    @Mock private EventOutboxRepository repository;
+
+    private final ObjectMapper objectMapper = SpringConfig.getMapper();
+    private final InMemoryEventGateway eventGateway = new InMemoryEventGateway();
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private EventOutboxRelay relay;
+    private long nextId;
+
+    @BeforeEach
+    void setUp() {
+        relay = createRelay(50, Duration.ofMinutes(1));
+    }
+
+    @Test
+    void relayPublishesEntriesInOrderAndDeletesThem() throws Exception {
+        final EventOutboxEntry first = createEntry("a");
+        final EventOutboxEntry second = createEntry("a");
+        when(repository.findPublishable(any(), any())).thenReturn(List.of(first, second));
+        when(repository.findOldestCreatedTimestamp()).thenReturn(Optional.empty());
+
+        assertEquals(2, relay.relay());
+
+        final List<Event> published = eventGateway.getPublishedEvents(TOPIC);
+        assertEquals(2, published.size());
+        assertEquals(
+                readDocumentId(first),
+                ((InitiateDocumentProcessingEvent) published.get(0)).getDocumentId());
+        assertEquals(
+                readDocumentId(second),
+                ((InitiateDocumentProcessingEvent) published.get(1)).getDocumentId());
+        verify(repository).delete(first);
+        verify(repository).delete(second);
+        assertEquals(2.0, meterRegistry.get("events.outbox.published").counter().count());
+    }
+
+    @Test
+    void failedEntryHoldsBackItsKeyOnly() throws Exception {
+        final EventOutboxEntry failing = createEntry("a");
+        final EventOutboxEntry heldBack = createEntry("a");
+        final EventOutboxEntry otherKey = createEntry("b");
+        when(repository.findPublishable(any(), any()))
+                .thenReturn(List.of(failing, heldBack, otherKey));
+        when(repository.findOldestCreatedTimestamp()).thenReturn(Optional.empty());
+        eventGateway.failNext(1);
+
+        final OffsetDateTime before = OffsetDateTime.now();
+        assertEquals(1, relay.relay());
+
+        assertEquals(1, eventGateway.getPublishedEvents(TOPIC).size());
+        verify(repository).delete(otherKey);
+        verify(repository, never()).delete(failing);
+        verify(repository, never()).delete(heldBack);
+        verify(repository).save(failing);
+        assertEquals(1, failing.getAttempts());
+        assertEquals("Broker unavailable", failing.getLastError());
+        assertTrue(!failing.getNextAttemptTimestamp().isBefore(before.plusSeconds(5)));
+        assertEquals(1.0, meterRegistry.get("events.outbox.failures").counter().count());
+    }
+
+    @Test
+    void backoffIsCapped() throws Exception {
+        final EventOutboxEntry failing = createEntry("a");
+        failing.setAttempts(30);
+        when(repository.findPublishable(any(), any())).thenReturn(List.of(failing));
+        when(repository.findOldestCreatedTimestamp()).thenReturn(Optional.empty());
+        eventGateway.failNext(1);
+
+        final OffsetDateTime before = OffsetDateTime.now();
+        relay.relay();
+
+        assertEquals(31, failing.getAttempts());
+        assertTrue(!failing.getNextAttemptTimestamp().isBefore(before.plusMinutes(10)));
+        assertTrue(failing.getNextAttemptTimestamp().isBefore(before.plusMinutes(11)));
+    }
+
+    @Test
+    void entryIsDeadLetteredAfterMaxAttemptsAndStopsHoldingBackItsKey() throws Exception {
+        relay = createRelay(3, Duration.ofMinutes(1));
+        final EventOutboxEntry failing = createEntry("a");
+        failing.setAttempts(2);
+        final EventOutboxEntry next = createEntry("a");
+        when(repository.findPublishable(any(), any())).thenReturn(List.of(failing, next));
+        when(repository.findOldestCreatedTimestamp()).thenReturn(Optional.empty());
+        eventGateway.failNext(1);
+
+        assertEquals(1, relay.relay());
+
+        assertEquals(3, failing.getAttempts());
+        assertNotNull(failing.getDeadLetteredTimestamp());
+        assertEquals("Broker unavailable", failing.getLastError());
+        verify(repository).save(failing);
+        verify(repository, never()).delete(failing);
+        verify(repository).delete(next);
+        assertEquals(1.0, meterRegistry.get("events.outbox.deadLettered").counter().count());
+    }
+
+    @Test
+    void relayStopsAfterMaxRelayDuration() throws Exception {
+        relay = createRelay(50, Duration.ZERO);
+        final List<EventOutboxEntry> batch = new ArrayList<>();
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            batch.add(createEntry("key" + i));
+        }
+        // a full batch is always due, only the time limit ends the run
+        when(repository.findPublishable(any(), any())).thenReturn(batch);
+        when(repository.findOldestCreatedTimestamp()).thenReturn(Optional.empty());
+
+        assertEquals(1, relay.relay());
+
+        verify(repository, times(1)).findPublishable(any(), any());
+        verify(repository).delete(batch.get(0));
+        verify(repository, never()).delete(batch.get(1));
+    }
+
+    @Test
+    void relayReportsBacklogAndLag() {
+        when(repository.findPublishable(any(), any())).thenReturn(List.of());
+        when(repository.countByDeadLetteredTimestampIsNull()).thenReturn(3L);
+        when(repository.countByDeadLetteredTimestampIsNotNull()).thenReturn(1L);
+        when(repository.findOldestCreatedTimestamp())
+                .thenReturn(Optional.of(OffsetDateTime.now().minusMinutes(2)));
+
+        assertEquals(0, relay.relay());
+
+        assertEquals(3.0, meterRegistry.get("events.outbox.backlog").gauge().value());
+        assertEquals(1.0, meterRegistry.get("events.outbox.deadLetters").gauge().value());
+        assertTrue(meterRegistry.get("events.outbox.lag").gauge().value() >= 120.0);
+    }
+
+    private EventOutboxRelay createRelay(int maxAttempts, Duration maxRelayDuration) {
+        return new EventOutboxRelay(
+                repository,
+                eventGateway,
+                objectMapper,
+                meterRegistry,
+                BATCH_SIZE,
+                Duration.ofSeconds(5),
+                Duration.ofMinutes(10),
+                maxAttempts,
+                maxRelayDuration);
+    }
+
+    private EventOutboxEntry createEntry(String orderingKey) throws Exception {
+        final Event event =
+                EventFactory.createInitiateDocumentProcessingEvent(
+                        UUID.randomUUID(), List.of("antivirus-scanner"));
+        final OffsetDateTime now = OffsetDateTime.now();
+
+        return EventOutboxEntry.builder()
+                .id(++nextId)
+                .topic(TOPIC)
+                .eventType(event.getClass().getName())
+                .payload(objectMapper.writeValueAsString(event))
+                .orderingKey(orderingKey)
+                .createdTimestamp(now)
+                .nextAttemptTimestamp(now)
+                .build();
+    }
+
+    private UUID readDocumentId(EventOutboxEntry entry) throws Exception {
+        return objectMapper
+                .readValue(entry.getPayload(), InitiateDocumentProcessingEvent.class)
+                .getDocumentId();
+    }
+}
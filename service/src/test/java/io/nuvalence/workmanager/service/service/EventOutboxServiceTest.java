@@ -0,0 +1,53 @@
+package io.nuvalence.workmanager.service.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.nuvalence.events.event.InitiateDocumentProcessingEvent;
+import io.nuvalence.workmanager.service.config.SpringConfig;
+import io.nuvalence.workmanager.service.domain.outbox.EventOutboxEntry;
+import io.nuvalence.workmanager.service.events.EventFactory;
+import io.nuvalence.workmanager.service.repository.EventOutboxRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.UUID;
+
+@ExtendWith(MockitoExtension.class)
+class EventOutboxServiceTest {
+
+    @Mock private EventOutboxRepository repository;
+
+    private final ObjectMapper objectMapper = SpringConfig.getMapper();
+
+    @Test
+    void enqueueSavesSerializedEvent() throws Exception {
+        final EventOutboxService service = new EventOutboxService(repository, objectMapper);
+        final UUID documentId = UUID.randomUUID();
+        final InitiateDocumentProcessingEvent event =
+                EventFactory.createInitiateDocumentProcessingEvent(
+                        documentId, List.of("antivirus-scanner"));
+
+        service.enqueue(event, "topic", documentId.toString());
+
+        final ArgumentCaptor<EventOutboxEntry> captor =
+                ArgumentCaptor.forClass(EventOutboxEntry.class);
+        verify(repository).save(captor.capture());
+        final EventOutboxEntry entry = captor.getValue();
+        assertEquals("topic", entry.getTopic());
+        assertEquals(documentId.toString(), entry.getOrderingKey());
+        assertEquals(InitiateDocumentProcessingEvent.class.getName(), entry.getEventType());
+        assertEquals(0, entry.getAttempts());
+        assertEquals(entry.getCreatedTimestamp(), entry.getNextAttemptTimestamp());
+        assertEquals(
+                documentId,
+                objectMapper
+                        .readValue(entry.getPayload(), InitiateDocumentProcessingEvent.class)
+                        .getDocumentId());
+    }
+}
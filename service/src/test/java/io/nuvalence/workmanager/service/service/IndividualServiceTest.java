@@ -16,6 +16,7 @@ import io.nuvalence.workmanager.service.domain.profile.*;
 import io.nuvalence.workmanager.service.models.IndividualFilters;
 import io.nuvalence.workmanager.service.models.auditevents.*;
 import io.nuvalence.workmanager.service.repository.IndividualRepository;
+import io.nuvalence.workmanager.service.repository.KeysetPaginator;
 import io.nuvalence.workmanager.service.usermanagementapi.UserManagementService;
 import io.nuvalence.workmanager.service.usermanagementapi.models.User;
 import org.junit.jupiter.api.BeforeEach;
@@ -45,12 +46,15 @@ class IndividualServiceTest {
     @Mock private IndividualRepository repository;
     @Mock private AuditEventService auditEventService;
     @Mock private UserManagementService userManagementService;
+    @Mock private KeysetPaginator keysetPaginator;
 
     private IndividualService service;
 
     @BeforeEach
     public void setUp() {
-        service = new IndividualService(repository, auditEventService, userManagementService);
+        service =
+                new IndividualService(
+                        repository, auditEventService, userManagementService, keysetPaginator);
     }
 
     @Test
@@ -39,6 +39,7 @@ class IndividualUserLinkServiceTest {
     @Mock private UserManagementService userManagementService;
 
     @Mock private IndividualService individualService;
+    @Mock private AccessProfileService accessProfileService;
 
     @InjectMocks private IndividualUserLinkService service;
 
@@ -86,6 +87,7 @@ class IndividualUserLinkServiceTest {
         IndividualUserLink individualUserLink = new IndividualUserLink();
         service.deleteIndividualUserLink(individualUserLink);
         Mockito.verify(repository).delete(individualUserLink);
+        Mockito.verify(accessProfileService).evictAccessProfiles(individualUserLink.getUserId());
     }
 
     @Test
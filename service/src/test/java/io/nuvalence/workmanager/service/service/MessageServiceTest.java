@@ -3,9 +3,11 @@ package io.nuvalence.workmanager.service.service;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import io.nuvalence.workmanager.service.domain.securemessaging.Conversation;
+import io.nuvalence.workmanager.service.domain.securemessaging.ConversationMessageCount;
 import io.nuvalence.workmanager.service.domain.securemessaging.Message;
 import io.nuvalence.workmanager.service.models.MessageFilters;
 import io.nuvalence.workmanager.service.repository.MessageRepository;
@@ -20,6 +22,8 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -91,4 +95,48 @@ class MessageServiceTest {
 
         assertEquals(1, count);
     }
+
+    @Test
+    void testGetOriginalMessagesByConversationIds() {
+        Conversation conversation = Conversation.builder().id(UUID.randomUUID()).build();
+        Message message = Message.builder().conversation(conversation).build();
+        List<UUID> conversationIds = List.of(conversation.getId(), UUID.randomUUID());
+        when(repository.findOriginalMessagesByConversationIds(conversationIds))
+                .thenReturn(List.of(message));
+
+        Map<UUID, Message> originalMessages =
+                service.getOriginalMessagesByConversationIds(conversationIds);
+
+        assertEquals(Map.of(conversation.getId(), message), originalMessages);
+    }
+
+    @Test
+    void testCountByConversationIds() {
+        UUID conversationId = UUID.randomUUID();
+        ConversationMessageCount count =
+                new ConversationMessageCount() {
+                    @Override
+                    public UUID getConversationId() {
+                        return conversationId;
+                    }
+
+                    @Override
+                    public long getMessageCount() {
+                        return 2;
+                    }
+                };
+        when(repository.countByConversationIds(List.of(conversationId)))
+                .thenReturn(List.of(count));
+
+        Map<UUID, Integer> counts = service.countByConversationIds(List.of(conversationId));
+
+        assertEquals(Map.of(conversationId, 2), counts);
+    }
+
+    @Test
+    void testBatchLookupsWithoutConversations() {
+        assertTrue(service.getOriginalMessagesByConversationIds(List.of()).isEmpty());
+        assertTrue(service.countByConversationIds(List.of()).isEmpty());
+        verifyNoInteractions(repository);
+    }
 }
@@ -15,6 +15,8 @@ import io.nuvalence.workmanager.service.domain.transaction.Transaction;
 import io.nuvalence.workmanager.service.domain.transaction.TransactionPriority;
 import io.nuvalence.workmanager.service.mapper.EntityMapper;
 import io.nuvalence.workmanager.service.mapper.MissingSchemaException;
+import io.nuvalence.workmanager.service.repository.KeysetPaginator;
+import io.nuvalence.workmanager.service.repository.RankedSearchPaginator;
 import io.nuvalence.workmanager.service.repository.RecordRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -44,6 +46,10 @@ class RecordFactoryTest {
 
     @Mock private EntityMapper entityMapper;
 
+    @Mock private KeysetPaginator keysetPaginator;
+
+    @Mock private RankedSearchPaginator rankedSearchPaginator;
+
     private RecordService recordService;
 
     private RecordFactory factory;
@@ -54,7 +60,14 @@ class RecordFactoryTest {
         clock = Clock.fixed(Instant.now(), ZoneId.systemDefault());
         factory = new RecordFactory(repository, schemaService);
         factory.setClock(clock);
-        recordService = new RecordService(repository, factory, transactionService, entityMapper);
+        recordService =
+                new RecordService(
+                        repository,
+                        factory,
+                        transactionService,
+                        entityMapper,
+                        keysetPaginator,
+                        rankedSearchPaginator);
     }
 
     @Test
@@ -4,7 +4,9 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -21,6 +23,7 @@ import io.nuvalence.workmanager.service.generated.models.RecordUpdateRequest;
 import io.nuvalence.workmanager.service.mapper.EntityMapper;
 import io.nuvalence.workmanager.service.mapper.MissingSchemaException;
 import io.nuvalence.workmanager.service.models.RecordFilters;
+import io.nuvalence.workmanager.service.repository.RankedSearchPaginator;
 import io.nuvalence.workmanager.service.repository.RecordRepository;
 import org.apache.commons.beanutils.DynaProperty;
 import org.junit.jupiter.api.BeforeEach;
@@ -30,6 +33,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.springframework.context.ApplicationContext;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
 import java.time.Clock;
@@ -55,6 +59,8 @@ class RecordServiceTest {
     @Mock private ApplicationContext applicationContext;
     @Mock private TransactionService transactionService;
 
+    @Mock private RankedSearchPaginator rankedSearchPaginator;
+
     @InjectMocks private RecordService recordService;
 
     private Clock clock = Clock.systemDefaultZone();
@@ -138,6 +144,36 @@ class RecordServiceTest {
         assertEquals(recordPage, result);
     }
 
+    @Test
+    void testGetRecordsByRankedSearch() {
+        final RecordFilters filters =
+                new RecordFilters(
+                        null, List.of("Active"), "ext-1", "createdTimestamp", "ASC", 2, 5);
+        Page<Record> recordPage = mock(Page.class);
+
+        when(rankedSearchPaginator.findPage(eq(Record.class), any(), eq(PageRequest.of(2, 5))))
+                .thenReturn(recordPage);
+
+        Page<Record> result = recordService.getRecordsByRankedSearch(filters);
+
+        assertEquals(recordPage, result);
+        verify(recordRepository, never()).findAll(any(), (Pageable) any());
+    }
+
+    @Test
+    void testGetRecordsByRankedSearch_StatusOnly() {
+        final RecordFilters filters =
+                new RecordFilters(null, List.of("Active"), null, "createdTimestamp", "ASC", 0, 2);
+        Page<Record> recordPage = mock(Page.class);
+
+        when(recordRepository.findAll(any(), (Pageable) any())).thenReturn(recordPage);
+
+        Page<Record> result = recordService.getRecordsByRankedSearch(filters);
+
+        assertEquals(recordPage, result);
+        verify(rankedSearchPaginator, never()).findPage(any(), any(), any());
+    }
+
     @Test
     void testUpdateRecord_NotFound() {
         RecordUpdateRequest updateRequest = new RecordUpdateRequest();
@@ -3,15 +3,19 @@ package io.nuvalence.workmanager.service.service;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.nuvalence.workmanager.service.config.SpringConfig;
 import io.nuvalence.workmanager.service.config.exceptions.ProvidedDataException;
 import io.nuvalence.workmanager.service.domain.VersionedEntity;
@@ -37,6 +41,7 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -59,7 +64,15 @@ class SchemaServiceTest {
         mapper.setObjectMapper(objectMapper);
         mapper.setAttributeConfigurationMapper(
                 Mappers.getMapper(AttributeConfigurationMapper.class));
-        schemaService = new SchemaService(schemaRepository, mapper);
+        schemaService =
+                new SchemaService(
+                        schemaRepository,
+                        mapper,
+                        new SchemaCache(
+                                schemaRepository,
+                                new SimpleMeterRegistry(),
+                                500,
+                                Duration.ofSeconds(30)));
     }
 
     @Test
@@ -868,6 +881,33 @@ class SchemaServiceTest {
         verify(schemaRepository).findById(schemaRow.getId());
     }
 
+    @Test
+    void getSchemaById_RepeatedLookups_ParsesSchemaOnce() {
+        SchemaRow schemaRow = createSchemaRow();
+        when(schemaRepository.findById(schemaRow.getId())).thenReturn(Optional.of(schemaRow));
+
+        Schema first = schemaService.getSchemaById(schemaRow.getId()).orElseThrow();
+        Schema second = schemaService.getSchemaById(schemaRow.getId()).orElseThrow();
+        Schema byKey = schemaService.getSchemaByKey(schemaRow.getKey()).orElseThrow();
+
+        assertSame(first, second);
+        assertSame(first, byKey);
+        verify(schemaRepository, times(1)).findById(schemaRow.getId());
+        verify(schemaRepository, never()).findByKey(schemaRow.getKey());
+    }
+
+    @Test
+    void deleteSchema_EvictsCachedSchema() throws JsonProcessingException {
+        SchemaRow schemaRow = createSchemaRow();
+        when(schemaRepository.findById(schemaRow.getId())).thenReturn(Optional.of(schemaRow));
+
+        Schema schema = schemaService.getSchemaById(schemaRow.getId()).orElseThrow();
+        schemaService.deleteSchema(schema);
+        schemaService.getSchemaById(schemaRow.getId());
+
+        verify(schemaRepository, times(2)).findById(schemaRow.getId());
+    }
+
     @Test
     void getSchemaById_InvalidSchemaJson_ThrowsRuntimeException() {
         SchemaRow schemaRow = createSchemaRow();
@@ -8,7 +8,6 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.nuvalence.events.brokerclient.config.PublisherProperties;
-import io.nuvalence.events.event.service.EventGateway;
 import io.nuvalence.workmanager.service.domain.profile.ProfileInvitation;
 import io.nuvalence.workmanager.service.domain.profile.ProfileType;
 import io.nuvalence.workmanager.service.domain.transaction.Transaction;
@@ -30,7 +29,7 @@ class SendNotificationServiceTest {
 
     @Mock private PublisherProperties publisherProperties;
 
-    @Mock private EventGateway eventGateway;
+    @Mock private EventOutboxService eventOutboxService;
 
     @InjectMocks private SendNotificationService sendNotificationService;
 
@@ -54,7 +53,8 @@ class SendNotificationServiceTest {
 
         sendNotificationService.sendTransactionNotification(transaction, "templateKey", properties);
 
-        verify(eventGateway, times(1)).publishEvent(any(), eq("notification-topic"));
+        verify(eventOutboxService, times(1))
+                .enqueue(any(), eq("notification-topic"), eq(transaction.getId().toString()));
     }
 
     @Test
@@ -89,7 +89,11 @@ class SendNotificationServiceTest {
 
         sendNotificationService.sendDirectNotification(profileInvitation, "Test User", "template");
 
-        verify(eventGateway, times(1)).publishEvent(any(), eq("notification-topic"));
+        verify(eventOutboxService, times(1))
+                .enqueue(
+                        any(),
+                        eq("notification-topic"),
+                        eq(profileInvitation.getId().toString()));
     }
 
     @Test
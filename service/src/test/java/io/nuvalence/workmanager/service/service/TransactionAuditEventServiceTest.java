@@ -12,7 +12,6 @@ import io.nuvalence.events.brokerclient.config.PublisherProperties;
 import io.nuvalence.events.event.AuditEvent;
 import io.nuvalence.events.event.dto.ActivityEventData;
 import io.nuvalence.events.event.dto.StateChangeEventData;
-import io.nuvalence.events.event.service.EventGateway;
 import io.nuvalence.logging.util.CorrelationIdContext;
 import io.nuvalence.workmanager.service.events.PublisherTopic;
 import io.nuvalence.workmanager.service.models.auditevents.AuditActivityType;
@@ -37,7 +36,7 @@ import java.util.UUID;
 @ExtendWith(MockitoExtension.class)
 class TransactionAuditEventServiceTest {
 
-    @Mock private EventGateway eventGateway;
+    @Mock private EventOutboxService eventOutboxService;
 
     @Mock private PublisherProperties publisherProperties;
 
@@ -51,7 +50,9 @@ class TransactionAuditEventServiceTest {
         transactionAuditEventService =
                 Mockito.spy(
                         new AuditEventService(
-                                eventGateway, publisherProperties, requestContextTimestamp));
+                                eventOutboxService,
+                                publisherProperties,
+                                requestContextTimestamp));
         ReflectionTestUtils.setField(
                 transactionAuditEventService,
                 "fullyQualifiedTopicName",
@@ -98,7 +99,7 @@ class TransactionAuditEventServiceTest {
 
         UUID result = transactionAuditEventService.sendAuditEvent(testEvent);
 
-        verify(eventGateway).publishEvent(auditEventCaptor.capture(), anyString());
+        verify(eventOutboxService).enqueue(auditEventCaptor.capture(), anyString(), anyString());
         AuditEvent capturedAuditEvent = auditEventCaptor.getValue();
 
         UUID capturedTraceId = capturedAuditEvent.getRequestContext().getTraceId();
@@ -140,7 +141,7 @@ class TransactionAuditEventServiceTest {
 
         UUID result = transactionAuditEventService.sendAuditEvent(testEvent);
 
-        verify(eventGateway).publishEvent(auditEventCaptor.capture(), anyString());
+        verify(eventOutboxService).enqueue(auditEventCaptor.capture(), anyString(), anyString());
         AuditEvent capturedAuditEvent = auditEventCaptor.getValue();
         UUID capturedTraceId = capturedAuditEvent.getRequestContext().getTraceId();
         assertNotNull(capturedTraceId);
@@ -187,7 +188,7 @@ class TransactionAuditEventServiceTest {
 
         UUID result = transactionAuditEventService.sendAuditEvent(testEvent);
 
-        verify(eventGateway).publishEvent(auditEventCaptor.capture(), anyString());
+        verify(eventOutboxService).enqueue(auditEventCaptor.capture(), anyString(), anyString());
         AuditEvent capturedAuditEvent = auditEventCaptor.getValue();
 
         UUID capturedTraceId = capturedAuditEvent.getRequestContext().getTraceId();
@@ -200,6 +201,6 @@ class TransactionAuditEventServiceTest {
 
         // Assert
         assertNotNull(result);
-        verify(eventGateway).publishEvent(any(), anyString());
+        verify(eventOutboxService).enqueue(any(), anyString(), anyString());
     }
 }
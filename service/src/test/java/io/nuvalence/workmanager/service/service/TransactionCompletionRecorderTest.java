@@ -0,0 +1,84 @@
+package io.nuvalence.workmanager.service.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.nuvalence.workmanager.service.repository.TransactionRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Date;
+import java.util.Map;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionCompletionRecorderTest {
+
+    @Mock private TransactionRepository repository;
+    @Mock private PlatformTransactionManager transactionManager;
+
+    private TransactionCompletionRecorder recorder;
+
+    @BeforeEach
+    void setup() {
+        recorder = new TransactionCompletionRecorder(repository, transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.unbindResourceIfPossible(recorder);
+    }
+
+    @Test
+    void recordCompletion_withoutTransaction_writesImmediately() {
+        final Date endTime = new Date();
+
+        recorder.recordCompletion("processInstanceId", endTime);
+
+        verify(repository).markProcessInstancesAsCompleted(Map.of("processInstanceId", endTime));
+    }
+
+    @Test
+    void recordCompletion_withinTransaction_writesBatchAfterCommit() {
+        final Date firstEndTime = new Date();
+        final Date secondEndTime = new Date();
+        when(repository.markProcessInstancesAsCompleted(any())).thenReturn(2);
+        TransactionSynchronizationManager.initSynchronization();
+
+        recorder.recordCompletion("first", firstEndTime);
+        recorder.recordCompletion("second", secondEndTime);
+        verify(repository, never()).markProcessInstancesAsCompleted(any());
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(TransactionSynchronization::afterCommit);
+
+        verify(repository)
+                .markProcessInstancesAsCompleted(
+                        Map.of("first", firstEndTime, "second", secondEndTime));
+    }
+
+    @Test
+    void recordCompletion_rolledBack_writesNothing() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        recorder.recordCompletion("processInstanceId", new Date());
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(
+                        synchronization ->
+                                synchronization.afterCompletion(
+                                        TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        verify(repository, never()).markProcessInstancesAsCompleted(any());
+    }
+}
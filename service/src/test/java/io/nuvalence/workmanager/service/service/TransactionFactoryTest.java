@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 import io.nuvalence.auth.token.UserToken;
@@ -17,9 +18,11 @@ import io.nuvalence.workmanager.service.domain.transaction.TransactionPriority;
 import io.nuvalence.workmanager.service.mapper.FormConfigurationMapper;
 import io.nuvalence.workmanager.service.mapper.MissingSchemaException;
 import io.nuvalence.workmanager.service.repository.CustomerProvidedDocumentRepository;
+import io.nuvalence.workmanager.service.repository.KeysetPaginator;
 import io.nuvalence.workmanager.service.repository.TransactionRepository;
 import io.nuvalence.workmanager.service.usermanagementapi.models.User;
 import io.nuvalence.workmanager.service.utils.RequestContextTimestamp;
+import io.nuvalence.workmanager.service.utils.ZBase32Encoder;
 import io.nuvalence.workmanager.service.utils.formconfig.formio.NuvalenceFormioValidator;
 import org.camunda.bpm.engine.ProcessEngine;
 import org.junit.jupiter.api.BeforeEach;
@@ -31,12 +34,14 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.time.Clock;
 import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.time.ZoneId;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -69,6 +74,10 @@ class TransactionFactoryTest {
     @Mock private IndividualService individualService;
     @Mock private EmployerService employerService;
 
+    @Mock private KeysetPaginator keysetPaginator;
+
+    @Mock private PlatformTransactionManager transactionManager;
+
     private TransactionService transactionService;
     private TransactionFactory factory;
     private Clock clock;
@@ -93,7 +102,9 @@ class TransactionFactoryTest {
                         formConfigMapper,
                         formioValidator,
                         individualService,
-                        employerService);
+                        employerService,
+                        keysetPaginator,
+                        transactionManager);
     }
 
     @Test
@@ -111,6 +122,20 @@ class TransactionFactoryTest {
         assertEquals(transaction, factory.createTransaction(definition));
     }
 
+    @Test
+    void generateExternalIdsUsesOneSequenceQuery() {
+        Mockito.when(repository.getNextTransactionSequenceValues(3))
+                .thenReturn(List.of(1L, 2L, 3L));
+
+        assertEquals(
+                List.of(
+                        ZBase32Encoder.encode(1L),
+                        ZBase32Encoder.encode(2L),
+                        ZBase32Encoder.encode(3L)),
+                factory.generateExternalIds(3));
+        verify(repository, never()).getNextTransactionSequenceValue();
+    }
+
     @Test
     void testCreateTransaction() throws MissingSchemaException {
         // Arrange
@@ -10,6 +10,7 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
@@ -36,7 +37,6 @@ import io.nuvalence.workmanager.service.domain.dynamicschema.DynamicEntity;
 import io.nuvalence.workmanager.service.domain.dynamicschema.Schema;
 import io.nuvalence.workmanager.service.domain.dynamicschema.attributes.Document;
 import io.nuvalence.workmanager.service.domain.formconfig.FormConfiguration;
-import io.nuvalence.workmanager.service.domain.formconfig.formio.NuvalenceFormioComponent;
 import io.nuvalence.workmanager.service.domain.profile.Individual;
 import io.nuvalence.workmanager.service.domain.profile.ProfileType;
 import io.nuvalence.workmanager.service.domain.transaction.MissingTaskException;
@@ -45,16 +45,20 @@ import io.nuvalence.workmanager.service.domain.transaction.Transaction;
 import io.nuvalence.workmanager.service.domain.transaction.TransactionDefinition;
 import io.nuvalence.workmanager.service.domain.transaction.TransactionPriority;
 import io.nuvalence.workmanager.service.generated.models.TransactionCountByStatusModel;
-import io.nuvalence.workmanager.service.mapper.FormConfigurationMapperImpl;
 import io.nuvalence.workmanager.service.mapper.MissingSchemaException;
 import io.nuvalence.workmanager.service.models.ByUserTransactionsFilters;
+import io.nuvalence.workmanager.service.models.DataMergePatch;
 import io.nuvalence.workmanager.service.models.SearchTransactionsFilters;
+import io.nuvalence.workmanager.service.models.TransactionCreationItem;
+import io.nuvalence.workmanager.service.models.TransactionCreationResult;
 import io.nuvalence.workmanager.service.models.TransactionFilters;
 import io.nuvalence.workmanager.service.models.auditevents.*;
 import io.nuvalence.workmanager.service.repository.CustomerProvidedDocumentRepository;
+import io.nuvalence.workmanager.service.repository.KeysetPaginator;
 import io.nuvalence.workmanager.service.repository.TransactionRepository;
 import io.nuvalence.workmanager.service.utils.RequestContextTimestamp;
 import io.nuvalence.workmanager.service.utils.auth.CurrentUserUtility;
+import io.nuvalence.workmanager.service.utils.formconfig.formio.FormioValidationPlanCache;
 import io.nuvalence.workmanager.service.utils.formconfig.formio.NuvalenceFormioValidator;
 import org.apache.commons.beanutils.DynaProperty;
 import org.junit.jupiter.api.BeforeEach;
@@ -65,6 +69,7 @@ import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -73,6 +78,8 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
@@ -110,12 +117,16 @@ class TransactionServiceTest {
 
     @Mock private TransactionDefinitionService transactionDefinitionService;
 
-    @Mock private FormConfigurationMapperImpl formConfigMapper;
+    @Spy private FormioValidationPlanCache formioValidationPlanCache;
 
     @Mock private NuvalenceFormioValidator formioValidator;
     @Mock private IndividualService individualService;
     @Mock private EmployerService employerService;
 
+    @Mock private KeysetPaginator keysetPaginator;
+
+    @Mock private PlatformTransactionManager transactionManager;
+
     private TransactionService service;
 
     @BeforeEach
@@ -133,10 +144,12 @@ class TransactionServiceTest {
                                 schemaService,
                                 requestContextTimestamp,
                                 formConfigurationService,
-                                formConfigMapper,
+                                formioValidationPlanCache,
                                 formioValidator,
                                 individualService,
-                                employerService));
+                                employerService,
+                                keysetPaginator,
+                                transactionManager));
     }
 
     @Test
@@ -168,6 +181,59 @@ class TransactionServiceTest {
         Mockito.verify(repository).save(transaction);
     }
 
+    @Test
+    void createTransactionsRetriesFailedChunkOneByOne() throws MissingSchemaException {
+        // Arrange
+        ReflectionTestUtils.setField(service, "bulkCreationChunkSize", 2);
+        final TransactionDefinition definition =
+                TransactionDefinition.builder()
+                        .processDefinitionKey("processDefinitionKey")
+                        .subjectType(ProfileType.INDIVIDUAL)
+                        .build();
+        final Individual individual = Individual.builder().id(UUID.randomUUID()).build();
+        final List<TransactionCreationItem> items =
+                List.of(
+                        new TransactionCreationItem(definition, null),
+                        new TransactionCreationItem(definition, null),
+                        new TransactionCreationItem(definition, null));
+        when(factory.generateExternalIds(3)).thenReturn(List.of("first", "second", "third"));
+        when(factory.createTransaction(eq(definition), any(String.class)))
+                .thenAnswer(
+                        invocation ->
+                                Transaction.builder()
+                                        .externalId(invocation.getArgument(1))
+                                        .build());
+        doAnswer(
+                        invocation -> {
+                            Transaction transaction = invocation.getArgument(0);
+                            if ("second".equals(transaction.getExternalId())) {
+                                throw new IllegalStateException("process start failed");
+                            }
+                            return null;
+                        })
+                .when(transactionTaskService)
+                .startTask(any(Transaction.class), eq("processDefinitionKey"));
+
+        // Act
+        List<TransactionCreationResult> results = service.createTransactions(items, individual);
+
+        // Assert
+        assertEquals(3, results.size());
+        assertEquals("first", results.get(0).getTransaction().getExternalId());
+        assertEquals(individual.getId(), results.get(0).getTransaction().getSubjectProfileId());
+        assertFalse(results.get(1).isCreated());
+        assertEquals("process start failed", results.get(1).getError());
+        assertEquals("third", results.get(2).getTransaction().getExternalId());
+        assertEquals(definition, results.get(2).getTransaction().getTransactionDefinition());
+
+        verify(factory, times(1)).generateExternalIds(3);
+        verify(repository, times(2)).saveAll(any());
+        verify(repository, times(2)).save(any(Transaction.class));
+        // only the created transactions are audited, with their chunk or on their own
+        verify(transactionAuditEventService, times(2))
+                .sendAuditEvent(any(AuditEventRequestObjectDto.class));
+    }
+
     @Test
     void getTransactionByIdFound() {
         // Arrange
@@ -1287,6 +1353,77 @@ class TransactionServiceTest {
         verify(existingTransaction).setAssignedTo(null);
     }
 
+    @Test
+    void updateTransactionFromMergePatch_withoutDocumentChanges_skipsDocumentReconciliation()
+            throws MissingTransactionException {
+        Transaction partialUpdate =
+                Transaction.builder()
+                        .id(UUID.randomUUID())
+                        .priority(TransactionPriority.MEDIUM)
+                        .build();
+        DataMergePatch dataPatch = new DataMergePatch();
+        dataPatch.set(List.of("firstName"), "newFirstName", false);
+
+        Transaction existingTransaction = Mockito.mock(Transaction.class);
+        when(repository.findById(partialUpdate.getId()))
+                .thenReturn(Optional.of(existingTransaction));
+
+        service.updateTransactionFromMergePatch(partialUpdate, dataPatch, new HashMap<>());
+
+        verify(repository)
+                .applyDataMergePatch(eq(existingTransaction), eq(dataPatch), any(), any());
+        verify(existingTransaction).setPriority(TransactionPriority.MEDIUM);
+        verify(existingTransaction, Mockito.never()).setData(any());
+        verify(existingTransaction, Mockito.never()).getData();
+        verify(repository).save(existingTransaction);
+    }
+
+    @Test
+    void updateTransactionFromMergePatch_withDocumentChanges_reconcilesDocuments()
+            throws MissingTransactionException {
+        Schema schema =
+                Schema.builder()
+                        .key("testSchemaKey")
+                        .properties(List.of(new DynaProperty("document1", Document.class)))
+                        .build();
+        DynamicEntity data = new DynamicEntity(schema);
+        Document document = new Document(UUID.randomUUID(), "filename");
+        data.set("document1", document);
+
+        Transaction partialUpdate = Transaction.builder().id(UUID.randomUUID()).build();
+        DataMergePatch dataPatch = new DataMergePatch();
+        dataPatch.set(List.of("document1"), document, true);
+
+        Transaction existingTransaction = Mockito.mock(Transaction.class);
+        List<CustomerProvidedDocument> documents = new ArrayList<>();
+        when(existingTransaction.getId()).thenReturn(partialUpdate.getId());
+        when(existingTransaction.getData()).thenReturn(data);
+        when(existingTransaction.getCustomerProvidedDocuments()).thenReturn(documents);
+        when(repository.findById(partialUpdate.getId()))
+                .thenReturn(Optional.of(existingTransaction));
+
+        service.updateTransactionFromMergePatch(partialUpdate, dataPatch, new HashMap<>());
+
+        assertEquals(1, documents.size());
+        assertEquals(document.getDocumentId(), documents.get(0).getId());
+        assertEquals("document1", documents.get(0).getDataPath());
+    }
+
+    @Test
+    void updateTransactionFromMergePatch_emptyPatch_doesNotWriteData()
+            throws MissingTransactionException {
+        Transaction partialUpdate = Transaction.builder().id(UUID.randomUUID()).build();
+        Transaction existingTransaction = Mockito.mock(Transaction.class);
+        when(repository.findById(partialUpdate.getId()))
+                .thenReturn(Optional.of(existingTransaction));
+
+        service.updateTransactionFromMergePatch(
+                partialUpdate, new DataMergePatch(), new HashMap<>());
+
+        verify(repository, Mockito.never()).applyDataMergePatch(any(), any(), any(), any());
+        verify(repository).save(existingTransaction);
+    }
+
     @Test
     void testGetTransactionByProcessInstanceId_WhenTransactionExists() {
         Transaction transaction = getCommonTransactionBuilder().build();
@@ -1668,21 +1805,9 @@ class TransactionServiceTest {
                     getTransactionForValidateFormTest(
                             formStepKey, transactionDefinitionKey, formKey);
 
-            final List<NuvalenceFormioComponent> realResponseSaver = new ArrayList<>();
-
-            doAnswer(
-                            (invocation) -> {
-                                NuvalenceFormioComponent result =
-                                        (NuvalenceFormioComponent) invocation.callRealMethod();
-                                realResponseSaver.add(result);
-                                return result;
-                            })
-                    .when(formConfigMapper)
-                    .formConfigToValidationConfigForStep(any(), any(), eq(false));
-
             doCallRealMethod()
                     .when(formioValidator)
-                    .validateDataAgainstFormConfig(any(), any(), any());
+                    .validateDataAgainstPlan(any(), any(), any(), any());
 
             NuvalenceFormioValidationException exception =
                     assertThrows(
@@ -1699,12 +1824,58 @@ class TransactionServiceTest {
             assertEquals("required", exceptionItem.getErrorName());
             assertEquals("custom error label", exceptionItem.getErrorMessage());
 
-            verify(formConfigMapper, times(1))
-                    .formConfigToValidationConfigForStep(any(), eq(formStepKey), eq(false));
+            verify(formioValidationPlanCache, times(1)).getPlan(any());
+
+            verify(formioValidator, times(1))
+                    .validateDataAgainstPlan(
+                            any(), eq(formStepKey), eq(transaction.getData()), anyList());
+        }
+    }
+
+    @Test
+    void testValidateForm_AllStepsConcurrently() {
+        try (var staticCurrentUserUtility = Mockito.mockStatic(CurrentUserUtility.class)) {
+            staticCurrentUserUtility
+                    .when(CurrentUserUtility::getCurrentUser)
+                    .thenReturn(
+                            Optional.of(
+                                    UserToken.builder()
+                                            .userType("userType")
+                                            .roles(Collections.emptyList())
+                                            .build()));
+
+            String transactionDefinitionKey = "transactionDefinitionKey";
+
+            Transaction transaction =
+                    getTransactionForValidateFormTest(
+                            "formStepKey", transactionDefinitionKey, "formKey");
 
+            doAnswer(
+                            invocation -> {
+                                List<NuvalenceFormioValidationExItem> errors =
+                                        invocation.getArgument(3);
+                                errors.add(
+                                        NuvalenceFormioValidationExItem.builder()
+                                                .controlName("formStepKey")
+                                                .errorName("required")
+                                                .build());
+                                return null;
+                            })
+                    .when(formioValidator)
+                    .validateStepsConcurrently(any(), any(), anyBoolean(), anyList());
+
+            NuvalenceFormioValidationException exception =
+                    assertThrows(
+                            NuvalenceFormioValidationException.class,
+                            () ->
+                                    service.validateForm(
+                                            transactionDefinitionKey, transaction, "", "", true));
+
+            assertEquals(
+                    1, exception.getFormioValidationErrors().getFormioValidationErrors().size());
             verify(formioValidator, times(1))
-                    .validateDataAgainstFormConfig(
-                            eq(realResponseSaver.get(0)), eq(transaction.getData()), anyList());
+                    .validateStepsConcurrently(
+                            any(), eq(transaction.getData()), eq(true), anyList());
         }
     }
 
@@ -1728,8 +1899,9 @@ class TransactionServiceTest {
                     getTransactionForValidateFormTest(
                             formStepKey, transactionDefinitionKey, formKey);
 
-            when(formConfigMapper.formConfigToValidationConfigForStep(any(), any(), eq(false)))
-                    .thenCallRealMethod();
+            doCallRealMethod()
+                    .when(formioValidator)
+                    .validateDataAgainstPlan(any(), any(), any(), any());
 
             ProvidedDataException exception =
                     assertThrows(
@@ -1747,8 +1919,7 @@ class TransactionServiceTest {
                     "The provided formStepKey does not exist in the form configuration",
                     exception.getMessage());
 
-            verify(formConfigMapper, times(1))
-                    .formConfigToValidationConfigForStep(any(), eq("notExistingKey"), eq(false));
+            verify(formioValidationPlanCache, times(1)).getPlan(any());
         }
     }
 
@@ -2029,10 +2200,11 @@ class TransactionServiceTest {
 
     @Test
     void testUpdateCompletedTransactions() {
-        when(repository.markTransactionsAsCompleted())
+        OffsetDateTime endedSince = OffsetDateTime.now().minusDays(1);
+        when(repository.markTransactionsAsCompleted(endedSince))
                 .thenReturn(5); // Set the expected return value
-        int updatedRows = service.updateCompletedTransactions();
+        int updatedRows = service.updateCompletedTransactions(endedSince);
         assertEquals(5, updatedRows);
-        verify(repository, times(1)).markTransactionsAsCompleted();
+        verify(repository, times(1)).markTransactionsAsCompleted(endedSince);
     }
 }
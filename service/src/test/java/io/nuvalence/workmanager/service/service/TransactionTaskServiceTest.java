@@ -5,9 +5,11 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -22,6 +24,7 @@ import io.nuvalence.workmanager.service.domain.transaction.Transaction;
 import io.nuvalence.workmanager.service.domain.transaction.TransactionDefinition;
 import io.nuvalence.workmanager.service.domain.workflow.WorkflowTask;
 import io.nuvalence.workmanager.service.mapper.EntityMapper;
+import io.nuvalence.workmanager.service.utils.auth.BatchAuthorizationHandler;
 import io.nuvalence.workmanager.service.utils.camunda.CamundaWorkflowInspector;
 import io.nuvalence.workmanager.service.utils.camunda.CamundaWorkflowInspectorCache;
 import org.camunda.bpm.engine.HistoryService;
@@ -50,6 +53,8 @@ import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @ExtendWith(MockitoExtension.class)
@@ -71,6 +76,8 @@ class TransactionTaskServiceTest {
 
     @Mock private HistoryService historyService;
 
+    @Mock private BatchAuthorizationHandler batchAuthorizationHandler;
+
     private TransactionTaskService service;
 
     @BeforeEach
@@ -80,7 +87,8 @@ class TransactionTaskServiceTest {
                         processEngine,
                         entityMapper,
                         authorizationHandler,
-                        camundaWorkflowInspectorCache);
+                        camundaWorkflowInspectorCache,
+                        batchAuthorizationHandler);
 
         Mockito.lenient().when(processEngine.getTaskService()).thenReturn(taskService);
         Mockito.lenient().when(taskService.createTaskQuery()).thenReturn(taskQuery);
@@ -241,6 +249,57 @@ class TransactionTaskServiceTest {
         assertEquals("task1", tasks.get(0).getKey());
     }
 
+    @Test
+    void getActiveTasksForCurrentUserByTransactionIdUsesOneTaskQuery() {
+        final Transaction first =
+                Transaction.builder().id(UUID.randomUUID()).processInstanceId("first").build();
+        final Transaction second =
+                Transaction.builder().id(UUID.randomUUID()).processInstanceId("second").build();
+        final Transaction notStarted =
+                Transaction.builder().id(UUID.randomUUID()).processInstanceId("").build();
+        when(taskQuery.processInstanceIdIn(any(String[].class))).thenReturn(taskQuery);
+        when(taskQuery.list())
+                .thenReturn(List.of(createTask("first", "task1"), createTask("second", "task1")));
+
+        Map<UUID, List<WorkflowTask>> tasks =
+                service.getActiveTasksForCurrentUserByTransactionId(
+                        List.of(first, second, notStarted));
+
+        assertEquals(2, tasks.size());
+        assertEquals("task1", tasks.get(first.getId()).get(0).getKey());
+        assertEquals("task1", tasks.get(second.getId()).get(0).getKey());
+        verify(taskService, times(1)).createTaskQuery();
+        verify(camundaWorkflowInspectorCache, times(1)).getByProcessDefinitionId("definition");
+        verify(camundaWorkflowInspectorCache, never()).getByProcessInstanceId(any());
+    }
+
+    @Test
+    void getActiveTasksForCurrentUserByTransactionIdAuthorizesTaskActionsInBatch() {
+        final Transaction allowed =
+                Transaction.builder().id(UUID.randomUUID()).processInstanceId("allowed").build();
+        final Transaction denied =
+                Transaction.builder().id(UUID.randomUUID()).processInstanceId("denied").build();
+        final CamundaWorkflowInspector inspector = mock(CamundaWorkflowInspector.class);
+        final WorkflowTask workflowTask = WorkflowTask.builder().key("task1").build();
+        when(camundaWorkflowInspectorCache.getByProcessDefinitionId("definition"))
+                .thenReturn(inspector);
+        when(inspector.getAllowedAction("task1")).thenReturn(Optional.of("update"));
+        when(inspector.isCurrentUserTypeAllowed("task1")).thenReturn(true);
+        when(inspector.getWorkflowTask("task1")).thenReturn(workflowTask);
+        when(taskQuery.processInstanceIdIn(any(String[].class))).thenReturn(taskQuery);
+        when(taskQuery.list())
+                .thenReturn(List.of(createTask("allowed", "task1"), createTask("denied", "task1")));
+        when(batchAuthorizationHandler.filterAllowed(eq("update"), anyList()))
+                .thenReturn(List.of(allowed));
+
+        Map<UUID, List<WorkflowTask>> tasks =
+                service.getActiveTasksForCurrentUserByTransactionId(List.of(allowed, denied));
+
+        assertEquals(Map.of(allowed.getId(), List.of(workflowTask)), tasks);
+        verify(batchAuthorizationHandler, times(1)).filterAllowed(eq("update"), anyList());
+        verify(authorizationHandler, never()).isAllowedForInstance(any(), any());
+    }
+
     @Test
     void getFirstTasksForCurrentUser() {
         // Arrange
@@ -274,6 +333,36 @@ class TransactionTaskServiceTest {
         assertEquals("task1", result.get(0).getKey());
     }
 
+    @Test
+    void getTransactionsThatReachedEndEventChecksOpenTransactionsInOneQuery() {
+        final Transaction completed =
+                Transaction.builder()
+                        .id(UUID.randomUUID())
+                        .processInstanceId("completed")
+                        .isCompleted(true)
+                        .build();
+        final Transaction ended =
+                Transaction.builder().id(UUID.randomUUID()).processInstanceId("ended").build();
+        final Transaction running =
+                Transaction.builder().id(UUID.randomUUID()).processInstanceId("running").build();
+        final HistoricProcessInstanceQuery historicProcessInstanceQuery =
+                mock(HistoricProcessInstanceQuery.class);
+        final HistoricProcessInstance historicProcessInstance = mock(HistoricProcessInstance.class);
+        when(historicProcessInstance.getId()).thenReturn("ended");
+        when(historyService.createHistoricProcessInstanceQuery())
+                .thenReturn(historicProcessInstanceQuery);
+        when(historicProcessInstanceQuery.processInstanceIds(Set.of("ended", "running")))
+                .thenReturn(historicProcessInstanceQuery);
+        when(historicProcessInstanceQuery.finished()).thenReturn(historicProcessInstanceQuery);
+        when(historicProcessInstanceQuery.list()).thenReturn(List.of(historicProcessInstance));
+
+        Set<UUID> result =
+                service.getTransactionsThatReachedEndEvent(List.of(completed, ended, running));
+
+        assertEquals(Set.of(completed.getId(), ended.getId()), result);
+        verify(historyService, times(1)).createHistoricProcessInstanceQuery();
+    }
+
     @Test
     void hasReachedEndEvent_ReturnsTrueWhenProcessHasEnded() {
         final Transaction transaction =
@@ -327,4 +416,12 @@ class TransactionTaskServiceTest {
         verify(historicProcessInstanceQuery).singleResult();
         verify(historicProcessInstance, times(1)).getEndTime();
     }
+
+    private TaskEntity createTask(String processInstanceId, String taskKey) {
+        final TaskEntity task = new TaskEntity(processInstanceId + "-" + taskKey);
+        task.setProcessInstanceId(processInstanceId);
+        task.setProcessDefinitionId("definition");
+        task.setTaskDefinitionKey(taskKey);
+        return task;
+    }
 }
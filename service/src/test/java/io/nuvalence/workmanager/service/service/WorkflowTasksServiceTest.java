@@ -13,6 +13,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.nuvalence.workmanager.service.domain.transaction.TransactionDefinition;
+import io.nuvalence.workmanager.service.utils.camunda.WorkflowStatusCache;
 import org.camunda.bpm.engine.HistoryService;
 import org.camunda.bpm.engine.ProcessEngine;
 import org.camunda.bpm.engine.RepositoryService;
@@ -61,7 +62,11 @@ class WorkflowTasksServiceTest {
         processEngine = mock(ProcessEngine.class);
 
         // init service
-        service = new WorkflowTasksService(processEngine, transactionDefService);
+        service =
+                new WorkflowTasksService(
+                        processEngine,
+                        transactionDefService,
+                        new WorkflowStatusCache(processEngine));
     }
 
     @Test
@@ -156,6 +161,33 @@ class WorkflowTasksServiceTest {
         assert (new File(resourceName).exists() == false);
     }
 
+    @Test
+    void searchCamundaStatusesReadsEachProcessDefinitionOnce() throws Exception {
+
+        // vars
+        String resourceName = "searchCamundaStatusesReadsEachProcessDefinitionOnce";
+
+        // readable bpmn model
+        Files.write(Paths.get(resourceName), getBpmnModelString().getBytes("UTF-8"));
+
+        // process def query
+        initProcessDefinitionQuery(resourceName, null);
+        RepositoryService repositoryService = processEngine.getRepositoryService();
+
+        // method test
+        List<String> publicStatuses = service.getCamundaStatuses("public", null, null);
+        List<String> internalStatuses = service.getCamundaStatuses("internal", null, null);
+
+        // checks and asserts
+        verify(repositoryService, times(1)).getResourceAsStream("deploymentId", resourceName);
+
+        assertEquals(List.of("publicPropValue"), publicStatuses);
+        assertEquals(List.of("internalPropValue"), internalStatuses);
+
+        Files.delete(Paths.get(resourceName));
+        assert (new File(resourceName).exists() == false);
+    }
+
     @Test
     void searchCamundaStatusesByProcessKeyNotFoundProcess() throws Exception {
 
@@ -406,8 +438,22 @@ class WorkflowTasksServiceTest {
             processDefinition.setKey(processId.toString());
         }
 
+        processDefinition.setId(resourceName + ":1");
+        processDefinition.setDeploymentId("deploymentId");
         processDefinition.setResourceName(resourceName);
 
+        // deployed bpmn model, read from the file written by the test if there is one
+        lenient()
+                .when(repositoryService.getProcessDefinition(processDefinition.getId()))
+                .thenReturn(processDefinition);
+        lenient()
+                .when(repositoryService.getResourceAsStream("deploymentId", resourceName))
+                .thenAnswer(
+                        invocation ->
+                                Files.exists(Paths.get(resourceName))
+                                        ? Files.newInputStream(Paths.get(resourceName))
+                                        : null);
+
         List<ProcessDefinition> processDefinitions = new ArrayList<ProcessDefinition>();
         processDefinitions.add(processDefinition);
 
@@ -0,0 +1,73 @@
+package io.nuvalence.workmanager.service.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.nuvalence.logging.util.CorrelationIdContext;
+import io.nuvalence.workmanager.service.utils.formconfig.formio.FormioValidationExecutor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+class BoundedExecutorTest {
+    private TestExecutor executor;
+
+    @AfterEach
+    void shutdown() throws InterruptedException {
+        if (executor != null) {
+            executor.shutdown();
+        }
+        CorrelationIdContext.setCorrelationId(null);
+    }
+
+    @Test
+    void submitRunsTaskWithCorrelationIdOfSubmitter() throws Exception {
+        executor = new TestExecutor(1, 1);
+        CorrelationIdContext.setCorrelationId("correlation-id");
+
+        final Future<String> correlationId =
+                executor.submit(CorrelationIdContext::getCorrelationId);
+
+        assertEquals("correlation-id", correlationId.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void taskRunsOnSubmittingThreadWhenQueueIsFull() throws Exception {
+        executor = new TestExecutor(1, 1);
+        final CountDownLatch release = new CountDownLatch(1);
+        // occupies the only thread, then the only queue slot
+        executor.execute(() -> awaitQuietly(release));
+        executor.execute(() -> {});
+
+        final Future<Thread> thread = executor.submit(Thread::currentThread);
+        release.countDown();
+
+        assertEquals(Thread.currentThread(), thread.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void formioValidationPoolIsNotLargerThanTheExpressionSlots() throws InterruptedException {
+        final FormioValidationExecutor validationExecutor = new FormioValidationExecutor(8, 10, 4);
+        try {
+            assertEquals(4, validationExecutor.getThreads());
+        } finally {
+            validationExecutor.shutdown();
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class TestExecutor extends BoundedExecutor {
+        TestExecutor(int threads, int queueCapacity) {
+            super("test-", threads, queueCapacity);
+        }
+    }
+}
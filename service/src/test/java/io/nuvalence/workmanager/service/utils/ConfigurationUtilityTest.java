@@ -1,10 +1,13 @@
 package io.nuvalence.workmanager.service.utils;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.nuvalence.workmanager.service.config.SpringConfig;
@@ -35,37 +38,44 @@ import org.camunda.bpm.engine.ProcessEngine;
 import org.camunda.bpm.engine.RepositoryService;
 import org.camunda.bpm.engine.impl.repository.DeploymentBuilderImpl;
 import org.camunda.bpm.engine.repository.DecisionDefinition;
+import org.camunda.bpm.engine.repository.DecisionDefinitionQuery;
 import org.camunda.bpm.engine.repository.ProcessDefinition;
+import org.camunda.bpm.engine.repository.ProcessDefinitionQuery;
 import org.camunda.bpm.model.bpmn.Bpmn;
 import org.camunda.bpm.model.bpmn.BpmnModelInstance;
 import org.camunda.bpm.model.dmn.Dmn;
 import org.camunda.bpm.model.dmn.DmnModelInstance;
-import org.camunda.community.mockito.QueryMocks;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mapstruct.factory.Mappers;
+import org.mockito.Answers;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.core.io.FileSystemResource;
-import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.io.ByteArrayInputStream;
-import java.io.File;
-import java.io.FileInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
 
 @ExtendWith(MockitoExtension.class)
 class ConfigurationUtilityTest {
@@ -87,6 +97,14 @@ class ConfigurationUtilityTest {
 
     @Mock private DeploymentBuilderImpl deploymentBuilder;
 
+    @Mock(answer = Answers.RETURNS_SELF)
+    private ProcessDefinitionQuery processDefinitionQuery;
+
+    @Mock(answer = Answers.RETURNS_SELF)
+    private DecisionDefinitionQuery decisionDefinitionQuery;
+
+    @Mock private PlatformTransactionManager transactionManager;
+
     private TransactionDefinitionMapper transactionDefinitionMapper;
 
     private TransactionDefinitionSetMapper transactionDefinitionSetMapper;
@@ -97,6 +115,8 @@ class ConfigurationUtilityTest {
 
     private ObjectMapper objectMapper;
 
+    private ConfigurationExecutor configurationExecutor;
+
     private ConfigurationUtility configurationUtility;
     private List<TransactionDefinition> transactionDefinitions;
     private List<TransactionDefinitionSet> transactionDefinitionSets;
@@ -112,6 +132,7 @@ class ConfigurationUtilityTest {
         this.transactionDefinitionSetMapper =
                 Mappers.getMapper(TransactionDefinitionSetMapper.class);
         this.formConfigurationMapper = Mappers.getMapper(FormConfigurationMapper.class);
+        this.configurationExecutor = new ConfigurationExecutor(2, 10);
         this.configurationUtility =
                 new ConfigurationUtility(
                         transactionDefinitionRepository,
@@ -123,31 +144,30 @@ class ConfigurationUtilityTest {
                         transactionDefinitionMapper,
                         transactionDefinitionSetMapper,
                         formConfigurationMapper,
-                        objectMapper);
+                        objectMapper,
+                        configurationExecutor,
+                        transactionManager,
+                        1);
         this.transactionDefinitions = getTransactionDefinitions();
         this.transactionDefinitionSets = getTransactionDefinitionSets();
         this.schemas = getSchemas();
         this.formConfigurations = getFormConfigurations();
+    }
 
-        ReflectionTestUtils.setField(configurationUtility, "exportTempDir", "");
+    @AfterEach
+    void shutdownExecutor() throws InterruptedException {
+        this.configurationExecutor.shutdown();
     }
 
     @Test
-    void getConfiguration() throws Exception {
+    void writeConfiguration() throws Exception {
         setupStubs();
         String yamlContent;
         String jsonYaml;
-        FileSystemResource resource = this.configurationUtility.getConfiguration();
-        // validates the writeDirectoriesToZip metod
-        assertNotNull(resource);
-        assertTrue(resource.exists());
-        assertTrue(resource.isFile());
-        assertEquals(
-                ".zip",
-                Objects.requireNonNull(resource.getFilename())
-                        .substring(resource.getFilename().lastIndexOf(".")));
-        File file = resource.getFile();
-        InputStream is = new FileInputStream(file);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        this.configurationUtility.writeConfiguration(outputStream);
+        assertTrue(outputStream.size() > 0);
+        InputStream is = new ByteArrayInputStream(outputStream.toByteArray());
         ZipInputStream zipIn = new ZipInputStream(is);
         ZipEntry zipEntry = zipIn.getNextEntry();
         try (is;
@@ -235,35 +255,136 @@ class ConfigurationUtilityTest {
                 zipEntry = zipIn.getNextEntry();
             }
         }
-        File tempFile = resource.getFile();
-        assertTrue(tempFile.delete());
-        deleteDirectory(resource.getFile().getParentFile());
+    }
+
+    @Test
+    void getConfigurationStreamsTheArchive() throws Exception {
+        setupStubs();
+
+        Resource resource = this.configurationUtility.getConfiguration();
+
+        assertTrue(resource instanceof InputStreamResource);
+        List<String> entryNames;
+        try (InputStream is = resource.getInputStream()) {
+            entryNames = readEntryNames(is);
+        }
+        assertEquals(
+                List.of(
+                        "schema/",
+                        "workflow/",
+                        "transaction/",
+                        "schema/SCHEMA_1.yaml",
+                        "workflow/PROCESS_DEFINITION_KEY",
+                        "workflow/DECISION_DEFINITION_KEY",
+                        "transaction/TRANSACTION_DEFINITION_KEY.yaml",
+                        "transaction/TRANSACTION_DEFINITION_KEY-form-DEFAULT CONFIGURATION"
+                                + " KEY.yaml",
+                        "transaction-set/key.yaml"),
+                entryNames.stream()
+                        .map(name -> name.replaceAll("_[0-9a-f-]{36}\\.(bpmn|dmn)$", ""))
+                        .toList());
+    }
+
+    @Test
+    void writeConfigurationPagesEntitiesInKeyOrder() throws Exception {
+        setupStubs();
+        SchemaRow first = SchemaRow.builder().key("A_SCHEMA").schemaJson(schemaJson()).build();
+        SchemaRow second = SchemaRow.builder().key("B_SCHEMA").schemaJson(schemaJson()).build();
+        when(schemaRepository.findAll(PageRequest.of(0, 1, Sort.by("key"))))
+                .thenReturn(new PageImpl<>(List.of(first), PageRequest.of(0, 1), 2));
+        when(schemaRepository.findAll(PageRequest.of(1, 1, Sort.by("key"))))
+                .thenReturn(new PageImpl<>(List.of(second), PageRequest.of(1, 1), 2));
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        this.configurationUtility.writeConfiguration(outputStream);
+
+        List<String> schemaEntries =
+                readEntryNames(new ByteArrayInputStream(outputStream.toByteArray())).stream()
+                        .filter(name -> name.startsWith("schema/") && name.endsWith(".yaml"))
+                        .toList();
+        assertEquals(List.of("schema/A_SCHEMA.yaml", "schema/B_SCHEMA.yaml"), schemaEntries);
+        verify(schemaRepository, never()).findAll();
+    }
+
+    @Test
+    void readZipEntryToInputStreamStripsBlankLinesOfEachEntry() throws Exception {
+        // the multi-byte character straddles the first 1024 bytes of the entry
+        String name = "a".repeat(1017) + "\u00e9t\u00e9";
+        ByteArrayOutputStream archive = new ByteArrayOutputStream();
+        try (ZipOutputStream zipOut = new ZipOutputStream(archive)) {
+            zipOut.putNextEntry(new ZipEntry("schema/first.yaml"));
+            zipOut.write(
+                    ("name: " + name + "\n\n  \r\nkey: first\r\n")
+                            .getBytes(StandardCharsets.UTF_8));
+            zipOut.closeEntry();
+            zipOut.putNextEntry(new ZipEntry("schema/second.yaml"));
+            zipOut.write("key: second".getBytes(StandardCharsets.UTF_8));
+            zipOut.closeEntry();
+        }
+
+        try (ZipInputStream zipIn =
+                new ZipInputStream(new ByteArrayInputStream(archive.toByteArray()))) {
+            zipIn.getNextEntry();
+            assertEquals(
+                    "name: " + name + System.lineSeparator() + "key: first",
+                    IOUtils.toString(
+                            ConfigurationUtility.readZipEntryToInputStream(zipIn),
+                            StandardCharsets.UTF_8));
+
+            assertEquals("schema/second.yaml", zipIn.getNextEntry().getName());
+            assertEquals(
+                    "key: second",
+                    IOUtils.toString(
+                            ConfigurationUtility.readZipEntryToInputStream(zipIn),
+                            StandardCharsets.UTF_8));
+        }
+    }
+
+    private static List<String> readEntryNames(InputStream is) throws IOException {
+        List<String> entryNames = new ArrayList<>();
+        ZipInputStream zipIn = new ZipInputStream(is);
+        ZipEntry zipEntry = zipIn.getNextEntry();
+        while (zipEntry != null) {
+            entryNames.add(zipEntry.getName());
+            zipEntry = zipIn.getNextEntry();
+        }
+        return entryNames;
     }
 
     private void setupStubs() {
         lenient()
-                .when(transactionDefinitionRepository.findAll())
-                .thenReturn(this.transactionDefinitions);
+                .when(transactionDefinitionRepository.findAll(any(Pageable.class)))
+                .thenReturn(new PageImpl<>(this.transactionDefinitions));
         lenient()
-                .when(transactionDefinitionSetRepository.findAll())
-                .thenReturn(this.transactionDefinitionSets);
+                .when(transactionDefinitionSetRepository.findAll(any(Pageable.class)))
+                .thenReturn(new PageImpl<>(this.transactionDefinitionSets));
         lenient()
                 .when(
-                        formConfigurationRepository.findByTransactionDefinitionKey(
-                                "TRANSACTION_DEFINITION_KEY"))
+                        formConfigurationRepository.findByTransactionDefinitionKeyInOrderByKey(
+                                List.of("TRANSACTION_DEFINITION_KEY")))
                 .thenReturn(this.formConfigurations);
 
-        lenient().when(schemaRepository.findAll()).thenReturn(this.schemas);
+        lenient()
+                .when(schemaRepository.findAll(any(Pageable.class)))
+                .thenReturn(new PageImpl<>(this.schemas));
 
         lenient().when(processEngine.getRepositoryService()).thenReturn(repositoryService);
         lenient().when(processDefinition.getId()).thenReturn("PROCESS_INSTANCE_ID");
         lenient().when(processDefinition.getKey()).thenReturn("PROCESS_DEFINITION_KEY");
         lenient().when(decisionDefinition.getId()).thenReturn("DECISION_DEFINITION_ID");
         lenient().when(decisionDefinition.getKey()).thenReturn("DECISION_DEFINITION_KEY");
-        QueryMocks.mockProcessDefinitionQuery(processEngine.getRepositoryService())
-                .list(List.of(processDefinition));
-        QueryMocks.mockDecisionDefinitionQuery(processEngine.getRepositoryService())
-                .list(List.of(decisionDefinition));
+        lenient()
+                .when(repositoryService.createProcessDefinitionQuery())
+                .thenReturn(processDefinitionQuery);
+        lenient()
+                .when(processDefinitionQuery.listPage(0, 1))
+                .thenReturn(List.of(processDefinition));
+        lenient()
+                .when(repositoryService.createDecisionDefinitionQuery())
+                .thenReturn(decisionDefinitionQuery);
+        lenient()
+                .when(decisionDefinitionQuery.listPage(0, 1))
+                .thenReturn(List.of(decisionDefinition));
         lenient()
                 .when(repositoryService.getBpmnModelInstance(anyString()))
                 .thenReturn(Bpmn.readModelFromStream(getValidBpmnModelString()));
@@ -345,23 +466,24 @@ class ConfigurationUtilityTest {
     }
 
     private List<SchemaRow> getSchemas() {
-
-        String schemaJson =
-                "{\"id\": \"429d488e-d219-4cd6-b015-f71fdfeb86c7\", "
-                        + "\"key\": \"314b75dc-e2e1-47b4-81ca-28eff5c8b1eb\","
-                        + "\"name\": \"Example_Schema_1\", \"attributes\": [], "
-                        + "\"description\": \"An example schema\\nfor testing purposes\"}";
-
         SchemaRow schemaRow =
                 SchemaRow.builder()
+                        .key("SCHEMA_1")
                         .name("SCHEMA_1")
                         .id(UUID.fromString("30d2c43a-ef5b-11ed-a05b-0242ac120003"))
-                        .schemaJson(schemaJson)
+                        .schemaJson(schemaJson())
                         .build();
 
         return List.of(schemaRow);
     }
 
+    private static String schemaJson() {
+        return "{\"id\": \"429d488e-d219-4cd6-b015-f71fdfeb86c7\", "
+                + "\"key\": \"314b75dc-e2e1-47b4-81ca-28eff5c8b1eb\","
+                + "\"name\": \"Example_Schema_1\", \"attributes\": [], "
+                + "\"description\": \"An example schema\\nfor testing purposes\"}";
+    }
+
     private List<FormConfiguration> getFormConfigurations() {
 
         TransactionDefinition transactionDefinition =
@@ -374,6 +496,7 @@ class ConfigurationUtilityTest {
                 FormConfiguration.builder()
                         .id(UUID.randomUUID())
                         .transactionDefinition(transactionDefinition)
+                        .transactionDefinitionKey("TRANSACTION_DEFINITION_KEY")
                         .key("DEFAULT CONFIGURATION KEY")
                         .name("Form Configuration 1")
                         .schemaKey("Schema Key 1")
@@ -550,20 +673,4 @@ class ConfigurationUtilityTest {
     private InputStream getValidDmnModelFromString() {
         return new ByteArrayInputStream(getDmnModelString().getBytes(StandardCharsets.UTF_8));
     }
-
-    private static void deleteDirectory(File directory) throws IOException {
-        if (directory.isDirectory()) {
-            File[] files = directory.listFiles();
-            if (files != null) {
-                for (File file : files) {
-                    if (file.isDirectory()) {
-                        deleteDirectory(file);
-                    } else {
-                        Files.deleteIfExists(file.toPath());
-                    }
-                }
-            }
-            Files.deleteIfExists(directory.toPath());
-        }
-    }
 }
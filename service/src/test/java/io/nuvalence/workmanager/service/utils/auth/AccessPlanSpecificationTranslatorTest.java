@@ -0,0 +1,156 @@
+package io.nuvalence.workmanager.service.utils.auth;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.protobuf.Value;
+import dev.cerbos.api.v1.engine.Engine.PlanResourcesFilter.Expression;
+import dev.cerbos.api.v1.engine.Engine.PlanResourcesFilter.Expression.Operand;
+import io.nuvalence.workmanager.service.domain.TransactionAccessResourceTranslator;
+import io.nuvalence.workmanager.service.domain.profile.ProfileType;
+import io.nuvalence.workmanager.service.domain.transaction.Transaction;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.UUID;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+
+@SuppressWarnings("unchecked")
+class AccessPlanSpecificationTranslatorTest {
+    private static final String SUBJECT_PROFILE_ID = "request.resource.attr.subjectProfileId";
+
+    private final AccessPlanSpecificationTranslator<Transaction> translator =
+            TransactionAccessResourceTranslator.PLAN_TRANSLATOR;
+
+    private final Root<Transaction> root = mock(Root.class);
+    private final CriteriaQuery<Object> query = mock(CriteriaQuery.class);
+    private final CriteriaBuilder criteriaBuilder = mock(CriteriaBuilder.class);
+
+    @Test
+    void translate_Equality_ComparesMappedColumnWithConvertedValue() {
+        UUID profileId = UUID.randomUUID();
+        Path<Object> path = mock(Path.class);
+        Predicate predicate = mock(Predicate.class);
+        when(root.get("subjectProfileId")).thenReturn(path);
+        when(criteriaBuilder.equal(path, profileId)).thenReturn(predicate);
+
+        Specification<Transaction> specification =
+                translator.translate(
+                        expression(
+                                "eq", variable(SUBJECT_PROFILE_ID), value(profileId.toString())));
+
+        assertEquals(predicate, specification.toPredicate(root, query, criteriaBuilder));
+    }
+
+    @Test
+    void translate_Or_CombinesOperands() {
+        Path<Object> idPath = mock(Path.class);
+        Path<Object> typePath = mock(Path.class);
+        Predicate idPredicate = mock(Predicate.class);
+        Predicate typePredicate = mock(Predicate.class);
+        Predicate orPredicate = mock(Predicate.class);
+        UUID profileId = UUID.randomUUID();
+        when(root.get("subjectProfileId")).thenReturn(idPath);
+        when(root.get("subjectProfileType")).thenReturn(typePath);
+        when(criteriaBuilder.equal(idPath, profileId)).thenReturn(idPredicate);
+        when(criteriaBuilder.equal(typePath, ProfileType.EMPLOYER)).thenReturn(typePredicate);
+        when(criteriaBuilder.or(idPredicate, typePredicate)).thenReturn(orPredicate);
+
+        Specification<Transaction> specification =
+                translator.translate(
+                        expression(
+                                "or",
+                                expression(
+                                        "eq",
+                                        variable(SUBJECT_PROFILE_ID),
+                                        value(profileId.toString())),
+                                expression(
+                                        "eq",
+                                        variable("request.resource.attr.subjectProfileType"),
+                                        value("EMPLOYER"))));
+
+        assertEquals(orPredicate, specification.toPredicate(root, query, criteriaBuilder));
+    }
+
+    @Test
+    void translate_ExistsOverAdditionalParties_UsesCorrelatedSubquery() {
+        UUID profileId = UUID.randomUUID();
+        Subquery<Integer> subquery = mock(Subquery.class);
+        Root<Transaction> correlatedRoot = mock(Root.class);
+        Join<Object, Object> join = mock(Join.class);
+        Path<Object> profileIdPath = mock(Path.class);
+        Predicate bodyPredicate = mock(Predicate.class);
+        Predicate existsPredicate = mock(Predicate.class);
+        jakarta.persistence.criteria.Expression<Integer> literal =
+                mock(jakarta.persistence.criteria.Expression.class);
+        when(query.subquery(Integer.class)).thenReturn(subquery);
+        when(subquery.correlate(root)).thenReturn(correlatedRoot);
+        when(correlatedRoot.join("additionalParties")).thenReturn(join);
+        when(join.get("profileId")).thenReturn(profileIdPath);
+        when(criteriaBuilder.equal(profileIdPath, profileId)).thenReturn(bodyPredicate);
+        when(criteriaBuilder.literal(1)).thenReturn(literal);
+        when(subquery.select(literal)).thenReturn(subquery);
+        when(subquery.where(any(Predicate.class))).thenReturn(subquery);
+        when(criteriaBuilder.exists(subquery)).thenReturn(existsPredicate);
+
+        Specification<Transaction> specification =
+                translator.translate(
+                        expression(
+                                "exists",
+                                variable("request.resource.attr.additionalParties"),
+                                expression(
+                                        "lambda",
+                                        expression(
+                                                "eq",
+                                                variable("y.id"),
+                                                value(profileId.toString())),
+                                        variable("y"))));
+
+        assertEquals(existsPredicate, specification.toPredicate(root, query, criteriaBuilder));
+        verify(subquery).where(bodyPredicate);
+    }
+
+    @Test
+    void translate_UnmappedAttribute_IsRejected() {
+        Operand condition =
+                expression("eq", variable("request.resource.attr.data.secret"), value("x"));
+
+        assertThrows(UnsupportedAccessPlanException.class, () -> translator.translate(condition));
+    }
+
+    @Test
+    void translate_UnknownOperator_IsRejected() {
+        Operand condition =
+                expression("startsWith", variable("request.resource.attr.status"), value("x"));
+
+        assertThrows(UnsupportedAccessPlanException.class, () -> translator.translate(condition));
+    }
+
+    private static Operand expression(String operator, Operand... operands) {
+        Expression.Builder expression = Expression.newBuilder().setOperator(operator);
+        for (Operand operand : operands) {
+            expression.addOperands(operand);
+        }
+
+        return Operand.newBuilder().setExpression(expression).build();
+    }
+
+    private static Operand variable(String name) {
+        return Operand.newBuilder().setVariable(name).build();
+    }
+
+    private static Operand value(String value) {
+        return Operand.newBuilder().setValue(Value.newBuilder().setStringValue(value)).build();
+    }
+}
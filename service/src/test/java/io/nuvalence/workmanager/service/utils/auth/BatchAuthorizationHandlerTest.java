@@ -0,0 +1,50 @@
+package io.nuvalence.workmanager.service.utils.auth;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import io.nuvalence.auth.access.AuthorizationHandler;
+import io.nuvalence.workmanager.service.config.CerbosBatchAuthorizer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.List;
+
+@ExtendWith(MockitoExtension.class)
+class BatchAuthorizationHandlerTest {
+    @Mock private AuthorizationHandler authorizationHandler;
+    @Mock private ObjectProvider<CerbosBatchAuthorizer> batchAuthorizerProvider;
+    @Mock private CerbosBatchAuthorizer batchAuthorizer;
+
+    @Test
+    void filterAllowed_WithBatchAuthorizer_ChecksWholeListAtOnce() {
+        List<String> resources = List.of("a", "b", "c");
+        when(batchAuthorizerProvider.getIfAvailable()).thenReturn(batchAuthorizer);
+        when(batchAuthorizer.filterAllowed("view", resources)).thenReturn(List.of("a", "c"));
+
+        BatchAuthorizationHandler handler =
+                new BatchAuthorizationHandler(authorizationHandler, batchAuthorizerProvider);
+
+        assertEquals(List.of("a", "c"), handler.filterAllowed("view", resources));
+        verifyNoInteractions(authorizationHandler);
+    }
+
+    @Test
+    void filterAllowed_WithoutBatchAuthorizer_ChecksEachResource() {
+        when(batchAuthorizerProvider.getIfAvailable()).thenReturn(null);
+        when(authorizationHandler.isAllowedForInstance("view", "a")).thenReturn(true);
+        when(authorizationHandler.isAllowedForInstance("view", "b")).thenReturn(false);
+        when(authorizationHandler.isAllowedForInstance("view", "c")).thenReturn(true);
+
+        BatchAuthorizationHandler handler =
+                new BatchAuthorizationHandler(authorizationHandler, batchAuthorizerProvider);
+
+        assertEquals(List.of("a", "c"), handler.filterAllowed("view", List.of("a", "b", "c")));
+        verify(authorizationHandler).isAllowedForInstance("view", "b");
+    }
+}
@@ -2,8 +2,10 @@ package io.nuvalence.workmanager.service.utils.camunda;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -158,4 +160,41 @@ class CamundaWorkflowInspectorCacheTest {
                 "No process definition found for process definition key: aNotFoundDefKey",
                 e.getMessage());
     }
+
+    @Test
+    void getByProcessDefinitionKeyCachesLatestProcessDefinitionUntilDeployment() {
+        ProcessDefinition processDefinition = Mockito.mock(ProcessDefinition.class);
+        Mockito.when(processDefinitionQuery.singleResult()).thenReturn(processDefinition);
+        Mockito.when(processDefinition.getId()).thenReturn(PROCESS_DEFINITION_ID);
+
+        camundaWorkflowInspectorCache.getByProcessDefinitionKey("aValidKey");
+        camundaWorkflowInspectorCache.getByProcessDefinitionKey("aValidKey");
+        verify(processDefinitionQuery, times(1)).singleResult();
+
+        camundaWorkflowInspectorCache.onProcessDefinitionDeployed(
+                new ProcessDefinitionDeployedEvent("anotherKey"));
+        camundaWorkflowInspectorCache.getByProcessDefinitionKey("aValidKey");
+        verify(processDefinitionQuery, times(1)).singleResult();
+
+        camundaWorkflowInspectorCache.onProcessDefinitionDeployed(
+                new ProcessDefinitionDeployedEvent("aValidKey"));
+        camundaWorkflowInspectorCache.getByProcessDefinitionKey("aValidKey");
+        verify(processDefinitionQuery, times(2)).singleResult();
+    }
+
+    @Test
+    void getByProcessInstanceIdCachesProcessDefinitionOfInstance() {
+        ProcessInstance processInstance = Mockito.mock(ProcessInstance.class);
+        Mockito.when(processInstance.getProcessDefinitionId()).thenReturn(PROCESS_DEFINITION_ID);
+        Mockito.when(processInstanceQuery.singleResult()).thenReturn(processInstance);
+
+        final CamundaWorkflowInspector first =
+                camundaWorkflowInspectorCache.getByProcessInstanceId("processInstanceId");
+        final CamundaWorkflowInspector second =
+                camundaWorkflowInspectorCache.getByProcessInstanceId("processInstanceId");
+
+        assertSame(first, second);
+        verify(processInstanceQuery, times(1)).singleResult();
+        verify(historyService, never()).createHistoricProcessInstanceQuery();
+    }
 }
@@ -0,0 +1,75 @@
+package io.nuvalence.workmanager.service.utils.camunda;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import io.nuvalence.workmanager.service.service.TransactionCompletionRecorder;
+import org.camunda.bpm.engine.history.HistoricProcessInstance;
+import org.camunda.bpm.engine.impl.history.event.HistoricActivityInstanceEventEntity;
+import org.camunda.bpm.engine.impl.history.event.HistoricProcessInstanceEventEntity;
+import org.camunda.bpm.engine.impl.history.event.HistoryEventTypes;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Date;
+import java.util.List;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionCompletionHistoryEventHandlerTest {
+
+    @Mock private TransactionCompletionRecorder transactionCompletionRecorder;
+
+    @InjectMocks private TransactionCompletionHistoryEventHandler handler;
+
+    @Test
+    void handleEvents_completedProcessInstance_recordsCompletion() {
+        final Date endTime = new Date();
+
+        handler.handleEvents(
+                List.of(
+                        processInstanceEvent(
+                                "completed",
+                                HistoryEventTypes.PROCESS_INSTANCE_END,
+                                HistoricProcessInstance.STATE_COMPLETED,
+                                endTime),
+                        processInstanceEvent(
+                                "terminated",
+                                HistoryEventTypes.PROCESS_INSTANCE_END,
+                                HistoricProcessInstance.STATE_EXTERNALLY_TERMINATED,
+                                endTime),
+                        processInstanceEvent(
+                                "updated",
+                                HistoryEventTypes.PROCESS_INSTANCE_UPDATE,
+                                HistoricProcessInstance.STATE_ACTIVE,
+                                null)));
+
+        verify(transactionCompletionRecorder).recordCompletion("completed", endTime);
+        verify(transactionCompletionRecorder, never()).recordCompletion("terminated", endTime);
+        verify(transactionCompletionRecorder, never()).recordCompletion("updated", null);
+    }
+
+    @Test
+    void handleEvent_otherEntity_isIgnored() {
+        final HistoricActivityInstanceEventEntity activityEvent =
+                new HistoricActivityInstanceEventEntity();
+        activityEvent.setEventType(HistoryEventTypes.ACTIVITY_INSTANCE_END.getEventName());
+
+        handler.handleEvent(activityEvent);
+
+        verify(transactionCompletionRecorder, never()).recordCompletion(any(), any());
+    }
+
+    private static HistoricProcessInstanceEventEntity processInstanceEvent(
+            String processInstanceId, HistoryEventTypes eventType, String state, Date endTime) {
+        final HistoricProcessInstanceEventEntity event = new HistoricProcessInstanceEventEntity();
+        event.setProcessInstanceId(processInstanceId);
+        event.setEventType(eventType.getEventName());
+        event.setState(state);
+        event.setEndTime(endTime);
+        return event;
+    }
+}
@@ -0,0 +1,84 @@
+package io.nuvalence.workmanager.service.utils.formconfig.formio;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import javax.script.ScriptException;
+
+class FormioExpressionEvaluatorTest {
+
+    private FormioExpressionEvaluator evaluator;
+
+    @BeforeEach
+    void setup() {
+        evaluator = new FormioExpressionEvaluator(2, Duration.ofMillis(500), 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        evaluator.shutdown();
+    }
+
+    @Test
+    void evaluateUsesModelVariable() throws ScriptException {
+        Map<String, Object> model = Map.of("personalInformation", Map.of("firstName", "John"));
+
+        assertTrue(evaluator.evaluate("model.personalInformation.firstName === 'John'", model));
+        assertFalse(evaluator.evaluate("model.personalInformation.firstName === 'Jane'", model));
+    }
+
+    @Test
+    void evaluateNormalizesOptionalChaining() throws ScriptException {
+        Map<String, Object> model = Map.of("personalInformation", Map.of("firstName", "John"));
+
+        assertTrue(evaluator.evaluate("model?.personalInformation?.firstName === 'John'", model));
+    }
+
+    @Test
+    void evaluateReusesCompiledExpressionWithDifferentModels() throws ScriptException {
+        String expression = "model.value > 10";
+
+        for (int i = 0; i < 20; i++) {
+            assertTrue(evaluator.evaluate(expression, Map.of("value", 11 + i)));
+            assertFalse(evaluator.evaluate(expression, Map.of("value", i - 10)));
+        }
+    }
+
+    @Test
+    void evaluateInvalidExpressionThrowsScriptException() {
+        assertThrows(ScriptException.class, () -> evaluator.evaluate("model.(", Map.of()));
+    }
+
+    @Test
+    void evaluateExpressionExceedingTimeoutThrowsScriptException() {
+        assertThrows(ScriptException.class, () -> evaluator.evaluate("while (true) {}", Map.of()));
+    }
+
+    @Test
+    void evaluateAfterMoreTimeoutsThanThreadsStillEvaluates() throws ScriptException {
+        for (int i = 0; i < 3; i++) {
+            assertThrows(
+                    ScriptException.class, () -> evaluator.evaluate("while (true) {}", Map.of()));
+        }
+
+        assertTrue(evaluator.evaluate("model.value > 10", Map.of("value", 11)));
+    }
+
+    @Test
+    void evaluateDoesNotLeakVariablesBetweenExpressions() throws ScriptException {
+        for (int i = 0; i < 4; i++) {
+            evaluator.evaluate("leaked = true", Map.of());
+        }
+
+        for (int i = 0; i < 4; i++) {
+            assertTrue(evaluator.evaluate("typeof leaked === 'undefined'", Map.of()));
+        }
+    }
+}
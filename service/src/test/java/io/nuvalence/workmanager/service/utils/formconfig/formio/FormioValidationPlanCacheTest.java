@@ -0,0 +1,54 @@
+package io.nuvalence.workmanager.service.utils.formconfig.formio;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import io.nuvalence.workmanager.service.domain.formconfig.FormConfiguration;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+class FormioValidationPlanCacheTest {
+
+    private final FormioValidationPlanCache cache = new FormioValidationPlanCache();
+
+    @Test
+    void getPlan_sameVersion_returnsCachedPlan() {
+        final FormConfiguration formConfiguration = formConfiguration(OffsetDateTime.now());
+
+        assertSame(cache.getPlan(formConfiguration), cache.getPlan(formConfiguration));
+    }
+
+    @Test
+    void getPlan_updatedFormConfiguration_compilesNewPlan() {
+        final OffsetDateTime lastUpdated = OffsetDateTime.now();
+        final FormConfiguration formConfiguration = formConfiguration(lastUpdated);
+        final FormioValidationPlan plan = cache.getPlan(formConfiguration);
+
+        formConfiguration.setLastUpdatedTimestamp(lastUpdated.plusSeconds(1));
+
+        assertNotSame(plan, cache.getPlan(formConfiguration));
+    }
+
+    @Test
+    void getPlan_unsavedFormConfiguration_isNotCached() {
+        final FormConfiguration formConfiguration = formConfiguration(null);
+        formConfiguration.setId(null);
+
+        assertNotSame(cache.getPlan(formConfiguration), cache.getPlan(formConfiguration));
+    }
+
+    private static FormConfiguration formConfiguration(OffsetDateTime lastUpdated) {
+        return FormConfiguration.builder()
+                .id(UUID.randomUUID())
+                .lastUpdatedTimestamp(lastUpdated)
+                .configuration(
+                        Map.of(
+                                "components",
+                                List.of(Map.of("key", "step", "props", Map.of("required", true)))))
+                .build();
+    }
+}
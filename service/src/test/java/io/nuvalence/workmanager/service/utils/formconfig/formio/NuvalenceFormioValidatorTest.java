@@ -5,6 +5,7 @@ import static org.mockito.Mockito.when;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.nuvalence.workmanager.service.config.SpringConfig;
+import io.nuvalence.workmanager.service.config.exceptions.ProvidedDataException;
 import io.nuvalence.workmanager.service.config.exceptions.model.NuvalenceFormioValidationExItem;
 import io.nuvalence.workmanager.service.domain.dynamicschema.DynamicEntity;
 import io.nuvalence.workmanager.service.domain.dynamicschema.Schema;
@@ -31,6 +32,7 @@ import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
@@ -58,7 +60,10 @@ public class NuvalenceFormioValidatorTest {
     private final JsonFileLoader jsonLoader = new JsonFileLoader();
     private final ObjectMapper objectMapper = new ObjectMapper();
 
-    private final NuvalenceFormioValidator validator = new NuvalenceFormioValidator();
+    private final NuvalenceFormioValidator validator =
+            new NuvalenceFormioValidator(
+                    new FormioExpressionEvaluator(1, Duration.ofSeconds(5), 100),
+                    new FormioValidationExecutor(2, 10, 1));
 
     @Mock private SchemaService schemaService;
 
@@ -330,6 +335,102 @@ public class NuvalenceFormioValidatorTest {
         Assertions.assertEquals("required", formioValidationErrors.get(1).getErrorName());
     }
 
+    @Test
+    void testValidatePlan_hiddenComponentsDoNotCarryOverToNextValidation()
+            throws IOException, MissingSchemaException {
+        // Arrange
+        FormioValidationPlan plan = compileHiddenStepPlan();
+        DynamicEntity hiddenStepData =
+                createHiddenStepDynamicEntity("/formConfigurationJSONTests/hiddenStepSuccess.json");
+        DynamicEntity visibleStepData =
+                createHiddenStepDynamicEntity("/formConfigurationJSONTests/hiddenStepFail.json");
+        List<NuvalenceFormioValidationExItem> hiddenStepErrors = new ArrayList<>();
+        List<NuvalenceFormioValidationExItem> visibleStepErrors = new ArrayList<>();
+
+        // Act
+        validator.validateDataAgainstPlan(plan, null, hiddenStepData, hiddenStepErrors);
+        validator.validateDataAgainstPlan(plan, null, visibleStepData, visibleStepErrors);
+
+        // Assert
+        Assertions.assertTrue(hiddenStepErrors.isEmpty());
+        Assertions.assertEquals(2, visibleStepErrors.size());
+        Assertions.assertEquals("jobInfo.company", visibleStepErrors.get(0).getControlName());
+        Assertions.assertEquals("Error", visibleStepErrors.get(1).getErrorMessage());
+    }
+
+    @Test
+    void testValidatePlan_onlyValidatesRequestedStep() throws IOException, MissingSchemaException {
+        // Arrange
+        FormioValidationPlan plan = compileHiddenStepPlan();
+        DynamicEntity dynaEntity =
+                createHiddenStepDynamicEntity("/formConfigurationJSONTests/hiddenStepFail.json");
+        List<NuvalenceFormioValidationExItem> personalInformationErrors = new ArrayList<>();
+        List<NuvalenceFormioValidationExItem> jobInfoErrors = new ArrayList<>();
+
+        // Act
+        validator.validateDataAgainstPlan(
+                plan, "personalInformation", dynaEntity, personalInformationErrors);
+        validator.validateDataAgainstPlan(plan, "jobInfo", dynaEntity, jobInfoErrors);
+
+        // Assert
+        Assertions.assertTrue(personalInformationErrors.isEmpty());
+        Assertions.assertEquals(2, jobInfoErrors.size());
+        Assertions.assertThrows(
+                ProvidedDataException.class,
+                () ->
+                        validator.validateDataAgainstPlan(
+                                plan, "notExistingStep", dynaEntity, new ArrayList<>()));
+    }
+
+    @Test
+    void testValidateStepsConcurrently_reportsErrorsInStepOrder()
+            throws IOException, MissingSchemaException {
+        // Arrange
+        FormioValidationPlan plan = compileHiddenStepPlan();
+        DynamicEntity dynaEntity =
+                createHiddenStepDynamicEntity(
+                        new HashMap<>(
+                                Map.of(
+                                        "personalInformation", new HashMap<>(),
+                                        "jobInfo", new HashMap<>())));
+        List<NuvalenceFormioValidationExItem> formioValidationErrors = new ArrayList<>();
+
+        // Act
+        validator.validateStepsConcurrently(plan, dynaEntity, false, formioValidationErrors);
+
+        // Assert
+        Assertions.assertEquals(
+                List.of(
+                        "personalInformation.firstName",
+                        "jobInfo.company",
+                        "nuverialLogicValidator"),
+                formioValidationErrors.stream()
+                        .map(NuvalenceFormioValidationExItem::getControlName)
+                        .toList());
+    }
+
+    @Test
+    void testValidateStepsConcurrently_stopsAtFirstFailingStep()
+            throws IOException, MissingSchemaException {
+        // Arrange
+        FormioValidationPlan plan = compileHiddenStepPlan();
+        DynamicEntity dynaEntity =
+                createHiddenStepDynamicEntity(
+                        new HashMap<>(
+                                Map.of(
+                                        "personalInformation", new HashMap<>(),
+                                        "jobInfo", new HashMap<>())));
+        List<NuvalenceFormioValidationExItem> formioValidationErrors = new ArrayList<>();
+
+        // Act
+        validator.validateStepsConcurrently(plan, dynaEntity, true, formioValidationErrors);
+
+        // Assert
+        Assertions.assertEquals(1, formioValidationErrors.size());
+        Assertions.assertEquals(
+                "personalInformation.firstName", formioValidationErrors.get(0).getControlName());
+    }
+
     @ParameterizedTest
     @MethodSource("validateWithVariousErrorsTestData")
     void testValidateComponentWithVariousErrors(
@@ -633,8 +734,33 @@ public class NuvalenceFormioValidatorTest {
             throws IOException, MissingSchemaException {
         Map<String, Object> formConfig =
                 jsonLoader.loadConfigMap("/formConfigurationJSONTests/hiddenStepFormConfig.json");
-        Map<String, Object> transactionData = jsonLoader.loadConfigMap(dynamicDataPath);
+        DynamicEntity dynaEntity = createHiddenStepDynamicEntity(dynamicDataPath);
+        List<NuvalenceFormioValidationExItem> formioValidationErrors = new ArrayList<>();
+
+        NuvalenceFormioComponent formioComponent =
+                SpringConfig.getMapper().convertValue(formConfig, NuvalenceFormioComponent.class);
+
+        // Act
+        validator.validateDataAgainstFormConfig(
+                formioComponent, dynaEntity, formioValidationErrors);
+
+        return formioValidationErrors;
+    }
+
+    private FormioValidationPlan compileHiddenStepPlan() throws IOException {
+        Map<String, Object> formConfig =
+                jsonLoader.loadConfigMap("/formConfigurationJSONTests/hiddenStepFormConfig.json");
+        return FormioValidationPlan.compile(
+                SpringConfig.getMapper().convertValue(formConfig, NuvalenceFormioComponent.class));
+    }
 
+    private DynamicEntity createHiddenStepDynamicEntity(String dynamicDataPath)
+            throws IOException, MissingSchemaException {
+        return createHiddenStepDynamicEntity(jsonLoader.loadConfigMap(dynamicDataPath));
+    }
+
+    private DynamicEntity createHiddenStepDynamicEntity(Map<String, Object> transactionData)
+            throws IOException, MissingSchemaException {
         DynaProperty firstName = new DynaProperty("firstName", String.class);
         Schema personalInformationSchema =
                 Schema.builder().id(UUID.randomUUID()).properties(List.of(firstName)).build();
@@ -646,16 +772,6 @@ public class NuvalenceFormioValidatorTest {
                 Schema.builder().id(UUID.randomUUID()).properties(List.of(company)).build();
         when(schemaService.getSchemaByKey("JobInfo")).thenReturn(Optional.of(jobInfoSchema));
 
-        DynamicEntity dynaEntity = createDynamicEntity(transactionData, "/hiddenStepSchema.json");
-        List<NuvalenceFormioValidationExItem> formioValidationErrors = new ArrayList<>();
-
-        NuvalenceFormioComponent formioComponent =
-                SpringConfig.getMapper().convertValue(formConfig, NuvalenceFormioComponent.class);
-
-        // Act
-        validator.validateDataAgainstFormConfig(
-                formioComponent, dynaEntity, formioValidationErrors);
-
-        return formioValidationErrors;
+        return createDynamicEntity(transactionData, "/hiddenStepSchema.json");
     }
 }